@@ -0,0 +1,65 @@
+package br.eng.rodrigogml.rfw.terminal.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eng.rodrigogml.rfw.terminal.ColorQuantizer;
+
+/**
+ * Description: Benchmark da conversão de cores RGB para as paletas de 256 e 16 cores. O resultado é expresso em conversões por microssegundo.<br>
+ *
+ * @author Rodrigo Leitão
+ * @since (18 de out. de 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColorQuantizerBenchmark {
+
+  private static final int COLORS = 4096;
+
+  private final int[] colors = new int[COLORS];
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    for (int i = 0; i < COLORS; i++) {
+      this.colors[i] = random.nextInt(0x1000000);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(COLORS)
+  public int toExtended() {
+    int sum = 0;
+    for (int rgb : this.colors) {
+      sum += ColorQuantizer.toExtended(rgb);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(COLORS)
+  public int toBasic() {
+    int sum = 0;
+    for (int rgb : this.colors) {
+      sum += ColorQuantizer.toBasic(rgb);
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,102 @@
+package br.eng.rodrigogml.rfw.terminal.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandArgument;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandOption;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandParser;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandTokens;
+
+/**
+ * Description: Benchmark do preenchimento de uma classe de opções pelo {@link CommandParser#bind(CommandTokens, Object)}, comparado com a leitura e conversão manual dos mesmos parâmetros.<br>
+ * Ambos partem da mesma linha já interpretada, de forma que a diferença entre eles é o custo do binding.
+ *
+ * @author Rodrigo Leitão
+ * @since (18 de out. de 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandBindingBenchmark {
+
+  public enum Environment {
+    DEV, HOMOLOG, PROD
+  }
+
+  public static class DeployOptions {
+    @CommandArgument(index = 1, required = true)
+    String app;
+    @CommandOption(required = true)
+    Environment env;
+    @CommandOption(aliases = "t")
+    Duration timeout = Duration.ofSeconds(30);
+    @CommandOption
+    int retries = 3;
+    @CommandOption
+    boolean force;
+    @CommandOption(name = "host")
+    List<String> hosts;
+  }
+
+  private static final String COMMAND_LINE = "deploy app1 -env=PROD -t=2m --retries=5 -force -host=srv1,srv2";
+
+  private final CommandTokens tokens = new CommandTokens();
+
+  private final DeployOptions options = new DeployOptions();
+
+  @Setup
+  public void setup() throws RFWException {
+    CommandParser.tokenize(COMMAND_LINE, this.tokens);
+  }
+
+  @Benchmark
+  public DeployOptions bind() throws RFWException {
+    CommandParser.bind(this.tokens, this.options);
+    return this.options;
+  }
+
+  @Benchmark
+  public DeployOptions handWritten() {
+    DeployOptions o = this.options;
+    o.app = this.tokens.getArgument(1);
+    String value = this.tokens.getParameter("-env");
+    if (value != null) o.env = Environment.valueOf(value);
+    value = this.tokens.getParameter("-t");
+    if (value != null) o.timeout = Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+    value = this.tokens.getParameter("--retries");
+    if (value != null) o.retries = Integer.parseInt(value);
+    o.force = this.tokens.findParameter("-force") >= 0;
+    value = this.tokens.getParameter("-host");
+    if (value != null) {
+      List<String> hosts = new ArrayList<>();
+      for (String host : value.split(",")) {
+        hosts.add(host);
+      }
+      o.hosts = hosts;
+    }
+    return o;
+  }
+
+  @Benchmark
+  public DeployOptions parseAndBind() throws RFWException {
+    return CommandParser.parse(COMMAND_LINE, DeployOptions.class);
+  }
+}
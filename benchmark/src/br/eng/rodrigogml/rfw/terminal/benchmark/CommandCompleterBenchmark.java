@@ -0,0 +1,90 @@
+package br.eng.rodrigogml.rfw.terminal.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandCompleter;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandCompleter.Completion;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandDefinition;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandDefinition.ParameterType;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandHandler;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandInvocation;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandRegistry;
+import br.eng.rodrigogml.rfw.terminal.parsers.CompletionProvider;
+
+/**
+ * Description: Benchmark de uma consulta do {@link CommandCompleter} (uma tecla TAB), com diferentes quantidades de valores no provedor. O tempo deve depender apenas da quantidade de sugestões retornadas, e não da quantidade de valores.<br>
+ *
+ * @author Rodrigo Leitão
+ * @since (18 de out. de 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandCompleterBenchmark {
+
+  /**
+   * Quantidade de valores do provedor.
+   */
+  @Param({ "1000", "100000" })
+  public int values;
+
+  private CommandCompleter completer;
+
+  @Setup
+  public void setup() throws RFWException {
+    CommandRegistry registry = new CommandRegistry();
+    registry.register(new CommandDefinition("deploy", new CommandHandler() {
+      @Override
+      public void execute(CommandInvocation invocation) {
+      }
+    }).addParameter("host", ParameterType.STRING, true, null).addParameter("force", ParameterType.BOOLEAN, false, "false"));
+
+    final List<String> hosts = new ArrayList<>();
+    Random random = new Random(1);
+    for (int i = 0; i < this.values; i++) {
+      hosts.add("host" + random.nextInt(10000000) + ".example.com");
+    }
+    this.completer = new CommandCompleter(registry).setParameterValues("deploy", "host", new CompletionProvider() {
+      @Override
+      public Collection<String> getValues() {
+        return hosts;
+      }
+    }, 0);
+    this.completer.complete("deploy -host=", 13); // Carrega o cache
+  }
+
+  @Benchmark
+  public Completion value() throws RFWException {
+    return this.completer.complete("deploy app1 -host=host12", 24);
+  }
+
+  @Benchmark
+  public Completion parameter() throws RFWException {
+    return this.completer.complete("deploy app1 --fo", 16);
+  }
+
+  @Benchmark
+  public Completion command() throws RFWException {
+    return this.completer.complete("dep", 3);
+  }
+}
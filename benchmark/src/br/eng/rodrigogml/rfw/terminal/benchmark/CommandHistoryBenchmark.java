@@ -0,0 +1,98 @@
+package br.eng.rodrigogml.rfw.terminal.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.CommandHistory;
+
+/**
+ * Description: Benchmark da abertura e das buscas do {@link CommandHistory}, com diferentes quantidades de comandos no histórico.<br>
+ *
+ * @author Rodrigo Leitão
+ * @since (18 de out. de 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandHistoryBenchmark {
+
+  /**
+   * Quantidade de comandos no histórico.
+   */
+  @Param({ "10000", "1000000" })
+  public int entries;
+
+  private Path file;
+
+  private CommandHistory history;
+
+  @Setup
+  public void setup() throws IOException, RFWException {
+    this.file = Files.createTempFile("rfw-history", ".txt");
+    Random random = new Random(1);
+    try (BufferedWriter out = Files.newBufferedWriter(this.file, StandardCharsets.UTF_8)) {
+      for (int i = 0; i < this.entries; i++) {
+        out.write("deploy service" + random.nextInt(100000) + " -env=" + (i % 3 == 0 ? "prod" : "qa") + " --timeout=" + random.nextInt(1000) + " -host=h" + i + ".example.com\n");
+      }
+    }
+    this.history = new CommandHistory(this.file, Integer.MAX_VALUE);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(this.file);
+  }
+
+  @Benchmark
+  public CommandHistory load() throws RFWException {
+    return new CommandHistory(this.file, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Busca incremental (Ctrl-R) de um comando recente, um caractere por vez.
+   */
+  @Benchmark
+  public int incrementalSearch() {
+    String text = "service4";
+    int index = this.history.size();
+    for (int i = 1; i <= text.length(); i++) {
+      index = this.history.search(text.substring(0, i), Math.min(this.history.size(), index + 1));
+    }
+    return index;
+  }
+
+  /**
+   * Busca de um texto que não existe, percorrendo todo o histórico.
+   */
+  @Benchmark
+  public int searchMiss() {
+    return this.history.search("not-in-history", this.history.size());
+  }
+
+  @Benchmark
+  public int searchPrefixMiss() {
+    return this.history.searchPrefix("status", this.history.size());
+  }
+}
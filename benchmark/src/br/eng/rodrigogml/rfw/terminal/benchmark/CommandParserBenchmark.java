@@ -0,0 +1,84 @@
+package br.eng.rodrigogml.rfw.terminal.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandParser;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandParser.ParsedCommand;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandTokens;
+
+/**
+ * Description: Benchmark do {@link CommandParser#parse(String)} e do {@link CommandParser#tokenize(CharSequence, CommandTokens)} com linhas de comando de diferentes tamanhos e conteúdos.<br>
+ *
+ * @author Rodrigo Leitão
+ * @since (18 de out. de 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandParserBenchmark {
+
+  /**
+   * Tipo da linha de comando analisada:
+   * <li>SHORT: comando com poucos argumentos simples;
+   * <li>LONG: comando com muitos argumentos e parâmetros;
+   * <li>QUOTED: argumentos e valores entre aspas, com espaços;
+   * <li>ESCAPED: valores entre aspas com aspas escapadas no conteúdo.
+   */
+  @Param({ "SHORT", "LONG", "QUOTED", "ESCAPED" })
+  public String line;
+
+  private String commandLine;
+
+  private final CommandTokens tokens = new CommandTokens();
+
+  @Setup
+  public void setup() {
+    switch (this.line) {
+      case "SHORT":
+        this.commandLine = "deploy app1 -force";
+        break;
+      case "LONG":
+        StringBuilder buff = new StringBuilder("sync");
+        for (int i = 0; i < 20; i++) {
+          buff.append(" arg").append(i).append(" -param").append(i).append("=value").append(i).append(" --flag").append(i);
+        }
+        this.commandLine = buff.toString();
+        break;
+      case "QUOTED":
+        this.commandLine = "send \"Um argumento extra com espaços!\" -to=\"Equipe de Operação\" -subject='Relatório diário do servidor' arg4";
+        break;
+      case "ESCAPED":
+        this.commandLine = "arg1 arg2 \"Um argumento extra com espaços!\" arg3 -param1 -param2=valor --param3 = \"Esse é um \\\"Valor\\\" do param3\" arg4 -param5= 'Este é outro \\'tipo de valor com Scape\\' de aspas e outras \" no conteúdo interno do texto'";
+        break;
+      default:
+        throw new IllegalArgumentException("Linha de comando desconhecida: " + this.line);
+    }
+  }
+
+  @Benchmark
+  public ParsedCommand parse() throws RFWException {
+    return CommandParser.parse(this.commandLine);
+  }
+
+  @Benchmark
+  public int tokenize() throws RFWException {
+    CommandParser.tokenize(this.commandLine, this.tokens);
+    return this.tokens.getTokenCount();
+  }
+}
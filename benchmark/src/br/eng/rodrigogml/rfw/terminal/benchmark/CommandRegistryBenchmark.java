@@ -0,0 +1,72 @@
+package br.eng.rodrigogml.rfw.terminal.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandDefinition;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandDefinition.ParameterType;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandHandler;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandInvocation;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandParser;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandRegistry;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandTokens;
+
+/**
+ * Description: Benchmark da localização e validação de comandos do {@link CommandRegistry}, com diferentes quantidades de comandos registrados. O tempo deve depender apenas do tamanho da linha, e não da quantidade de comandos.<br>
+ *
+ * @author Rodrigo Leitão
+ * @since (18 de out. de 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandRegistryBenchmark {
+
+  /**
+   * Quantidade de comandos registrados.
+   */
+  @Param({ "10", "1000", "10000" })
+  public int commands;
+
+  private CommandRegistry registry;
+
+  private final CommandTokens tokens = new CommandTokens();
+
+  @Setup
+  public void setup() throws RFWException {
+    CommandHandler handler = new CommandHandler() {
+      @Override
+      public void execute(CommandInvocation invocation) {
+      }
+    };
+    this.registry = new CommandRegistry();
+    for (int i = 0; i < this.commands; i++) {
+      this.registry.register(new CommandDefinition("service" + i, handler)
+          .setArguments(1, 1)
+          .addParameter("env", ParameterType.STRING, true, null)
+          .addParameter("timeout", ParameterType.INTEGER, false, "30", "t")
+          .addParameter("force", ParameterType.BOOLEAN, false, "false"));
+    }
+    CommandParser.tokenize("service" + (this.commands / 2) + " app1 -env=prod --timeout=60 -force", this.tokens);
+  }
+
+  @Benchmark
+  public CommandInvocation bind() throws RFWException {
+    return this.registry.bind(this.tokens);
+  }
+}
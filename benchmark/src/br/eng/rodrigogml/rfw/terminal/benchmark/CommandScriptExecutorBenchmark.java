@@ -0,0 +1,90 @@
+package br.eng.rodrigogml.rfw.terminal.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandDefinition;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandDefinition.ParameterType;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandHandler;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandInvocation;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandRegistry;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandScriptExecutor;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandScriptExecutor.ScriptResult;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandScriptReader;
+
+/**
+ * Description: Benchmark do {@link CommandScriptExecutor} com um script de comandos independentes que apenas consomem processamento. Comparando as quantidades de comandos simultâneos é possível avaliar o ganho da execução em paralelo, que deve ser próximo da quantidade de processadores.<br>
+ *
+ * @author Rodrigo Leitão
+ * @since (18 de out. de 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandScriptExecutorBenchmark {
+
+  /**
+   * Quantidade de comandos do script.
+   */
+  private static final int COMMANDS = 1000;
+
+  /**
+   * Quantidade máxima de comandos simultâneos. 0 utiliza a quantidade de processadores.
+   */
+  @Param({ "1", "0" })
+  public int parallelism;
+
+  private CommandScriptExecutor executor;
+
+  private byte[] script;
+
+  /**
+   * Resultado do processamento dos comandos, para que não seja eliminado pelo JIT.
+   */
+  private static volatile long sink;
+
+  @Setup
+  public void setup() {
+    CommandRegistry registry = new CommandRegistry();
+    registry.register(new CommandDefinition("hash", new CommandHandler() {
+      @Override
+      public void execute(CommandInvocation invocation) {
+        long h = invocation.getArgument(0).hashCode();
+        for (int i = invocation.getInteger("rounds"); i > 0; i--) {
+          h = h * 6364136223846793005L + 1442695040888963407L;
+        }
+        sink = h;
+      }
+    }).setArguments(1, 1).addParameter("rounds", ParameterType.INTEGER, true, null));
+
+    StringBuilder buff = new StringBuilder();
+    for (int i = 0; i < COMMANDS; i++) {
+      buff.append("hash item").append(i).append(" -rounds=100000\n");
+    }
+    this.script = buff.toString().getBytes(StandardCharsets.UTF_8);
+    this.executor = new CommandScriptExecutor(registry).setParallelism(this.parallelism == 0 ? Runtime.getRuntime().availableProcessors() : this.parallelism);
+  }
+
+  @Benchmark
+  public ScriptResult execute() throws RFWException {
+    return this.executor.execute(new CommandScriptReader(Channels.newChannel(new ByteArrayInputStream(this.script)), StandardCharsets.UTF_8));
+  }
+}
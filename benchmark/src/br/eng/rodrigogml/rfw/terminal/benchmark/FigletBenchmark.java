@@ -0,0 +1,79 @@
+package br.eng.rodrigogml.rfw.terminal.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eng.rodrigogml.rfw.terminal.utils.FLFFont;
+import br.eng.rodrigogml.rfw.terminal.utils.Figlet;
+import br.eng.rodrigogml.rfw.terminal.utils.Figlet.FigletFontType;
+import br.eng.rodrigogml.rfw.terminal.utils.FigletCanvas;
+import br.eng.rodrigogml.rfw.terminal.utils.FigletFontCache;
+import br.eng.rodrigogml.rfw.terminal.utils.FigletLayout;
+
+/**
+ * Description: Benchmark da geração e centralização de textos em Figlet com diferentes fontes.<br>
+ *
+ * @author Rodrigo Leitão
+ * @since (18 de out. de 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FigletBenchmark {
+
+  private static final String TEXT = "RFW Terminal";
+
+  @Param({ "STANDARD", "SLANT", "BIG", "BANNER3", "DOOM", "GRAFFITI" })
+  public FigletFontType font;
+
+  private String asciiArt;
+  private FLFFont flfFont;
+  private final FigletCanvas canvas = new FigletCanvas();
+
+  @Setup
+  public void setup() throws Exception {
+    this.asciiArt = Figlet.generateWithFont(TEXT, this.font);
+    this.flfFont = FigletFontCache.getFont(this.font);
+  }
+
+  @Benchmark
+  public String generateWithFont() throws Exception {
+    return Figlet.generateWithFont(TEXT, this.font);
+  }
+
+  /**
+   * Renderização com "smushing" em um canvas reutilizado, como em um relógio redesenhado a cada segundo.
+   */
+  @Benchmark
+  public FigletCanvas renderSmushingIntoCanvas() {
+    this.flfFont.render(TEXT, FigletLayout.SMUSHING, this.canvas);
+    return this.canvas;
+  }
+
+  /**
+   * Previsão da largura pelo índice de métricas, sem renderizar o texto.
+   */
+  @Benchmark
+  public int predictWidth() throws Exception {
+    return Figlet.predictWidth(TEXT, this.font);
+  }
+
+  @Benchmark
+  public String centralize() {
+    return Figlet.centralize(this.asciiArt, 200);
+  }
+}
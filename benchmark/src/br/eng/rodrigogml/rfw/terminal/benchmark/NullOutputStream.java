@@ -0,0 +1,20 @@
+package br.eng.rodrigogml.rfw.terminal.benchmark;
+
+import java.io.OutputStream;
+
+/**
+ * Description: Saída que descarta todo o conteúdo, utilizada para medir a geração dos comandos do terminal sem o custo do console.<br>
+ *
+ * @author Rodrigo Leitão
+ * @since (18 de out. de 2026)
+ */
+final class NullOutputStream extends OutputStream {
+
+  @Override
+  public void write(int b) {
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+  }
+}
@@ -0,0 +1,134 @@
+package br.eng.rodrigogml.rfw.terminal.benchmark;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.ColorMode;
+import br.eng.rodrigogml.rfw.terminal.EscapeSequenceEncoder;
+import br.eng.rodrigogml.rfw.terminal.ScreenBuffer;
+import br.eng.rodrigogml.rfw.terminal.Terminal;
+import br.eng.rodrigogml.rfw.terminal.Terminal.TextColor;
+import br.eng.rodrigogml.rfw.terminal.Terminal.TextFormat;
+import br.eng.rodrigogml.rfw.terminal.TerminalWriter;
+
+/**
+ * Description: Benchmark dos métodos de escrita e comandos de escape da classe {@link Terminal}.<br>
+ * O {@link System#out} é substituído por uma saída que descarta o conteúdo, de forma que apenas o custo de gerar e encaminhar os comandos seja medido, e não o do console.
+ *
+ * @author Rodrigo Leitão
+ * @since (18 de out. de 2026)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TerminalBenchmark {
+
+  private static final TextColor[] COLORS = TextColor.values();
+
+  /**
+   * Modo de cores utilizado nos métodos de cor RGB.
+   */
+  @Param({ "TRUECOLOR", "EXTENDED_256", "BASIC_16" })
+  public ColorMode colorMode;
+
+  private PrintStream originalOut;
+  private TerminalWriter writer;
+  private ScreenBuffer screen;
+  private final char[] sequence = new char[EscapeSequenceEncoder.MAX_SEQUENCE_LENGTH];
+  private int counter;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.originalOut = System.out;
+    System.setOut(new PrintStream(new NullOutputStream(), false));
+    Terminal.setColorMode(this.colorMode);
+    this.writer = new TerminalWriter(new NullOutputStream());
+    this.screen = new ScreenBuffer(40, 120);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    System.setOut(this.originalOut);
+    Terminal.setColorMode(null);
+  }
+
+  @Benchmark
+  public void moveCursor() {
+    int i = this.counter++;
+    Terminal.moveCursor(1 + (i & 63), 1 + (i & 127));
+  }
+
+  @Benchmark
+  public void setTextColor() {
+    Terminal.setTextColor(COLORS[this.counter++ & 15]);
+  }
+
+  @Benchmark
+  public void setExtendedTextColor() {
+    Terminal.setExtendedTextColor(this.counter++ & 255);
+  }
+
+  @Benchmark
+  public void setRgbTextColor() {
+    Terminal.setRgbTextColor(this.counter++ * 0x010305 & 0xFFFFFF);
+  }
+
+  @Benchmark
+  public void write() {
+    Terminal.write("Processando registro de exemplo");
+  }
+
+  @Benchmark
+  public int encodeCursorPosition() {
+    int i = this.counter++;
+    return EscapeSequenceEncoder.cursorPosition(this.sequence, 0, 1 + (i & 63), 1 + (i & 127));
+  }
+
+  /**
+   * Monta e envia um frame com uma linha de 80 células coloridas, cada uma com posicionamento e cor próprios.
+   */
+  @Benchmark
+  public void frame() throws RFWException {
+    int base = this.counter++;
+    this.writer.beginFrame();
+    try {
+      for (int c = 1; c <= 80; c++) {
+        Terminal.moveCursor(1 + (base & 31), c);
+        Terminal.setRgbTextColor((base + c) * 0x030201 & 0xFFFFFF);
+        this.writer.append('#');
+      }
+    } finally {
+      this.writer.endFrame();
+    }
+  }
+
+  /**
+   * Altera uma linha da tela e apresenta apenas a diferença.
+   */
+  @Benchmark
+  public void screenBufferPresent() throws RFWException {
+    int i = this.counter++;
+    this.screen.setStyle(COLORS[i & 15], null, TextFormat.BOLD);
+    this.screen.write(1 + (i % 40), 1, "Linha atualizada " + (i & 1023));
+    this.screen.present(this.writer);
+    this.writer.flush();
+  }
+}
@@ -0,0 +1,5 @@
+cd /d "%~dp0"
+call mvn -q install -DskipTests
+call mvn -q -f benchmark/pom.xml package
+java -jar benchmark/target/benchmarks.jar -prof gc -rf json -rff benchmark/target/benchmark-result.json %*
+pause
@@ -0,0 +1,389 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+
+/**
+ * Description: Sada assncrona do terminal, com uma thread dedicada  escrita e controle de capacidade.<br>
+ * Quando o terminal est lento (conexo SSH congestionada, rolagem pausada no console do Windows, etc.) cada escrita no {@link System#out} bloqueia a thread que est escrevendo. Com esta classe as threads apenas colocam o contedo j renderizado em uma fila limitada e sem bloqueio, e uma nica thread de escrita retira o contedo em lotes e o envia para a sada.
+ * <p>
+ * Quando a fila est cheia, o comportamento  definido pela {@link OverflowPolicy}.<br>
+ * Os contadores {@link #getQueueDepth()}, {@link #getDroppedSegments()} e {@link #getBlockedSubmits()} permitem identificar quando o terminal  o gargalo da aplicao.
+ * <p>
+ * Para utilizar a sada assncrona em todos os mtodos da classe {@link Terminal} utilize {@link Terminal#setAsyncOutput(AsyncTerminalOutput)}. Para enviar frames montados em um {@link TerminalWriter}, crie o writer com {@link TerminalWriter#TerminalWriter(AsyncTerminalOutput)}.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class AsyncTerminalOutput implements AutoCloseable {
+
+  /**
+   * Define o que acontece quando o contedo  submetido com a fila cheia.
+   */
+  public static enum OverflowPolicy {
+    /**
+     * A thread que submeteu o contedo aguarda at que haja espao na fila. Nenhum contedo  perdido.
+     */
+    BLOCK,
+    /**
+     * O contedo mais antigo da fila  descartado para dar espao ao novo.
+     */
+    DROP_OLDEST,
+    /**
+     * Quando o novo contedo  um frame que redesenha a tela inteira ({@link AsyncTerminalOutput#submitFrame(String, boolean)}), os frames ainda no escritos so descartados, j que sero substitudos pelo novo frame. Nos demais casos (frames incrementais, como as diferenas geradas pelo {@link ScreenBuffer}, contedos que no so frames, ou nenhum frame na fila) a thread aguarda at que haja espao na fila, como em {@link #BLOCK}: um frame incremental depende de todos os frames anteriores e descart-lo deixaria a tela dessincronizada.<br>
+     * Indicado para telas que so redesenhadas por completo a cada atualizao.
+     */
+    COALESCE_FRAMES
+  }
+
+  /**
+   * Contedo submetido para escrita.
+   */
+  private static final class Segment {
+    final String content;
+    final boolean frame;
+    final boolean fullRedraw;
+
+    Segment(String content, boolean frame, boolean fullRedraw) {
+      this.content = content;
+      this.frame = frame;
+      this.fullRedraw = fullRedraw;
+    }
+  }
+
+  /**
+   * Quantidade mxima de segmentos agrupados em uma nica escrita.
+   */
+  private static final int MAX_BATCH = 256;
+
+  /**
+   * Tempo mximo que a thread de escrita fica parada sem ser acordada, garantindo que nenhum contedo fique esquecido na fila.
+   */
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+  /**
+   * Intervalo de espera das threads produtoras quando a fila est cheia na poltica {@link OverflowPolicy#BLOCK}.
+   */
+  private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  private final ConcurrentLinkedQueue<Segment> queue = new ConcurrentLinkedQueue<>();
+  /**
+   * Segmentos na fila, ainda no retirados pela thread de escrita.  a quantidade limitada pela capacidade.
+   */
+  private final AtomicInteger depth = new AtomicInteger(0);
+  /**
+   * Segmentos submetidos e ainda no escritos: os da fila e os do lote que a thread de escrita est escrevendo.
+   */
+  private final AtomicInteger pending = new AtomicInteger(0);
+  private final AtomicLong dropped = new AtomicLong(0);
+  private final AtomicLong blocked = new AtomicLong(0);
+  private final AtomicLong writtenSegments = new AtomicLong(0);
+  private final AtomicLong writtenChars = new AtomicLong(0);
+
+  private final int capacity;
+  private final OverflowPolicy policy;
+  private final TerminalWriter writer;
+  private final Thread writerThread;
+  private volatile boolean closed = false;
+
+  /**
+   * Indica que a thread de escrita terminou, pelo encerramento da sada ou por uma falha inesperada. A partir deste ponto nenhum contedo pode ser submetido.
+   */
+  private volatile boolean writerTerminated = false;
+
+  /**
+   * Cria a sada assncrona escrevendo no {@link System#out}, com a thread de escrita daemon padro.
+   *
+   * @param capacity Quantidade mxima de segmentos na fila, sem contar os do lote que a thread de escrita est escrevendo.
+   * @param policy Poltica aplicada quando a fila estiver cheia.
+   */
+  public AsyncTerminalOutput(int capacity, OverflowPolicy policy) {
+    this(System.out, capacity, policy, null);
+  }
+
+  /**
+   * Cria a sada assncrona.
+   *
+   * @param out Sada onde o contedo ser escrito.
+   * @param capacity Quantidade mxima de segmentos na fila, sem contar os do lote que a thread de escrita est escrevendo.
+   * @param policy Poltica aplicada quando a fila estiver cheia.
+   * @param threadFactory Fbrica da thread de escrita. Permite, por exemplo, utilizar threads virtuais em JVMs que as suportam. Se nulo,  criada uma thread daemon.
+   */
+  public AsyncTerminalOutput(OutputStream out, int capacity, OverflowPolicy policy, ThreadFactory threadFactory) {
+    if (capacity <= 0) throw new IllegalArgumentException("A capacidade da fila deve ser positiva.");
+    if (policy == null) throw new IllegalArgumentException("A poltica de fila cheia deve ser informada.");
+    this.capacity = capacity;
+    this.policy = policy;
+    this.writer = new TerminalWriter(out);
+    Runnable loop = new Runnable() {
+      @Override
+      public void run() {
+        writeLoop();
+      }
+    };
+    if (threadFactory != null) {
+      this.writerThread = threadFactory.newThread(loop);
+    } else {
+      this.writerThread = new Thread(loop, "RFW.Terminal Async Writer");
+      this.writerThread.setDaemon(true);
+    }
+    this.writerThread.start();
+  }
+
+  /**
+   * Submete um contedo para ser escrito.
+   *
+   * @param content Contedo j renderizado (textos e cdigos de escape).
+   */
+  public void submit(String content) {
+    enqueue(new Segment(content, false, false));
+  }
+
+  /**
+   * Submete um frame incremental para ser escrito. Frames incrementais nunca so descartados pela poltica {@link OverflowPolicy#COALESCE_FRAMES}.
+   *
+   * @param content Contedo do frame j renderizado.
+   */
+  public void submitFrame(String content) {
+    submitFrame(content, false);
+  }
+
+  /**
+   * Submete um frame para ser escrito.
+   *
+   * @param content Contedo do frame j renderizado.
+   * @param fullRedraw Indica se o frame redesenha a tela inteira. Na poltica {@link OverflowPolicy#COALESCE_FRAMES}, um frame que redesenha a tela inteira substitui os frames ainda no escritos quando a fila est cheia.
+   */
+  public void submitFrame(String content, boolean fullRedraw) {
+    enqueue(new Segment(content, true, fullRedraw));
+  }
+
+  /**
+   * Coloca o segmento na fila aplicando a poltica de fila cheia.
+   *
+   * @param segment Segmento a ser enfileirado.
+   */
+  private void enqueue(Segment segment) {
+    if (segment.content == null) throw new IllegalArgumentException("O contedo submetido para a sada assncrona do terminal no pode ser nulo.");
+    checkWriter();
+    while (this.depth.incrementAndGet() > this.capacity) {
+      this.depth.decrementAndGet();
+      checkWriter();
+      switch (this.policy) {
+        case BLOCK:
+          awaitSpace();
+          break;
+        case COALESCE_FRAMES:
+          // Sem frames obsoletos para descartar, aguarda como no BLOCK
+          if (!segment.fullRedraw || !removeQueuedFrames()) awaitSpace();
+          break;
+        case DROP_OLDEST:
+          // Os segmentos contados ainda no foram colocados na fila pelas outras threads produtoras: aguarda em vez de repetir a tentativa sem parar
+          if (!dropOldest()) awaitSpace();
+          break;
+      }
+    }
+    this.pending.incrementAndGet();
+    this.queue.offer(segment);
+    if (this.closed && this.queue.remove(segment)) {
+      // Encerrada enquanto o segmento era enfileirado: caso a thread de escrita no o tenha retirado, ele no seria mais escrito
+      this.depth.decrementAndGet();
+      this.pending.decrementAndGet();
+      throw new IllegalStateException("A sada assncrona do terminal j foi encerrada.");
+    }
+    LockSupport.unpark(this.writerThread);
+  }
+
+  /**
+   * Verifica se a sada ainda aceita contedo, evitando que as threads produtoras aguardem indefinidamente por espao em uma fila que no ser mais esvaziada.
+   */
+  private void checkWriter() {
+    if (this.closed) throw new IllegalStateException("A sada assncrona do terminal j foi encerrada.");
+    if (this.writerTerminated) throw new IllegalStateException("A thread de escrita da sada assncrona do terminal foi encerrada por uma falha.");
+  }
+
+  /**
+   * Aguarda um intervalo para que a thread de escrita libere espao na fila.
+   */
+  private void awaitSpace() {
+    this.blocked.incrementAndGet();
+    LockSupport.unpark(this.writerThread);
+    LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+  }
+
+  /**
+   * Descarta o segmento mais antigo da fila. Os segmentos que a thread de escrita j retirou da fila no so descartados.
+   *
+   * @return true caso algum segmento tenha sido descartado.
+   */
+  private boolean dropOldest() {
+    if (this.queue.poll() == null) return false;
+    this.depth.decrementAndGet();
+    this.pending.decrementAndGet();
+    this.dropped.incrementAndGet();
+    return true;
+  }
+
+  /**
+   * Descarta todos os frames ainda no escritos, substitudos por um frame que redesenha a tela inteira.
+   *
+   * @return true caso algum frame tenha sido descartado.
+   */
+  private boolean removeQueuedFrames() {
+    boolean removed = false;
+    for (Iterator<Segment> it = this.queue.iterator(); it.hasNext();) {
+      Segment queued = it.next();
+      if (queued.frame && this.queue.remove(queued)) {
+        this.depth.decrementAndGet();
+        this.pending.decrementAndGet();
+        this.dropped.incrementAndGet();
+        removed = true;
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * Lao da thread de escrita: retira os segmentos em lotes e os escreve na sada.<br>
+   * Um segmento deixa de ocupar a capacidade da fila assim que  retirado para o lote, mas s deixa de ser contado como pendente depois de escrito, de forma que {@link #awaitEmpty(long)} s retorna depois que todo o contedo chegou  sada. As falhas de escrita descartam o lote e no encerram a thread. Caso a thread termine por qualquer outro motivo, as threads produtoras passam a receber uma exceo ao submeter contedo.
+   */
+  private void writeLoop() {
+    try {
+      while (true) {
+        // O encerramento  lido antes de verificar a fila: um segmento enfileirado antes do encerramento  sempre encontrado, e um segmento enfileirado depois  retirado da fila pela prpria thread produtora
+        boolean closing = this.closed;
+        Segment segment = this.queue.poll();
+        if (segment == null) {
+          if (closing) return;
+          LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+          continue;
+        }
+        int count = 0;
+        long chars = 0;
+        try {
+          do {
+            count++;
+            this.depth.decrementAndGet();
+            this.writer.append(segment.content);
+            chars += segment.content.length();
+          } while (count < MAX_BATCH && (segment = this.queue.poll()) != null);
+          this.writer.flush();
+          this.writtenSegments.addAndGet(count);
+          this.writtenChars.addAndGet(chars);
+        } catch (RFWException | RuntimeException e) {
+          // No h para quem reportar a falha de escrita na sada, o contedo  descartado
+          this.writer.discard();
+        } finally {
+          this.pending.addAndGet(-count);
+        }
+      }
+    } finally {
+      this.writerTerminated = true;
+    }
+  }
+
+  /**
+   * Encerra a sada assncrona. Todo o contedo j submetido  escrito antes da thread de escrita terminar. A partir deste ponto nenhum contedo  aceito, inclusive das threads que estavam aguardando espao na fila.
+   *
+   * @throws RFWException Lanado caso a thread seja interrompida enquanto aguarda o trmino da escrita. O estado de interrupo da thread  mantido.
+   */
+  @Override
+  public void close() throws RFWException {
+    this.closed = true;
+    LockSupport.unpark(this.writerThread);
+    try {
+      this.writerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RFWCriticalException("Interrompido enquanto aguardava o trmino da escrita da sada assncrona do terminal.", e);
+    }
+  }
+
+  /**
+   * Aguarda at que todo o contedo submetido at o momento tenha sido escrito.
+   *
+   * @param timeout Tempo mximo de espera, em milissegundos.
+   * @return true caso a fila tenha sido esvaziada dentro do tempo.
+   */
+  public boolean awaitEmpty(long timeout) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+    while (this.pending.get() > 0) {
+      if (System.nanoTime() > deadline) return false;
+      LockSupport.unpark(this.writerThread);
+      LockSupport.parkNanos(BLOCK_PARK_NANOS);
+    }
+    return true;
+  }
+
+  /**
+   * Retorna a quantidade de segmentos na fila, ainda no retirados pela thread de escrita. Os segmentos do lote que est sendo escrito no so contados.
+   *
+   * @return Profundidade atual da fila.
+   */
+  public int getQueueDepth() {
+    return Math.max(0, this.depth.get());
+  }
+
+  /**
+   * Retorna a quantidade de segmentos descartados pelas polticas {@link OverflowPolicy#DROP_OLDEST} e {@link OverflowPolicy#COALESCE_FRAMES}.
+   *
+   * @return Total de segmentos descartados.
+   */
+  public long getDroppedSegments() {
+    return this.dropped.get();
+  }
+
+  /**
+   * Retorna quantas vezes uma thread precisou aguardar por espao na fila nas polticas {@link OverflowPolicy#BLOCK} e {@link OverflowPolicy#COALESCE_FRAMES}. Na poltica {@link OverflowPolicy#DROP_OLDEST} a espera s ocorre quando a fila est cheia de segmentos que outras threads ainda esto colocando na fila.
+   *
+   * @return Total de esperas por fila cheia.
+   */
+  public long getBlockedSubmits() {
+    return this.blocked.get();
+  }
+
+  /**
+   * Retorna a quantidade de segmentos j escritos na sada.
+   *
+   * @return Total de segmentos escritos.
+   */
+  public long getWrittenSegments() {
+    return this.writtenSegments.get();
+  }
+
+  /**
+   * Retorna a quantidade de caracteres j escritos na sada.
+   *
+   * @return Total de caracteres escritos.
+   */
+  public long getWrittenChars() {
+    return this.writtenChars.get();
+  }
+
+  /**
+   * Retorna a capacidade da fila.
+   *
+   * @return Quantidade mxima de segmentos na fila, sem contar os do lote que a thread de escrita est escrevendo.
+   */
+  public int getCapacity() {
+    return this.capacity;
+  }
+
+  /**
+   * Retorna a poltica aplicada quando a fila est cheia.
+   *
+   * @return Poltica de fila cheia.
+   */
+  public OverflowPolicy getPolicy() {
+    return this.policy;
+  }
+}
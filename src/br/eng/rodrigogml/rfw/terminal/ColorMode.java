@@ -0,0 +1,46 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+/**
+ * Description: Quantidade de cores suportada pelo terminal.<br>
+ * Utilizado pelos mtodos de cor RGB da classe {@link Terminal} para decidir entre enviar a cor em 24 bits ou convert-la para a paleta suportada.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public enum ColorMode {
+
+  /**
+   * Cores de 24 bits ("ESC [ 38 ; 2 ; {r} ; {g} ; {b} m").
+   */
+  TRUECOLOR,
+
+  /**
+   * Paleta estendida de 256 cores ("ESC [ 38 ; 5 ; {cor} m").
+   */
+  EXTENDED_256,
+
+  /**
+   * Apenas as 16 cores bsicas de {@link Terminal.TextColor} e {@link Terminal.TextBackgroundColor}.
+   */
+  BASIC_16;
+
+  /**
+   * Detecta a quantidade de cores suportada pelo terminal a partir das variveis de ambiente:
+   * <li>COLORTERM igual a "truecolor" ou "24bit", ou WT_SESSION definida (Windows Terminal): {@link #TRUECOLOR};
+   * <li>TERM contendo "256color": {@link #EXTENDED_256};
+   * <li>demais casos: {@link #BASIC_16}.
+   *
+   * @return Modo de cores detectado.
+   */
+  public static ColorMode detect() {
+    String colorTerm = System.getenv("COLORTERM");
+    if (colorTerm != null && ("truecolor".equalsIgnoreCase(colorTerm) || "24bit".equalsIgnoreCase(colorTerm))) return TRUECOLOR;
+    if (System.getenv("WT_SESSION") != null) return TRUECOLOR;
+    String term = System.getenv("TERM");
+    if (term != null) {
+      if (term.endsWith("-direct")) return TRUECOLOR;
+      if (term.contains("256color")) return EXTENDED_256;
+    }
+    return BASIC_16;
+  }
+}
@@ -0,0 +1,216 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+import br.eng.rodrigogml.rfw.terminal.Terminal.TextBackgroundColor;
+import br.eng.rodrigogml.rfw.terminal.Terminal.TextColor;
+
+/**
+ * Description: Converso de cores RGB para as paletas de 256 e 16 cores do terminal.<br>
+ * A converso no faz nenhuma busca no momento da chamada: o espao RGB  dividido em um cubo de 32x32x32 clulas (5 bits por componente) e a cor mais prxima de cada clula, em cada paleta,  calculada uma nica vez na carga da classe. Cada converso  apenas um deslocamento de bits e a leitura de um array, sem criao de objetos, permitindo colorir cada clula de telas inteiras (mapas de calor, grficos, etc.) em terminais sem suporte a cores de 24 bits.
+ * <p>
+ * A distncia entre as cores  o quadrado da diferena de cada componente, com pesos 2, 4 e 3 para vermelho, verde e azul, aproximando a sensibilidade do olho humano.<br>
+ * Na paleta de 256 cores apenas o cubo de cores (16-231) e a escala de cinzas (232-255) so utilizados, j que as 16 primeiras cores variam conforme o tema do terminal.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public final class ColorQuantizer {
+
+  /**
+   * Quantidade de bits de cada componente utilizada para indexar as tabelas.
+   */
+  private static final int BITS = 5;
+
+  /**
+   * Quantidade de nveis de cada componente nas tabelas.
+   */
+  private static final int LEVELS = 1 << BITS;
+
+  /**
+   * Valores RGB das 16 cores bsicas, na ordem de {@link TextColor} (valores padro do xterm).
+   */
+  private static final int[] BASIC_PALETTE = { 0x000000, 0xCD0000, 0x00CD00, 0xCDCD00, 0x0000EE, 0xCD00CD, 0x00CDCD, 0xE5E5E5, 0x7F7F7F, 0xFF0000, 0x00FF00, 0xFFFF00, 0x5C5CFF, 0xFF00FF, 0x00FFFF, 0xFFFFFF };
+
+  /**
+   * Intensidades de cada componente no cubo de cores 6x6x6 da paleta de 256 cores.
+   */
+  private static final int[] CUBE_LEVELS = { 0, 95, 135, 175, 215, 255 };
+
+  private static final TextColor[] TEXT_COLORS = TextColor.values();
+  private static final TextBackgroundColor[] BACKGROUND_COLORS = TextBackgroundColor.values();
+
+  /**
+   * Cdigo da paleta de 256 cores para cada clula do cubo RGB.
+   */
+  private static final byte[] EXTENDED_LUT = new byte[LEVELS * LEVELS * LEVELS];
+
+  /**
+   * ndice da cor bsica (0-15) para cada clula do cubo RGB.
+   */
+  private static final byte[] BASIC_LUT = new byte[LEVELS * LEVELS * LEVELS];
+
+  static {
+    for (int r = 0; r < LEVELS; r++) {
+      int rv = levelValue(r);
+      for (int g = 0; g < LEVELS; g++) {
+        int gv = levelValue(g);
+        for (int b = 0; b < LEVELS; b++) {
+          int bv = levelValue(b);
+          int cell = (r << (2 * BITS)) | (g << BITS) | b;
+          EXTENDED_LUT[cell] = (byte) nearestExtended(rv, gv, bv);
+          BASIC_LUT[cell] = (byte) nearestBasic(rv, gv, bv);
+        }
+      }
+    }
+  }
+
+  /**
+   * Construtor privado para classe esttica.
+   */
+  private ColorQuantizer() {
+  }
+
+  /**
+   * Monta uma cor no formato 0xRRGGBB.
+   *
+   * @param red Componente vermelho (0-255).
+   * @param green Componente verde (0-255).
+   * @param blue Componente azul (0-255).
+   * @return Cor no formato 0xRRGGBB.
+   */
+  public static int rgb(int red, int green, int blue) {
+    return ((red & 0xFF) << 16) | ((green & 0xFF) << 8) | (blue & 0xFF);
+  }
+
+  /**
+   * Converte a cor para o cdigo mais prximo da paleta de 256 cores.
+   *
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return Cdigo da cor (16-255).
+   */
+  public static int toExtended(int rgb) {
+    return EXTENDED_LUT[cell(rgb)] & 0xFF;
+  }
+
+  /**
+   * Converte a cor para o ndice da cor bsica mais prxima.
+   *
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return ndice da cor bsica (0-15), na ordem de {@link TextColor} e {@link TextBackgroundColor}.
+   */
+  public static int toBasic(int rgb) {
+    return BASIC_LUT[cell(rgb)];
+  }
+
+  /**
+   * Converte a cor para a cor de texto bsica mais prxima.
+   *
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return Cor de texto.
+   */
+  public static TextColor toTextColor(int rgb) {
+    return TEXT_COLORS[BASIC_LUT[cell(rgb)]];
+  }
+
+  /**
+   * Converte a cor para a cor de fundo bsica mais prxima.
+   *
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return Cor de fundo.
+   */
+  public static TextBackgroundColor toTextBackgroundColor(int rgb) {
+    return BACKGROUND_COLORS[BASIC_LUT[cell(rgb)]];
+  }
+
+  /**
+   * Retorna o valor RGB de uma cor da paleta de 256 cores.
+   *
+   * @param colorCode Cdigo da cor (0-255).
+   * @return Cor no formato 0xRRGGBB.
+   */
+  public static int extendedToRgb(int colorCode) {
+    if (colorCode < 0 || colorCode > 255) throw new IllegalArgumentException("O cdigo da cor deve estar entre 0 e 255.");
+    if (colorCode < 16) return BASIC_PALETTE[colorCode];
+    if (colorCode < 232) {
+      int i = colorCode - 16;
+      return rgb(CUBE_LEVELS[i / 36], CUBE_LEVELS[(i / 6) % 6], CUBE_LEVELS[i % 6]);
+    }
+    int gray = 8 + (colorCode - 232) * 10;
+    return rgb(gray, gray, gray);
+  }
+
+  /**
+   * Retorna a clula do cubo RGB correspondente  cor, utilizando os 5 bits mais significativos de cada componente.
+   *
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return ndice da clula nas tabelas.
+   */
+  private static int cell(int rgb) {
+    return ((rgb >>> 9) & 0x7C00) | ((rgb >>> 6) & 0x03E0) | ((rgb >>> 3) & 0x001F);
+  }
+
+  /**
+   * Retorna o valor representativo de um nvel da tabela, de forma que o primeiro nvel seja 0 e o ltimo 255.
+   */
+  private static int levelValue(int level) {
+    return (level * 255 + (LEVELS - 1) / 2) / (LEVELS - 1);
+  }
+
+  /**
+   * Calcula a distncia ponderada entre duas cores.
+   */
+  private static int distance(int r1, int g1, int b1, int r2, int g2, int b2) {
+    int dr = r1 - r2;
+    int dg = g1 - g2;
+    int db = b1 - b2;
+    return 2 * dr * dr + 4 * dg * dg + 3 * db * db;
+  }
+
+  /**
+   * Busca a cor mais prxima no cubo de cores e na escala de cinzas da paleta de 256 cores.<br>
+   * Como a distncia  a soma das diferenas de cada componente, a cor mais prxima do cubo  obtida escolhendo o nvel mais prximo de cada componente separadamente.
+   */
+  private static int nearestExtended(int r, int g, int b) {
+    int ri = nearestCubeLevel(r);
+    int gi = nearestCubeLevel(g);
+    int bi = nearestCubeLevel(b);
+    int best = 16 + 36 * ri + 6 * gi + bi;
+    int bestDistance = distance(r, g, b, CUBE_LEVELS[ri], CUBE_LEVELS[gi], CUBE_LEVELS[bi]);
+    for (int i = 0; i < 24; i++) {
+      int gray = 8 + i * 10;
+      int d = distance(r, g, b, gray, gray, gray);
+      if (d < bestDistance) {
+        bestDistance = d;
+        best = 232 + i;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Busca o nvel do cubo de cores mais prximo do valor do componente.
+   */
+  private static int nearestCubeLevel(int value) {
+    int best = 0;
+    for (int i = 1; i < CUBE_LEVELS.length; i++) {
+      if (Math.abs(CUBE_LEVELS[i] - value) < Math.abs(CUBE_LEVELS[best] - value)) best = i;
+    }
+    return best;
+  }
+
+  /**
+   * Busca a cor bsica mais prxima.
+   */
+  private static int nearestBasic(int r, int g, int b) {
+    int best = 0;
+    int bestDistance = Integer.MAX_VALUE;
+    for (int i = 0; i < BASIC_PALETTE.length; i++) {
+      int c = BASIC_PALETTE[i];
+      int d = distance(r, g, b, c >>> 16, (c >>> 8) & 0xFF, c & 0xFF);
+      if (d < bestDistance) {
+        bestDistance = d;
+        best = i;
+      }
+    }
+    return best;
+  }
+}
@@ -0,0 +1,485 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+
+/**
+ * Description: Histrico persistente dos comandos digitados, com busca reversa por trecho (como o Ctrl-R dos shells) e busca por prefixo.<br>
+ * O histrico  um arquivo texto em UTF-8 onde cada comando  acrescentado no final, em uma linha (as quebras de linha e as barras invertidas do comando so escritas como "\n", "\r" e "\\"). Na abertura o arquivo  mapeado em memria e copiado de uma s vez para o ndice em memria, que mantm os comandos no mesmo formato do arquivo, sem criar uma String por comando. As buscas percorrem diretamente os bytes do ndice, do fim para o incio: na busca incremental os comandos encontrados costumam ser recentes e a busca leva microssegundos, e mesmo percorrendo um histrico inteiro de um milho de comandos (um texto que no existe) a busca leva apenas dezenas de milissegundos.
+ * <p>
+ * Quando o arquivo ultrapassa o tamanho mximo ele  compactado: os comandos repetidos so removidos (mantendo a ocorrncia mais recente) e so mantidos os comandos mais recentes, at {@link #COMPACTION_RATIO} do tamanho mximo (o comando mais recente  sempre mantido, mesmo que sozinho ultrapasse esse limite). O arquivo compactado  escrito em um arquivo temporrio e substitui o original de uma s vez, de forma que uma falha durante a compactao no perde o histrico.
+ * <p>
+ * Vrias sesses (processos ou instncias) podem utilizar o mesmo arquivo: cada comando  acrescentado com o arquivo de trava "{arquivo}.lock" bloqueado, e o arquivo de histrico s fica aberto durante a escrita. Os comandos acrescentados pelas outras sesses passam a fazer parte do ndice depois de {@link #reload()} ou de uma compactao.
+ * <p>
+ * Esta classe  thread-safe. Pode ser associada ao {@link Terminal#readLine()} com {@link Terminal#setHistory(CommandHistory)}.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public final class CommandHistory {
+
+  /**
+   * Tamanho mximo padro do arquivo de histrico, em bytes.
+   */
+  public static final long DEFAULT_MAX_SIZE = 16L * 1024 * 1024;
+
+  /**
+   * Frao do tamanho mximo mantida pela compactao, deixando espao para novos comandos antes da prxima compactao.
+   */
+  public static final double COMPACTION_RATIO = 0.75;
+
+  /**
+   * Monitores de cada arquivo de histrico nesta JVM. O {@link FileLock}  mantido pela JVM inteira, e duas threads no podem bloquear o mesmo arquivo ao mesmo tempo.
+   */
+  private static final ConcurrentHashMap<Path, Object> fileMonitors = new ConcurrentHashMap<>();
+
+  private final Path file;
+  private final Path lockFile;
+  private final Object fileMonitor;
+  private final long maxSize;
+
+  /**
+   * Comandos no formato do arquivo, cada um seguido de '\n'.
+   */
+  private byte[] data = new byte[0];
+
+  /**
+   * Quantidade de bytes utilizados em {@link #data}.
+   */
+  private int length = 0;
+
+  /**
+   * Posio inicial de cada comando em {@link #data}, do mais antigo para o mais recente.
+   */
+  private int[] starts = new int[0];
+
+  /**
+   * Quantidade de comandos.
+   */
+  private int count = 0;
+
+  /**
+   * Abre o histrico com o tamanho mximo padro ({@link #DEFAULT_MAX_SIZE}).
+   *
+   * @param file Arquivo do histrico.  criado no primeiro comando acrescentado, caso no exista.
+   * @throws RFWException Lanado caso o arquivo no possa ser lido.
+   */
+  public CommandHistory(Path file) throws RFWException {
+    this(file, DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Abre o histrico.
+   *
+   * @param file Arquivo do histrico.  criado no primeiro comando acrescentado, caso no exista.
+   * @param maxSize Tamanho mximo do arquivo, em bytes, a partir do qual o histrico  compactado.
+   * @throws RFWException Lanado caso o arquivo no possa ser lido.
+   */
+  public CommandHistory(Path file, long maxSize) throws RFWException {
+    if (maxSize < 1024 || maxSize > Integer.MAX_VALUE) throw new IllegalArgumentException("Tamanho mximo do histrico invlido: " + maxSize + ".");
+    this.file = file.toAbsolutePath().normalize();
+    this.lockFile = this.file.resolveSibling(this.file.getFileName() + ".lock");
+    this.maxSize = maxSize;
+    Object monitor = new Object();
+    Object current = fileMonitors.putIfAbsent(this.file, monitor);
+    this.fileMonitor = current != null ? current : monitor;
+    reload();
+  }
+
+  /**
+   * Retorna o arquivo do histrico.
+   *
+   * @return Caminho absoluto do arquivo.
+   */
+  public Path getFile() {
+    return this.file;
+  }
+
+  /**
+   * Retorna o tamanho mximo do arquivo, a partir do qual o histrico  compactado.
+   *
+   * @return Tamanho mximo, em bytes.
+   */
+  public long getMaxSize() {
+    return this.maxSize;
+  }
+
+  /**
+   * L novamente o arquivo, incluindo no ndice os comandos acrescentados por outras sesses.
+   *
+   * @throws RFWException Lanado caso o arquivo no possa ser lido.
+   */
+  public void reload() throws RFWException {
+    byte[] content;
+    try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) throw new RFWCriticalException("O arquivo de histrico '" + this.file + "'  grande demais: " + size + " bytes.");
+      content = new byte[(int) size];
+      if (size > 0) {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        buffer.get(content);
+      }
+    } catch (NoSuchFileException e) {
+      content = new byte[0];
+    } catch (IOException e) {
+      throw new RFWCriticalException("Falha ao ler o arquivo de histrico '" + this.file + "'.", e);
+    }
+    synchronized (this) {
+      index(content, content.length);
+    }
+  }
+
+  /**
+   * Monta o ndice a partir do contedo do arquivo. Uma ltima linha incompleta (de uma escrita interrompida) e as linhas vazias so desconsideradas.
+   */
+  private void index(byte[] content, int size) {
+    int end = size;
+    while (end > 0 && content[end - 1] != '\n') {
+      end--;
+    }
+    int[] newStarts = new int[Math.max(16, end / 32)];
+    int newCount = 0;
+    int newLength = 0;
+    int start = 0;
+    for (int i = 0; i < end; i++) {
+      if (content[i] != '\n') continue;
+      if (i > start) {
+        // Remove as linhas vazias, copiando o contedo para trs somente quando houver alguma
+        if (newLength != start) System.arraycopy(content, start, content, newLength, i + 1 - start);
+        if (newCount == newStarts.length) newStarts = Arrays.copyOf(newStarts, newCount * 2);
+        newStarts[newCount++] = newLength;
+        newLength += i + 1 - start;
+      }
+      start = i + 1;
+    }
+    this.data = content;
+    this.length = newLength;
+    this.starts = newStarts;
+    this.count = newCount;
+  }
+
+  /**
+   * Acrescenta um comando ao histrico, no arquivo e no ndice. Comandos vazios e comandos iguais ao ltimo comando do histrico so ignorados.<br>
+   * Caso o arquivo ultrapasse o tamanho mximo, o histrico  compactado.
+   *
+   * @param command Comando digitado.
+   * @throws RFWException Lanado caso o comando no possa ser escrito no arquivo.
+   */
+  public void add(String command) throws RFWException {
+    if (command == null || command.trim().isEmpty()) return;
+    byte[] entry = escape(command, true);
+    synchronized (this) {
+      if (this.count > 0 && entryEquals(this.count - 1, entry, entry.length - 1)) return;
+    }
+
+    synchronized (this.fileMonitor) {
+      try (FileChannel lockChannel = FileChannel.open(this.lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+        FileLock lock = lockChannel.lock();
+        try {
+          long size;
+          try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Com a trava obtida nenhuma outra sesso escreve no arquivo, e o comando  escrito a partir do fim atual
+            long position = channel.size();
+            if (position > 0 && !endsWithLineBreak(channel, position)) {
+              // A ltima escrita de alguma sesso foi interrompida: o comando comea em uma nova linha
+              position += channel.write(ByteBuffer.wrap(new byte[] { '\n' }), position);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(entry);
+            while (buffer.hasRemaining()) {
+              position += channel.write(buffer, position);
+            }
+            size = channel.size();
+          }
+          synchronized (this) {
+            append(entry);
+          }
+          if (size > this.maxSize) compactLocked();
+        } finally {
+          lock.release();
+        }
+      } catch (IOException e) {
+        throw new RFWCriticalException("Falha ao escrever no arquivo de histrico '" + this.file + "'.", e);
+      }
+    }
+  }
+
+  private boolean endsWithLineBreak(FileChannel channel, long size) throws IOException {
+    ByteBuffer last = ByteBuffer.allocate(1);
+    channel.read(last, size - 1);
+    return last.get(0) == '\n';
+  }
+
+  private void append(byte[] entry) {
+    if (this.length + entry.length > this.data.length) this.data = Arrays.copyOf(this.data, Math.max(this.length + entry.length, this.data.length + (this.data.length >> 1) + 1024));
+    if (this.count == this.starts.length) this.starts = Arrays.copyOf(this.starts, Math.max(16, this.count * 2));
+    System.arraycopy(entry, 0, this.data, this.length, entry.length);
+    this.starts[this.count++] = this.length;
+    this.length += entry.length;
+  }
+
+  /**
+   * Compacta o arquivo de histrico imediatamente, removendo os comandos repetidos e, caso o arquivo ultrapasse o tamanho mximo, os comandos mais antigos. O ndice  recarregado com o contedo compactado, que inclui os comandos das outras sesses.
+   *
+   * @throws RFWException Lanado caso o arquivo no possa ser lido ou escrito.
+   */
+  public void compact() throws RFWException {
+    synchronized (this.fileMonitor) {
+      try (FileChannel lockChannel = FileChannel.open(this.lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+        FileLock lock = lockChannel.lock();
+        try {
+          compactLocked();
+        } finally {
+          lock.release();
+        }
+      } catch (IOException e) {
+        throw new RFWCriticalException("Falha ao compactar o arquivo de histrico '" + this.file + "'.", e);
+      }
+    }
+  }
+
+  /**
+   * Compacta o arquivo com a trava j obtida.
+   */
+  private void compactLocked() throws RFWException {
+    byte[] content;
+    try {
+      content = Files.exists(this.file) ? Files.readAllBytes(this.file) : new byte[0];
+    } catch (IOException e) {
+      throw new RFWCriticalException("Falha ao ler o arquivo de histrico '" + this.file + "'.", e);
+    }
+
+    // Percorre do mais recente para o mais antigo, mantendo a primeira ocorrncia de cada comando at o limite de tamanho. O comando mais recente  sempre mantido, mesmo que sozinho ultrapasse o limite
+    long limit = (long) (this.maxSize * COMPACTION_RATIO);
+    Set<String> seen = new HashSet<>();
+    List<int[]> kept = new ArrayList<>();
+    long keptSize = 0;
+    int end = content.length;
+    while (end > 0 && content[end - 1] != '\n') {
+      end--;
+    }
+    int lineEnd = end;
+    while (lineEnd > 0) {
+      int lineStart = lineEnd - 1;
+      while (lineStart > 0 && content[lineStart - 1] != '\n') {
+        lineStart--;
+      }
+      int size = lineEnd - lineStart; // Inclui o '\n'
+      if (size > 1 && seen.add(new String(content, lineStart, size - 1, StandardCharsets.ISO_8859_1))) {
+        if (!kept.isEmpty() && keptSize + size > limit) break;
+        kept.add(new int[] { lineStart, size });
+        keptSize += size;
+      }
+      lineEnd = lineStart;
+    }
+
+    byte[] compacted = new byte[(int) keptSize];
+    int position = 0;
+    for (int i = kept.size() - 1; i >= 0; i--) {
+      int[] line = kept.get(i);
+      System.arraycopy(content, line[0], compacted, position, line[1]);
+      position += line[1];
+    }
+
+    Path temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+    try {
+      Files.write(temp, compacted);
+      try {
+        Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      try {
+        Files.deleteIfExists(temp);
+      } catch (IOException e1) {
+      }
+      throw new RFWCriticalException("Falha ao escrever o arquivo de histrico compactado '" + this.file + "'.", e);
+    }
+    synchronized (this) {
+      index(compacted, compacted.length);
+    }
+  }
+
+  /**
+   * Retorna a quantidade de comandos no histrico.
+   *
+   * @return Quantidade de comandos.
+   */
+  public synchronized int size() {
+    return this.count;
+  }
+
+  /**
+   * Retorna um comando do histrico.
+   *
+   * @param index ndice do comando, de 0 (o mais antigo) at {@link #size()} - 1 (o mais recente).
+   * @return Comando.
+   */
+  public synchronized String get(int index) {
+    if (index < 0 || index >= this.count) throw new IndexOutOfBoundsException("ndice do histrico invlido: " + index + ".");
+    return unescape(this.data, this.starts[index], entryEnd(index));
+  }
+
+  /**
+   * Procura, do mais recente para o mais antigo, o comando que contm o texto (busca reversa, como o Ctrl-R dos shells).<br>
+   * Para a busca incremental, a cada caractere digitado a busca  repetida a partir do comando encontrado (fromIndex = ndice encontrado + 1), e para procurar a ocorrncia anterior a busca continua antes do comando encontrado (fromIndex = ndice encontrado).
+   *
+   * @param text Texto procurado, diferenciando maisculas e minsculas.
+   * @param fromIndex A busca considera somente os comandos com ndice menor que este. Utilize {@link #size()} para procurar em todo o histrico.
+   * @return ndice do comando encontrado, ou -1 caso nenhum comando anterior contenha o texto.
+   */
+  public synchronized int search(String text, int fromIndex) {
+    fromIndex = Math.min(fromIndex, this.count);
+    if (fromIndex <= 0) return -1;
+    if (text.isEmpty()) return fromIndex - 1;
+    byte[] needle = escape(text, false);
+    int n = needle.length;
+    byte first = needle[0];
+    // A ocorrncia precisa terminar antes do '\n' do ltimo comando considerado
+    int limit = (fromIndex == this.count ? this.length : this.starts[fromIndex]) - 1 - n;
+    final byte[] d = this.data;
+    for (int p = limit; p >= 0; p--) {
+      if (d[p] != first) continue;
+      int k = 1;
+      while (k < n && d[p + k] == needle[k]) {
+        k++;
+      }
+      if (k == n && isCharStart(p)) return entryAt(p);
+    }
+    return -1;
+  }
+
+  /**
+   * Procura, do mais recente para o mais antigo, o comando que comea com o prefixo.
+   *
+   * @param prefix Prefixo procurado, diferenciando maisculas e minsculas.
+   * @param fromIndex A busca considera somente os comandos com ndice menor que este. Utilize {@link #size()} para procurar em todo o histrico.
+   * @return ndice do comando encontrado, ou -1 caso nenhum comando anterior comece com o prefixo.
+   */
+  public synchronized int searchPrefix(String prefix, int fromIndex) {
+    byte[] needle = escape(prefix, false);
+    int n = needle.length;
+    final byte[] d = this.data;
+    for (int i = Math.min(fromIndex, this.count) - 1; i >= 0; i--) {
+      int start = this.starts[i];
+      if (entryEnd(i) - start < n) continue;
+      int k = 0;
+      while (k < n && d[start + k] == needle[k]) {
+        k++;
+      }
+      if (k == n) return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Retorna os comandos distintos que contm o texto, do mais recente para o mais antigo.
+   *
+   * @param text Texto procurado, diferenciando maisculas e minsculas.
+   * @param limit Quantidade mxima de comandos retornados.
+   * @return Comandos encontrados.
+   */
+  public synchronized List<String> find(String text, int limit) {
+    Set<String> found = new LinkedHashSet<>();
+    int index = this.count;
+    while (found.size() < limit && (index = search(text, index)) >= 0) {
+      found.add(get(index));
+    }
+    return new ArrayList<>(found);
+  }
+
+  /**
+   * Posio final (exclusiva, a posio do '\n') do comando.
+   */
+  private int entryEnd(int index) {
+    return (index + 1 < this.count ? this.starts[index + 1] : this.length) - 1;
+  }
+
+  /**
+   * Localiza o comando que contm a posio.
+   */
+  private int entryAt(int position) {
+    int i = Arrays.binarySearch(this.starts, 0, this.count, position);
+    return i >= 0 ? i : -i - 2;
+  }
+
+  /**
+   * Verifica se a posio  o incio de um caractere do comando, e no o caractere seguinte a uma barra de escape. Como as barras invertidas do comando tambm so escritas com escape, a posio est dentro de um escape somente quando  precedida por uma quantidade mpar de barras.
+   */
+  private boolean isCharStart(int position) {
+    int backslashes = 0;
+    for (int i = position - 1; i >= 0 && this.data[i] == '\\'; i--) {
+      backslashes++;
+    }
+    return (backslashes & 1) == 0;
+  }
+
+  private boolean entryEquals(int index, byte[] entry, int entryLength) {
+    int start = this.starts[index];
+    if (entryEnd(index) - start != entryLength) return false;
+    for (int i = 0; i < entryLength; i++) {
+      if (this.data[start + i] != entry[i]) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Converte o texto para o formato do arquivo, em UTF-8.
+   *
+   * @param text Texto a ser convertido.
+   * @param lineBreak Indica se deve ser acrescentado o '\n' do fim do comando.
+   */
+  private static byte[] escape(String text, boolean lineBreak) {
+    StringBuilder buff = null;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '\\' || c == '\n' || c == '\r') {
+        if (buff == null) buff = new StringBuilder(text.length() + 8).append(text, 0, i);
+        buff.append('\\').append(c == '\n' ? 'n' : c == '\r' ? 'r' : '\\');
+      } else if (buff != null) {
+        buff.append(c);
+      }
+    }
+    if (lineBreak) {
+      if (buff == null) buff = new StringBuilder(text.length() + 1).append(text);
+      buff.append('\n');
+    }
+    return (buff == null ? text : buff.toString()).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String unescape(byte[] bytes, int start, int end) {
+    String text = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    if (text.indexOf('\\') < 0) return text;
+    StringBuilder buff = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '\\' && i + 1 < text.length()) {
+        char next = text.charAt(++i);
+        buff.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+      } else {
+        buff.append(c);
+      }
+    }
+    return buff.toString();
+  }
+}
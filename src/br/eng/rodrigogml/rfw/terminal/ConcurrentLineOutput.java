@@ -0,0 +1,134 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+
+/**
+ * Description: Publicador de linhas completas no {@link System#out} para uso concorrente por vrias threads.<br>
+ * Cada thread monta sua linha de forma isolada (veja {@link Terminal#setAtomicLineOutput(boolean)}) e a publica inteira nesta fila. As linhas nunca so intercaladas entre si.
+ * <p>
+ * As threads produtoras no disputam o monitor do {@link java.io.PrintStream}: a linha  colocada em uma fila sem bloqueio e apenas uma thread por vez, a que conseguir assumir o papel de "escritora", retira todas as linhas pendentes e as envia para a sada em uma nica escrita. As demais threads retornam imediatamente, deixando suas linhas para a escritora da vez. Cada thread produtora escreve no mximo um lote: o que restar na fila  escrito por uma thread de apoio.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+final class ConcurrentLineOutput {
+
+  /**
+   * Quantidade mxima de linhas agrupadas em uma nica escrita, evitando que a thread escritora fique presa indefinidamente enquanto outras threads continuam publicando.
+   */
+  private static final int MAX_BATCH_LINES = 1024;
+
+  /**
+   * Fila de linhas publicadas e ainda no escritas.
+   */
+  private final ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Indica se alguma thread est escrevendo as linhas pendentes.
+   */
+  private final AtomicBoolean draining = new AtomicBoolean(false);
+
+  /**
+   * Writer utilizado para agrupar as linhas em uma nica escrita. S  utilizado pela thread que detm o {@link #draining}.
+   */
+  private final TerminalWriter writer;
+
+  /**
+   * Thread de apoio que escreve as linhas que ficaram na fila depois do lote escrito por uma thread produtora. Criada somente quando necessria.
+   */
+  private volatile Thread flusher = null;
+
+  /**
+   * Cria o publicador escrevendo no {@link System#out}.
+   */
+  ConcurrentLineOutput() {
+    this.writer = new TerminalWriter();
+  }
+
+  /**
+   * Publica um contedo completo (normalmente uma ou mais linhas terminadas com quebra de linha) para ser escrito sem intercalao com o contedo de outras threads.
+   *
+   * @param content Contedo a ser escrito.
+   */
+  void publish(String content) {
+    this.queue.offer(content);
+    drain();
+  }
+
+  /**
+   * Escreve um lote de linhas pendentes caso nenhuma outra thread j esteja fazendo isso.<br>
+   * A thread produtora escreve no mximo um lote ({@link #MAX_BATCH_LINES}) e retorna. Caso ainda restem linhas na fila depois de liberar o papel de escritora (linhas publicadas durante a escrita, ou mais linhas do que cabem em um lote), a thread de apoio  acordada para escrev-las, garantindo que nenhuma linha fique esquecida na fila sem prender a thread produtora enquanto outras threads continuam publicando.
+   */
+  void drain() {
+    if (this.queue.isEmpty() || !this.draining.compareAndSet(false, true)) return;
+    try {
+      writeBatch();
+    } finally {
+      this.draining.set(false);
+    }
+    if (!this.queue.isEmpty()) wakeFlusher();
+  }
+
+  /**
+   * Escreve at {@link #MAX_BATCH_LINES} linhas da fila em uma nica escrita. S deve ser chamado pela thread que detm o {@link #draining}.
+   */
+  private void writeBatch() {
+    try {
+      String line;
+      int count = 0;
+      while (count < MAX_BATCH_LINES && (line = this.queue.poll()) != null) {
+        this.writer.append(line);
+        count++;
+      }
+      this.writer.flush();
+    } catch (RFWException e) {
+      // A sada padro no tem para quem reportar a falha, o contedo  descartado
+      this.writer.discard();
+    }
+  }
+
+  /**
+   * Acorda a thread de apoio, criando-a na primeira utilizao.
+   */
+  private void wakeFlusher() {
+    Thread thread = this.flusher;
+    if (thread == null) {
+      synchronized (this) {
+        thread = this.flusher;
+        if (thread == null) {
+          thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+              flushLoop();
+            }
+          }, "RFW.Terminal Line Output");
+          thread.setDaemon(true);
+          thread.start();
+          this.flusher = thread;
+        }
+      }
+    }
+    LockSupport.unpark(thread);
+  }
+
+  /**
+   * Lao da thread de apoio: escreve as linhas deixadas na fila pelas threads produtoras, lote a lote, at que a fila fique vazia.<br>
+   * Caso outra thread assuma o papel de escritora nesse meio tempo,  ela quem acorda novamente a thread de apoio ao terminar o seu lote, se ainda restarem linhas.
+   */
+  private void flushLoop() {
+    while (true) {
+      LockSupport.park(this);
+      while (!this.queue.isEmpty() && this.draining.compareAndSet(false, true)) {
+        try {
+          writeBatch();
+        } finally {
+          this.draining.set(false);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,541 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+/**
+ * Description: Codificador dos comandos CSI (Control Sequence Introducer) que recebem parmetros numricos, como movimentao do cursor, rolagem e cores estendidas.<br>
+ * Escreve as sequncias diretamente em arrays de char ou de byte, sem passar pelo {@link String#format(String, Object...)}, utilizando tabelas de dgitos pr-calculadas para os valores de 0 a 999. Os mtodos que escrevem em arrays no geram nenhum objeto por chamada.<br>
+ * Os mtodos que retornam {@link String} utilizam sequncias pr-calculadas para as 256 cores da paleta estendida e mantm em cache as sequncias de um nico parmetro para os valores de 0 a 999.
+ * <p>
+ * A sada  idntica, byte a byte,  gerada pelos comandos equivalentes com {@link String#format(String, Object...)} usados anteriormente na classe {@link Terminal}.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public final class EscapeSequenceEncoder {
+
+  /**
+   * Caractere ESC que inicia todas as sequncias.
+   */
+  private static final char ESC = '\u001B';
+
+  /**
+   * Tamanho mximo, em caracteres, de qualquer sequncia gerada por esta classe (ESC [ + dois inteiros negativos de 11 dgitos + separador + caractere final).
+   */
+  public static final int MAX_SEQUENCE_LENGTH = 32;
+
+  /**
+   * Maior valor presente nas tabelas pr-calculadas.
+   */
+  private static final int TABLE_LIMIT = 999;
+
+  /**
+   * Representao decimal dos valores de 0 a {@link #TABLE_LIMIT}.
+   */
+  private static final char[][] DIGITS = new char[TABLE_LIMIT + 1][];
+
+  /**
+   * Sequncias pr-calculadas para a cor de texto da paleta estendida (0-255).
+   */
+  private static final String[] EXTENDED_TEXT_COLORS = new String[256];
+
+  /**
+   * Sequncias pr-calculadas para a cor de fundo da paleta estendida (0-255).
+   */
+  private static final String[] EXTENDED_BACKGROUND_COLORS = new String[256];
+
+  /**
+   * Cache das sequncias de um nico parmetro, indexado pelo caractere final ('A' a 'T') e pelo valor (0 a {@link #TABLE_LIMIT}).<br>
+   * Os valores so calculados sob demanda. Como {@link String}  imutvel, a publicao sem sincronizao  segura: no pior caso a mesma sequncia  calculada mais de uma vez.
+   */
+  private static final String[][] SINGLE_PARAM_CACHE = new String['T' - 'A' + 1][];
+
+  /**
+   * Buffer temporrio por thread, utilizado na montagem das sequncias que so retornadas como {@link String}.
+   */
+  private static final ThreadLocal<char[]> SCRATCH = new ThreadLocal<char[]>() {
+    @Override
+    protected char[] initialValue() {
+      return new char[MAX_SEQUENCE_LENGTH];
+    }
+  };
+
+  static {
+    for (int i = 0; i <= TABLE_LIMIT; i++) {
+      DIGITS[i] = Integer.toString(i).toCharArray();
+    }
+    char[] buf = new char[MAX_SEQUENCE_LENGTH];
+    for (int i = 0; i < 256; i++) {
+      EXTENDED_TEXT_COLORS[i] = new String(buf, 0, extendedTextColor(buf, 0, i));
+      EXTENDED_BACKGROUND_COLORS[i] = new String(buf, 0, extendedBackgroundColor(buf, 0, i));
+    }
+    for (char c : new char[] { 'A', 'B', 'C', 'D', 'S', 'T' }) {
+      SINGLE_PARAM_CACHE[c - 'A'] = new String[TABLE_LIMIT + 1];
+    }
+  }
+
+  /**
+   * Construtor privado para classe esttica.
+   */
+  private EscapeSequenceEncoder() {
+  }
+
+  /**
+   * Escreve a representao decimal do nmero no array.
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param value Valor a ser escrito.
+   * @return Posio seguinte ao ltimo caractere escrito.
+   */
+  public static int writeInt(char[] dst, int off, int value) {
+    if (value >= 0 && value <= TABLE_LIMIT) {
+      char[] digits = DIGITS[value];
+      for (int i = 0; i < digits.length; i++) {
+        dst[off++] = digits[i];
+      }
+      return off;
+    }
+    // Fora da tabela: escreve os dgitos de trs para frente (usando long para suportar Integer.MIN_VALUE)
+    long v = value;
+    if (v < 0) {
+      dst[off++] = '-';
+      v = -v;
+    }
+    int len = stringSize(v);
+    int pos = off + len;
+    while (v > 0) {
+      dst[--pos] = (char) ('0' + (v % 10));
+      v /= 10;
+    }
+    return off + len;
+  }
+
+  /**
+   * Escreve a representao decimal do nmero no array.
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param value Valor a ser escrito.
+   * @return Posio seguinte ao ltimo byte escrito.
+   */
+  public static int writeInt(byte[] dst, int off, int value) {
+    if (value >= 0 && value <= TABLE_LIMIT) {
+      char[] digits = DIGITS[value];
+      for (int i = 0; i < digits.length; i++) {
+        dst[off++] = (byte) digits[i];
+      }
+      return off;
+    }
+    long v = value;
+    if (v < 0) {
+      dst[off++] = '-';
+      v = -v;
+    }
+    int len = stringSize(v);
+    int pos = off + len;
+    while (v > 0) {
+      dst[--pos] = (byte) ('0' + (v % 10));
+      v /= 10;
+    }
+    return off + len;
+  }
+
+  /**
+   * Calcula a quantidade de dgitos de um nmero positivo.
+   *
+   * @param v Valor positivo.
+   * @return Quantidade de dgitos decimais.
+   */
+  private static int stringSize(long v) {
+    int size = 1;
+    while (v >= 10) {
+      v /= 10;
+      size++;
+    }
+    return size;
+  }
+
+  /**
+   * Escreve uma sequncia CSI de um parmetro no formato "ESC [ {valor} {final}".
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param value Parmetro numrico.
+   * @param finalChar Caractere que finaliza o comando.
+   * @return Posio seguinte ao ltimo caractere escrito.
+   */
+  public static int csi(char[] dst, int off, int value, char finalChar) {
+    dst[off++] = ESC;
+    dst[off++] = '[';
+    off = writeInt(dst, off, value);
+    dst[off++] = finalChar;
+    return off;
+  }
+
+  /**
+   * Escreve uma sequncia CSI de dois parmetros no formato "ESC [ {valor1} ; {valor2} {final}".
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param value1 Primeiro parmetro numrico.
+   * @param value2 Segundo parmetro numrico.
+   * @param finalChar Caractere que finaliza o comando.
+   * @return Posio seguinte ao ltimo caractere escrito.
+   */
+  public static int csi(char[] dst, int off, int value1, int value2, char finalChar) {
+    dst[off++] = ESC;
+    dst[off++] = '[';
+    off = writeInt(dst, off, value1);
+    dst[off++] = ';';
+    off = writeInt(dst, off, value2);
+    dst[off++] = finalChar;
+    return off;
+  }
+
+  /**
+   * Escreve uma sequncia CSI de um parmetro no formato "ESC [ {valor} {final}".
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param value Parmetro numrico.
+   * @param finalChar Caractere que finaliza o comando.
+   * @return Posio seguinte ao ltimo byte escrito.
+   */
+  public static int csi(byte[] dst, int off, int value, char finalChar) {
+    dst[off++] = ESC;
+    dst[off++] = '[';
+    off = writeInt(dst, off, value);
+    dst[off++] = (byte) finalChar;
+    return off;
+  }
+
+  /**
+   * Escreve uma sequncia CSI de dois parmetros no formato "ESC [ {valor1} ; {valor2} {final}".
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param value1 Primeiro parmetro numrico.
+   * @param value2 Segundo parmetro numrico.
+   * @param finalChar Caractere que finaliza o comando.
+   * @return Posio seguinte ao ltimo byte escrito.
+   */
+  public static int csi(byte[] dst, int off, int value1, int value2, char finalChar) {
+    dst[off++] = ESC;
+    dst[off++] = '[';
+    off = writeInt(dst, off, value1);
+    dst[off++] = ';';
+    off = writeInt(dst, off, value2);
+    dst[off++] = (byte) finalChar;
+    return off;
+  }
+
+  /**
+   * Escreve o comando de posicionamento do cursor ("ESC [ {linha} ; {coluna} H").
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param row Linha (1  a primeira linha).
+   * @param col Coluna (1  a primeira coluna).
+   * @return Posio seguinte ao ltimo caractere escrito.
+   */
+  public static int cursorPosition(char[] dst, int off, int row, int col) {
+    return csi(dst, off, row, col, 'H');
+  }
+
+  /**
+   * Escreve o comando de definio da regio de rolagem ("ESC [ {topo} ; {base} r").
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param top Linha superior da regio.
+   * @param bottom Linha inferior da regio.
+   * @return Posio seguinte ao ltimo caractere escrito.
+   */
+  public static int scrollRegion(char[] dst, int off, int top, int bottom) {
+    return csi(dst, off, top, bottom, 'r');
+  }
+
+  /**
+   * Escreve o comando de cor de texto da paleta estendida ("ESC [ 38 ; 5 ; {cor} m").
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param colorCode Cdigo da cor (0-255).
+   * @return Posio seguinte ao ltimo caractere escrito.
+   */
+  public static int extendedTextColor(char[] dst, int off, int colorCode) {
+    return extendedColor(dst, off, '3', colorCode);
+  }
+
+  /**
+   * Escreve o comando de cor de fundo da paleta estendida ("ESC [ 48 ; 5 ; {cor} m").
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param colorCode Cdigo da cor (0-255).
+   * @return Posio seguinte ao ltimo caractere escrito.
+   */
+  public static int extendedBackgroundColor(char[] dst, int off, int colorCode) {
+    return extendedColor(dst, off, '4', colorCode);
+  }
+
+  /**
+   * Escreve o comando de cor da paleta estendida.
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param selector '3' para cor de texto, '4' para cor de fundo.
+   * @param colorCode Cdigo da cor (0-255).
+   * @return Posio seguinte ao ltimo caractere escrito.
+   */
+  private static int extendedColor(char[] dst, int off, char selector, int colorCode) {
+    dst[off++] = ESC;
+    dst[off++] = '[';
+    dst[off++] = selector;
+    dst[off++] = '8';
+    dst[off++] = ';';
+    dst[off++] = '5';
+    dst[off++] = ';';
+    off = writeInt(dst, off, colorCode);
+    dst[off++] = 'm';
+    return off;
+  }
+
+  /**
+   * Escreve o comando de cor de texto em 24 bits ("ESC [ 38 ; 2 ; {r} ; {g} ; {b} m").
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return Posio seguinte ao ltimo caractere escrito.
+   */
+  public static int rgbTextColor(char[] dst, int off, int rgb) {
+    return rgbColor(dst, off, '3', rgb);
+  }
+
+  /**
+   * Escreve o comando de cor de fundo em 24 bits ("ESC [ 48 ; 2 ; {r} ; {g} ; {b} m").
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return Posio seguinte ao ltimo caractere escrito.
+   */
+  public static int rgbBackgroundColor(char[] dst, int off, int rgb) {
+    return rgbColor(dst, off, '4', rgb);
+  }
+
+  /**
+   * Escreve o comando de cor em 24 bits.
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param selector '3' para cor de texto, '4' para cor de fundo.
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return Posio seguinte ao ltimo caractere escrito.
+   */
+  private static int rgbColor(char[] dst, int off, char selector, int rgb) {
+    dst[off++] = ESC;
+    dst[off++] = '[';
+    dst[off++] = selector;
+    dst[off++] = '8';
+    dst[off++] = ';';
+    dst[off++] = '2';
+    dst[off++] = ';';
+    off = writeInt(dst, off, (rgb >>> 16) & 0xFF);
+    dst[off++] = ';';
+    off = writeInt(dst, off, (rgb >>> 8) & 0xFF);
+    dst[off++] = ';';
+    off = writeInt(dst, off, rgb & 0xFF);
+    dst[off++] = 'm';
+    return off;
+  }
+
+  /**
+   * Escreve o comando de cor de texto da paleta estendida ("ESC [ 38 ; 5 ; {cor} m").
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param colorCode Cdigo da cor (0-255).
+   * @return Posio seguinte ao ltimo byte escrito.
+   */
+  public static int extendedTextColor(byte[] dst, int off, int colorCode) {
+    return extendedColor(dst, off, '3', colorCode);
+  }
+
+  /**
+   * Escreve o comando de cor de fundo da paleta estendida ("ESC [ 48 ; 5 ; {cor} m").
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param colorCode Cdigo da cor (0-255).
+   * @return Posio seguinte ao ltimo byte escrito.
+   */
+  public static int extendedBackgroundColor(byte[] dst, int off, int colorCode) {
+    return extendedColor(dst, off, '4', colorCode);
+  }
+
+  /**
+   * Escreve o comando de cor da paleta estendida.
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param selector '3' para cor de texto, '4' para cor de fundo.
+   * @param colorCode Cdigo da cor (0-255).
+   * @return Posio seguinte ao ltimo byte escrito.
+   */
+  private static int extendedColor(byte[] dst, int off, char selector, int colorCode) {
+    dst[off++] = ESC;
+    dst[off++] = '[';
+    dst[off++] = (byte) selector;
+    dst[off++] = '8';
+    dst[off++] = ';';
+    dst[off++] = '5';
+    dst[off++] = ';';
+    off = writeInt(dst, off, colorCode);
+    dst[off++] = 'm';
+    return off;
+  }
+
+  /**
+   * Escreve o comando de cor de texto em 24 bits ("ESC [ 38 ; 2 ; {r} ; {g} ; {b} m").
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return Posio seguinte ao ltimo byte escrito.
+   */
+  public static int rgbTextColor(byte[] dst, int off, int rgb) {
+    return rgbColor(dst, off, '3', rgb);
+  }
+
+  /**
+   * Escreve o comando de cor de fundo em 24 bits ("ESC [ 48 ; 2 ; {r} ; {g} ; {b} m").
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return Posio seguinte ao ltimo byte escrito.
+   */
+  public static int rgbBackgroundColor(byte[] dst, int off, int rgb) {
+    return rgbColor(dst, off, '4', rgb);
+  }
+
+  /**
+   * Escreve o comando de cor em 24 bits.
+   *
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @param selector '3' para cor de texto, '4' para cor de fundo.
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return Posio seguinte ao ltimo byte escrito.
+   */
+  private static int rgbColor(byte[] dst, int off, char selector, int rgb) {
+    dst[off++] = ESC;
+    dst[off++] = '[';
+    dst[off++] = (byte) selector;
+    dst[off++] = '8';
+    dst[off++] = ';';
+    dst[off++] = '2';
+    dst[off++] = ';';
+    off = writeInt(dst, off, (rgb >>> 16) & 0xFF);
+    dst[off++] = ';';
+    off = writeInt(dst, off, (rgb >>> 8) & 0xFF);
+    dst[off++] = ';';
+    off = writeInt(dst, off, rgb & 0xFF);
+    dst[off++] = 'm';
+    return off;
+  }
+
+  /**
+   * Retorna a sequncia CSI de um parmetro no formato "ESC [ {valor} {final}".<br>
+   * Para os comandos de movimentao do cursor ('A', 'B', 'C', 'D') e de rolagem ('S', 'T') com valores de 0 a 999 a sequncia  mantida em cache e no  criada novamente.
+   *
+   * @param value Parmetro numrico.
+   * @param finalChar Caractere que finaliza o comando.
+   * @return Sequncia de escape.
+   */
+  public static String csi(int value, char finalChar) {
+    String[] cache = null;
+    if (value >= 0 && value <= TABLE_LIMIT && finalChar >= 'A' && finalChar <= 'T') {
+      cache = SINGLE_PARAM_CACHE[finalChar - 'A'];
+      if (cache != null) {
+        String seq = cache[value];
+        if (seq != null) return seq;
+      }
+    }
+    char[] buf = SCRATCH.get();
+    String seq = new String(buf, 0, csi(buf, 0, value, finalChar));
+    if (cache != null) cache[value] = seq;
+    return seq;
+  }
+
+  /**
+   * Retorna a sequncia CSI de dois parmetros no formato "ESC [ {valor1} ; {valor2} {final}".
+   *
+   * @param value1 Primeiro parmetro numrico.
+   * @param value2 Segundo parmetro numrico.
+   * @param finalChar Caractere que finaliza o comando.
+   * @return Sequncia de escape.
+   */
+  public static String csi(int value1, int value2, char finalChar) {
+    char[] buf = SCRATCH.get();
+    return new String(buf, 0, csi(buf, 0, value1, value2, finalChar));
+  }
+
+  /**
+   * Retorna o comando de posicionamento do cursor ("ESC [ {linha} ; {coluna} H").
+   *
+   * @param row Linha (1  a primeira linha).
+   * @param col Coluna (1  a primeira coluna).
+   * @return Sequncia de escape.
+   */
+  public static String cursorPosition(int row, int col) {
+    return csi(row, col, 'H');
+  }
+
+  /**
+   * Retorna o comando de cor de texto da paleta estendida ("ESC [ 38 ; 5 ; {cor} m").
+   *
+   * @param colorCode Cdigo da cor. Valores de 0 a 255 so retornados do cache.
+   * @return Sequncia de escape.
+   */
+  public static String extendedTextColor(int colorCode) {
+    if (colorCode >= 0 && colorCode < 256) return EXTENDED_TEXT_COLORS[colorCode];
+    char[] buf = SCRATCH.get();
+    return new String(buf, 0, extendedTextColor(buf, 0, colorCode));
+  }
+
+  /**
+   * Retorna o comando de cor de fundo da paleta estendida ("ESC [ 48 ; 5 ; {cor} m").
+   *
+   * @param colorCode Cdigo da cor. Valores de 0 a 255 so retornados do cache.
+   * @return Sequncia de escape.
+   */
+  public static String extendedBackgroundColor(int colorCode) {
+    if (colorCode >= 0 && colorCode < 256) return EXTENDED_BACKGROUND_COLORS[colorCode];
+    char[] buf = SCRATCH.get();
+    return new String(buf, 0, extendedBackgroundColor(buf, 0, colorCode));
+  }
+
+  /**
+   * Retorna o comando de cor de texto em 24 bits ("ESC [ 38 ; 2 ; {r} ; {g} ; {b} m").
+   *
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return Sequncia de escape.
+   */
+  public static String rgbTextColor(int rgb) {
+    char[] buf = SCRATCH.get();
+    return new String(buf, 0, rgbTextColor(buf, 0, rgb));
+  }
+
+  /**
+   * Retorna o comando de cor de fundo em 24 bits ("ESC [ 48 ; 2 ; {r} ; {g} ; {b} m").
+   *
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return Sequncia de escape.
+   */
+  public static String rgbBackgroundColor(int rgb) {
+    char[] buf = SCRATCH.get();
+    return new String(buf, 0, rgbBackgroundColor(buf, 0, rgb));
+  }
+}
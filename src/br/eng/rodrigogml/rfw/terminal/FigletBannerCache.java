@@ -0,0 +1,312 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.utils.Figlet;
+import br.eng.rodrigogml.rfw.terminal.utils.Figlet.FigletFontType;
+import br.eng.rodrigogml.rfw.terminal.utils.FigletLayout;
+
+/**
+ * Description: Cache dos banners Figlet j renderizados e centralizados, prontos para serem escritos no terminal.<br>
+ * Aplicaes que redesenham a tela inteira a cada atualizao escrevem o mesmo banner de cabealho repetidas vezes. Com este cache, todo o processo de renderizao (gerao do Figlet, centralizao, separao das linhas e montagem de cada linha com o comando de limpeza do restante da linha)  feito apenas uma vez para cada combinao de texto, fonte e largura do terminal.
+ * <p>
+ * O cache  limitado pela quantidade de banners e pela quantidade total de caracteres armazenados. Quando algum dos limites  excedido, os banners utilizados h mais tempo so descartados (LRU).<br>
+ * Quando o tamanho do terminal  alterado, os banners renderizados para outras larguras so descartados automaticamente, j que no seriam mais utilizados.
+ * <p>
+ * Esta classe  thread-safe e  utilizada por {@link Terminal#writeFigletCentralized(String, FigletFontType)}.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public final class FigletBannerCache {
+
+  /**
+   * Quantidade mxima padro de banners no cache.
+   */
+  public static final int DEFAULT_MAX_ENTRIES = 32;
+
+  /**
+   * Quantidade mxima padro de caracteres armazenados em todos os banners do cache.
+   */
+  public static final int DEFAULT_MAX_CHARS = 256 * 1024;
+
+  /**
+   * Chave do cache: texto, fonte e largura do terminal.
+   */
+  private static final class Key {
+    final String text;
+    final FigletFontType fontType;
+    final int columns;
+    final int hash;
+
+    Key(String text, FigletFontType fontType, int columns) {
+      this.text = text;
+      this.fontType = fontType;
+      this.columns = columns;
+      this.hash = (text.hashCode() * 31 + fontType.hashCode()) * 31 + columns;
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Key)) return false;
+      Key other = (Key) obj;
+      return this.columns == other.columns && this.fontType == other.fontType && this.text.equals(other.text);
+    }
+  }
+
+  /**
+   * Banner renderizado.
+   */
+  private static final class Banner {
+    final String[] lines;
+    final int chars;
+
+    Banner(String[] lines) {
+      this.lines = lines;
+      int total = 0;
+      for (String line : lines) {
+        total += line.length();
+      }
+      this.chars = total;
+    }
+  }
+
+  private static int maxEntries = DEFAULT_MAX_ENTRIES;
+  private static int maxChars = DEFAULT_MAX_CHARS;
+
+  /**
+   * Quantidade de caracteres armazenados atualmente.
+   */
+  private static int storedChars = 0;
+
+  /**
+   * Banners renderizados, na ordem de utilizao (do mais antigo para o mais recente).
+   */
+  private static final LinkedHashMap<Key, Banner> banners = new LinkedHashMap<>(64, 0.75f, true);
+
+  /**
+   * Indica se o listener de redimensionamento do terminal j foi registrado.
+   */
+  private static volatile boolean listening = false;
+
+  private static final AtomicLong hits = new AtomicLong(0);
+  private static final AtomicLong misses = new AtomicLong(0);
+  private static final AtomicLong evictions = new AtomicLong(0);
+
+  /**
+   * Construtor privado para classe esttica.
+   */
+  private FigletBannerCache() {
+  }
+
+  /**
+   * Retorna as linhas do banner renderizado e centralizado, prontas para serem escritas no terminal (cada linha j inclui o {@link Terminal#ASCII_CLEAR_REMAINING_LINE}).<br>
+   * O array retornado  compartilhado pelo cache e no deve ser alterado.
+   *
+   * @param text Texto do banner.
+   * @param fontType Fonte Figlet.
+   * @param columns Largura do terminal utilizada para centralizar o banner.
+   * @return Linhas do banner.
+   * @throws RFWException Lanado caso no seja possvel renderizar o banner.
+   */
+  public static String[] getLines(String text, FigletFontType fontType, int columns) throws RFWException {
+    ensureListening();
+    Key key = new Key(text, fontType, columns);
+    Banner banner;
+    synchronized (banners) {
+      banner = banners.get(key);
+    }
+    if (banner != null) {
+      hits.incrementAndGet();
+      return banner.lines;
+    }
+    misses.incrementAndGet();
+
+    banner = new Banner(render(text, fontType, columns));
+    synchronized (banners) {
+      Banner existing = banners.get(key);
+      if (existing != null) return existing.lines;
+      banners.put(key, banner);
+      storedChars += banner.chars;
+      trim();
+    }
+    return banner.lines;
+  }
+
+  /**
+   * Renderiza o banner.
+   */
+  private static String[] render(String text, FigletFontType fontType, int columns) throws RFWException {
+    String asciiArt = Figlet.generateWithFont(text, fontType, FigletLayout.FULL_WIDTH);
+    String[] lines = Figlet.centralize(asciiArt, columns).split("\n");
+    for (int i = 0; i < lines.length; i++) {
+      lines[i] = lines[i] + Terminal.ASCII_CLEAR_REMAINING_LINE;
+    }
+    return lines;
+  }
+
+  /**
+   * Descarta os banners utilizados h mais tempo at que os limites sejam respeitados. Deve ser chamado com o lock de {@link #banners}.
+   */
+  private static void trim() {
+    Iterator<Banner> it = banners.values().iterator();
+    // O banner mais recente  sempre mantido, mesmo que sozinho exceda o limite de caracteres
+    while ((banners.size() > maxEntries || storedChars > maxChars) && banners.size() > 1 && it.hasNext()) {
+      Banner eldest = it.next();
+      it.remove();
+      storedChars -= eldest.chars;
+      evictions.incrementAndGet();
+    }
+  }
+
+  /**
+   * Registra, na primeira utilizao, o listener que descarta os banners renderizados para outras larguras quando o terminal  redimensionado.
+   */
+  private static void ensureListening() {
+    if (!listening) {
+      synchronized (FigletBannerCache.class) {
+        if (!listening) {
+          Terminal.addTerminalResizeListener(new TerminalResizeListener() {
+            @Override
+            public void terminalResized(Integer columns, Integer rows) {
+              retainWidth(columns == null ? Terminal.getTerminalDefaultColumns() : columns);
+            }
+          });
+          listening = true;
+        }
+      }
+    }
+  }
+
+  /**
+   * Descarta todos os banners renderizados para larguras diferentes da informada.
+   *
+   * @param columns Largura atual do terminal.
+   */
+  static void retainWidth(int columns) {
+    synchronized (banners) {
+      for (Iterator<Map.Entry<Key, Banner>> it = banners.entrySet().iterator(); it.hasNext();) {
+        Map.Entry<Key, Banner> entry = it.next();
+        if (entry.getKey().columns != columns) {
+          storedChars -= entry.getValue().chars;
+          it.remove();
+        }
+      }
+    }
+  }
+
+  /**
+   * Define os limites do cache. Caso o cache exceda os novos limites, os banners utilizados h mais tempo so descartados.
+   *
+   * @param entries Quantidade mxima de banners.
+   * @param chars Quantidade mxima de caracteres armazenados em todos os banners.
+   */
+  public static void setLimits(int entries, int chars) {
+    if (entries <= 0 || chars <= 0) throw new IllegalArgumentException("Os limites do cache devem ser positivos.");
+    synchronized (banners) {
+      maxEntries = entries;
+      maxChars = chars;
+      trim();
+    }
+  }
+
+  /**
+   * Retorna a quantidade mxima de banners no cache.
+   *
+   * @return Limite de banners.
+   */
+  public static int getMaxEntries() {
+    synchronized (banners) {
+      return maxEntries;
+    }
+  }
+
+  /**
+   * Retorna a quantidade mxima de caracteres armazenados em todos os banners do cache.
+   *
+   * @return Limite de caracteres.
+   */
+  public static int getMaxChars() {
+    synchronized (banners) {
+      return maxChars;
+    }
+  }
+
+  /**
+   * Retorna a quantidade de banners no cache.
+   *
+   * @return Quantidade de banners.
+   */
+  public static int getSize() {
+    synchronized (banners) {
+      return banners.size();
+    }
+  }
+
+  /**
+   * Retorna a quantidade de caracteres armazenados em todos os banners do cache.
+   *
+   * @return Quantidade de caracteres.
+   */
+  public static int getStoredChars() {
+    synchronized (banners) {
+      return storedChars;
+    }
+  }
+
+  /**
+   * Descarta todos os banners do cache. Os contadores no so alterados.
+   */
+  public static void clear() {
+    synchronized (banners) {
+      banners.clear();
+      storedChars = 0;
+    }
+  }
+
+  /**
+   * Retorna a quantidade de vezes em que o banner solicitado j estava no cache.
+   *
+   * @return Total de acertos.
+   */
+  public static long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Retorna a quantidade de vezes em que o banner solicitado precisou ser renderizado.
+   *
+   * @return Total de falhas.
+   */
+  public static long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * Retorna a quantidade de banners descartados por exceder os limites do cache. Os banners descartados por redimensionamento do terminal no so contados.
+   *
+   * @return Total de descartes.
+   */
+  public static long getEvictionCount() {
+    return evictions.get();
+  }
+
+  /**
+   * Zera os contadores de acertos, falhas e descartes.
+   */
+  public static void resetStatistics() {
+    hits.set(0);
+    misses.set(0);
+    evictions.set(0);
+  }
+}
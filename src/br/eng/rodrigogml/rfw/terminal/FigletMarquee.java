@@ -0,0 +1,295 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.Terminal.TextBackgroundColor;
+import br.eng.rodrigogml.rfw.terminal.Terminal.TextColor;
+import br.eng.rodrigogml.rfw.terminal.Terminal.TextFormat;
+import br.eng.rodrigogml.rfw.terminal.utils.FigletCanvas;
+import br.eng.rodrigogml.rfw.terminal.utils.Figlet.FigletFontType;
+import br.eng.rodrigogml.rfw.terminal.utils.FigletFontCache;
+import br.eng.rodrigogml.rfw.terminal.utils.FigletLayout;
+
+/**
+ * Description: Letreiro Figlet animado ("marquee"/"ticker"), que desliza o texto horizontalmente em uma rea fixa do terminal.<br>
+ * O texto  renderizado uma nica vez, seguido de um espaamento, em uma faixa de caracteres com a largura do texto inteiro. Cada quadro da animao  apenas uma janela dessa faixa, na posio atual de deslocamento: nenhum quadro executa a renderizao do Figlet.<br>
+ * O contedo apresentado no terminal  mantido em memria e, a cada quadro, apenas as clulas alteradas so enviadas, com o posicionamento do cursor necessrio. A faixa  circular: ao chegar ao fim, o texto volta a entrar pela direita.
+ * <p>
+ * O texto pode ser alterado a qualquer momento com {@link #setText(String)} (por exemplo, para atualizar indicadores de um painel), o que renderiza a nova faixa uma nica vez e mantm a posio de deslocamento.<br>
+ * Para animar vrios letreiros em uma taxa de quadros fixa utilize o {@link MarqueeAnimator}.
+ * <p>
+ * Assim como na classe {@link Terminal}, linhas e colunas comeam em 1. Esta classe  thread-safe: o texto pode ser alterado por uma thread enquanto outra apresenta os quadros.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class FigletMarquee {
+
+  /**
+   * Quantidade de colunas em branco, por padro, entre o fim do texto e o seu reincio na faixa circular.
+   */
+  public static final int DEFAULT_GAP = 8;
+
+  /**
+   * Quantidade mxima de clulas inalteradas que so reescritas para evitar um comando de posicionamento do cursor.
+   */
+  private static final int MAX_REWRITE_GAP = 4;
+
+  private final int row;
+  private final int col;
+  private final int width;
+  private final FigletFontType fontType;
+  private final FigletLayout layout;
+  private final int gap;
+
+  /**
+   * Canvas reutilizado na renderizao do texto.
+   */
+  private final FigletCanvas canvas = new FigletCanvas();
+
+  /**
+   * Faixa com o texto renderizado: uma linha por linha da fonte, todas com {@link #stripWidth} caracteres.
+   */
+  private char[][] strip = new char[0][];
+
+  private int stripWidth = 1;
+
+  private String text = null;
+
+  /**
+   * Primeira coluna da faixa exibida na janela.
+   */
+  private int offset = 0;
+
+  /**
+   * Contedo atualmente apresentado no terminal, uma linha por linha da faixa.
+   */
+  private char[][] front = new char[0][];
+
+  /**
+   * Indica se {@link #front} reflete o que est no terminal. Quando false, o prximo quadro redesenha todas as clulas.
+   */
+  private boolean frontValid = false;
+
+  /**
+   * Linha de trabalho com o contedo da janela no quadro atual.
+   */
+  private char[] window;
+
+  private int style = ScreenBuffer.DEFAULT_STYLE;
+
+  /**
+   * Writer prprio, utilizado pelo {@link #present()} quando a thread no estiver com um frame aberto.
+   */
+  private TerminalWriter writer = null;
+
+  /**
+   * Cria um letreiro com o modo de composio {@link FigletLayout#FULL_WIDTH} e o espaamento padro.
+   *
+   * @param text Texto inicial.
+   * @param fontType Fonte Figlet.
+   * @param row Linha do terminal onde o letreiro comea.
+   * @param col Coluna do terminal onde o letreiro comea.
+   * @param width Largura do letreiro, em colunas.
+   * @throws RFWException Lanado caso no seja possvel carregar a fonte.
+   */
+  public FigletMarquee(String text, FigletFontType fontType, int row, int col, int width) throws RFWException {
+    this(text, fontType, FigletLayout.FULL_WIDTH, DEFAULT_GAP, row, col, width);
+  }
+
+  /**
+   * Cria um letreiro.
+   *
+   * @param text Texto inicial.
+   * @param fontType Fonte Figlet.
+   * @param layout Modo de composio horizontal dos caracteres.
+   * @param gap Quantidade de colunas em branco entre o fim do texto e o seu reincio.
+   * @param row Linha do terminal onde o letreiro comea.
+   * @param col Coluna do terminal onde o letreiro comea.
+   * @param width Largura do letreiro, em colunas.
+   * @throws RFWException Lanado caso no seja possvel carregar a fonte.
+   */
+  public FigletMarquee(String text, FigletFontType fontType, FigletLayout layout, int gap, int row, int col, int width) throws RFWException {
+    if (row < 1 || col < 1 || width <= 0) throw new IllegalArgumentException("Posio ou largura invlida para o letreiro: " + row + "x" + col + ", largura " + width + ".");
+    if (gap < 0) throw new IllegalArgumentException("O espaamento do letreiro no pode ser negativo.");
+    this.row = row;
+    this.col = col;
+    this.width = width;
+    this.fontType = fontType;
+    this.layout = layout;
+    this.gap = gap;
+    this.window = new char[width];
+    setText(text);
+  }
+
+  /**
+   * Altera o texto do letreiro. O novo texto  renderizado uma nica vez e a posio de deslocamento  mantida. Caso o texto seja igual ao atual, nada  feito.
+   *
+   * @param text Novo texto.
+   * @throws RFWException Lanado caso no seja possvel carregar a fonte.
+   */
+  public synchronized void setText(String text) throws RFWException {
+    if (text.equals(this.text)) return;
+    FigletFontCache.getFont(this.fontType).render(text, this.layout, this.canvas);
+    int height = this.canvas.getHeight();
+    int newWidth = Math.max(1, this.canvas.getWidth() + this.gap);
+    char[][] newStrip = new char[height][newWidth];
+    for (int r = 0; r < height; r++) {
+      int end = this.canvas.copyRow(r, newStrip[r], 0);
+      for (int c = end; c < newWidth; c++) {
+        newStrip[r][c] = ' ';
+      }
+    }
+    if (height != this.front.length) {
+      this.front = new char[height][this.width];
+      this.frontValid = false;
+    }
+    this.strip = newStrip;
+    this.stripWidth = newWidth;
+    this.offset %= newWidth;
+    this.text = text;
+  }
+
+  /**
+   * Retorna o texto atual do letreiro.
+   *
+   * @return Texto exibido.
+   */
+  public synchronized String getText() {
+    return this.text;
+  }
+
+  /**
+   * Define o estilo (cores e formataes) do letreiro. O prximo quadro redesenha todas as clulas.
+   *
+   * @param color Cor do texto, ou null para a cor padro do terminal.
+   * @param background Cor de fundo, ou null para a cor padro do terminal.
+   * @param formats Formataes aplicadas.
+   */
+  public synchronized void setStyle(TextColor color, TextBackgroundColor background, TextFormat... formats) {
+    this.style = ScreenBuffer.style(color, background, formats);
+    this.frontValid = false;
+  }
+
+  /**
+   * Avana o letreiro em uma coluna.
+   */
+  public void step() {
+    step(1);
+  }
+
+  /**
+   * Avana (valores positivos) ou retrocede (valores negativos) o letreiro na quantidade de colunas informada.
+   *
+   * @param columns Quantidade de colunas.
+   */
+  public synchronized void step(int columns) {
+    this.offset = Math.floorMod(this.offset + columns, this.stripWidth);
+  }
+
+  /**
+   * Fora o redesenho de todas as clulas no prximo quadro, por exemplo depois que a tela foi limpa.
+   */
+  public synchronized void invalidate() {
+    this.frontValid = false;
+  }
+
+  /**
+   * Apresenta o quadro atual no terminal.<br>
+   * Se a thread atual estiver com um frame aberto ({@link TerminalWriter#beginFrame()}), o contedo  acrescentado a esse frame. Caso contrrio  enviado ao {@link System#out} em uma nica escrita.
+   *
+   * @throws RFWException Lanado caso ocorra alguma falha ao escrever na sada.
+   */
+  public void present() throws RFWException {
+    TerminalWriter frame = Terminal.getFrameWriter();
+    if (frame != null) {
+      present(frame);
+    } else {
+      synchronized (this) {
+        if (this.writer == null) this.writer = new TerminalWriter();
+        present(this.writer);
+        this.writer.flush();
+      }
+    }
+  }
+
+  /**
+   * Acrescenta ao writer as clulas que mudaram desde o ltimo quadro apresentado. O writer no  descarregado, cabendo ao chamador chamar o {@link TerminalWriter#flush()} ou {@link TerminalWriter#endFrame()}.
+   *
+   * @param out Writer onde os comandos sero acrescentados.
+   * @return Quantidade de clulas escritas.
+   */
+  public synchronized int present(TerminalWriter out) {
+    final char[] window = this.window;
+    final boolean full = !this.frontValid;
+    boolean styled = false;
+    int written = 0;
+
+    for (int r = 0; r < this.strip.length; r++) {
+      // Monta a janela da linha em no mximo duas cpias, j que a faixa  circular
+      char[] line = this.strip[r];
+      int filled = 0;
+      int pos = this.offset;
+      while (filled < this.width) {
+        int n = Math.min(this.width - filled, this.stripWidth - pos);
+        System.arraycopy(line, pos, window, filled, n);
+        filled += n;
+        pos = 0;
+      }
+
+      char[] shown = this.front[r];
+      int cursor = ScreenBuffer.UNKNOWN;
+      for (int c = 0; c < this.width; c++) {
+        if (!full && window[c] == shown[c]) continue;
+        if (!styled) {
+          ScreenBuffer.appendStyle(out, this.style, ScreenBuffer.UNKNOWN);
+          styled = true;
+        }
+        int skipped = c - cursor;
+        if (cursor != ScreenBuffer.UNKNOWN && skipped <= MAX_REWRITE_GAP) {
+          // Reescreve as poucas clulas inalteradas ao invs de reposicionar o cursor
+          out.append(window, cursor, skipped);
+          written += skipped;
+        } else {
+          out.appendCsi(this.row + r, this.col + c, 'H');
+        }
+        out.append(window[c]);
+        written++;
+        cursor = c + 1;
+      }
+      System.arraycopy(window, 0, shown, 0, this.width);
+    }
+    if (styled) {
+      if (this.style != ScreenBuffer.DEFAULT_STYLE) out.append("\u001B[0m");
+      out.getRendition().setDefault();
+    }
+    this.frontValid = true;
+    return written;
+  }
+
+  /**
+   * Retorna a quantidade de linhas ocupadas pelo letreiro (a altura da fonte).
+   *
+   * @return Quantidade de linhas.
+   */
+  public synchronized int getHeight() {
+    return this.strip.length;
+  }
+
+  /**
+   * Retorna a largura do letreiro.
+   *
+   * @return Quantidade de colunas.
+   */
+  public int getWidth() {
+    return this.width;
+  }
+
+  /**
+   * Retorna a largura da faixa circular: o texto renderizado mais o espaamento.
+   *
+   * @return Quantidade de colunas.
+   */
+  public synchronized int getStripWidth() {
+    return this.stripWidth;
+  }
+}
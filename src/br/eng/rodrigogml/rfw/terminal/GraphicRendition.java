@@ -0,0 +1,156 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+import br.eng.rodrigogml.rfw.terminal.Terminal.TextBackgroundColor;
+import br.eng.rodrigogml.rfw.terminal.Terminal.TextColor;
+import br.eng.rodrigogml.rfw.terminal.Terminal.TextFormat;
+
+/**
+ * Description: Estado conhecido da formatao grfica do terminal (SGR - Select Graphic Rendition): cor de texto, cor de fundo e formataes ativas.<br>
+ * Utilizado pela classe {@link Terminal} para no enviar comandos de cor e formatao que no alteram o estado atual do terminal.
+ * <p>
+ * As cores so representadas por um inteiro:
+ * <li>{@link #UNKNOWN}: estado desconhecido, o prximo comando sempre ser enviado;
+ * <li>{@link #DEFAULT}: cor padro do terminal;
+ * <li>1 a 16: cores de {@link TextColor} / {@link TextBackgroundColor} ({@code ordinal() + 1});
+ * <li>{@link #EXTENDED} | cdigo: cor da paleta estendida de 256 cores;
+ * <li>{@link #RGB} | 0xRRGGBB: cor de 24 bits.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+final class GraphicRendition {
+
+  /**
+   * Valor de cor indicando que o estado no  conhecido.
+   */
+  static final int UNKNOWN = -1;
+
+  /**
+   * Valor de cor indicando a cor padro do terminal.
+   */
+  static final int DEFAULT = 0;
+
+  /**
+   * Marcador das cores da paleta estendida de 256 cores.
+   */
+  static final int EXTENDED = 0x100;
+
+  /**
+   * Marcador das cores de 24 bits.
+   */
+  static final int RGB = 0x1000000;
+
+  /**
+   * Mscara com o bit de todas as formataes de {@link TextFormat}.
+   */
+  static final int ALL_FORMATS = (1 << TextFormat.values().length) - 1;
+
+  /**
+   * Cor de texto atual.
+   */
+  int foreground = UNKNOWN;
+
+  /**
+   * Cor de fundo atual.
+   */
+  int background = UNKNOWN;
+
+  /**
+   * Bits ({@code 1 << ordinal()}) das formataes de {@link TextFormat} sabidamente ativas.
+   */
+  int formatsOn = 0;
+
+  /**
+   * Bits ({@code 1 << ordinal()}) das formataes de {@link TextFormat} cujo estado  conhecido.
+   */
+  int formatsKnown = 0;
+
+  /**
+   * Marca todo o estado como desconhecido, fazendo com que os prximos comandos sejam sempre enviados.
+   */
+  void invalidate() {
+    this.foreground = UNKNOWN;
+    this.background = UNKNOWN;
+    this.formatsOn = 0;
+    this.formatsKnown = 0;
+  }
+
+  /**
+   * Marca o estado como o padro do terminal, aps um comando de reset.
+   */
+  void setDefault() {
+    this.foreground = DEFAULT;
+    this.background = DEFAULT;
+    this.formatsOn = 0;
+    this.formatsKnown = ALL_FORMATS;
+  }
+
+  /**
+   * Verifica se a formatao est sabidamente ativa.
+   *
+   * @param format Formatao.
+   * @return true caso a formatao esteja ativa.
+   */
+  boolean isOn(TextFormat format) {
+    int bit = 1 << format.ordinal();
+    return (this.formatsKnown & this.formatsOn & bit) != 0;
+  }
+
+  /**
+   * Verifica se a formatao est sabidamente inativa.
+   *
+   * @param format Formatao.
+   * @return true caso a formatao esteja inativa.
+   */
+  boolean isOff(TextFormat format) {
+    int bit = 1 << format.ordinal();
+    return (this.formatsKnown & bit) != 0 && (this.formatsOn & bit) == 0;
+  }
+
+  /**
+   * Registra o novo estado de uma formatao.
+   *
+   * @param format Formatao.
+   * @param on true caso tenha sido ativada.
+   */
+  void set(TextFormat format, boolean on) {
+    int bit = 1 << format.ordinal();
+    this.formatsKnown |= bit;
+    if (on) {
+      this.formatsOn |= bit;
+    } else {
+      this.formatsOn &= ~bit;
+    }
+  }
+
+  /**
+   * Marca o estado de uma formatao como desconhecido.
+   *
+   * @param format Formatao.
+   */
+  void forget(TextFormat format) {
+    int bit = 1 << format.ordinal();
+    this.formatsKnown &= ~bit;
+    this.formatsOn &= ~bit;
+  }
+
+  /**
+   * Retorna o valor de cor que representa a cor de texto informada.
+   *
+   * @param color Cor de texto, ou null para a cor padro.
+   * @return Valor da cor.
+   */
+  static int colorOf(TextColor color) {
+    return color == null ? DEFAULT : color.ordinal() + 1;
+  }
+
+  /**
+   * Retorna o valor de cor que representa a cor de fundo informada.
+   *
+   * @param color Cor de fundo, ou null para a cor padro.
+   * @return Valor da cor.
+   */
+  static int colorOf(TextBackgroundColor color) {
+    return color == null ? DEFAULT : color.ordinal() + 1;
+  }
+}
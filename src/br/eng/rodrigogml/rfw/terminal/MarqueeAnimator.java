@@ -0,0 +1,248 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+
+/**
+ * Description: Executa a animao de vrios {@link FigletMarquee} em uma taxa de quadros fixa, em uma nica thread.<br>
+ * A cada quadro todos os letreiros avanam uma coluna e as suas alteraes so acumuladas em um nico {@link TerminalWriter}, enviado ao terminal em uma nica escrita. Os quadros so agendados por prazo absoluto: um quadro atrasado no acumula atraso nos seguintes, e os prazos perdidos so contados em {@link #getMissedDeadlines()}.
+ * <p>
+ * O custo de cada quadro  medido, permitindo acompanhar o oramento de CPU da animao: {@link #getLoad()} retorna a frao de um ncleo utilizada (por exemplo 0,02 para 2%).
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class MarqueeAnimator {
+
+  /**
+   * Taxa de quadros padro, em quadros por segundo.
+   */
+  public static final int DEFAULT_FPS = 30;
+
+  private final CopyOnWriteArrayList<FigletMarquee> marquees = new CopyOnWriteArrayList<>();
+
+  private final TerminalWriter writer;
+
+  private final long frameNanos;
+
+  private volatile Thread thread = null;
+
+  /**
+   * Falha que interrompeu a animao, caso tenha ocorrido.
+   */
+  private volatile RFWException failure = null;
+
+  private volatile long frames = 0;
+  private volatile long busyNanos = 0;
+  private volatile long maxFrameNanos = 0;
+  private volatile long missedDeadlines = 0;
+
+  /**
+   * Cria um animador com a taxa de quadros padro, escrevendo no {@link System#out}.
+   */
+  public MarqueeAnimator() {
+    this(DEFAULT_FPS, new TerminalWriter());
+  }
+
+  /**
+   * Cria um animador.
+   *
+   * @param fps Taxa de quadros, em quadros por segundo.
+   * @param writer Writer utilizado para enviar os quadros, por exemplo um {@link TerminalWriter#TerminalWriter(AsyncTerminalOutput)} para no bloquear a animao na escrita do terminal.
+   */
+  public MarqueeAnimator(int fps, TerminalWriter writer) {
+    if (fps <= 0 || fps > 1000) throw new IllegalArgumentException("A taxa de quadros deve estar entre 1 e 1000.");
+    this.frameNanos = TimeUnit.SECONDS.toNanos(1) / fps;
+    this.writer = writer;
+  }
+
+  /**
+   * Adiciona um letreiro  animao.
+   *
+   * @param marquee Letreiro a ser animado.
+   */
+  public void add(FigletMarquee marquee) {
+    this.marquees.addIfAbsent(marquee);
+  }
+
+  /**
+   * Remove um letreiro da animao. O contedo j apresentado no terminal no  apagado.
+   *
+   * @param marquee Letreiro a ser removido.
+   */
+  public void remove(FigletMarquee marquee) {
+    this.marquees.remove(marquee);
+  }
+
+  /**
+   * Inicia a animao em uma thread daemon. Caso j esteja em execuo, nada  feito.
+   */
+  public synchronized void start() {
+    if (this.thread != null) return;
+    this.failure = null;
+    Thread t = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        loop();
+      }
+    }, "RFW.Terminal Marquee Animator");
+    t.setDaemon(true);
+    this.thread = t;
+    t.start();
+  }
+
+  /**
+   * Interrompe a animao e aguarda o fim do quadro em andamento.
+   */
+  public void stop() {
+    Thread t;
+    synchronized (this) {
+      t = this.thread;
+      this.thread = null;
+    }
+    if (t == null) return;
+    LockSupport.unpark(t);
+    if (t != Thread.currentThread()) {
+      try {
+        t.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Verifica se a animao est em execuo.
+   *
+   * @return true caso a thread da animao esteja ativa.
+   */
+  public boolean isRunning() {
+    return this.thread != null;
+  }
+
+  /**
+   * Lao de quadros da thread de animao.<br>
+   * Qualquer falha de um quadro encerra a animao e fica disponvel em {@link #getFailure()}. Ao terminar, por qualquer motivo, a thread deixa de ser a thread da animao, de forma que {@link #isRunning()} passa a retornar false e a animao pode ser iniciada novamente com {@link #start()}.
+   */
+  private void loop() {
+    final Thread self = Thread.currentThread();
+    try {
+      long deadline = System.nanoTime();
+      while (this.thread == self) {
+        long start = System.nanoTime();
+        try {
+          renderFrame();
+        } catch (RFWException e) {
+          this.failure = e;
+          return;
+        } catch (RuntimeException e) {
+          this.failure = new RFWCriticalException("Falha inesperada ao apresentar o quadro da animao.", e);
+          return;
+        }
+        long elapsed = System.nanoTime() - start;
+        this.frames++;
+        this.busyNanos += elapsed;
+        if (elapsed > this.maxFrameNanos) this.maxFrameNanos = elapsed;
+
+        deadline += this.frameNanos;
+        long now = System.nanoTime();
+        if (now - deadline > this.frameNanos) {
+          // Atrasado em mais de um quadro: os quadros perdidos so descartados ao invs de executados em sequncia
+          long missed = (now - deadline) / this.frameNanos;
+          this.missedDeadlines += missed;
+          deadline += missed * this.frameNanos;
+        }
+        long wait;
+        while ((wait = deadline - System.nanoTime()) > 0 && this.thread == self) {
+          LockSupport.parkNanos(this, wait);
+        }
+      }
+    } finally {
+      synchronized (this) {
+        if (this.thread == self) this.thread = null;
+      }
+    }
+  }
+
+  /**
+   * Avana todos os letreiros em uma coluna e apresenta o quadro. Chamado pela thread de animao, mas tambm pode ser chamado diretamente quando a aplicao controla o prprio lao de quadros (com a animao parada).
+   *
+   * @throws RFWException Lanado caso ocorra alguma falha ao escrever na sada.
+   */
+  public void renderFrame() throws RFWException {
+    for (FigletMarquee marquee : this.marquees) {
+      marquee.step();
+      marquee.present(this.writer);
+    }
+    this.writer.flush();
+  }
+
+  /**
+   * Retorna a falha que interrompeu a animao. Falhas que no so de escrita (por exemplo uma {@link RuntimeException} de um letreiro) so retornadas como causa de uma {@link RFWCriticalException}.
+   *
+   * @return Falha ocorrida, ou null caso a animao no tenha sido interrompida por falha.
+   */
+  public RFWException getFailure() {
+    return this.failure;
+  }
+
+  /**
+   * Retorna a quantidade de quadros apresentados.
+   *
+   * @return Total de quadros.
+   */
+  public long getFrameCount() {
+    return this.frames;
+  }
+
+  /**
+   * Retorna o tempo mdio de montagem e escrita de um quadro.
+   *
+   * @return Tempo mdio em nanossegundos, ou 0 caso nenhum quadro tenha sido apresentado.
+   */
+  public long getAverageFrameNanos() {
+    long f = this.frames;
+    return f == 0 ? 0 : this.busyNanos / f;
+  }
+
+  /**
+   * Retorna o maior tempo de montagem e escrita de um quadro.
+   *
+   * @return Tempo em nanossegundos.
+   */
+  public long getMaxFrameNanos() {
+    return this.maxFrameNanos;
+  }
+
+  /**
+   * Retorna a quantidade de quadros descartados por atraso da animao.
+   *
+   * @return Total de prazos perdidos.
+   */
+  public long getMissedDeadlines() {
+    return this.missedDeadlines;
+  }
+
+  /**
+   * Retorna a frao de um ncleo de CPU utilizada pela animao: o tempo mdio de cada quadro dividido pelo intervalo entre os quadros.
+   *
+   * @return Carga da animao (1 significa que o quadro ocupa todo o intervalo disponvel).
+   */
+  public double getLoad() {
+    return (double) getAverageFrameNanos() / this.frameNanos;
+  }
+
+  /**
+   * Zera os contadores de quadros, tempos e prazos perdidos.
+   */
+  public void resetStatistics() {
+    this.frames = 0;
+    this.busyNanos = 0;
+    this.maxFrameNanos = 0;
+    this.missedDeadlines = 0;
+  }
+}
@@ -0,0 +1,427 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+import java.util.Arrays;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.Terminal.TextBackgroundColor;
+import br.eng.rodrigogml.rfw.terminal.Terminal.TextColor;
+import br.eng.rodrigogml.rfw.terminal.Terminal.TextFormat;
+
+/**
+ * Description: Modelo em memria da tela do terminal, com "double buffer" e renderizao por diferena.<br>
+ * A tela  uma grade de clulas, cada uma com um caractere e um estilo (cor de texto, cor de fundo e formataes). Todo o desenho  feito no buffer de trabalho e, ao chamar {@link #present()}, o contedo  comparado com o ltimo contedo apresentado e apenas as clulas alteradas so enviadas ao terminal, junto com os movimentos de cursor e mudanas de estilo necessrios.
+ * <p>
+ * Assim como na classe {@link Terminal}, linhas e colunas comeam em 1.<br>
+ * Esta classe no  thread-safe.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class ScreenBuffer {
+
+  /**
+   * Estilo padro do terminal: cores padro e nenhuma formatao.
+   */
+  public static final int DEFAULT_STYLE = 0;
+
+  /**
+   * Mscara da cor de texto dentro do estilo: 0 para a cor padro ou {@link TextColor#ordinal()} + 1.
+   */
+  private static final int FG_MASK = 0x1F;
+
+  /**
+   * Deslocamento da cor de fundo dentro do estilo: 0 para a cor padro ou {@link TextBackgroundColor#ordinal()} + 1.
+   */
+  private static final int BG_SHIFT = 5;
+
+  /**
+   * Deslocamento das formataes dentro do estilo: um bit para cada {@link TextFormat#ordinal()}.
+   */
+  private static final int FORMAT_SHIFT = 10;
+
+  /**
+   * Valor usado para indicar que o estilo ou a posio do cursor no terminal no so conhecidos.
+   */
+  static final int UNKNOWN = -1;
+
+  /**
+   * Quantidade mxima de clulas inalteradas que so reescritas para evitar um comando de posicionamento do cursor.<br>
+   * Um comando de posicionamento ocupa de 6 a 10 caracteres, reescrever poucas clulas na mesma linha  mais barato.
+   */
+  private static final int MAX_REWRITE_GAP = 4;
+
+  private static final TextColor[] TEXT_COLORS = TextColor.values();
+  private static final TextBackgroundColor[] BACKGROUND_COLORS = TextBackgroundColor.values();
+  private static final TextFormat[] FORMATS = TextFormat.values();
+
+  /**
+   * Quantidade de linhas da tela.
+   */
+  private int rows;
+
+  /**
+   * Quantidade de colunas da tela.
+   */
+  private int cols;
+
+  /**
+   * Caracteres do buffer de trabalho, onde o desenho  realizado.
+   */
+  private char[] backChars;
+
+  /**
+   * Estilos do buffer de trabalho.
+   */
+  private int[] backStyles;
+
+  /**
+   * Caracteres do ltimo contedo apresentado no terminal.
+   */
+  private char[] frontChars;
+
+  /**
+   * Estilos do ltimo contedo apresentado no terminal.
+   */
+  private int[] frontStyles;
+
+  /**
+   * Indica se o contedo de {@link #frontChars} reflete o que est no terminal. Quando false, a prxima apresentao redesenha todas as clulas.
+   */
+  private boolean frontValid = false;
+
+  /**
+   * Estilo utilizado pelos mtodos de desenho.
+   */
+  private int currentStyle = DEFAULT_STYLE;
+
+  /**
+   * Writer prprio, utilizado pelo {@link #present()} quando a thread no estiver com um frame aberto.
+   */
+  private TerminalWriter writer = null;
+
+  /**
+   * Cria uma nova tela com o tamanho informado, preenchida com espaos no estilo padro.
+   *
+   * @param rows Quantidade de linhas.
+   * @param cols Quantidade de colunas.
+   */
+  public ScreenBuffer(int rows, int cols) {
+    allocate(rows, cols);
+  }
+
+  /**
+   * Aloca os buffers para o tamanho informado.
+   *
+   * @param rows Quantidade de linhas.
+   * @param cols Quantidade de colunas.
+   */
+  private void allocate(int rows, int cols) {
+    if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("O tamanho da tela deve ser positivo: " + rows + "x" + cols);
+    this.rows = rows;
+    this.cols = cols;
+    int size = rows * cols;
+    this.backChars = new char[size];
+    this.backStyles = new int[size];
+    this.frontChars = new char[size];
+    this.frontStyles = new int[size];
+    Arrays.fill(this.backChars, ' ');
+    this.frontValid = false;
+  }
+
+  /**
+   * Altera o tamanho da tela. O contedo  descartado e a prxima apresentao redesenha a tela inteira.
+   *
+   * @param rows Quantidade de linhas.
+   * @param cols Quantidade de colunas.
+   */
+  public void resize(int rows, int cols) {
+    if (rows != this.rows || cols != this.cols) allocate(rows, cols);
+  }
+
+  /**
+   * Monta o valor de estilo utilizado pelas clulas.
+   *
+   * @param color Cor do texto, ou null para a cor padro do terminal.
+   * @param background Cor de fundo, ou null para a cor padro do terminal.
+   * @param formats Formataes aplicadas.
+   * @return Valor do estilo.
+   */
+  public static int style(TextColor color, TextBackgroundColor background, TextFormat... formats) {
+    int style = 0;
+    if (color != null) style |= color.ordinal() + 1;
+    if (background != null) style |= (background.ordinal() + 1) << BG_SHIFT;
+    for (TextFormat format : formats) {
+      style |= 1 << (FORMAT_SHIFT + format.ordinal());
+    }
+    return style;
+  }
+
+  /**
+   * Define o estilo utilizado pelos prximos desenhos.
+   *
+   * @param style Valor do estilo, montado por {@link #style(TextColor, TextBackgroundColor, TextFormat...)}.
+   */
+  public void setStyle(int style) {
+    this.currentStyle = style;
+  }
+
+  /**
+   * Define o estilo utilizado pelos prximos desenhos.
+   *
+   * @param color Cor do texto, ou null para a cor padro do terminal.
+   * @param background Cor de fundo, ou null para a cor padro do terminal.
+   * @param formats Formataes aplicadas.
+   */
+  public void setStyle(TextColor color, TextBackgroundColor background, TextFormat... formats) {
+    this.currentStyle = style(color, background, formats);
+  }
+
+  /**
+   * Retorna o estilo utilizado pelos prximos desenhos.
+   *
+   * @return Valor do estilo.
+   */
+  public int getStyle() {
+    return currentStyle;
+  }
+
+  /**
+   * Escreve um caractere na posio informada, com o estilo atual. Posies fora da tela so ignoradas.
+   *
+   * @param row Linha (1  a primeira linha).
+   * @param col Coluna (1  a primeira coluna).
+   * @param c Caractere a ser escrito.
+   */
+  public void put(int row, int col, char c) {
+    if (row < 1 || row > this.rows || col < 1 || col > this.cols) return;
+    int index = (row - 1) * this.cols + (col - 1);
+    this.backChars[index] = c;
+    this.backStyles[index] = this.currentStyle;
+  }
+
+  /**
+   * Escreve um texto a partir da posio informada, com o estilo atual. O texto  cortado no final da linha, no h quebra para a linha seguinte.
+   *
+   * @param row Linha (1  a primeira linha).
+   * @param col Coluna da primeira letra (1  a primeira coluna).
+   * @param text Texto a ser escrito.
+   */
+  public void write(int row, int col, CharSequence text) {
+    if (row < 1 || row > this.rows) return;
+    int start = Math.max(0, 1 - col);
+    int end = Math.min(text.length(), this.cols - col + 1);
+    int index = (row - 1) * this.cols + (col - 1);
+    for (int i = start; i < end; i++) {
+      this.backChars[index + i] = text.charAt(i);
+      this.backStyles[index + i] = this.currentStyle;
+    }
+  }
+
+  /**
+   * Preenche uma rea retangular com o caractere informado, com o estilo atual.
+   *
+   * @param row Linha superior da rea.
+   * @param col Coluna esquerda da rea.
+   * @param height Quantidade de linhas.
+   * @param width Quantidade de colunas.
+   * @param c Caractere de preenchimento.
+   */
+  public void fill(int row, int col, int height, int width, char c) {
+    int rowStart = Math.max(1, row);
+    int rowEnd = Math.min(this.rows, row + height - 1);
+    int colStart = Math.max(1, col);
+    int colEnd = Math.min(this.cols, col + width - 1);
+    for (int r = rowStart; r <= rowEnd; r++) {
+      int base = (r - 1) * this.cols - 1;
+      Arrays.fill(this.backChars, base + colStart, base + colEnd + 1, c);
+      Arrays.fill(this.backStyles, base + colStart, base + colEnd + 1, this.currentStyle);
+    }
+  }
+
+  /**
+   * Limpa toda a tela, preenchendo-a com espaos no estilo atual.
+   */
+  public void clear() {
+    Arrays.fill(this.backChars, ' ');
+    Arrays.fill(this.backStyles, this.currentStyle);
+  }
+
+  /**
+   * Retorna o caractere do buffer de trabalho na posio informada.
+   *
+   * @param row Linha (1  a primeira linha).
+   * @param col Coluna (1  a primeira coluna).
+   * @return Caractere da clula.
+   */
+  public char getChar(int row, int col) {
+    return this.backChars[(row - 1) * this.cols + (col - 1)];
+  }
+
+  /**
+   * Retorna o estilo do buffer de trabalho na posio informada.
+   *
+   * @param row Linha (1  a primeira linha).
+   * @param col Coluna (1  a primeira coluna).
+   * @return Valor do estilo da clula.
+   */
+  public int getStyle(int row, int col) {
+    return this.backStyles[(row - 1) * this.cols + (col - 1)];
+  }
+
+  /**
+   * Fora que a prxima apresentao redesenhe todas as clulas, por exemplo depois que o terminal foi limpo ou alterado por fora desta classe.
+   */
+  public void invalidate() {
+    this.frontValid = false;
+  }
+
+  /**
+   * Retorna a quantidade de linhas da tela.
+   *
+   * @return Quantidade de linhas.
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Retorna a quantidade de colunas da tela.
+   *
+   * @return Quantidade de colunas.
+   */
+  public int getCols() {
+    return cols;
+  }
+
+  /**
+   * Apresenta no terminal as alteraes feitas desde a ltima apresentao.<br>
+   * Se a thread atual estiver com um frame aberto ({@link TerminalWriter#beginFrame()}), o contedo  acrescentado a esse frame. Caso contrrio  enviado ao {@link System#out} em uma nica escrita.
+   *
+   * @throws RFWException Lanado caso ocorra alguma falha ao escrever na sada.
+   */
+  public void present() throws RFWException {
+    TerminalWriter frame = Terminal.getFrameWriter();
+    if (frame != null) {
+      present(frame);
+    } else {
+      if (this.writer == null) this.writer = new TerminalWriter();
+      present(this.writer);
+      this.writer.flush();
+    }
+  }
+
+  /**
+   * Acrescenta ao writer as alteraes feitas desde a ltima apresentao. O writer no  descarregado, cabendo ao chamador chamar o {@link TerminalWriter#flush()} ou {@link TerminalWriter#endFrame()}.
+   *
+   * @param out Writer onde os comandos sero acrescentados.
+   */
+  public void present(TerminalWriter out) {
+    final char[] backChars = this.backChars;
+    final int[] backStyles = this.backStyles;
+    final char[] frontChars = this.frontChars;
+    final int[] frontStyles = this.frontStyles;
+    final boolean full = !this.frontValid;
+    if (full) out.markFullRedraw();
+
+    int emittedStyle = UNKNOWN;
+    int cursorRow = UNKNOWN;
+    int cursorCol = UNKNOWN;
+
+    for (int r = 0; r < this.rows; r++) {
+      int base = r * this.cols;
+      for (int c = 0; c < this.cols; c++) {
+        int i = base + c;
+        if (!full && backChars[i] == frontChars[i] && backStyles[i] == frontStyles[i]) continue;
+
+        if (cursorRow != r || cursorCol != c) {
+          int gap = c - cursorCol;
+          if (cursorRow == r && gap > 0 && gap <= MAX_REWRITE_GAP && sameStyle(backStyles, i - gap, i, emittedStyle)) {
+            // Reescreve as poucas clulas inalteradas ao invs de reposicionar o cursor
+            out.append(backChars, i - gap, gap);
+          } else {
+            out.appendCsi(r + 1, c + 1, 'H');
+          }
+        }
+
+        int style = backStyles[i];
+        if (style != emittedStyle) {
+          appendStyle(out, style, emittedStyle);
+          emittedStyle = style;
+        }
+        out.append(backChars[i]);
+        cursorRow = r;
+        cursorCol = c + 1;
+        if (cursorCol >= this.cols) {
+          // Na ltima coluna alguns terminais mantm uma quebra de linha pendente, a posio passa a ser desconhecida
+          cursorRow = UNKNOWN;
+          cursorCol = UNKNOWN;
+        }
+      }
+    }
+    if (emittedStyle != UNKNOWN) {
+      if (emittedStyle != DEFAULT_STYLE) out.append("\u001B[0m");
+      out.getRendition().setDefault();
+    }
+
+    System.arraycopy(backChars, 0, frontChars, 0, backChars.length);
+    System.arraycopy(backStyles, 0, frontStyles, 0, backStyles.length);
+    this.frontValid = true;
+  }
+
+  /**
+   * Verifica se todas as clulas do intervalo tm o estilo informado.
+   *
+   * @param styles Estilos das clulas.
+   * @param from Primeira clula (inclusiva).
+   * @param to ltima clula (exclusiva).
+   * @param style Estilo esperado.
+   * @return true se todas as clulas tm o estilo informado.
+   */
+  private static boolean sameStyle(int[] styles, int from, int to, int style) {
+    for (int i = from; i < to; i++) {
+      if (styles[i] != style) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Acrescenta um nico comando SGR que leva o terminal do estilo anterior ao estilo informado.<br>
+   * Quando o estilo anterior  conhecido, apenas as diferenas so enviadas (por exemplo "ESC [ 32;24 m" para trocar a cor do texto e remover o sublinhado). Caso contrrio o comando reinicia o estilo e aplica todas as cores e formataes (por exemplo "ESC [ 0;31;44;1 m").
+   *
+   * @param out Writer de destino.
+   * @param style Valor do estilo.
+   * @param previous Estilo atualmente aplicado no terminal, ou {@link #UNKNOWN} caso no seja conhecido.
+   */
+  static void appendStyle(TerminalWriter out, int style, int previous) {
+    out.append("\u001B[");
+    int fg = style & FG_MASK;
+    int bg = (style >>> BG_SHIFT) & FG_MASK;
+    if (previous == UNKNOWN) {
+      out.append('0');
+      if (fg != 0) out.append(';').append(TEXT_COLORS[fg - 1].getSgrParameter());
+      if (bg != 0) out.append(';').append(BACKGROUND_COLORS[bg - 1].getSgrParameter());
+      for (int f = 0; f < FORMATS.length; f++) {
+        if ((style & (1 << (FORMAT_SHIFT + f))) != 0) out.append(';').append(FORMATS[f].getSgrParameter());
+      }
+    } else {
+      boolean first = true;
+      if (fg != (previous & FG_MASK)) {
+        out.append(fg == 0 ? "39" : TEXT_COLORS[fg - 1].getSgrParameter());
+        first = false;
+      }
+      if (bg != ((previous >>> BG_SHIFT) & FG_MASK)) {
+        if (!first) out.append(';');
+        out.append(bg == 0 ? "49" : BACKGROUND_COLORS[bg - 1].getSgrParameter());
+        first = false;
+      }
+      int changed = (style ^ previous) >>> FORMAT_SHIFT;
+      for (int f = 0; f < FORMATS.length; f++) {
+        if ((changed & (1 << f)) == 0) continue;
+        if (!first) out.append(';');
+        out.append((style & (1 << (FORMAT_SHIFT + f))) != 0 ? FORMATS[f].getSgrParameter() : FORMATS[f].getDeactivationSgrParameter());
+        first = false;
+      }
+    }
+    out.append('m');
+  }
+}
@@ -5,12 +5,16 @@ import java.io.Console;
 import java.io.IOException;
 import java.io.InputStreamReader;
 
+import com.sun.jna.NativeLong;
+
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
 import br.eng.rodrigogml.rfw.kernel.preprocess.PreProcess;
 import br.eng.rodrigogml.rfw.kernel.utils.RUString;
+import br.eng.rodrigogml.rfw.terminal.utils.DisplayWidth;
 import br.eng.rodrigogml.rfw.terminal.utils.Figlet;
 import br.eng.rodrigogml.rfw.terminal.utils.Kernel32;
+import br.eng.rodrigogml.rfw.terminal.utils.LibC;
 
 /**
  * Description: Classe esttica com os comandos e constantes necessrios para manipulao do terminal.<br>
@@ -32,10 +36,93 @@ public class Terminal {
   private static int terminalDefaultColumns = 120;
 
   /**
-   * Acumulador de texto parcial escrito na linha, utilizado por exmeplo pelo comando {@link #writePart(String)}.<br>
-   * Deve ser reiniciado em zero por todos os mtodos que quebrarem a linha e somado por todos que escrevem parciamente na linha.
+   * Estado da linha sendo escrita por cada thread.<br>
+   * Mantido por thread para que threads escrevendo ao mesmo tempo no corrompam o controle de texto parcial uma das outras.
+   */
+  private static final ThreadLocal<LineState> lineState = new ThreadLocal<LineState>() {
+    @Override
+    protected LineState initialValue() {
+      return new LineState();
+    }
+  };
+
+  /**
+   * Indica se a sada est no modo de linhas atmicas. Veja {@link #setAtomicLineOutput(boolean)}.
+   */
+  private static volatile boolean atomicLineOutput = false;
+
+  /**
+   * Publicador das linhas completas quando a sada est no modo de linhas atmicas.
+   */
+  private static volatile ConcurrentLineOutput lineOutput = null;
+
+  /**
+   * Sada assncrona utilizada no lugar do {@link System#out}, quando definida. Veja {@link #setAsyncOutput(AsyncTerminalOutput)}.
+   */
+  private static volatile AsyncTerminalOutput asyncOutput = null;
+
+  /**
+   * Histrico onde as linhas lidas por {@link #readLine()} so registradas. Veja {@link #setHistory(CommandHistory)}.
+   */
+  private static volatile CommandHistory history = null;
+
+  /**
+   * Indica se o estado de cores e formataes deve ser acompanhado tambm fora dos frames. Veja {@link #setTextStateTracking(boolean)}.
+   */
+  private static volatile boolean textStateTracking = false;
+
+  /**
+   * Estado conhecido de cores e formataes do terminal para a escrita fora dos frames, utilizado quando {@link #textStateTracking} estiver ativo.
+   */
+  private static final GraphicRendition directRendition = new GraphicRendition();
+
+  /**
+   * Quantidade de cores suportada pelo terminal, utilizada pelos mtodos de cor RGB. Detectada na primeira utilizao caso no seja definida em {@link #setColorMode(ColorMode)}.
+   */
+  private static volatile ColorMode colorMode = null;
+
+  /**
+   * Separador de linhas, o mesmo utilizado pelo {@link System#out}.
+   */
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  /**
+   * {@link TerminalWriter} associado a cada thread durante a montagem de um frame (entre o {@link TerminalWriter#beginFrame()} e o {@link TerminalWriter#endFrame()}).<br>
+   * Quando no houver writer associado  thread, os mtodos escrevem diretamente no {@link System#out}.
+   */
+  private static final ThreadLocal<TerminalWriter> frameWriter = new ThreadLocal<>();
+
+  /**
+   * Indica se a aplicao est rodando em Linux, onde as chamadas nativas da {@link LibC} podem ser utilizadas.
+   */
+  private static final boolean LINUX = System.getProperty("os.name").toLowerCase().contains("linux");
+
+  /**
+   * Indica se as chamadas nativas da {@link LibC} esto disponveis. Passa a ser false na primeira falha ao carregar a biblioteca, evitando novas tentativas.
+   */
+  private static volatile boolean libcAvailable = LINUX;
+
+  /**
+   * Atributos originais do terminal, salvos pelo {@link #enableRawMode()} para serem restaurados em {@link #disableRawMode()}.
+   */
+  private static LibC.termios originalTermios = null;
+
+  /**
+   * Estado da linha sendo escrita por uma thread.
    */
-  private static int totalPartialLineWrote = 0;
+  private static final class LineState {
+
+    /**
+     * Acumulador de texto parcial escrito na linha, utilizado por exmeplo pelo comando {@link Terminal#writePart(String)}.<br>
+     * Deve ser reiniciado em zero por todos os mtodos que quebrarem a linha e somado por todos que escrevem parciamente na linha.
+     */
+    int totalPartialLineWrote = 0;
+
+    /**
+     * Contedo da linha ainda no publicado, utilizado apenas no modo de linhas atmicas.
+     */
+    final StringBuilder pending = new StringBuilder(256);
+  }
 
   /**
    * Enumerao para definir as cores de texto no terminal.
@@ -91,6 +178,7 @@ public class Terminal {
     BRIGHT_WHITE("\u001B[97m");
 
     private final String activationCode;
+    private final String sgrParameter;
 
     /**
      * Construtor da enumerao, atribuindo os cdigos de ativao e desativao ANSI.
@@ -99,6 +187,16 @@ public class Terminal {
      */
     TextColor(String activationCode) {
       this.activationCode = activationCode;
+      this.sgrParameter = extractSgrParameter(activationCode);
+    }
+
+    /**
+     * Retorna apenas o parmetro numrico do comando SGR da cor (por exemplo "31"), para que possa ser combinado com outros parmetros em um nico comando.
+     *
+     * @return O parmetro SGR da cor de texto.
+     */
+    public String getSgrParameter() {
+      return this.sgrParameter;
     }
 
     /**
@@ -166,6 +264,7 @@ public class Terminal {
     BRIGHT_WHITE("\u001B[107m");
 
     private final String activationCode;
+    private final String sgrParameter;
 
     /**
      * Construtor da enumerao, atribuindo os cdigos de ativao e desativao ANSI.
@@ -174,6 +273,16 @@ public class Terminal {
      */
     TextBackgroundColor(String activationCode) {
       this.activationCode = activationCode;
+      this.sgrParameter = extractSgrParameter(activationCode);
+    }
+
+    /**
+     * Retorna apenas o parmetro numrico do comando SGR da cor (por exemplo "41"), para que possa ser combinado com outros parmetros em um nico comando.
+     *
+     * @return O parmetro SGR da cor de fundo.
+     */
+    public String getSgrParameter() {
+      return this.sgrParameter;
     }
 
     /**
@@ -205,6 +314,8 @@ public class Terminal {
 
     private final String activationCode;
     private final String deactivationCode;
+    private final String sgrParameter;
+    private final String deactivationSgrParameter;
 
     /**
      * Construtor da enumerao, atribuindo os cdigos de ativao e desativao ANSI.
@@ -215,6 +326,26 @@ public class Terminal {
     TextFormat(String activationCode, String deactivationCode) {
       this.activationCode = activationCode;
       this.deactivationCode = deactivationCode;
+      this.sgrParameter = extractSgrParameter(activationCode);
+      this.deactivationSgrParameter = extractSgrParameter(deactivationCode);
+    }
+
+    /**
+     * Retorna apenas o parmetro numrico do comando SGR de ativao da formatao (por exemplo "1").
+     *
+     * @return O parmetro SGR de ativao.
+     */
+    public String getSgrParameter() {
+      return this.sgrParameter;
+    }
+
+    /**
+     * Retorna apenas o parmetro numrico do comando SGR de desativao da formatao (por exemplo "22").
+     *
+     * @return O parmetro SGR de desativao.
+     */
+    public String getDeactivationSgrParameter() {
+      return this.deactivationSgrParameter;
     }
 
     /**
@@ -236,13 +367,239 @@ public class Terminal {
     }
   }
 
+  /**
+   * Extrai o parmetro numrico de um comando SGR completo no formato "ESC [ {parmetro} m".
+   *
+   * @param code Comando SGR completo.
+   * @return Parmetro do comando, sem o prefixo "ESC [" e sem o "m" final.
+   */
+  private static String extractSgrParameter(String code) {
+    return code.substring(2, code.length() - 1);
+  }
+
+  /**
+   * Associa um {@link TerminalWriter}  thread atual, fazendo com que todos os mtodos desta classe escrevam no seu buffer.
+   *
+   * @param writer Writer a ser associado, ou null para voltar a escrever diretamente no {@link System#out}.
+   * @return Writer que estava associado  thread anteriormente, ou null caso no houvesse nenhum.
+   */
+  static TerminalWriter bindWriter(TerminalWriter writer) {
+    TerminalWriter previous = frameWriter.get();
+    if (writer == null) {
+      frameWriter.remove();
+    } else {
+      frameWriter.set(writer);
+    }
+    return previous;
+  }
+
+  /**
+   * Retorna o {@link TerminalWriter} com frame aberto na thread atual.
+   *
+   * @return Writer associado  thread atual, ou null caso a thread esteja escrevendo diretamente no {@link System#out}.
+   */
+  public static TerminalWriter getFrameWriter() {
+    return frameWriter.get();
+  }
+
+  /**
+   * Escreve o contedo no writer do frame aberto na thread atual, ou diretamente no {@link System#out} caso no haja frame aberto.
+   *
+   * @param text Contedo a ser escrito.
+   */
+  private static void print(String text) {
+    TerminalWriter writer = frameWriter.get();
+    if (writer != null) {
+      writer.print(text);
+    } else {
+      printDirect(text);
+    }
+  }
+
+  /**
+   * Escreve o contedo fora de um frame: no {@link System#out}, ou na linha pendente da thread quando a sada estiver no modo de linhas atmicas.
+   *
+   * @param text Contedo a ser escrito.
+   */
+  private static void printDirect(String text) {
+    if (atomicLineOutput) {
+      lineState.get().pending.append(text);
+    } else {
+      AsyncTerminalOutput async = asyncOutput;
+      if (async != null) {
+        async.submit(text);
+      } else {
+        System.out.print(text);
+      }
+    }
+  }
+
+  /**
+   * Escreve o contedo seguido de uma quebra de linha no writer do frame aberto na thread atual, ou diretamente no {@link System#out} caso no haja frame aberto.
+   *
+   * @param text Contedo a ser escrito.
+   */
+  private static void println(String text) {
+    TerminalWriter writer = frameWriter.get();
+    if (writer != null) {
+      writer.println(text);
+    } else if (atomicLineOutput) {
+      LineState state = lineState.get();
+      state.pending.append(text).append(LINE_SEPARATOR);
+      publishPendingLine(state);
+    } else {
+      AsyncTerminalOutput async = asyncOutput;
+      if (async != null) {
+        async.submit(text + LINE_SEPARATOR);
+      } else {
+        System.out.println(text);
+      }
+    }
+  }
+
+  /**
+   * Publica o contedo pendente da linha da thread, de forma atmica, no {@link ConcurrentLineOutput}.
+   *
+   * @param state Estado da linha da thread.
+   */
+  private static void publishPendingLine(LineState state) {
+    if (state.pending.length() == 0) return;
+    String content = state.pending.toString();
+    state.pending.setLength(0);
+    AsyncTerminalOutput async = asyncOutput;
+    ConcurrentLineOutput output = lineOutput;
+    if (async != null) {
+      async.submit(content);
+    } else if (output != null) {
+      output.publish(content);
+    } else {
+      System.out.print(content);
+    }
+  }
+
+  /**
+   * Ativa ou desativa o modo de linhas atmicas, para aplicaes em que vrias threads escrevem no terminal ao mesmo tempo.<br>
+   * Neste modo tudo o que uma thread escreve (textos, cores, formataes, etc.)  acumulado em um buffer prprio da thread e s  enviado ao terminal quando a linha  concluda (por mtodos como {@link #write(String)}, {@link #writeAlignedRight(String)}, {@link #emptyLine()}) ou quando {@link #flushLine()}  chamado. Assim as linhas de threads diferentes nunca se misturam e o controle de texto parcial de {@link #writePart(String)}  sempre o da prpria thread.<br>
+   * A publicao das linhas no bloqueia as threads no monitor do {@link System#out}, permitindo muitas threads produtoras simultneas.
+   * <p>
+   * Ao desativar, o contedo pendente da thread atual  publicado. Contedo pendente de outras threads s ser escrito quando elas chamarem {@link #flushLine()}.
+   *
+   * @param enabled true para ativar o modo de linhas atmicas.
+   */
+  public static synchronized void setAtomicLineOutput(boolean enabled) {
+    if (enabled) {
+      if (lineOutput == null) lineOutput = new ConcurrentLineOutput();
+      atomicLineOutput = true;
+    } else {
+      atomicLineOutput = false;
+      publishPendingLine(lineState.get());
+    }
+  }
+
+  /**
+   * Define uma sada assncrona para ser utilizada por todos os mtodos desta classe no lugar do {@link System#out}.<br>
+   * Com a sada assncrona as threads da aplicao no ficam bloqueadas quando o terminal est lento: o contedo  colocado em uma fila e escrito por uma thread dedicada. Pode ser combinada com o modo de linhas atmicas ({@link #setAtomicLineOutput(boolean)}), neste caso cada linha completa  submetida como um nico segmento.<br>
+   * Frames montados com {@link TerminalWriter} continuam sendo escritos na sada do prprio writer.
+   *
+   * @param output Sada assncrona, ou null para voltar a escrever diretamente no {@link System#out}.
+   */
+  public static void setAsyncOutput(AsyncTerminalOutput output) {
+    asyncOutput = output;
+  }
+
+  /**
+   * Retorna a sada assncrona definida em {@link #setAsyncOutput(AsyncTerminalOutput)}.
+   *
+   * @return Sada assncrona em uso, ou null caso os mtodos estejam escrevendo diretamente no {@link System#out}.
+   */
+  public static AsyncTerminalOutput getAsyncOutput() {
+    return asyncOutput;
+  }
+
+  /**
+   * Verifica se a sada est no modo de linhas atmicas.
+   *
+   * @return true caso o modo de linhas atmicas esteja ativo.
+   * @see #setAtomicLineOutput(boolean)
+   */
+  public static boolean isAtomicLineOutput() {
+    return atomicLineOutput;
+  }
+
+  /**
+   * Publica o contedo ainda pendente da linha da thread atual, mesmo sem que a linha tenha sido concluda.<br>
+   * S tem efeito no modo de linhas atmicas ({@link #setAtomicLineOutput(boolean)}), til por exemplo para exibir um texto parcial antes de uma operao demorada.
+   */
+  public static void flushLine() {
+    publishPendingLine(lineState.get());
+  }
+
+  /**
+   * Escreve um comando CSI de um parmetro ("ESC [ {valor} {final}") no writer do frame aberto na thread atual, ou diretamente no {@link System#out}.<br>
+   * A sequncia  gerada pelo {@link EscapeSequenceEncoder}, sem o custo do {@link String#format(String, Object...)}.
+   *
+   * @param value Parmetro numrico do comando.
+   * @param finalChar Caractere que finaliza o comando.
+   */
+  private static void printCsi(int value, char finalChar) {
+    TerminalWriter writer = frameWriter.get();
+    if (writer != null) {
+      writer.appendCsi(value, finalChar);
+    } else {
+      printDirect(EscapeSequenceEncoder.csi(value, finalChar));
+    }
+  }
+
+  /**
+   * Retorna o estado conhecido de cores e formataes do destino atual da escrita.<br>
+   * Dentro de um frame o estado  o do {@link TerminalWriter}. Fora dos frames o estado s  acompanhado quando ativado em {@link #setTextStateTracking(boolean)} e fora do modo de linhas atmicas, j que neste modo as linhas de vrias threads podem se intercalar.
+   *
+   * @return Estado a ser consultado e atualizado, ou null caso os comandos devam ser sempre enviados.
+   */
+  private static GraphicRendition rendition() {
+    TerminalWriter writer = frameWriter.get();
+    if (writer != null) return writer.getRendition();
+    if (textStateTracking && !atomicLineOutput) return directRendition;
+    return null;
+  }
+
+  /**
+   * Ativa ou desativa o acompanhamento do estado de cores e formataes do terminal para a escrita fora dos frames.<br>
+   * Com o acompanhamento ativo, os mtodos de cor e formatao ({@link #setTextColor(TextColor)}, {@link #setTextFormat(TextFormat...)}, {@link #resetTextFormat()}, etc.) no enviam comandos que no alteram o estado atual do terminal, reduzindo a quantidade de bytes enviados por renderizadores que definem a cor a cada clula.
+   * <p>
+   * Dentro dos frames ({@link TerminalWriter}) o acompanhamento est sempre ativo, j que todo o contedo do frame  gerado por esta classe. Fora dos frames ele s deve ser ativado se a aplicao no escrever cdigos de cor ou formatao diretamente no {@link System#out}. Caso isso acontea, chame {@link #invalidateTextState()} em seguida.
+   *
+   * @param enabled true para ativar o acompanhamento.
+   */
+  public static void setTextStateTracking(boolean enabled) {
+    synchronized (directRendition) {
+      directRendition.invalidate();
+      textStateTracking = enabled;
+    }
+  }
+
+  /**
+   * Descarta o estado conhecido de cores e formataes, fazendo com que os prximos comandos sejam sempre enviados.<br>
+   * Deve ser chamado quando o terminal for alterado por fora desta classe.
+   */
+  public static void invalidateTextState() {
+    GraphicRendition state = rendition();
+    if (state != null) state.invalidate();
+  }
+
   /**
    * Define a cor do texto no terminal.
    *
    * @param color A cor do texto a ser definida, baseada na enumerao TextColor.
    */
   public static void setTextColor(TextColor color) {
-    System.out.print(color.getActivationCode());
+    GraphicRendition state = rendition();
+    if (state != null) {
+      int value = GraphicRendition.colorOf(color);
+      if (state.foreground == value) return;
+      state.foreground = value;
+    }
+    print(color.getActivationCode());
   }
 
   /**
@@ -251,64 +608,145 @@ public class Terminal {
    * @param backgroundColor A cor de fundo a ser definida, baseada na enumerao TextBackgroundColor.
    */
   public static void setTextBackgroundColor(TextBackgroundColor backgroundColor) {
-    System.out.print(backgroundColor.getActivationCode());
+    GraphicRendition state = rendition();
+    if (state != null) {
+      int value = GraphicRendition.colorOf(backgroundColor);
+      if (state.background == value) return;
+      state.background = value;
+    }
+    print(backgroundColor.getActivationCode());
   }
 
   /**
-   * Define mltiplas formataes de texto no terminal.
+   * Define mltiplas formataes de texto no terminal.<br>
+   * As formataes so enviadas em um nico comando, e as que j estiverem ativas no so enviadas novamente.
    *
    * @param formats Um ou mais valores da enumerao TextFormat que devem ser aplicados ao texto.
    */
   public static void setTextFormat(TextFormat... formats) {
-    StringBuilder formatCodes = new StringBuilder();
+    GraphicRendition state = rendition();
+    StringBuilder params = new StringBuilder();
+    TextFormat single = null;
+    int count = 0;
     for (TextFormat format : formats) {
-      formatCodes.append(format.getActivationCode());
+      if (state != null) {
+        if (state.isOn(format)) continue;
+        state.set(format, true);
+      }
+      if (count++ > 0) params.append(';');
+      params.append(format.getSgrParameter());
+      single = format;
+    }
+    if (count == 1) {
+      print(single.getActivationCode());
+    } else if (count > 1) {
+      print("\u001B[" + params + "m");
     }
-    System.out.print(formatCodes.toString());
   }
 
   /**
-   * Remove mltiplas formataes de texto no terminal.
+   * Remove mltiplas formataes de texto no terminal.<br>
+   * As formataes so removidas em um nico comando, e as que j estiverem inativas no so enviadas novamente.
    *
    * @param formats Um ou mais valores da enumerao TextFormat que devem ser removidos do texto.
    */
   public static void removeTextFormat(TextFormat... formats) {
-    StringBuilder formatCodes = new StringBuilder();
+    GraphicRendition state = rendition();
+    StringBuilder params = new StringBuilder();
+    TextFormat single = null;
+    int count = 0;
     for (TextFormat format : formats) {
-      formatCodes.append(format.getDeactivationCode());
+      if (state != null) {
+        if (state.isOff(format)) continue;
+        state.set(format, false);
+      }
+      if (count++ > 0) params.append(';');
+      params.append(format.getDeactivationSgrParameter());
+      single = format;
+    }
+    if (count == 1) {
+      print(single.getDeactivationCode());
+    } else if (count > 1) {
+      print("\u001B[" + params + "m");
     }
-    System.out.print(formatCodes.toString());
   }
 
   /**
-   * Remove todas as formataes de texto aplicadas, retornando ao formato padro do terminal.
+   * Remove todas as formataes de texto aplicadas, retornando ao formato padro do terminal.<br>
+   * As desativaes so enviadas em um nico comando, apenas para as formataes que no estiverem sabidamente inativas.
    */
   public static void resetTextFormat() {
-    System.out.print(TextFormat.BOLD.getDeactivationCode() +
-        TextFormat.UNDERLINE.getDeactivationCode() +
-        TextFormat.BLINK.getDeactivationCode() +
-        TextFormat.INVERT.getDeactivationCode());
+    removeTextFormat(TextFormat.values());
   }
 
   /**
    * Remove a cor atual do texto, retornando  cor padro do terminal.
    */
   public static void resetTextColor() {
-    System.out.print("\u001B[39m");
+    GraphicRendition state = rendition();
+    if (state != null) {
+      if (state.foreground == GraphicRendition.DEFAULT) return;
+      state.foreground = GraphicRendition.DEFAULT;
+    }
+    print("\u001B[39m");
   }
 
   /**
    * Remove a cor atual de fundo, retornando ao fundo padro do terminal.
    */
   public static void resetTextBackgroundColor() {
-    System.out.print("\u001B[49m");
+    GraphicRendition state = rendition();
+    if (state != null) {
+      if (state.background == GraphicRendition.DEFAULT) return;
+      state.background = GraphicRendition.DEFAULT;
+    }
+    print("\u001B[49m");
+  }
+
+  /**
+   * Define de uma s vez a cor do texto, a cor de fundo e as formataes do texto, enviando apenas a diferena para o estado atual em um nico comando (por exemplo "ESC [ 31;44;1;24 m").<br>
+   * As formataes no informadas so desativadas.
+   *
+   * @param color Cor do texto, ou null para a cor padro do terminal.
+   * @param backgroundColor Cor de fundo, ou null para a cor padro do terminal.
+   * @param formats Formataes que devem ficar ativas.
+   */
+  public static void setTextStyle(TextColor color, TextBackgroundColor backgroundColor, TextFormat... formats) {
+    GraphicRendition state = rendition();
+    StringBuilder params = new StringBuilder();
+    int fg = GraphicRendition.colorOf(color);
+    if (state == null || state.foreground != fg) {
+      params.append(color == null ? "39" : color.getSgrParameter()).append(';');
+      if (state != null) state.foreground = fg;
+    }
+    int bg = GraphicRendition.colorOf(backgroundColor);
+    if (state == null || state.background != bg) {
+      params.append(backgroundColor == null ? "49" : backgroundColor.getSgrParameter()).append(';');
+      if (state != null) state.background = bg;
+    }
+    int wanted = 0;
+    for (TextFormat format : formats) {
+      wanted |= 1 << format.ordinal();
+    }
+    for (TextFormat format : TextFormat.values()) {
+      boolean on = (wanted & (1 << format.ordinal())) != 0;
+      if (state != null) {
+        if (on ? state.isOn(format) : state.isOff(format)) continue;
+        state.set(format, on);
+      }
+      params.append(on ? format.getSgrParameter() : format.getDeactivationSgrParameter()).append(';');
+    }
+    if (params.length() > 0) {
+      params.setLength(params.length() - 1);
+      print("\u001B[" + params + "m");
+    }
   }
 
   /**
    * Envia um comando para limpar o terminal.
    */
   public static void clear() {
-    System.out.print("\u001B[2J");
+    print("\u001B[2J");
   }
 
   /**
@@ -316,14 +754,16 @@ public class Terminal {
    * Pode ser utilizado para limpar o restante da linha quando estamos sobreescrevendo algum contedo, ou para forar o preenchimento com a cor de fundo em todo o restante da linha, inependente do tamanho do terminal.
    */
   public static void clearRemainingLine() {
-    System.out.print("\u001B[K"); // Limpa at o final da linha (preenchendo com o background vermelho)
+    print("\u001B[K"); // Limpa at o final da linha (preenchendo com o background vermelho)
   }
 
   /**
    * Reseta o terminal para o estado padro, removendo qualquer formatao de texto ou cor.
    */
   public static void reset() {
-    System.out.print("\u001B[0m");
+    GraphicRendition state = rendition();
+    if (state != null) state.setDefault();
+    print("\u001B[0m");
   }
 
   /**
@@ -333,7 +773,12 @@ public class Terminal {
    * @param col A coluna para onde o cursor deve ser movido (1  a primeira coluna).
    */
   public static void moveCursor(int row, int col) {
-    System.out.print(String.format("\u001B[%d;%dH", row, col));
+    TerminalWriter writer = frameWriter.get();
+    if (writer != null) {
+      writer.appendCsi(row, col, 'H');
+    } else {
+      printDirect(EscapeSequenceEncoder.cursorPosition(row, col));
+    }
   }
 
   /**
@@ -342,7 +787,7 @@ public class Terminal {
    * @param lines O nmero de linhas para mover o cursor para cima.
    */
   public static void moveCursorUp(int lines) {
-    System.out.print(String.format("\u001B[%dA", lines));
+    printCsi(lines, 'A');
   }
 
   /**
@@ -351,7 +796,7 @@ public class Terminal {
    * @param lines O nmero de linhas para mover o cursor para baixo.
    */
   public static void moveCursorDown(int lines) {
-    System.out.print(String.format("\u001B[%dB", lines));
+    printCsi(lines, 'B');
   }
 
   /**
@@ -360,7 +805,7 @@ public class Terminal {
    * @param columns O nmero de colunas para mover o cursor para a direita.
    */
   public static void moveCursorRight(int columns) {
-    System.out.print(String.format("\u001B[%dC", columns));
+    printCsi(columns, 'C');
   }
 
   /**
@@ -369,7 +814,7 @@ public class Terminal {
    * @param columns O nmero de colunas para mover o cursor para a esquerda.
    */
   public static void moveCursorLeft(int columns) {
-    System.out.print(String.format("\u001B[%dD", columns));
+    printCsi(columns, 'D');
   }
 
   /**
@@ -377,8 +822,8 @@ public class Terminal {
    * Se utilizado no comeo de uma linha, far uma linha em branco com a cor de fundo definida. Se utilizada em uma linha j com contedo terminar de incluir essa linha.
    */
   public static void emptyLine() {
-    System.out.println(ASCII_CLEAR_REMAINING_LINE);
-    totalPartialLineWrote = 0;
+    println(ASCII_CLEAR_REMAINING_LINE);
+    lineState.get().totalPartialLineWrote = 0;
   }
 
   /**
@@ -393,35 +838,36 @@ public class Terminal {
     for (int i = 0; i < numberOfLines; i++) {
       sb.append("\u001B[0K\n");
     }
-    System.out.print(sb.toString());
+    print(sb.toString());
+    if (atomicLineOutput && frameWriter.get() == null) publishPendingLine(lineState.get());
   }
 
   /**
    * Limpa a linha atual do incio at a posio do cursor.
    */
   public static void clearLineFromStart() {
-    System.out.print("\u001B[1K");
+    print("\u001B[1K");
   }
 
   /**
    * Limpa toda a linha atual.
    */
   public static void clearLine() {
-    System.out.print("\u001B[2K");
+    print("\u001B[2K");
   }
 
   /**
    * Limpa a tela a partir da posio do cursor at o final da tela.
    */
   public static void clearScreenFromCursor() {
-    System.out.print("\u001B[0J");
+    print("\u001B[0J");
   }
 
   /**
    * Limpa a tela do incio at a posio atual do cursor.
    */
   public static void clearScreenToCursor() {
-    System.out.print("\u001B[1J");
+    print("\u001B[1J");
   }
 
   /**
@@ -431,7 +877,7 @@ public class Terminal {
    * </p>
    */
   public static void saveCursorPosition() {
-    System.out.print("\u001B[s");
+    print("\u001B[s");
   }
 
   /**
@@ -441,35 +887,35 @@ public class Terminal {
    * </p>
    */
   public static void restoreCursorPosition() {
-    System.out.print("\u001B[u");
+    print("\u001B[u");
   }
 
   /**
    * Oculta o cursor no terminal.
    */
   public static void hideCursor() {
-    System.out.print("\u001B[?25l");
+    print("\u001B[?25l");
   }
 
   /**
    * Exibe o cursor no terminal, caso esteja oculto.
    */
   public static void showCursor() {
-    System.out.print("\u001B[?25h");
+    print("\u001B[?25h");
   }
 
   /**
    * Realiza um beep (som) no terminal.
    */
   public static void beep() {
-    System.out.print("\u0007");
+    print("\u0007");
   }
 
   /**
    * Move o cursor para o incio da linha atual, sem mudar de linha.
    */
   public static void returnToStartOfLine() {
-    System.out.print("\u001B[G");
+    print("\u001B[G");
   }
 
   /**
@@ -478,7 +924,7 @@ public class Terminal {
    * @param lines O nmero de linhas para rolar a tela para cima.
    */
   public static void scrollUp(int lines) {
-    System.out.print(String.format("\u001B[%dS", lines));
+    printCsi(lines, 'S');
   }
 
   /**
@@ -487,7 +933,7 @@ public class Terminal {
    * @param lines O nmero de linhas para rolar a tela para baixo.
    */
   public static void scrollDown(int lines) {
-    System.out.print(String.format("\u001B[%dT", lines));
+    printCsi(lines, 'T');
   }
 
   /**
@@ -497,14 +943,19 @@ public class Terminal {
    * @param bottom A linha inferior da regio de rolagem.
    */
   public static void setScrollRegion(int top, int bottom) {
-    System.out.print(String.format("\u001B[%d;%dr", top, bottom));
+    TerminalWriter writer = frameWriter.get();
+    if (writer != null) {
+      writer.appendCsi(top, bottom, 'r');
+    } else {
+      printDirect(EscapeSequenceEncoder.csi(top, bottom, 'r'));
+    }
   }
 
   /**
    * Reseta a regio de rolagem, permitindo rolagem em toda a tela.
    */
   public static void resetScrollRegion() {
-    System.out.print("\u001B[r");
+    print("\u001B[r");
   }
 
   /**
@@ -513,77 +964,77 @@ public class Terminal {
    * @param title O ttulo a ser definido para a janela do terminal.
    */
   public static void setWindowTitle(String title) {
-    System.out.print(String.format("\u001B]0;%s\u0007", title));
+    print(String.format("\u001B]0;%s\u0007", title));
   }
 
   /**
    * Coloca o terminal em modo de tela cheia, caso suportado.
    */
   public static void enterFullScreen() {
-    System.out.print("\u001B[?1049h");
+    print("\u001B[?1049h");
   }
 
   /**
    * Sai do modo de tela cheia no terminal, caso suportado.
    */
   public static void exitFullScreen() {
-    System.out.print("\u001B[?1049l");
+    print("\u001B[?1049l");
   }
 
   /**
    * Entra no modo alternativo de buffer de tela no terminal.
    */
   public static void enableAlternateBuffer() {
-    System.out.print("\u001B[?1049h");
+    print("\u001B[?1049h");
   }
 
   /**
    * Sai do modo alternativo de buffer de tela no terminal.
    */
   public static void disableAlternateBuffer() {
-    System.out.print("\u001B[?1049l");
+    print("\u001B[?1049l");
   }
 
   /**
    * Desabilita o echo no terminal para ocultar a entrada de texto do usurio.
    */
   public static void disableEcho() {
-    System.out.print("\u001B[12l");
+    print("\u001B[12l");
   }
 
   /**
    * Habilita o echo no terminal para mostrar a entrada de texto do usurio.
    */
   public static void enableEcho() {
-    System.out.print("\u001B[12h");
+    print("\u001B[12h");
   }
 
   /**
    * Oculta a barra de rolagem do terminal, se suportado.
    */
   public static void hideScrollBar() {
-    System.out.print("\u001B[?30l");
+    print("\u001B[?30l");
   }
 
   /**
    * Exibe a barra de rolagem do terminal, se suportado.
    */
   public static void showScrollBar() {
-    System.out.print("\u001B[?30h");
+    print("\u001B[?30h");
   }
 
   /**
    * Ativa o modo de sobrescrita no terminal.
    */
   public static void enableOverwriteMode() {
-    System.out.print("\u001B[4l");
+    print("\u001B[4l");
   }
 
   /**
    * Ativa o modo de insero no terminal.
    */
   public static void enableInsertMode() {
-    System.out.print("\u001B[4h");
+    print("\u001B[4h");
   }
 
   /**
@@ -592,7 +1043,23 @@ public class Terminal {
    * @param colorCode O cdigo da cor (0-255).
    */
   public static void setExtendedTextColor(int colorCode) {
-    System.out.print(String.format("\u001B[38;5;%dm", colorCode));
+    GraphicRendition state = rendition();
+    if (state != null) {
+      if ((colorCode & ~0xFF) == 0) {
+        int value = GraphicRendition.EXTENDED | colorCode;
+        if (state.foreground == value) return;
+        state.foreground = value;
+      } else {
+        // Cdigos fora da paleta no so acompanhados (e no podem ser comparados, j que "EXTENDED | -1" coincide com UNKNOWN)
+        state.foreground = GraphicRendition.UNKNOWN;
+      }
+    }
+    TerminalWriter writer = frameWriter.get();
+    if (writer != null) {
+      writer.appendExtendedTextColor(colorCode);
+    } else {
+      printDirect(EscapeSequenceEncoder.extendedTextColor(colorCode));
+    }
   }
 
   /**
@@ -601,70 +1068,202 @@ public class Terminal {
    * @param colorCode O cdigo da cor (0-255).
    */
   public static void setExtendedBackgroundColor(int colorCode) {
-    System.out.print(String.format("\u001B[48;5;%dm", colorCode));
+    GraphicRendition state = rendition();
+    if (state != null) {
+      if ((colorCode & ~0xFF) == 0) {
+        int value = GraphicRendition.EXTENDED | colorCode;
+        if (state.background == value) return;
+        state.background = value;
+      } else {
+        // Cdigos fora da paleta no so acompanhados (e no podem ser comparados, j que "EXTENDED | -1" coincide com UNKNOWN)
+        state.background = GraphicRendition.UNKNOWN;
+      }
+    }
+    TerminalWriter writer = frameWriter.get();
+    if (writer != null) {
+      writer.appendExtendedBackgroundColor(colorCode);
+    } else {
+      printDirect(EscapeSequenceEncoder.extendedBackgroundColor(colorCode));
+    }
+  }
+
+  /**
+   * Define a quantidade de cores suportada pelo terminal, utilizada pelos mtodos de cor RGB.
+   *
+   * @param mode Modo de cores, ou null para detectar novamente a partir das variveis de ambiente.
+   */
+  public static void setColorMode(ColorMode mode) {
+    colorMode = mode;
+  }
+
+  /**
+   * Retorna a quantidade de cores suportada pelo terminal, utilizada pelos mtodos de cor RGB.<br>
+   * Caso no tenha sido definida em {@link #setColorMode(ColorMode)},  detectada por {@link ColorMode#detect()}.
+   *
+   * @return Modo de cores em uso.
+   */
+  public static ColorMode getColorMode() {
+    ColorMode mode = colorMode;
+    if (mode == null) {
+      mode = ColorMode.detect();
+      colorMode = mode;
+    }
+    return mode;
+  }
+
+  /**
+   * Define a cor do texto em RGB.<br>
+   * Em terminais com suporte a 24 bits ({@link ColorMode#TRUECOLOR}) a cor  enviada diretamente. Nos demais,  convertida para a cor mais prxima da paleta de 256 ou 16 cores por {@link ColorQuantizer}.
+   *
+   * @param red Componente vermelho (0-255).
+   * @param green Componente verde (0-255).
+   * @param blue Componente azul (0-255).
+   */
+  public static void setRgbTextColor(int red, int green, int blue) {
+    setRgbTextColor(ColorQuantizer.rgb(red, green, blue));
+  }
+
+  /**
+   * Define a cor do texto em RGB.<br>
+   * Em terminais com suporte a 24 bits ({@link ColorMode#TRUECOLOR}) a cor  enviada diretamente. Nos demais,  convertida para a cor mais prxima da paleta de 256 ou 16 cores por {@link ColorQuantizer}.
+   *
+   * @param rgb Cor no formato 0xRRGGBB.
+   */
+  public static void setRgbTextColor(int rgb) {
+    switch (getColorMode()) {
+      case TRUECOLOR:
+        rgb &= 0xFFFFFF;
+        GraphicRendition state = rendition();
+        if (state != null) {
+          int value = GraphicRendition.RGB | rgb;
+          if (state.foreground == value) return;
+          state.foreground = value;
+        }
+        TerminalWriter writer = frameWriter.get();
+        if (writer != null) {
+          writer.appendRgbTextColor(rgb);
+        } else {
+          printDirect(EscapeSequenceEncoder.rgbTextColor(rgb));
+        }
+        break;
+      case EXTENDED_256:
+        setExtendedTextColor(ColorQuantizer.toExtended(rgb));
+        break;
+      default:
+        setTextColor(ColorQuantizer.toTextColor(rgb));
+        break;
+    }
+  }
+
+  /**
+   * Define a cor de fundo em RGB.<br>
+   * Em terminais com suporte a 24 bits ({@link ColorMode#TRUECOLOR}) a cor  enviada diretamente. Nos demais,  convertida para a cor mais prxima da paleta de 256 ou 16 cores por {@link ColorQuantizer}.
+   *
+   * @param red Componente vermelho (0-255).
+   * @param green Componente verde (0-255).
+   * @param blue Componente azul (0-255).
+   */
+  public static void setRgbBackgroundColor(int red, int green, int blue) {
+    setRgbBackgroundColor(ColorQuantizer.rgb(red, green, blue));
+  }
+
+  /**
+   * Define a cor de fundo em RGB.<br>
+   * Em terminais com suporte a 24 bits ({@link ColorMode#TRUECOLOR}) a cor  enviada diretamente. Nos demais,  convertida para a cor mais prxima da paleta de 256 ou 16 cores por {@link ColorQuantizer}.
+   *
+   * @param rgb Cor no formato 0xRRGGBB.
+   */
+  public static void setRgbBackgroundColor(int rgb) {
+    switch (getColorMode()) {
+      case TRUECOLOR:
+        rgb &= 0xFFFFFF;
+        GraphicRendition state = rendition();
+        if (state != null) {
+          int value = GraphicRendition.RGB | rgb;
+          if (state.background == value) return;
+          state.background = value;
+        }
+        TerminalWriter writer = frameWriter.get();
+        if (writer != null) {
+          writer.appendRgbBackgroundColor(rgb);
+        } else {
+          printDirect(EscapeSequenceEncoder.rgbBackgroundColor(rgb));
+        }
+        break;
+      case EXTENDED_256:
+        setExtendedBackgroundColor(ColorQuantizer.toExtended(rgb));
+        break;
+      default:
+        setTextBackgroundColor(ColorQuantizer.toTextBackgroundColor(rgb));
+        break;
+    }
   }
 
   /**
    * Define o texto para piscar lentamente.
    */
   public static void setTextBlinkSlow() {
-    System.out.print("\u001B[5m"); // Piscar lento
+    GraphicRendition state = rendition();
+    if (state != null) state.set(TextFormat.BLINK, true);
+    print("\u001B[5m"); // Piscar lento
   }
 
   /**
    * Define o texto para piscar rapidamente.
    */
   public static void setTextBlinkFast() {
-    System.out.print("\u001B[6m"); // Piscar rpido
+    GraphicRendition state = rendition();
+    if (state != null) state.forget(TextFormat.BLINK); // O desligamento  pelo mesmo cdigo do piscar lento
+    print("\u001B[6m"); // Piscar rpido
   }
 
   /**
    * Desativa o piscar do cursor no terminal, caso suportado.
    */
   public static void disableCursorBlinking() {
-    System.out.print("\u001B[?12l");
+    print("\u001B[?12l");
   }
 
   /**
    * Ativa o piscar do cursor no terminal, caso suportado.
    */
   public static void enableCursorBlinking() {
-    System.out.print("\u001B[?12h");
+    print("\u001B[?12h");
   }
 
   /**
    * Define o texto como subscript (subscrito), se suportado.
    */
   public static void setSubscript() {
-    System.out.print("\u001B[8m"); // Subscrito
+    print("\u001B[8m"); // Subscrito
   }
 
   /**
    * Define o texto como superscript (sobrescrito), se suportado.
    */
   public static void setSuperscript() {
-    System.out.print("\u001B[73m"); // Sobrescrito
+    print("\u001B[73m"); // Sobrescrito
   }
 
   /**
    * Define caracteres com largura dupla, se suportado.
    */
   public static void setDoubleWidth() {
-    System.out.print("\u001B#6");
+    print("\u001B#6");
   }
 
   /**
    * Define caracteres com altura dupla, se suportado.
    */
   public static void setDoubleHeight() {
-    System.out.print("\u001B#3");
+    print("\u001B#3");
   }
 
   /**
    * Restaura a altura e largura padro dos caracteres.
    */
   public static void resetCharSize() {
-    System.out.print("\u001B#5");
+    print("\u001B#5");
   }
 
   /**
@@ -674,14 +1273,14 @@ public class Terminal {
    * <li>VT220 Manual: VT220 Programmer Reference Manual
    */
   public static void enableGraphicMode() {
-    System.out.print("\u001B(0");
+    print("\u001B(0");
   }
 
   /**
    * Retorna ao modo de caracteres normal.
    */
   public static void disableGraphicMode() {
-    System.out.print("\u001B(B");
+    print("\u001B(B");
   }
 
   /**
@@ -691,37 +1290,37 @@ public class Terminal {
   public static void listGraphicChars() {
     // Ttulo
     disableGraphicMode();
-    System.out.println("+-----------------------------------------------------------------+----------------------------------------------------------------+");
-    System.out.println("| " + TextFormat.UNDERLINE.getActivationCode() + "Less Support" + TextFormat.UNDERLINE.getDeactivationCode() + "                                                    | " + TextFormat.UNDERLINE.getActivationCode() + "More Support" + TextFormat.UNDERLINE.getDeactivationCode() + "                                                   |");
+    println("+-----------------------------------------------------------------+----------------------------------------------------------------+");
+    println("| " + TextFormat.UNDERLINE.getActivationCode() + "Less Support" + TextFormat.UNDERLINE.getDeactivationCode() + "                                                    | " + TextFormat.UNDERLINE.getActivationCode() + "More Support" + TextFormat.UNDERLINE.getDeactivationCode() + "                                                   |");
 
     // Elementos Grficos
-    System.out.print("| ");
+    print("| ");
     enableGraphicMode();
     for (char c = 64; c <= 95; c++) {
-      System.out.print(c + " ");
+      print(c + " ");
     }
     disableGraphicMode();
-    System.out.print("| ");
+    print("| ");
     enableGraphicMode();
     for (char c = 96; c <= 127; c++) {
-      System.out.print(c + " ");
+      print(c + " ");
     }
     disableGraphicMode();
-    System.out.println("|");
+    println("|");
 
     // Texto de Referncia
-    System.out.print("| ");
+    print("| ");
     for (char c = 64; c <= 95; c++) {
-      System.out.print(c + " ");
+      print(c + " ");
     }
-    System.out.print("| ");
+    print("| ");
     for (char c = 96; c <= 127; c++) {
-      System.out.print(c + " ");
+      print(c + " ");
     }
-    System.out.print("|");
-    System.out.println();
-    System.out.println("+-----------------------------------------------------------------+----------------------------------------------------------------+");
-    totalPartialLineWrote = 0;
+    print("|");
+    println("");
+    println("+-----------------------------------------------------------------+----------------------------------------------------------------+");
+    lineState.get().totalPartialLineWrote = 0;
   }
 
   /**
@@ -737,7 +1336,7 @@ public class Terminal {
     if (console == null) {
       throw new IllegalStateException("Console no disponvel. Execute em um terminal.");
     }
-    return console.readLine();
+    return record(console.readLine());
   }
 
   /**
@@ -754,7 +1353,44 @@ public class Terminal {
     if (console == null) {
       throw new IllegalStateException("Console no disponvel. Execute em um terminal.");
     }
-    return console.readLine(prompt);
+    return record(console.readLine(prompt));
+  }
+
+  /**
+   * Registra a linha lida no histrico definido em {@link #setHistory(CommandHistory)}, caso exista.<br>
+   * O histrico  um recurso auxiliar: uma falha ao grav-lo no impede a leitura da linha.
+   *
+   * @param line Linha lida.
+   * @return A prpria linha.
+   */
+  private static String record(String line) {
+    CommandHistory current = history;
+    if (current != null && line != null) {
+      try {
+        current.add(line);
+      } catch (RFWException e) {
+        // A linha continua sendo retornada, apenas no fica no histrico
+      }
+    }
+    return line;
+  }
+
+  /**
+   * Define o histrico onde as linhas lidas por {@link #readLine()} e {@link #readLine(String)} so registradas. As senhas nunca so registradas.
+   *
+   * @param commandHistory Histrico de comandos, ou null para no registrar as linhas lidas.
+   */
+  public static void setHistory(CommandHistory commandHistory) {
+    history = commandHistory;
+  }
+
+  /**
+   * Retorna o histrico definido em {@link #setHistory(CommandHistory)}.
+   *
+   * @return Histrico de comandos, ou null caso as linhas lidas no sejam registradas.
+   */
+  public static CommandHistory getHistory() {
+    return history;
   }
 
   /**
@@ -795,38 +1431,190 @@ public class Terminal {
   /**
    * Obtm o nmero de colunas do terminal, de acordo com o sistema operacional.
    * <p>
-   * Para sistemas Unix/Linux, utiliza o comando "stty size". Para sistemas Windows, utiliza uma chamada JNA na DLL Kernel32. Caso no seja possvel determinar o valor, o mtodo retornar o valor de {@link Terminal#getTerminalDefaultColumns()}.
+   * O tamanho do terminal  mantido em cache e s  consultado novamente quando o terminal  redimensionado (sinal SIGWINCH em Unix/Linux, ou verificao peridica quando o sinal no estiver disponvel). Para sistemas Linux, utiliza o ioctl(TIOCGWINSZ) da libc via JNA, e nos demais Unix o comando "stty size". Para sistemas Windows, utiliza uma chamada JNA na DLL Kernel32. Caso no seja possvel determinar o valor, o mtodo retornar o valor de {@link Terminal#getTerminalDefaultColumns()}.
    *
    * @return O nmero de colunas do terminal, ou valor de colunas padro se no for possvel determinar.
    */
   public static Integer getTerminalColumns() {
-    Integer cols = null;
+    return PreProcess.coalesce(TerminalSize.getColumns(), getTerminalDefaultColumns());
+  }
+
+  /**
+   * Obtm o nmero de linhas do terminal, de acordo com o sistema operacional.
+   * <p>
+   * Assim como {@link #getTerminalColumns()}, o valor  mantido em cache e atualizado apenas quando o terminal  redimensionado.
+   *
+   * @return O nmero de linhas do terminal, ou null se no for possvel determinar.
+   */
+  public static Integer getTerminalRows() {
+    return TerminalSize.getRows();
+  }
+
+  /**
+   * Fora uma nova consulta do tamanho do terminal, notificando os listeners caso o tamanho tenha sido alterado.<br>
+   * Normalmente no  necessrio chamar este mtodo, j que o cache  atualizado automaticamente quando o terminal  redimensionado.
+   */
+  public static void refreshTerminalSize() {
+    TerminalSize.refresh();
+  }
+
+  /**
+   * Adiciona um listener para ser notificado quando o tamanho do terminal for alterado, permitindo que layouts recalculem suas dimenses.
+   *
+   * @param listener Listener a ser notificado.
+   */
+  public static void addTerminalResizeListener(TerminalResizeListener listener) {
+    TerminalSize.addListener(listener);
+  }
+
+  /**
+   * Remove um listener adicionado em {@link #addTerminalResizeListener(TerminalResizeListener)}.
+   *
+   * @param listener Listener a ser removido.
+   */
+  public static void removeTerminalResizeListener(TerminalResizeListener listener) {
+    TerminalSize.removeListener(listener);
+  }
+
+  /**
+   * Define o intervalo, em milissegundos, da verificao peridica do tamanho do terminal.<br>
+   * A verificao peridica s  utilizada quando no for possvel tratar o sinal SIGWINCH, como no Windows.
+   *
+   * @param interval Intervalo em milissegundos. Padro 1000ms.
+   */
+  public static void setTerminalSizePollInterval(long interval) {
+    TerminalSize.setPollInterval(interval);
+  }
+
+  /**
+   * Consulta o tamanho do terminal diretamente no sistema operacional, sem utilizar o cache.
+   *
+   * @return Array com a quantidade de colunas na primeira posio e de linhas na segunda, ou null se no for possvel determinar.
+   */
+  static int[] queryTerminalSize() {
     try {
       String os = System.getProperty("os.name").toLowerCase();
       if (os.contains("win")) {
-        cols = getWindowsTerminalCols();
+        return getWindowsTerminalSize();
       } else {
-        cols = getUnixTerminalCols();
+        return getUnixTerminalSize();
       }
-    } catch (Exception e) {
+    } catch (Throwable e) {
+      return null;
     }
-    return PreProcess.coalesce(cols, getTerminalDefaultColumns());
   }
 
   /**
-   * Obtm o nmero de colunas do terminal em sistemas Unix/Linux.
+   * Obtm o tamanho do terminal em sistemas Unix/Linux.<br>
+   * No Linux o tamanho  obtido diretamente pelo ioctl(TIOCGWINSZ) da {@link LibC}, sem criar processos. Nos demais sistemas, ou caso a chamada nativa falhe, o "stty"  executado lendo do /dev/tty, j que a entrada padro do processo filho no  o terminal.
    *
-   * @return O nmero de colunas do terminal, ou null se no for possvel determinar.
+   * @return Array com a quantidade de colunas e de linhas do terminal, ou null se no for possvel determinar.
    */
-  private static Integer getUnixTerminalCols() {
+  private static int[] getUnixTerminalSize() {
+    if (libcAvailable) {
+      int[] size = getLinuxTerminalSize();
+      if (size != null) return size;
+    }
+    Process process = null;
     try {
-      Process process = Runtime.getRuntime().exec(new String[] { "sh", "-c", "stty size 2>/dev/null || echo 80 24" });
+      process = Runtime.getRuntime().exec(new String[] { "sh", "-c", "stty size < /dev/tty 2>/dev/null || echo 24 80" });
       try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-        String[] size = reader.readLine().split(" ");
-        return Integer.parseInt(size[1]); // Retorna o nmero de colunas (segundo valor)
+        String[] size = reader.readLine().trim().split(" +");
+        return new int[] { Integer.parseInt(size[1]), Integer.parseInt(size[0]) }; // O stty retorna "linhas colunas"
       }
     } catch (Exception e) {
       return null;
+    } finally {
+      if (process != null) {
+        try {
+          process.waitFor();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        process.destroy();
+      }
+    }
+  }
+
+  /**
+   * Obtm o tamanho do terminal usando JNA para chamar o ioctl(TIOCGWINSZ) da libc do Linux.<br>
+   * Consulta a sada padro, a entrada padro e a sada de erro, nesta ordem, utilizando a primeira que estiver associada a um terminal.
+   *
+   * @return Array com a quantidade de colunas e de linhas do terminal, ou null se no for possvel determinar.
+   */
+  private static int[] getLinuxTerminalSize() {
+    try {
+      LibC.winsize ws = new LibC.winsize();
+      NativeLong request = new NativeLong(LibC.TIOCGWINSZ);
+      for (int fd : new int[] { LibC.STDOUT_FILENO, LibC.STDIN_FILENO, LibC.STDERR_FILENO }) {
+        if (LibC.INSTANCE.ioctl(fd, request, ws) == 0 && ws.ws_col > 0) {
+          return new int[] { ws.ws_col & 0xFFFF, ws.ws_row & 0xFFFF };
+        }
+      }
+    } catch (Throwable e) {
+      libcAvailable = false; // Biblioteca no disponvel, no tentamos novamente
+    }
+    return null;
+  }
+
+  /**
+   * Verifica se a entrada e a sada padro da aplicao esto associadas a um terminal interativo.<br>
+   * No Linux utiliza o isatty() da libc. Nos demais sistemas verifica se o {@link System#console()} est disponvel.
+   *
+   * @return true caso a aplicao esteja rodando em um terminal interativo.
+   */
+  public static boolean isTerminal() {
+    if (libcAvailable) {
+      try {
+        return LibC.INSTANCE.isatty(LibC.STDIN_FILENO) == 1 && LibC.INSTANCE.isatty(LibC.STDOUT_FILENO) == 1;
+      } catch (Throwable e) {
+        libcAvailable = false;
+      }
+    }
+    return System.console() != null;
+  }
+
+  /**
+   * Coloca o terminal em modo "raw": cada tecla  entregue imediatamente  aplicao, sem esperar o ENTER, sem eco e sem o tratamento de teclas de controle (Ctrl+C, Ctrl+S, etc.).<br>
+   * Os atributos originais so salvos e podem ser restaurados com {@link #disableRawMode()}. Disponvel apenas no Linux.
+   *
+   * @throws RFWException Lanado caso o sistema no suporte o modo raw ou ocorra falha ao alterar os atributos do terminal.
+   */
+  public static synchronized void enableRawMode() throws RFWException {
+    if (!libcAvailable) throw new RFWCriticalException("Modo raw do terminal disponvel apenas no Linux!");
+    try {
+      LibC.termios current = new LibC.termios();
+      if (LibC.INSTANCE.tcgetattr(LibC.STDIN_FILENO, current) != 0) throw new RFWCriticalException("Falha ao obter os atributos do terminal!");
+      if (originalTermios == null) {
+        originalTermios = new LibC.termios();
+        originalTermios.copyFrom(current);
+      }
+      current.c_lflag &= ~(LibC.ECHO | LibC.ICANON | LibC.ISIG | LibC.IEXTEN);
+      current.c_iflag &= ~(LibC.IXON | LibC.ICRNL);
+      current.c_cc[LibC.VMIN] = 1;
+      current.c_cc[LibC.VTIME] = 0;
+      if (LibC.INSTANCE.tcsetattr(LibC.STDIN_FILENO, LibC.TCSAFLUSH, current) != 0) throw new RFWCriticalException("Falha ao definir os atributos do terminal!");
+    } catch (RFWException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao colocar o terminal em modo raw!", e);
+    }
+  }
+
+  /**
+   * Restaura os atributos do terminal salvos pelo {@link #enableRawMode()}. No faz nada caso o modo raw no tenha sido ativado.
+   *
+   * @throws RFWException Lanado caso ocorra falha ao restaurar os atributos do terminal.
+   */
+  public static synchronized void disableRawMode() throws RFWException {
+    if (originalTermios == null) return;
+    try {
+      if (LibC.INSTANCE.tcsetattr(LibC.STDIN_FILENO, LibC.TCSAFLUSH, originalTermios) != 0) throw new RFWCriticalException("Falha ao restaurar os atributos do terminal!");
+      originalTermios = null;
+    } catch (RFWException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao restaurar os atributos do terminal!", e);
     }
   }
 
@@ -836,11 +1624,21 @@ public class Terminal {
    * @return O nmero de colunas do terminal, ou null se no for possvel determinar.
    */
   public static Integer getWindowsTerminalCols() {
+    int[] size = getWindowsTerminalSize();
+    return size == null ? null : size[0];
+  }
+
+  /**
+   * Obtm o tamanho do terminal usando JNA para acessar o Windows API.
+   *
+   * @return Array com a quantidade de colunas e de linhas visveis do terminal, ou null se no for possvel determinar.
+   */
+  private static int[] getWindowsTerminalSize() {
     Kernel32.CONSOLE_SCREEN_BUFFER_INFO info = new Kernel32.CONSOLE_SCREEN_BUFFER_INFO();
     int hConsole = Kernel32.INSTANCE.GetStdHandle(Kernel32.STD_OUTPUT_HANDLE);
 
     if (Kernel32.INSTANCE.GetConsoleScreenBufferInfo(hConsole, info)) {
-      return (int) info.dwSize.X; // Retorna o nmero de colunas
+      return new int[] { info.dwSize.X, info.srWindow.Bottom - info.srWindow.Top + 1 };
     }
     return null; // Retorna null em caso de falha
   }
@@ -874,40 +1672,34 @@ public class Terminal {
    * @throws RFWException
    */
   public static void writeFigletCentralized(String text, Figlet.FigletFontType fontType) throws RFWException {
-    try {
-      // Gera a arte ASCII usando o Figlet
-      String asciiArt = Figlet.generateWithFont(text, fontType);
+    // Obtm o nmero de colunas do terminal
+    Integer terminalCols = getTerminalColumns();
 
-      // Obtm o nmero de colunas do terminal
-      Integer terminalCols = getTerminalColumns();
-
-      // Se no for possvel obter o nmero de colunas, usa o valor padro
-      if (terminalCols == null) {
-        terminalCols = getTerminalDefaultColumns();
-      }
-
-      // Centraliza a arte ASCII com base no nmero de colunas
-      String centeredArt = Figlet.centralize(asciiArt, terminalCols);
+    // Se no for possvel obter o nmero de colunas, usa o valor padro
+    if (terminalCols == null) {
+      terminalCols = getTerminalDefaultColumns();
+    }
 
-      // Imprime o resultado no console linha por linha com o comando para completar o restante da linha para garantir as cores de fundo quanto utilizadas
-      for (String line : centeredArt.split("\n")) {
-        System.out.println(line + ASCII_CLEAR_REMAINING_LINE);
-      }
-      totalPartialLineWrote = 0;
-    } catch (Exception e) {
-      throw new RFWCriticalException("Erro ao gerar ou centralizar a arte ASCII.", e);
+    // O banner j renderizado e centralizado para esta largura  reaproveitado do cache, cada linha j contm o comando para completar o restante da linha para garantir as cores de fundo quanto utilizadas
+    for (String line : FigletBannerCache.getLines(text, fontType, terminalCols)) {
+      println(line);
     }
+    lineState.get().totalPartialLineWrote = 0;
   }
 
   /**
-   * Escreve um contedo alinhado a direita na posio definida.
+   * Escreve um contedo alinhado a direita na posio definida.<br>
+   * O alinhamento considera as colunas ocupadas no terminal ({@link DisplayWidth}): sequncias de escape de cores no contam e caracteres largos contam duas colunas.
    *
    * @param text Texto a ser escrito a linhado a direita.
    * @param col Coluna de posio do texto.
    */
   public static void writeAlignedRight(String text, int col) {
-    System.out.println(RUString.completeUntilLengthLeft(" ", text, col - totalPartialLineWrote) + ASCII_CLEAR_REMAINING_LINE);
-    totalPartialLineWrote = 0;
+    LineState state = lineState.get();
+    StringBuilder line = new StringBuilder(Math.max(col, text.length()) + ASCII_CLEAR_REMAINING_LINE.length());
+    DisplayWidth.alignRight(line, text, col - state.totalPartialLineWrote);
+    println(line.append(ASCII_CLEAR_REMAINING_LINE).toString());
+    state.totalPartialLineWrote = 0;
   }
 
   /**
@@ -916,8 +1708,8 @@ public class Terminal {
    * @param pattern
    */
   public static void writeFullLine(String pattern) {
-    System.out.println(RUString.completeOrTruncateUntilLengthLeft(pattern, "", getTerminalColumns()) + ASCII_CLEAR_REMAINING_LINE);
-    totalPartialLineWrote = 0;
+    println(RUString.completeOrTruncateUntilLengthLeft(pattern, "", getTerminalColumns()) + ASCII_CLEAR_REMAINING_LINE);
+    lineState.get().totalPartialLineWrote = 0;
   }
 
   /**
@@ -926,8 +1718,20 @@ public class Terminal {
    * @param text
    */
   public static void write(String text) {
-    System.out.println(text + ASCII_CLEAR_REMAINING_LINE);
-    totalPartialLineWrote = 0;
+    println(text + ASCII_CLEAR_REMAINING_LINE);
+    lineState.get().totalPartialLineWrote = 0;
+  }
+
+  /**
+   * Escreve o contedo exatamente como informado, sem acrescentar quebra de linha nem o cdigo {@link #ASCII_CLEAR_REMAINING_LINE}.<br>
+   * Destinado a blocos de texto j prontos (por exemplo a sada capturada de um comando), que podem conter vrias linhas. No modo de linhas atmicas o bloco  publicado de uma s vez, sem se intercalar com as linhas de outras threads.
+   *
+   * @param content Contedo a ser escrito.
+   */
+  public static void writeContent(String content) {
+    if (content.isEmpty()) return;
+    print(content);
+    if (atomicLineOutput && frameWriter.get() == null) publishPendingLine(lineState.get());
   }
 
   /**
@@ -936,8 +1740,8 @@ public class Terminal {
    * @param text
    */
   public static void writePart(String text) {
-    System.out.print(text + ASCII_CLEAR_REMAINING_LINE);
-    totalPartialLineWrote += text.length();
+    print(text + ASCII_CLEAR_REMAINING_LINE);
+    lineState.get().totalPartialLineWrote += DisplayWidth.width(text);
   }
 
   /**
@@ -0,0 +1,22 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+/**
+ * Description: Interface para receber a notificao de que o tamanho do terminal foi alterado.<br>
+ * Permite que layouts recalculem suas dimenses quando o usurio redimensiona a janela do terminal.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+@FunctionalInterface
+public interface TerminalResizeListener {
+
+  /**
+   * Chamado quando o tamanho do terminal  alterado.<br>
+   * A chamada  feita pela thread de monitoramento do terminal (tratador do sinal SIGWINCH ou thread de verificao peridica), portanto a implementao deve ser rpida e thread-safe.
+   *
+   * @param columns Nova quantidade de colunas do terminal, ou null se no for possvel determinar.
+   * @param rows Nova quantidade de linhas do terminal, ou null se no for possvel determinar.
+   */
+  void terminalResized(Integer columns, Integer rows);
+
+}
@@ -0,0 +1,235 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Description: Cache do tamanho do terminal, atualizado apenas quando o terminal  redimensionado.<br>
+ * Consultar o tamanho do terminal  caro em alguns sistemas (em Unix/Linux  necessrio executar o "stty size" em um novo processo), por isso o tamanho  consultado uma nica vez e mantido em memria. A atualizao ocorre quando:
+ * <li>o sistema envia o sinal SIGWINCH (Unix/Linux), indicando que a janela foi redimensionada;
+ * <li>ou, quando no for possvel tratar o sinal (Windows ou JVM com sinais desabilitados), por uma thread daemon que verifica o tamanho periodicamente.
+ * <p>
+ * Esta classe  utilizada internamente pela {@link Terminal}, que expe os mtodos pblicos.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+final class TerminalSize {
+
+  /**
+   * Intervalo padro, em milissegundos, da verificao peridica utilizada quando o sinal SIGWINCH no est disponvel.
+   */
+  static final long DEFAULT_POLL_INTERVAL = 1000;
+
+  /**
+   * Colunas do terminal na ltima consulta, ou null caso no tenha sido possvel determinar.
+   */
+  private static volatile Integer columns = null;
+
+  /**
+   * Linhas do terminal na ltima consulta, ou null caso no tenha sido possvel determinar.
+   */
+  private static volatile Integer rows = null;
+
+  /**
+   * Indica se o tamanho j foi consultado e o monitoramento iniciado.
+   */
+  private static volatile boolean initialized = false;
+
+  /**
+   * Intervalo, em milissegundos, da verificao peridica.
+   */
+  private static volatile long pollInterval = DEFAULT_POLL_INTERVAL;
+
+  /**
+   * Thread de verificao peridica, quando em uso.
+   */
+  private static Thread pollThread = null;
+
+  /**
+   * Listeners notificados quando o tamanho do terminal  alterado.
+   */
+  private static final CopyOnWriteArrayList<TerminalResizeListener> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Construtor privado para classe esttica.
+   */
+  private TerminalSize() {
+  }
+
+  /**
+   * Retorna a quantidade de colunas do terminal em cache.
+   *
+   * @return Colunas do terminal, ou null caso no seja possvel determinar.
+   */
+  static Integer getColumns() {
+    ensureInitialized();
+    return columns;
+  }
+
+  /**
+   * Retorna a quantidade de linhas do terminal em cache.
+   *
+   * @return Linhas do terminal, ou null caso no seja possvel determinar.
+   */
+  static Integer getRows() {
+    ensureInitialized();
+    return rows;
+  }
+
+  /**
+   * Faz a primeira consulta do tamanho e inicia o monitoramento de redimensionamento.
+   */
+  private static void ensureInitialized() {
+    if (!initialized) {
+      synchronized (TerminalSize.class) {
+        if (!initialized) {
+          update(false);
+          if (!installSignalHandler()) startPolling();
+          initialized = true;
+        }
+      }
+    }
+  }
+
+  /**
+   * Consulta novamente o tamanho do terminal, notificando os listeners caso tenha sido alterado.
+   */
+  static void refresh() {
+    ensureInitialized();
+    update(true);
+  }
+
+  /**
+   * Consulta o tamanho do terminal e atualiza o cache.
+   *
+   * @param notify Indica se os listeners devem ser notificados caso o tamanho tenha mudado.
+   */
+  private static void update(boolean notify) {
+    int[] size = Terminal.queryTerminalSize();
+    Integer newColumns = size == null ? null : size[0];
+    Integer newRows = size == null ? null : size[1];
+    boolean changed;
+    synchronized (TerminalSize.class) {
+      changed = !equals(columns, newColumns) || !equals(rows, newRows);
+      columns = newColumns;
+      rows = newRows;
+    }
+    if (changed && notify) {
+      for (TerminalResizeListener listener : listeners) {
+        try {
+          listener.terminalResized(newColumns, newRows);
+        } catch (RuntimeException e) {
+          // Uma falha no listener no pode interromper o monitoramento nem os demais listeners
+        }
+      }
+    }
+  }
+
+  /**
+   * Compara dois valores que podem ser nulos.
+   */
+  private static boolean equals(Integer a, Integer b) {
+    return a == null ? b == null : a.equals(b);
+  }
+
+  /**
+   * Tenta registrar um tratador para o sinal SIGWINCH.<br>
+   * O registro  feito por reflexo pois as classes {@code sun.misc.Signal} e {@code sun.misc.SignalHandler} no fazem parte da API pblica e podem no existir em todas as JVMs.
+   *
+   * @return true caso o tratador tenha sido registrado.
+   */
+  private static boolean installSignalHandler() {
+    if (System.getProperty("os.name").toLowerCase().contains("win")) return false;
+    try {
+      Class<?> signalClass = Class.forName("sun.misc.Signal");
+      Class<?> handlerClass = Class.forName("sun.misc.SignalHandler");
+      Constructor<?> constructor = signalClass.getConstructor(String.class);
+      Object signal = constructor.newInstance("WINCH");
+      Object handler = Proxy.newProxyInstance(TerminalSize.class.getClassLoader(), new Class<?>[] { handlerClass }, new InvocationHandler() {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+          if ("handle".equals(method.getName())) {
+            update(true);
+            return null;
+          } else if ("hashCode".equals(method.getName())) {
+            return System.identityHashCode(proxy);
+          } else if ("equals".equals(method.getName())) {
+            return proxy == args[0];
+          } else if ("toString".equals(method.getName())) {
+            return "TerminalSize.SIGWINCH";
+          }
+          return null;
+        }
+      });
+      signalClass.getMethod("handle", signalClass, handlerClass).invoke(null, signal, handler);
+      return true;
+    } catch (Throwable e) {
+      // Sinal no suportado pela JVM ou pelo sistema, utilizamos a verificao peridica
+      return false;
+    }
+  }
+
+  /**
+   * Inicia a thread daemon de verificao peridica do tamanho do terminal.
+   */
+  private static synchronized void startPolling() {
+    if (pollThread != null) return;
+    pollThread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        while (true) {
+          try {
+            Thread.sleep(pollInterval);
+          } catch (InterruptedException e) {
+            return;
+          }
+          update(true);
+        }
+      }
+    }, "RFW.Terminal Resize Monitor");
+    pollThread.setDaemon(true);
+    pollThread.start();
+  }
+
+  /**
+   * Define o intervalo da verificao peridica, utilizada apenas quando o sinal SIGWINCH no est disponvel.
+   *
+   * @param interval Intervalo em milissegundos.
+   */
+  static void setPollInterval(long interval) {
+    if (interval <= 0) throw new IllegalArgumentException("O intervalo de verificao deve ser positivo.");
+    pollInterval = interval;
+  }
+
+  /**
+   * Retorna o intervalo da verificao peridica.
+   *
+   * @return Intervalo em milissegundos.
+   */
+  static long getPollInterval() {
+    return pollInterval;
+  }
+
+  /**
+   * Adiciona um listener para ser notificado quando o tamanho do terminal mudar.
+   *
+   * @param listener Listener a ser adicionado.
+   */
+  static void addListener(TerminalResizeListener listener) {
+    ensureInitialized();
+    listeners.addIfAbsent(listener);
+  }
+
+  /**
+   * Remove um listener previamente adicionado.
+   *
+   * @param listener Listener a ser removido.
+   */
+  static void removeListener(TerminalResizeListener listener) {
+    listeners.remove(listener);
+  }
+}
@@ -0,0 +1,404 @@
+package br.eng.rodrigogml.rfw.terminal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+
+/**
+ * Description: Acumulador de sada do terminal para montagem de "frames".<br>
+ * Todo o contedo (textos e cdigos de escape) escrito entre {@link #beginFrame()} e {@link #endFrame()}  acumulado em um buffer reutilizvel e enviado para a sada em uma nica escrita, evitando o efeito de "flicker" causado pelas centenas de pequenas escritas no {@link System#out}.<br>
+ * Enquanto o frame estiver aberto, todos os mtodos estticos de {@link Terminal} chamados pela mesma thread escrevem neste buffer ao invs de escrever diretamente na sada.
+ * <p>
+ * Esta classe no  thread-safe, cada thread deve utilizar sua prpria instncia.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class TerminalWriter implements Appendable {
+
+  /**
+   * Tamanho inicial do buffer de caracteres.
+   */
+  private static final int DEFAULT_CAPACITY = 8192;
+
+  /**
+   * Separador de linhas utilizado pelos mtodos {@code println}, o mesmo utilizado pelo {@link System#out}.
+   */
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  /**
+   * Sada onde o contedo acumulado ser escrito no {@link #flush()}.
+   */
+  private final OutputStream out;
+
+  /**
+   * Sada assncrona onde os frames sero submetidos, quando o writer for criado com {@link #TerminalWriter(AsyncTerminalOutput)}.
+   */
+  private final AsyncTerminalOutput async;
+
+  /**
+   * Encoder utilizado para converter os caracteres acumulados em bytes.
+   */
+  private final CharsetEncoder encoder;
+
+  /**
+   * Buffer de caracteres acumulados at o prximo {@link #flush()}.
+   */
+  private char[] chars;
+
+  /**
+   * Quantidade de caracteres vlidos em {@link #chars}.
+   */
+  private int length = 0;
+
+  /**
+   * Buffer de bytes reutilizado na codificao dos caracteres.
+   */
+  private ByteBuffer bytes;
+
+  /**
+   * Writer que estava associado  thread antes de {@link #beginFrame()}, restaurado no {@link #endFrame()}.
+   */
+  private TerminalWriter previousWriter = null;
+
+  /**
+   * Indica se este writer est com um frame aberto.
+   */
+  private boolean frameOpen = false;
+
+  /**
+   * Indica se o contedo acumulado redesenha a tela inteira. Veja {@link #markFullRedraw()}.
+   */
+  private boolean fullRedraw = false;
+
+  /**
+   * Estado conhecido de cores e formataes do terminal ao longo do frame, utilizado pela {@link Terminal} para no enviar comandos redundantes.
+   */
+  private final GraphicRendition rendition = new GraphicRendition();
+
+  /**
+   * Cria um novo writer que escreve no {@link System#out}, com o charset padro do sistema.
+   */
+  public TerminalWriter() {
+    this(System.out, Charset.defaultCharset());
+  }
+
+  /**
+   * Cria um novo writer que escreve na sada informada, com o charset padro do sistema.
+   *
+   * @param out Sada onde os frames sero escritos.
+   */
+  public TerminalWriter(OutputStream out) {
+    this(out, Charset.defaultCharset());
+  }
+
+  /**
+   * Cria um novo writer que escreve na sada informada.
+   *
+   * @param out Sada onde os frames sero escritos.
+   * @param charset Charset utilizado para converter o texto em bytes.
+   */
+  public TerminalWriter(OutputStream out, Charset charset) {
+    this.out = out;
+    this.async = null;
+    this.encoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.chars = new char[DEFAULT_CAPACITY];
+    this.bytes = ByteBuffer.allocate((int) (DEFAULT_CAPACITY * this.encoder.maxBytesPerChar()));
+  }
+
+  /**
+   * Cria um novo writer que submete cada frame, como uma unidade, para a sada assncrona informada.<br>
+   * Desta forma a thread que monta o frame no  bloqueada pela escrita no terminal, e a poltica {@link AsyncTerminalOutput.OverflowPolicy#COALESCE_FRAMES} pode descartar frames que ficaram obsoletos por um redesenho completo (veja {@link #markFullRedraw()}).
+   *
+   * @param async Sada assncrona onde os frames sero submetidos.
+   */
+  public TerminalWriter(AsyncTerminalOutput async) {
+    this.out = null;
+    this.async = async;
+    this.encoder = null;
+    this.chars = new char[DEFAULT_CAPACITY];
+    this.bytes = null;
+  }
+
+  /**
+   * Inicia um frame, associando este writer  thread atual.<br>
+   * A partir deste ponto todos os mtodos de {@link Terminal} chamados pela thread atual passam a escrever neste buffer, at que {@link #endFrame()} seja chamado.
+   *
+   * @return A prpria instncia, para encadeamento.
+   */
+  public TerminalWriter beginFrame() {
+    if (!this.frameOpen) {
+      this.rendition.invalidate(); // Entre um frame e outro o terminal pode ter sido alterado por outras escritas
+      this.previousWriter = Terminal.bindWriter(this);
+      this.frameOpen = true;
+    }
+    return this;
+  }
+
+  /**
+   * Encerra o frame aberto em {@link #beginFrame()}, desassociando este writer da thread atual e enviando todo o contedo acumulado para a sada em uma nica escrita.
+   *
+   * @throws RFWException Lanado caso ocorra alguma falha ao escrever na sada.
+   */
+  public void endFrame() throws RFWException {
+    if (this.frameOpen) {
+      Terminal.bindWriter(this.previousWriter);
+      this.previousWriter = null;
+      this.frameOpen = false;
+    }
+    flush();
+  }
+
+  /**
+   * Retorna o estado conhecido de cores e formataes do terminal ao longo do frame.
+   *
+   * @return Estado de cores e formataes.
+   */
+  GraphicRendition getRendition() {
+    return rendition;
+  }
+
+  /**
+   * Verifica se h um frame aberto neste writer.
+   *
+   * @return true caso {@link #beginFrame()} tenha sido chamado e o frame ainda no tenha sido encerrado.
+   */
+  public boolean isFrameOpen() {
+    return frameOpen;
+  }
+
+  /**
+   * Envia todo o contedo acumulado para a sada em uma nica escrita e limpa o buffer para reutilizao.
+   *
+   * @throws RFWException Lanado caso ocorra alguma falha ao escrever na sada.
+   */
+  public void flush() throws RFWException {
+    boolean full = this.fullRedraw;
+    this.fullRedraw = false;
+    if (this.length == 0) return;
+    if (this.async != null) {
+      this.async.submitFrame(new String(this.chars, 0, this.length), full);
+      this.length = 0;
+      return;
+    }
+    try {
+      CharBuffer in = CharBuffer.wrap(this.chars, 0, this.length);
+      int required = (int) (this.length * this.encoder.maxBytesPerChar());
+      if (this.bytes.capacity() < required) this.bytes = ByteBuffer.allocate(required);
+      this.bytes.clear();
+      this.encoder.reset();
+      CoderResult result = this.encoder.encode(in, this.bytes, true);
+      if (!result.isUnderflow()) result.throwException();
+      result = this.encoder.flush(this.bytes);
+      if (!result.isUnderflow()) result.throwException();
+
+      this.out.write(this.bytes.array(), 0, this.bytes.position());
+      this.out.flush();
+    } catch (IOException e) {
+      throw new RFWCriticalException("Falha ao escrever o contedo do terminal na sada!", e);
+    } finally {
+      this.length = 0;
+    }
+  }
+
+  /**
+   * Descarta todo o contedo acumulado sem envi-lo para a sada.
+   */
+  public void discard() {
+    this.length = 0;
+    this.fullRedraw = false;
+  }
+
+  /**
+   * Indica que o contedo acumulado at o prximo {@link #flush()} redesenha a tela inteira, como a apresentao de um {@link ScreenBuffer} invalidado.<br>
+   * Quando o writer submete os frames para uma {@link AsyncTerminalOutput}, somente os frames marcados desta forma podem substituir os frames ainda no escritos na poltica {@link AsyncTerminalOutput.OverflowPolicy#COALESCE_FRAMES}. Os demais frames (por exemplo as diferenas geradas pelo {@link ScreenBuffer}) nunca so descartados, j que dependem de todos os frames anteriores.
+   */
+  public void markFullRedraw() {
+    this.fullRedraw = true;
+  }
+
+  /**
+   * Retorna todo o contedo acumulado e limpa o buffer, sem enviar o contedo para a sada.<br>
+   * Permite capturar o que foi escrito durante um frame para que seja escrito depois, por exemplo na ordem dos comandos de um script executados em paralelo.
+   *
+   * @return Contedo acumulado.
+   */
+  public String takeContent() {
+    String content = new String(this.chars, 0, this.length);
+    this.length = 0;
+    this.fullRedraw = false;
+    return content;
+  }
+
+  /**
+   * Retorna a quantidade de caracteres acumulados e ainda no enviados para a sada.
+   *
+   * @return Quantidade de caracteres no buffer.
+   */
+  public int getBufferedLength() {
+    return length;
+  }
+
+  /**
+   * Garante que o buffer tenha espao para receber mais a quantidade de caracteres informada.
+   *
+   * @param additional Quantidade de caracteres que sero adicionados.
+   */
+  private void ensureCapacity(int additional) {
+    int required = this.length + additional;
+    if (required > this.chars.length) {
+      char[] newChars = new char[Math.max(required, this.chars.length << 1)];
+      System.arraycopy(this.chars, 0, newChars, 0, this.length);
+      this.chars = newChars;
+    }
+  }
+
+  @Override
+  public TerminalWriter append(CharSequence csq) {
+    if (csq == null) csq = "null";
+    return append(csq, 0, csq.length());
+  }
+
+  @Override
+  public TerminalWriter append(CharSequence csq, int start, int end) {
+    if (csq == null) csq = "null";
+    int len = end - start;
+    ensureCapacity(len);
+    if (csq instanceof String) {
+      ((String) csq).getChars(start, end, this.chars, this.length);
+      this.length += len;
+    } else {
+      for (int i = start; i < end; i++) {
+        this.chars[this.length++] = csq.charAt(i);
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public TerminalWriter append(char c) {
+    ensureCapacity(1);
+    this.chars[this.length++] = c;
+    return this;
+  }
+
+  /**
+   * Acrescenta parte de um array de caracteres ao buffer.
+   *
+   * @param src Array com os caracteres.
+   * @param offset Posio inicial no array.
+   * @param len Quantidade de caracteres a copiar.
+   * @return A prpria instncia, para encadeamento.
+   */
+  public TerminalWriter append(char[] src, int offset, int len) {
+    ensureCapacity(len);
+    System.arraycopy(src, offset, this.chars, this.length, len);
+    this.length += len;
+    return this;
+  }
+
+  /**
+   * Acrescenta ao buffer uma sequncia CSI de um parmetro no formato "ESC [ {valor} {final}", sem criar objetos intermedirios.
+   *
+   * @param value Parmetro numrico.
+   * @param finalChar Caractere que finaliza o comando.
+   * @return A prpria instncia, para encadeamento.
+   * @see EscapeSequenceEncoder#csi(char[], int, int, char)
+   */
+  public TerminalWriter appendCsi(int value, char finalChar) {
+    ensureCapacity(EscapeSequenceEncoder.MAX_SEQUENCE_LENGTH);
+    this.length = EscapeSequenceEncoder.csi(this.chars, this.length, value, finalChar);
+    return this;
+  }
+
+  /**
+   * Acrescenta ao buffer uma sequncia CSI de dois parmetros no formato "ESC [ {valor1} ; {valor2} {final}", sem criar objetos intermedirios.
+   *
+   * @param value1 Primeiro parmetro numrico.
+   * @param value2 Segundo parmetro numrico.
+   * @param finalChar Caractere que finaliza o comando.
+   * @return A prpria instncia, para encadeamento.
+   * @see EscapeSequenceEncoder#csi(char[], int, int, int, char)
+   */
+  public TerminalWriter appendCsi(int value1, int value2, char finalChar) {
+    ensureCapacity(EscapeSequenceEncoder.MAX_SEQUENCE_LENGTH);
+    this.length = EscapeSequenceEncoder.csi(this.chars, this.length, value1, value2, finalChar);
+    return this;
+  }
+
+  /**
+   * Acrescenta ao buffer o comando de cor de texto da paleta estendida, sem criar objetos intermedirios.
+   *
+   * @param colorCode Cdigo da cor (0-255).
+   * @return A prpria instncia, para encadeamento.
+   */
+  public TerminalWriter appendExtendedTextColor(int colorCode) {
+    ensureCapacity(EscapeSequenceEncoder.MAX_SEQUENCE_LENGTH);
+    this.length = EscapeSequenceEncoder.extendedTextColor(this.chars, this.length, colorCode);
+    return this;
+  }
+
+  /**
+   * Acrescenta ao buffer o comando de cor de fundo da paleta estendida, sem criar objetos intermedirios.
+   *
+   * @param colorCode Cdigo da cor (0-255).
+   * @return A prpria instncia, para encadeamento.
+   */
+  public TerminalWriter appendExtendedBackgroundColor(int colorCode) {
+    ensureCapacity(EscapeSequenceEncoder.MAX_SEQUENCE_LENGTH);
+    this.length = EscapeSequenceEncoder.extendedBackgroundColor(this.chars, this.length, colorCode);
+    return this;
+  }
+
+  /**
+   * Acrescenta ao buffer o comando de cor de texto em 24 bits, sem criar objetos intermedirios.
+   *
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return A prpria instncia, para encadeamento.
+   */
+  public TerminalWriter appendRgbTextColor(int rgb) {
+    ensureCapacity(EscapeSequenceEncoder.MAX_SEQUENCE_LENGTH);
+    this.length = EscapeSequenceEncoder.rgbTextColor(this.chars, this.length, rgb);
+    return this;
+  }
+
+  /**
+   * Acrescenta ao buffer o comando de cor de fundo em 24 bits, sem criar objetos intermedirios.
+   *
+   * @param rgb Cor no formato 0xRRGGBB.
+   * @return A prpria instncia, para encadeamento.
+   */
+  public TerminalWriter appendRgbBackgroundColor(int rgb) {
+    ensureCapacity(EscapeSequenceEncoder.MAX_SEQUENCE_LENGTH);
+    this.length = EscapeSequenceEncoder.rgbBackgroundColor(this.chars, this.length, rgb);
+    return this;
+  }
+
+  /**
+   * Acrescenta o texto ao buffer, equivalente ao {@code print()} do {@link System#out}.
+   *
+   * @param text Texto a ser acrescentado.
+   * @return A prpria instncia, para encadeamento.
+   */
+  public TerminalWriter print(String text) {
+    return append(text);
+  }
+
+  /**
+   * Acrescenta o texto seguido de uma quebra de linha ao buffer, equivalente ao {@code println()} do {@link System#out}.
+   *
+   * @param text Texto a ser acrescentado.
+   * @return A prpria instncia, para encadeamento.
+   */
+  public TerminalWriter println(String text) {
+    return append(text).append(LINE_SEPARATOR);
+  }
+}
@@ -0,0 +1,30 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Description: Declara que o atributo recebe um argumento posicional da linha de comando no {@link CommandParser#parse(String, Class)} e no {@link CommandParser#bind(CommandTokens, Object)}.<br>
+ * Os tipos aceitos e as converses so os mesmos do {@link CommandOption}. Um atributo do tipo {@link java.util.List} recebe todos os argumentos a partir do ndice declarado.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface CommandArgument {
+
+  /**
+   * ndice do argumento, iniciando em 0 no primeiro argumento da linha (que, em um {@link CommandRegistry},  o nome do comando).
+   */
+  int index();
+
+  /**
+   * Indica se o argumento precisa ser informado.
+   */
+  boolean required() default false;
+}
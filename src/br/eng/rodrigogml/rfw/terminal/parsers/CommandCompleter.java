@@ -0,0 +1,557 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandDefinition.Parameter;
+
+/**
+ * Description: Completa a linha de comando (por exemplo ao pressionar TAB) com os comandos de um {@link CommandRegistry}.<br>
+ * A linha at o cursor  interpretada pelo mesmo {@link CommandParser#tokenize(CharSequence, CommandTokens)} utilizado na execuo, de forma que o trecho completado  exatamente o token que o parser encontraria naquela posio:
+ * <li>O primeiro argumento  completado com os nomes e apelidos dos comandos;
+ * <li>Um trecho iniciado por hfen ("-x", "--long")  completado com os nomes dos parmetros do comando, mantendo os hfens informados;
+ * <li>O valor de um parmetro (depois do "=") e os demais argumentos so completados pelos {@link CompletionProvider} registrados em {@link #setParameterValues(String, String, CompletionProvider, long)} e {@link #setArgumentValues(String, int, CompletionProvider, long)}. Parmetros do tipo {@link CommandDefinition.ParameterType#BOOLEAN} sem provedor so completados com "true" e "false".
+ * <p>
+ * Os nomes dos comandos e parmetros so procurados nas rvores de prefixos do {@link CommandRegistry}. Os valores dos provedores ficam em cache, ordenados, e so procurados por busca binria, de forma que o tempo de cada consulta depende apenas da quantidade de sugestes retornadas ({@link #setMaxCandidates(int)}), e no da quantidade de valores. Quando o cache expira, os valores anteriores continuam sendo utilizados enquanto os novos valores so obtidos em segundo plano, e a digitao nunca espera por um provedor lento (exceto na primeira consulta de cada provedor).
+ * <p>
+ * Os provedores devem ser registrados antes da utilizao: depois de registrados, as consultas podem ser feitas por vrias threads ao mesmo tempo.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class CommandCompleter {
+
+  /**
+   * Quantidade padro de sugestes retornadas em cada consulta.
+   */
+  public static final int DEFAULT_MAX_CANDIDATES = 100;
+
+  /**
+   * Caractere acrescentado  linha na posio do cursor, para que o parser sempre produza um token nesta posio, mesmo quando nada foi digitado (por exemplo depois de um espao ou de um "=").
+   */
+  private static final char CURSOR = '\u0000';
+
+  private static final String CURSOR_STRING = String.valueOf(CURSOR);
+
+  /**
+   * Valores sugeridos para os parmetros do tipo {@link CommandDefinition.ParameterType#BOOLEAN}.
+   */
+  private static final String[] BOOLEAN_VALUES = { "false", "true" };
+
+  /**
+   * Estado reutilizado pelas consultas de cada thread.
+   */
+  private static final class State {
+    final StringBuilder line = new StringBuilder(128);
+    final CommandTokens tokens = new CommandTokens();
+  }
+
+  private final ThreadLocal<State> states = new ThreadLocal<State>() {
+    @Override
+    protected State initialValue() {
+      return new State();
+    }
+  };
+
+  /**
+   * Resultado de uma consulta.
+   */
+  public static class Completion {
+
+    private final int start;
+    private final int end;
+    private final String prefix;
+    private final List<String> candidates;
+    private final boolean truncated;
+    private final char quote;
+    private final boolean closeQuote;
+
+    /**
+     * Indica se as sugestes so nomes de comandos ou parmetros, que no precisam de aspas.
+     */
+    private final boolean names;
+
+    Completion(int start, int end, String prefix, List<String> candidates, boolean truncated, char quote, boolean closeQuote, boolean names) {
+      this.start = start;
+      this.end = end;
+      this.prefix = prefix;
+      this.candidates = candidates;
+      this.truncated = truncated;
+      this.quote = quote;
+      this.closeQuote = closeQuote;
+      this.names = names;
+    }
+
+    /**
+     * Retorna a posio inicial, na linha, do trecho a ser substitudo pela sugesto escolhida.
+     *
+     * @return Posio inicial do trecho (incluindo as aspas iniciais, quando houver).
+     */
+    public int getStart() {
+      return this.start;
+    }
+
+    /**
+     * Retorna a posio final (exclusiva), na linha, do trecho a ser substitudo pela sugesto escolhida.  sempre a posio do cursor.
+     *
+     * @return Posio final do trecho.
+     */
+    public int getEnd() {
+      return this.end;
+    }
+
+    /**
+     * Retorna o contedo j digitado do token que est sendo completado, sem aspas.
+     *
+     * @return Contedo digitado, que  o prefixo de todas as sugestes.
+     */
+    public String getPrefix() {
+      return this.prefix;
+    }
+
+    /**
+     * Retorna as sugestes, em ordem alfabtica.
+     *
+     * @return Lista no modificvel das sugestes.
+     */
+    public List<String> getCandidates() {
+      return this.candidates;
+    }
+
+    /**
+     * Indica se existem mais sugestes alm das retornadas, limitadas em {@link CommandCompleter#setMaxCandidates(int)}.
+     *
+     * @return true caso a lista de sugestes esteja incompleta.
+     */
+    public boolean isTruncated() {
+      return this.truncated;
+    }
+
+    /**
+     * Retorna o maior prefixo comum a todas as sugestes, que pode ser completado sem que o usurio precise escolher uma sugesto.
+     *
+     * @return Prefixo comum, ou o contedo digitado caso no haja sugestes.
+     */
+    public String getCommonPrefix() {
+      if (this.candidates.isEmpty()) return this.prefix;
+      String first = this.candidates.get(0);
+      int length = first.length();
+      for (int i = 1; i < this.candidates.size() && length > 0; i++) {
+        String candidate = this.candidates.get(i);
+        int j = 0;
+        int max = Math.min(length, candidate.length());
+        while (j < max && candidate.charAt(j) == first.charAt(j)) {
+          j++;
+        }
+        length = j;
+      }
+      return first.substring(0, length);
+    }
+
+    /**
+     * Retorna o texto que deve substituir o trecho entre {@link #getStart()} e {@link #getEnd()} para aplicar uma sugesto (ou o {@link #getCommonPrefix()}), j com as aspas e as barras de escape necessrias para que o parser interprete o valor sem alterao.
+     *
+     * @param candidate Sugesto escolhida.
+     * @return Texto a ser colocado na linha.
+     */
+    public String getReplacement(String candidate) {
+      char q = this.quote;
+      if (q == 0) {
+        if (this.names || !needsQuotes(candidate)) return candidate;
+        q = '"';
+      }
+      StringBuilder buff = new StringBuilder(candidate.length() + 4);
+      buff.append(q);
+      for (int i = 0; i < candidate.length(); i++) {
+        char c = candidate.charAt(i);
+        if (c == q) buff.append('\\');
+        buff.append(c);
+      }
+      if (this.quote == 0 || this.closeQuote) buff.append(q);
+      return buff.toString();
+    }
+
+    /**
+     * Verifica se o valor precisa estar entre aspas para ser interpretado pelo parser como um nico token.
+     */
+    private static boolean needsQuotes(String value) {
+      if (value.isEmpty() || value.charAt(0) == '-') return true;
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c == '"' || c == '\'' || c == '=' || Character.isWhitespace(c)) return true;
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Valores de um provedor, ordenados para a busca por prefixo.
+   */
+  private static final class Snapshot {
+    final String[] values;
+    final long loadedAt;
+
+    Snapshot(String[] values, long loadedAt) {
+      this.values = values;
+      this.loadedAt = loadedAt;
+    }
+  }
+
+  /**
+   * Cache dos valores de um provedor.
+   */
+  private final class CachedValues {
+    private final CompletionProvider provider;
+    private final long ttl;
+    private volatile Snapshot snapshot = null;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    CachedValues(CompletionProvider provider, long ttl) {
+      this.provider = provider;
+      this.ttl = ttl;
+    }
+
+    /**
+     * Retorna os valores do cache. Na primeira consulta os valores so obtidos na prpria thread. Depois de expirados, os valores atuais continuam sendo retornados enquanto os novos so obtidos em segundo plano.
+     */
+    String[] get() throws RFWException {
+      Snapshot current = this.snapshot;
+      if (current == null) {
+        synchronized (this) {
+          current = this.snapshot;
+          if (current == null) current = load();
+        }
+      } else if (this.ttl > 0 && System.nanoTime() - current.loadedAt > this.ttl && this.refreshing.compareAndSet(false, true)) {
+        getLoader().execute(new Runnable() {
+          @Override
+          public void run() {
+            try {
+              load();
+            } catch (RFWException | RuntimeException e) {
+              // Os valores anteriores continuam em uso, e uma nova tentativa  feita depois de mais um perodo de validade.
+              // O cache pode ter sido invalidado enquanto os valores eram obtidos: nesse caso continua vazio, e a prxima consulta obtm os valores na prpria thread
+              synchronized (CachedValues.this) {
+                Snapshot previous = CachedValues.this.snapshot;
+                if (previous != null) CachedValues.this.snapshot = new Snapshot(previous.values, System.nanoTime());
+              }
+            } finally {
+              CachedValues.this.refreshing.set(false);
+            }
+          }
+        });
+      }
+      return current.values;
+    }
+
+    private Snapshot load() throws RFWException {
+      Collection<String> values = this.provider.getValues();
+      String[] sorted = values == null ? new String[0] : values.toArray(new String[0]);
+      Arrays.sort(sorted);
+      // Remove os valores repetidos (e os nulos, que ficariam fora da ordenao)
+      int count = 0;
+      for (String value : sorted) {
+        if (value != null && (count == 0 || !value.equals(sorted[count - 1]))) sorted[count++] = value;
+      }
+      Snapshot loaded = new Snapshot(count == sorted.length ? sorted : Arrays.copyOf(sorted, count), System.nanoTime());
+      this.snapshot = loaded;
+      return loaded;
+    }
+
+    void invalidate() {
+      synchronized (this) {
+        this.snapshot = null;
+      }
+    }
+  }
+
+  private final CommandRegistry registry;
+
+  private volatile int maxCandidates = DEFAULT_MAX_CANDIDATES;
+
+  private final Map<Parameter, CachedValues> parameterValues = new ConcurrentHashMap<>();
+
+  private final Map<CommandDefinition, CachedValues[]> argumentValues = new ConcurrentHashMap<>();
+
+  /**
+   * Thread que obtm em segundo plano os valores dos caches expirados, criada na primeira utilizao.
+   */
+  private ExecutorService loader = null;
+
+  /**
+   * Cria o completador para os comandos do registro.
+   *
+   * @param registry Registro com os comandos.
+   */
+  public CommandCompleter(CommandRegistry registry) {
+    if (registry == null) throw new IllegalArgumentException("O registro de comandos no foi informado.");
+    this.registry = registry;
+  }
+
+  private synchronized ExecutorService getLoader() {
+    if (this.loader == null) {
+      this.loader = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+          Thread t = new Thread(r, "RFW.Terminal Completion Loader");
+          t.setDaemon(true);
+          return t;
+        }
+      });
+    }
+    return this.loader;
+  }
+
+  /**
+   * Define a quantidade mxima de sugestes retornadas em cada consulta. Por padro so {@value #DEFAULT_MAX_CANDIDATES}.
+   *
+   * @param maxCandidates Quantidade mxima de sugestes.
+   * @return Este completador, para encadear as chamadas.
+   */
+  public CommandCompleter setMaxCandidates(int maxCandidates) {
+    if (maxCandidates < 1) throw new IllegalArgumentException("A quantidade mxima de sugestes deve ser positiva: " + maxCandidates + ".");
+    this.maxCandidates = maxCandidates;
+    return this;
+  }
+
+  /**
+   * Retorna a quantidade mxima de sugestes retornadas em cada consulta.
+   *
+   * @return Quantidade mxima de sugestes.
+   */
+  public int getMaxCandidates() {
+    return this.maxCandidates;
+  }
+
+  private CommandDefinition command(String commandName) {
+    CommandDefinition command = this.registry.getCommand(commandName);
+    if (command == null) throw new IllegalArgumentException("O comando '" + commandName + "' no est registrado.");
+    return command;
+  }
+
+  /**
+   * Registra o provedor dos valores de um parmetro.
+   *
+   * @param commandName Nome ou apelido do comando, j registrado.
+   * @param parameterName Nome ou apelido do parmetro, sem os hfens.
+   * @param provider Provedor dos valores.
+   * @param ttl Tempo de validade dos valores em cache, em milissegundos, ou 0 para que os valores sejam obtidos uma nica vez.
+   * @return Este completador, para encadear as chamadas.
+   */
+  public CommandCompleter setParameterValues(String commandName, String parameterName, CompletionProvider provider, long ttl) {
+    CommandDefinition command = command(commandName);
+    Parameter parameter = command.getParameter(parameterName);
+    if (parameter == null) throw new IllegalArgumentException("O comando '" + command.getName() + "' no tem o parmetro '" + parameterName + "'.");
+    this.parameterValues.put(parameter, cache(provider, ttl));
+    return this;
+  }
+
+  /**
+   * Registra o provedor dos valores de um argumento posicional.
+   *
+   * @param commandName Nome ou apelido do comando, j registrado.
+   * @param index ndice do argumento, iniciando em 0 no primeiro argumento depois do nome do comando (o mesmo de {@link CommandInvocation#getArgument(int)}).
+   * @param provider Provedor dos valores.
+   * @param ttl Tempo de validade dos valores em cache, em milissegundos, ou 0 para que os valores sejam obtidos uma nica vez.
+   * @return Este completador, para encadear as chamadas.
+   */
+  public synchronized CommandCompleter setArgumentValues(String commandName, int index, CompletionProvider provider, long ttl) {
+    CommandDefinition command = command(commandName);
+    if (index < 0) throw new IllegalArgumentException("ndice de argumento invlido: " + index + ".");
+    CachedValues[] values = this.argumentValues.get(command);
+    values = values == null ? new CachedValues[index + 1] : Arrays.copyOf(values, Math.max(values.length, index + 1));
+    values[index] = cache(provider, ttl);
+    this.argumentValues.put(command, values);
+    return this;
+  }
+
+  private CachedValues cache(CompletionProvider provider, long ttl) {
+    if (provider == null) throw new IllegalArgumentException("O provedor de valores no foi informado.");
+    if (ttl < 0) throw new IllegalArgumentException("Tempo de validade invlido: " + ttl + ".");
+    return new CachedValues(provider, TimeUnit.MILLISECONDS.toNanos(ttl));
+  }
+
+  /**
+   * Descarta os valores em cache de todos os provedores. Os valores so obtidos novamente na prxima consulta de cada provedor.
+   */
+  public synchronized void invalidate() {
+    for (CachedValues values : this.parameterValues.values()) {
+      values.invalidate();
+    }
+    for (CachedValues[] values : this.argumentValues.values()) {
+      for (CachedValues value : values) {
+        if (value != null) value.invalidate();
+      }
+    }
+  }
+
+  /**
+   * Consulta as sugestes para o token na posio do cursor.
+   *
+   * @param line Linha de comando digitada.
+   * @param cursor Posio do cursor na linha. Apenas o contedo anterior ao cursor  considerado.
+   * @return Sugestes para o token, sem sugestes caso o contedo anterior ao cursor seja invlido ou no haja o que sugerir.
+   * @throws RFWException Lanado caso ocorra uma falha ao obter os valores de um provedor pela primeira vez.
+   */
+  public Completion complete(String line, int cursor) throws RFWException {
+    if (cursor < 0 || cursor > line.length()) throw new IllegalArgumentException("Posio do cursor invlida: " + cursor + ".");
+    State state = this.states.get();
+    StringBuilder text = state.line;
+    CommandTokens tokens = state.tokens;
+
+    // A linha at o cursor  interpretada com um caractere no lugar do cursor. Caso existam aspas abertas, elas so fechadas para que o parser aceite a linha
+    char quote = 0;
+    if (!tokenize(text, line, cursor, (char) 0, tokens)) {
+      if (tokenize(text, line, cursor, '"', tokens)) {
+        quote = '"';
+      } else if (tokenize(text, line, cursor, '\'', tokens)) {
+        quote = '\'';
+      } else {
+        return empty(cursor);
+      }
+    }
+    // O token completado  o que contm o caractere do cursor, sempre o ltimo. A exceo  o parmetro sem valor pendente no fim da linha, registrado como ltimo token mesmo quando aparece antes do cursor (ex: "deploy -force ap")
+    int token = tokens.getTokenCount() - 1;
+    if (token >= 0 && token == tokens.getTrailingFlagToken() && !tokens.getToken(token).endsWith(CURSOR_STRING)) token--;
+    if (token < 0) return empty(cursor);
+    String content = tokens.getToken(token);
+    if (content.charAt(content.length() - 1) != CURSOR) return empty(cursor);
+    String prefix = content.substring(0, content.length() - 1);
+    int start = tokens.getTokenStart(token);
+    if (quote != 0) {
+      // As aspas iniciais (e as barras de escape antes do primeiro caractere) tambm so substitudas
+      start--;
+      while (start > 0 && line.charAt(start) == '\\') {
+        start--;
+      }
+    }
+
+    List<String> candidates = new ArrayList<>();
+    int limit = this.maxCandidates;
+    boolean names = false;
+    switch (tokens.getTokenKind(token)) {
+      case ARGUMENT: {
+        int argument = tokens.getArgumentCount() - 1;
+        if (argument == 0) {
+          names = true;
+          this.registry.collectCommandNames(prefix, candidates, limit + 1);
+        } else {
+          CommandDefinition command = findCommand(tokens);
+          if (command != null) collectValues(argumentValues(command, argument - 1), prefix, candidates, limit + 1);
+        }
+        break;
+      }
+      case PARAMETER: {
+        names = true;
+        CommandDefinition command = findCommand(tokens);
+        if (command != null) {
+          int hyphens = 0;
+          while (hyphens < prefix.length() && prefix.charAt(hyphens) == '-') {
+            hyphens++;
+          }
+          command.parameterNames.collect(prefix.substring(hyphens), candidates, limit + 1);
+          String dashes = prefix.substring(0, hyphens);
+          for (int i = 0; i < candidates.size(); i++) {
+            candidates.set(i, dashes + candidates.get(i));
+          }
+        }
+        break;
+      }
+      case VALUE: {
+        CommandDefinition command = findCommand(tokens);
+        Parameter parameter = command == null ? null : findParameter(command, tokens, token - 1);
+        if (parameter != null) {
+          CachedValues cached = this.parameterValues.get(parameter);
+          if (cached != null) {
+            collectValues(cached.get(), prefix, candidates, limit + 1);
+          } else if (parameter.getType() == CommandDefinition.ParameterType.BOOLEAN) {
+            collectValues(BOOLEAN_VALUES, prefix, candidates, limit + 1);
+          }
+        }
+        break;
+      }
+    }
+
+    boolean truncated = candidates.size() > limit;
+    if (truncated) candidates.remove(limit);
+    return new Completion(start, cursor, prefix, Collections.unmodifiableList(candidates), truncated, quote, quote != 0 && cursor == line.length(), names);
+  }
+
+  private static Completion empty(int cursor) {
+    return new Completion(cursor, cursor, "", Collections.<String> emptyList(), false, (char) 0, false, false);
+  }
+
+  /**
+   * Interpreta a linha at o cursor, acrescentando o caractere do cursor e, quando informadas, as aspas de fechamento.
+   *
+   * @return false caso a linha no possa ser interpretada.
+   */
+  private static boolean tokenize(StringBuilder text, String line, int cursor, char closeQuote, CommandTokens tokens) {
+    text.setLength(0);
+    text.append(line, 0, cursor).append(CURSOR);
+    if (closeQuote != 0) text.append(closeQuote);
+    try {
+      CommandParser.tokenize(text, tokens);
+      return true;
+    } catch (RFWException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Localiza o comando da linha, pelo primeiro argumento.
+   *
+   * @return Comando, ou null caso o primeiro argumento no corresponda a um comando.
+   */
+  private CommandDefinition findCommand(CommandTokens tokens) {
+    if (tokens.getArgumentCount() == 0) return null;
+    try {
+      return this.registry.findCommand(tokens.getToken(tokens.getArgumentToken(0)));
+    } catch (RFWException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Localiza o parmetro do token, considerando as abreviaes sem ambiguidade.
+   */
+  private static Parameter findParameter(CommandDefinition command, CommandTokens tokens, int token) {
+    String name = tokens.getToken(token);
+    int start = 0;
+    while (start < name.length() && name.charAt(start) == '-') {
+      start++;
+    }
+    if (start == name.length()) return null;
+    NameTrie.Node<Parameter> node = command.parameterNames.node(name, start, name.length());
+    if (node == null) return null;
+    return node.value != null ? node.value : node.unique;
+  }
+
+  private String[] argumentValues(CommandDefinition command, int index) throws RFWException {
+    CachedValues[] values = this.argumentValues.get(command);
+    if (values == null || index >= values.length || values[index] == null) return null;
+    return values[index].get();
+  }
+
+  /**
+   * Acrescenta  lista os valores que comeam com o prefixo. Os valores esto ordenados: a busca binria encontra o primeiro valor com o prefixo, e os demais esto logo em seguida.
+   */
+  private static void collectValues(String[] values, String prefix, List<String> candidates, int limit) {
+    if (values == null) return;
+    int i = Arrays.binarySearch(values, prefix);
+    if (i < 0) i = -i - 1;
+    for (; i < values.length && candidates.size() < limit && values[i].startsWith(prefix); i++) {
+      candidates.add(values[i]);
+    }
+  }
+}
@@ -0,0 +1,404 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Description: Definio de um comando do {@link CommandRegistry}: nome, apelidos, argumentos posicionais aceitos e o esquema dos parmetros (tipo, valor padro e obrigatoriedade).<br>
+ * A definio  montada com os mtodos encadeados e compilada uma nica vez no registro ({@link CommandRegistry#register(CommandDefinition)}): os nomes dos parmetros so indexados em uma rvore de prefixos e os valores padro j so convertidos para o seu tipo. Depois de registrada a definio no pode mais ser alterada.
+ * <p>
+ * Os nomes dos parmetros so declarados sem os hfens: o parmetro "force"  informado na linha de comando como "-force" ou "--force".
+ *
+ * <pre>
+ * registry.register(new CommandDefinition("deploy", handler)
+ *     .addAlias("dp")
+ *     .setArguments(1, 1)
+ *     .addParameter("env", ParameterType.STRING, true, null)
+ *     .addParameter("timeout", ParameterType.INTEGER, false, "30", "t")
+ *     .addParameter("force", ParameterType.BOOLEAN, false, "false", "f"));
+ * </pre>
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class CommandDefinition {
+
+  /**
+   * Tipos dos valores dos parmetros.
+   */
+  public enum ParameterType {
+    /**
+     * Texto, sem converso.
+     */
+    STRING {
+      @Override
+      Object convert(String value) {
+        return value;
+      }
+    },
+    /**
+     * Nmero inteiro ({@link Integer}).
+     */
+    INTEGER {
+      @Override
+      Object convert(String value) {
+        return Integer.valueOf(value.trim());
+      }
+    },
+    /**
+     * Nmero inteiro longo ({@link Long}).
+     */
+    LONG {
+      @Override
+      Object convert(String value) {
+        return Long.valueOf(value.trim());
+      }
+    },
+    /**
+     * Nmero decimal ({@link BigDecimal}).
+     */
+    DECIMAL {
+      @Override
+      Object convert(String value) {
+        return new BigDecimal(value.trim());
+      }
+    },
+    /**
+     * Valor lgico ({@link Boolean}): "true" ou "false", sem diferenciar maisculas. O parmetro informado sem valor (por exemplo "-force")  verdadeiro.
+     */
+    BOOLEAN {
+      @Override
+      Object convert(String value) {
+        String v = value.trim();
+        if ("true".equalsIgnoreCase(v)) return Boolean.TRUE;
+        if ("false".equalsIgnoreCase(v)) return Boolean.FALSE;
+        throw new IllegalArgumentException();
+      }
+    };
+
+    /**
+     * Converte o valor recebido na linha de comando.
+     *
+     * @throws IllegalArgumentException Lanado caso o valor no seja vlido para o tipo.
+     */
+    abstract Object convert(String value);
+  }
+
+  /**
+   * Definio de um parmetro do comando.
+   */
+  public static final class Parameter {
+
+    private final String name;
+    private final String[] aliases;
+    private final ParameterType type;
+    private final boolean required;
+    private final String defaultValue;
+
+    /**
+     * Posio do parmetro na definio do comando, utilizada como ndice dos valores do {@link CommandInvocation}.
+     */
+    final int index;
+
+    /**
+     * Valor padro j convertido.
+     */
+    final Object defaultObject;
+
+    Parameter(int index, String name, ParameterType type, boolean required, String defaultValue, String[] aliases) {
+      this.index = index;
+      this.name = name;
+      this.type = type;
+      this.required = required;
+      this.defaultValue = defaultValue;
+      this.aliases = aliases.clone();
+      try {
+        this.defaultObject = defaultValue == null ? null : type.convert(defaultValue);
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("O valor padro '" + defaultValue + "' do parmetro '" + name + "' no  vlido para o tipo " + type + ".", e);
+      }
+    }
+
+    /**
+     * Retorna o nome do parmetro, sem os hfens.
+     *
+     * @return Nome do parmetro.
+     */
+    public String getName() {
+      return this.name;
+    }
+
+    /**
+     * Retorna os apelidos do parmetro, sem os hfens.
+     *
+     * @return Cpia da lista de apelidos.
+     */
+    public String[] getAliases() {
+      return this.aliases.clone();
+    }
+
+    /**
+     * Retorna o tipo do valor do parmetro.
+     *
+     * @return Tipo do parmetro.
+     */
+    public ParameterType getType() {
+      return this.type;
+    }
+
+    /**
+     * Indica se o parmetro precisa ser informado.
+     *
+     * @return true caso o parmetro seja obrigatrio.
+     */
+    public boolean isRequired() {
+      return this.required;
+    }
+
+    /**
+     * Retorna o valor padro, utilizado quando o parmetro no  informado.
+     *
+     * @return Valor padro, como declarado, ou null.
+     */
+    public String getDefaultValue() {
+      return this.defaultValue;
+    }
+  }
+
+  private final String name;
+  private final CommandHandler handler;
+  private final List<String> aliases = new ArrayList<>();
+  private final List<Parameter> parameters = new ArrayList<>();
+  private String description = null;
+  private int minArguments = 0;
+  private int maxArguments = -1;
+  private ResourceResolver resourceResolver = null;
+
+  /**
+   * rvore dos nomes e apelidos dos parmetros, montada no registro do comando.
+   */
+  NameTrie<Parameter> parameterNames = null;
+
+  /**
+   * Parmetros obrigatrios, montado no registro do comando.
+   */
+  Parameter[] requiredParameters = null;
+
+  /**
+   * Cria a definio de um comando.
+   *
+   * @param name Nome do comando.
+   * @param handler Implementao do comando.
+   */
+  public CommandDefinition(String name, CommandHandler handler) {
+    checkName(name);
+    if (handler == null) throw new IllegalArgumentException("A implementao do comando '" + name + "' no foi informada.");
+    this.name = name;
+    this.handler = handler;
+  }
+
+  private static void checkName(String name) {
+    if (name == null || name.isEmpty()) throw new IllegalArgumentException("O nome no pode ser vazio.");
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (Character.isWhitespace(c) || c == '"' || c == '\'' || c == '=') throw new IllegalArgumentException("Nome invlido: '" + name + "'.");
+    }
+  }
+
+  private static void checkParameterName(String name) {
+    checkName(name);
+    if (name.charAt(0) == '-') throw new IllegalArgumentException("O nome do parmetro deve ser declarado sem os hfens: '" + name + "'.");
+  }
+
+  private void checkChangeable() {
+    if (this.parameterNames != null) throw new IllegalStateException("O comando '" + this.name + "' j foi registrado e no pode ser alterado.");
+  }
+
+  /**
+   * Adiciona um apelido ao comando.
+   *
+   * @param alias Nome alternativo do comando.
+   * @return Esta definio, para encadear as chamadas.
+   */
+  public CommandDefinition addAlias(String alias) {
+    checkChangeable();
+    checkName(alias);
+    this.aliases.add(alias);
+    return this;
+  }
+
+  /**
+   * Define a descrio do comando, para exibio em ajudas.
+   *
+   * @param description Descrio do comando.
+   * @return Esta definio, para encadear as chamadas.
+   */
+  public CommandDefinition setDescription(String description) {
+    checkChangeable();
+    this.description = description;
+    return this;
+  }
+
+  /**
+   * Define a quantidade de argumentos posicionais aceitos pelo comando (sem contar o prprio nome do comando). Por padro o comando aceita qualquer quantidade.
+   *
+   * @param min Quantidade mnima de argumentos.
+   * @param max Quantidade mxima de argumentos, ou -1 para no limitar.
+   * @return Esta definio, para encadear as chamadas.
+   */
+  public CommandDefinition setArguments(int min, int max) {
+    checkChangeable();
+    if (min < 0 || (max >= 0 && max < min)) throw new IllegalArgumentException("Quantidade de argumentos invlida: " + min + " a " + max + ".");
+    this.minArguments = min;
+    this.maxArguments = max;
+    return this;
+  }
+
+  /**
+   * Define os recursos utilizados pelo comando, considerados pelo {@link CommandScriptExecutor} para no executar ao mesmo tempo comandos que utilizam o mesmo recurso. Por padro o comando no declara nenhum recurso.
+   *
+   * @param resourceResolver Resolvedor dos recursos de cada execuo do comando, ou null.
+   * @return Esta definio, para encadear as chamadas.
+   */
+  public CommandDefinition setResourceResolver(ResourceResolver resourceResolver) {
+    checkChangeable();
+    this.resourceResolver = resourceResolver;
+    return this;
+  }
+
+  /**
+   * Adiciona um parmetro ao esquema do comando.
+   *
+   * @param name Nome do parmetro, sem os hfens.
+   * @param type Tipo do valor.
+   * @param required Indica se o parmetro precisa ser informado.
+   * @param defaultValue Valor padro, utilizado quando o parmetro no  informado, ou null.
+   * @param aliases Nomes alternativos do parmetro, sem os hfens.
+   * @return Esta definio, para encadear as chamadas.
+   * @throws IllegalArgumentException Lanado caso o valor padro no seja vlido para o tipo.
+   */
+  public CommandDefinition addParameter(String name, ParameterType type, boolean required, String defaultValue, String... aliases) {
+    checkChangeable();
+    checkParameterName(name);
+    for (String alias : aliases) {
+      checkParameterName(alias);
+    }
+    if (type == null) throw new IllegalArgumentException("O tipo do parmetro '" + name + "' no foi informado.");
+    this.parameters.add(new Parameter(this.parameters.size(), name, type, required, defaultValue, aliases));
+    return this;
+  }
+
+  /**
+   * Compila o esquema dos parmetros. Chamado uma nica vez, no registro do comando.
+   */
+  synchronized void compile() {
+    checkChangeable();
+    NameTrie<Parameter> names = new NameTrie<>();
+    List<Parameter> required = new ArrayList<>();
+    for (Parameter parameter : this.parameters) {
+      register(names, parameter.name, parameter);
+      for (String alias : parameter.aliases) {
+        register(names, alias, parameter);
+      }
+      if (parameter.required) required.add(parameter);
+    }
+    this.requiredParameters = required.toArray(new Parameter[0]);
+    this.parameterNames = names;
+  }
+
+  private void register(NameTrie<Parameter> names, String name, Parameter parameter) {
+    Parameter current = names.put(name, parameter);
+    if (current != null && current != parameter) throw new IllegalArgumentException("O nome '" + name + "' foi declarado para mais de um parmetro do comando '" + this.name + "'.");
+  }
+
+  /**
+   * Retorna o nome do comando.
+   *
+   * @return Nome do comando.
+   */
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Retorna os apelidos do comando.
+   *
+   * @return Lista no modificvel dos apelidos.
+   */
+  public List<String> getAliases() {
+    return Collections.unmodifiableList(this.aliases);
+  }
+
+  /**
+   * Retorna a descrio do comando.
+   *
+   * @return Descrio, ou null caso no tenha sido definida.
+   */
+  public String getDescription() {
+    return this.description;
+  }
+
+  /**
+   * Retorna a implementao do comando.
+   *
+   * @return Implementao do comando.
+   */
+  public CommandHandler getHandler() {
+    return this.handler;
+  }
+
+  /**
+   * Retorna o resolvedor dos recursos utilizados pelo comando.
+   *
+   * @return Resolvedor dos recursos, ou null caso o comando no declare recursos.
+   */
+  public ResourceResolver getResourceResolver() {
+    return this.resourceResolver;
+  }
+
+  /**
+   * Retorna a quantidade mnima de argumentos posicionais.
+   *
+   * @return Quantidade mnima.
+   */
+  public int getMinArguments() {
+    return this.minArguments;
+  }
+
+  /**
+   * Retorna a quantidade mxima de argumentos posicionais.
+   *
+   * @return Quantidade mxima, ou -1 caso no haja limite.
+   */
+  public int getMaxArguments() {
+    return this.maxArguments;
+  }
+
+  /**
+   * Retorna os parmetros do comando, na ordem em que foram declarados.
+   *
+   * @return Lista no modificvel dos parmetros.
+   */
+  public List<Parameter> getParameters() {
+    return Collections.unmodifiableList(this.parameters);
+  }
+
+  /**
+   * Localiza um parmetro pelo nome ou apelido exatos, sem os hfens.
+   *
+   * @param name Nome do parmetro.
+   * @return Definio do parmetro, ou null caso o comando no tenha o parmetro.
+   */
+  public Parameter getParameter(String name) {
+    if (this.parameterNames != null) return this.parameterNames.get(name, 0, name.length());
+    for (Parameter parameter : this.parameters) {
+      if (parameter.name.equals(name)) return parameter;
+      for (String alias : parameter.aliases) {
+        if (alias.equals(name)) return parameter;
+      }
+    }
+    return null;
+  }
+}
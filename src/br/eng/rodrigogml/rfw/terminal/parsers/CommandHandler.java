@@ -0,0 +1,20 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+
+/**
+ * Description: Implementao de um comando registrado no {@link CommandRegistry}.<br>
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public interface CommandHandler {
+
+  /**
+   * Executa o comando.
+   *
+   * @param invocation Comando recebido, com os argumentos e os parmetros j validados e convertidos conforme a definio do comando.
+   * @throws RFWException Lanado em caso de falha na execuo do comando.
+   */
+  void execute(CommandInvocation invocation) throws RFWException;
+}
@@ -0,0 +1,153 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandDefinition.Parameter;
+
+/**
+ * Description: Comando recebido pelo {@link CommandRegistry}, j validado conforme a sua {@link CommandDefinition}: os argumentos posicionais (sem o nome do comando) e os valores dos parmetros convertidos para os seus tipos, com os valores padro aplicados.<br>
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class CommandInvocation {
+
+  private final CommandDefinition definition;
+  private final String commandName;
+  private final String[] arguments;
+  private final Object[] values;
+  private final boolean[] present;
+
+  CommandInvocation(CommandDefinition definition, String commandName, String[] arguments, Object[] values, boolean[] present) {
+    this.definition = definition;
+    this.commandName = commandName;
+    this.arguments = arguments;
+    this.values = values;
+    this.present = present;
+  }
+
+  /**
+   * Retorna a definio do comando executado.
+   *
+   * @return Definio do comando.
+   */
+  public CommandDefinition getDefinition() {
+    return this.definition;
+  }
+
+  /**
+   * Retorna o nome do comando como informado na linha de comando, que pode ser um apelido ou uma abreviao.
+   *
+   * @return Nome informado.
+   */
+  public String getCommandName() {
+    return this.commandName;
+  }
+
+  /**
+   * Retorna a quantidade de argumentos posicionais, sem contar o nome do comando.
+   *
+   * @return Quantidade de argumentos.
+   */
+  public int getArgumentCount() {
+    return this.arguments.length;
+  }
+
+  /**
+   * Retorna um argumento posicional.
+   *
+   * @param index ndice do argumento, iniciando em 0 no primeiro argumento depois do nome do comando.
+   * @return Argumento.
+   */
+  public String getArgument(int index) {
+    return this.arguments[index];
+  }
+
+  /**
+   * Retorna os argumentos posicionais, sem o nome do comando.
+   *
+   * @return Lista no modificvel dos argumentos.
+   */
+  public List<String> getArguments() {
+    return Collections.unmodifiableList(Arrays.asList(this.arguments));
+  }
+
+  private Parameter parameter(String name) {
+    Parameter parameter = this.definition.getParameter(name);
+    if (parameter == null) throw new IllegalArgumentException("O comando '" + this.definition.getName() + "' no tem o parmetro '" + name + "'.");
+    return parameter;
+  }
+
+  /**
+   * Indica se o parmetro foi informado na linha de comando (e no obtido do valor padro).
+   *
+   * @param name Nome ou apelido do parmetro, sem os hfens.
+   * @return true caso o parmetro tenha sido informado.
+   */
+  public boolean isPresent(String name) {
+    return this.present[parameter(name).index];
+  }
+
+  /**
+   * Retorna o valor de um parmetro, j convertido para o tipo declarado.
+   *
+   * @param name Nome ou apelido do parmetro, sem os hfens.
+   * @return Valor informado, ou o valor padro caso o parmetro no tenha sido informado (null caso no tenha valor padro).
+   */
+  public Object get(String name) {
+    return this.values[parameter(name).index];
+  }
+
+  /**
+   * Retorna o valor de um parmetro do tipo {@link CommandDefinition.ParameterType#STRING}.
+   *
+   * @param name Nome ou apelido do parmetro, sem os hfens.
+   * @return Valor do parmetro, ou null.
+   */
+  public String getString(String name) {
+    return (String) get(name);
+  }
+
+  /**
+   * Retorna o valor de um parmetro do tipo {@link CommandDefinition.ParameterType#INTEGER}.
+   *
+   * @param name Nome ou apelido do parmetro, sem os hfens.
+   * @return Valor do parmetro, ou null.
+   */
+  public Integer getInteger(String name) {
+    return (Integer) get(name);
+  }
+
+  /**
+   * Retorna o valor de um parmetro do tipo {@link CommandDefinition.ParameterType#LONG}.
+   *
+   * @param name Nome ou apelido do parmetro, sem os hfens.
+   * @return Valor do parmetro, ou null.
+   */
+  public Long getLong(String name) {
+    return (Long) get(name);
+  }
+
+  /**
+   * Retorna o valor de um parmetro do tipo {@link CommandDefinition.ParameterType#DECIMAL}.
+   *
+   * @param name Nome ou apelido do parmetro, sem os hfens.
+   * @return Valor do parmetro, ou null.
+   */
+  public BigDecimal getDecimal(String name) {
+    return (BigDecimal) get(name);
+  }
+
+  /**
+   * Retorna o valor de um parmetro do tipo {@link CommandDefinition.ParameterType#BOOLEAN}.
+   *
+   * @param name Nome ou apelido do parmetro, sem os hfens.
+   * @return Valor do parmetro, ou false caso o parmetro no tenha sido informado nem tenha valor padro.
+   */
+  public boolean getBoolean(String name) {
+    return Boolean.TRUE.equals(get(name));
+  }
+}
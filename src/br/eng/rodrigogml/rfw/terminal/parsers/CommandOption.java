@@ -0,0 +1,43 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Description: Declara que o atributo recebe o valor de um parmetro da linha de comando no {@link CommandParser#parse(String, Class)} e no {@link CommandParser#bind(CommandTokens, Object)}.<br>
+ * O valor  convertido conforme o tipo do atributo:
+ * <li>String;
+ * <li>Nmeros: int, long, short, byte, double, float (e os seus wrappers), {@link java.math.BigInteger} e {@link java.math.BigDecimal};
+ * <li>boolean/Boolean: "true" ou "false", ou o parmetro sem valor (por exemplo "-force"), que  verdadeiro;
+ * <li>Enums: o nome da constante, sem diferenciar maisculas;
+ * <li>{@link java.time.Duration}: no formato ISO-8601 ("PT30S") ou um nmero com unidade ("500ms", "30s", "5m", "2h", "1d"). Um nmero sem unidade  considerado em segundos;
+ * <li>{@link java.util.List} de qualquer um dos tipos acima: o parmetro pode ser repetido e cada valor pode conter vrios itens separados por vrgula ("-host=a,b -host=c").
+ * <p>
+ * O valor inicial do atributo  mantido quando o parmetro no  informado, servindo como valor padro.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface CommandOption {
+
+  /**
+   * Nome do parmetro, sem os hfens. Quando no informado,  utilizado o nome do atributo.
+   */
+  String name() default "";
+
+  /**
+   * Nomes alternativos do parmetro, sem os hfens.
+   */
+  String[] aliases() default {};
+
+  /**
+   * Indica se o parmetro precisa ser informado.
+   */
+  boolean required() default false;
+}
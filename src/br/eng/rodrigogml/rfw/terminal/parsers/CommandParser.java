@@ -34,11 +34,72 @@ public class CommandParser {
    * @throws RFWValidationException Lanado em caso de falha de estrutura do comando detectado.
    */
   public static ParsedCommand parse(String commandLine) throws RFWException {
-    ParsedCommand result = new ParsedCommand();
-    StringBuilder currentArgument = new StringBuilder();
-    StringBuilder currentParamName = new StringBuilder();
-    StringBuilder currentParamValue = new StringBuilder();
-    String penddingParam = null;
+    CommandTokens tokens = new CommandTokens();
+    tokenize(commandLine, tokens);
+    return tokens.toParsedCommand();
+  }
+
+  /**
+   * Realiza o parser da linha de comando e preenche uma nova instncia da classe de opes com os argumentos e parmetros recebidos, j convertidos para os tipos dos atributos.<br>
+   * Os atributos so declarados com {@link CommandOption} e {@link CommandArgument}. A classe  analisada uma nica vez e os seus setters ficam em cache, de forma que o custo de cada chamada  praticamente o do prprio parser.
+   *
+   * <pre>
+   * public class DeployOptions {
+   *   &#64;CommandArgument(index = 1, required = true)
+   *   String app;
+   *   &#64;CommandOption(required = true)
+   *   Environment env;
+   *   &#64;CommandOption(aliases = "t")
+   *   Duration timeout = Duration.ofSeconds(30);
+   *   &#64;CommandOption
+   *   boolean force;
+   *   &#64;CommandOption(name = "host")
+   *   List&lt;String&gt; hosts;
+   * }
+   *
+   * DeployOptions options = CommandParser.parse("deploy app1 -env=prod -t=2m -force -host=a,b", DeployOptions.class);
+   * </pre>
+   *
+   * @param commandLine linha de comando para realizar o parser
+   * @param optionsClass Classe de opes, com um construtor sem argumentos.
+   * @return Nova instncia da classe de opes, preenchida.
+   * @throws RFWValidationException Lanado em caso de falha de estrutura do comando, parmetro desconhecido, valor invlido ou parmetro obrigatrio no informado.
+   */
+  public static <T> T parse(String commandLine, Class<T> optionsClass) throws RFWException {
+    OptionsBinding binding = OptionsBinding.of(optionsClass);
+    CommandTokens tokens = new CommandTokens();
+    tokenize(commandLine, tokens);
+    T options = optionsClass.cast(binding.newInstance());
+    binding.bind(tokens, options);
+    return options;
+  }
+
+  /**
+   * Preenche a instncia da classe de opes com os argumentos e parmetros de uma linha j interpretada (pelo {@link #tokenize(CharSequence, CommandTokens)} ou pelo {@link CommandScriptReader}). Os atributos cujos parmetros no foram informados mantm os seus valores.
+   *
+   * @param tokens Tokens da linha de comando.
+   * @param options Instncia a ser preenchida, com os atributos declarados com {@link CommandOption} e {@link CommandArgument}.
+   * @throws RFWValidationException Lanado em caso de parmetro desconhecido, valor invlido ou parmetro obrigatrio no informado.
+   */
+  public static void bind(CommandTokens tokens, Object options) throws RFWException {
+    OptionsBinding.of(options.getClass()).bind(tokens, options);
+  }
+
+  /**
+   * Realiza o parser da linha de comando sem criar Strings: os argumentos e parmetros so registrados no {@link CommandTokens} apenas como posies na linha original.<br>
+   * A interpretao  feita em uma nica passagem, com exatamente as mesmas regras e validaes de {@link #parse(String)}. Reaproveitando a instncia de {@link CommandTokens} entre as chamadas, nenhum objeto  criado depois que os seus arrays atingem o tamanho necessrio.
+   *
+   * @param commandLine linha de comando para realizar o parser
+   * @param tokens Instncia que receber os tokens. O contedo anterior  descartado.
+   * @throws RFWValidationException Lanado em caso de falha de estrutura do comando detectado.
+   */
+  public static void tokenize(CharSequence commandLine, CommandTokens tokens) throws RFWException {
+    tokens.reset(commandLine);
+    // Os trechos equivalem aos StringBuilders do parser original, mas guardam apenas as posies dos caracteres
+    final CommandTokens.Span currentArgument = tokens.argument;
+    final CommandTokens.Span currentParamName = tokens.paramName;
+    final CommandTokens.Span currentParamValue = tokens.paramValue;
+    final CommandTokens.Span penddingParam = tokens.pendingParam;
     boolean nextDataIsValue = false;
 
     boolean insideQuotes = false;
@@ -51,27 +112,27 @@ public class CommandParser {
 
       if (Character.isWhitespace(c) && !insideQuotes) {
         // Se  um espao, finalizamos os buffers
-        if (currentArgument.length() > 0) {
-          result.arguments.add(currentArgument.toString());
-          currentArgument.setLength(0);
-        } else if (currentParamName.length() > 0) {
-          penddingParam = currentParamName.toString();
-          currentParamName.setLength(0);
-        } else if (currentParamValue.length() > 0) {
-          result.parameters.put(penddingParam, currentParamValue.toString());
-          currentParamValue.setLength(0);
-          penddingParam = null;
+        if (!currentArgument.isEmpty()) {
+          tokens.addArgument(currentArgument);
+          currentArgument.clear();
+        } else if (!currentParamName.isEmpty()) {
+          penddingParam.set(currentParamName);
+          currentParamName.clear();
+        } else if (!currentParamValue.isEmpty()) {
+          tokens.addParameter(penddingParam, currentParamValue);
+          currentParamValue.clear();
+          penddingParam.clear();
           nextDataIsValue = false;
         }
-      } else if (c == '-' && !insideQuotes && currentParamValue.length() == 0 && currentParamName.length() == 0 && currentArgument.length() == 0) {
-        if (penddingParam != null) {
-          result.parameters.put(penddingParam, "true");
-          penddingParam = null;
+      } else if (c == '-' && !insideQuotes && currentParamValue.isEmpty() && currentParamName.isEmpty() && currentArgument.isEmpty()) {
+        if (!penddingParam.isEmpty()) {
+          tokens.addParameter(penddingParam, null);
+          penddingParam.clear();
           nextDataIsValue = false;
         }
-        currentParamName.append(c);
+        currentParamName.append(commandLine, i, false);
       } else if (c == '\\' && insideQuotes) {
-        if (commandLine.length() <= i + 1) throw new RFWValidationException("RFW_000046", new String[] { "" + c, "" + i, commandLine.substring(Math.max(0, i - 10), Math.min(i + 10, commandLine.length() - 1)) });
+        if (commandLine.length() <= i + 1) throw new RFWValidationException("RFW_000046", new String[] { "" + c, "" + i, context(commandLine, i) });
         char cn = commandLine.charAt(i + 1);
         if (cn == quoteChar) {
           escapedQuotes = true;
@@ -81,65 +142,97 @@ public class CommandParser {
           if (c == quoteChar) {
             if (commandLine.length() > i + 1) {
               char cn = commandLine.charAt(i + 1);
-              if (!Character.isWhitespace(cn)) throw new RFWValidationException("RFW_000046", new String[] { "" + c, "" + i, commandLine.substring(Math.max(0, i - 10), Math.min(i + 10, commandLine.length() - 1)) });
+              if (!Character.isWhitespace(cn)) throw new RFWValidationException("RFW_000046", new String[] { "" + c, "" + i, context(commandLine, i) });
             }
             quoteChar = 0;
             insideQuotes = false;
           } else {
-            if (nextDataIsValue || currentParamValue.length() > 0) { // Estamos escrevendo o valor do parmetro
-              currentParamValue.append(c);
+            if (nextDataIsValue || !currentParamValue.isEmpty()) { // Estamos escrevendo o valor do parmetro
+              currentParamValue.append(commandLine, i, true);
             } else {
-              currentArgument.append(c);
+              currentArgument.append(commandLine, i, true);
             }
           }
         } else {
-          if (currentArgument.length() > 0 || currentParamName.length() > 0 || currentParamValue.length() > 0) {
-            throw new RFWValidationException("RFW_000046", new String[] { "" + c, "" + i, commandLine.substring(Math.max(0, i - 10), Math.min(i + 10, commandLine.length() - 1)) }); // No  esperado iniciar aspas depois que algum bloco j comeou a ser escrito pode ser um argumento ou um parmetro
+          if (!currentArgument.isEmpty() || !currentParamName.isEmpty() || !currentParamValue.isEmpty()) {
+            throw new RFWValidationException("RFW_000046", new String[] { "" + c, "" + i, context(commandLine, i) }); // No  esperado iniciar aspas depois que algum bloco j comeou a ser escrito pode ser um argumento ou um parmetro
           }
           insideQuotes = true;
           quoteChar = c;
         }
       } else if (c == '=' && !insideQuotes) {
         if (nextDataIsValue) {
-          throw new RFWValidationException("RFW_000046", new String[] { "" + c, "" + i, commandLine.substring(Math.max(0, i - 10), Math.min(i + 10, commandLine.length() - 1)) });
+          throw new RFWValidationException("RFW_000046", new String[] { "" + c, "" + i, context(commandLine, i) });
         }
-        if (currentParamName.length() > 0) {
-          penddingParam = currentParamName.toString();
-          currentParamName.setLength(0);
+        if (!currentParamName.isEmpty()) {
+          penddingParam.set(currentParamName);
+          currentParamName.clear();
         }
-        if (penddingParam == null || "".equals(penddingParam.replaceAll("[^\\w]", ""))) {
-          throw new RFWValidationException("RFW_000046", new String[] { "" + c, "" + i, commandLine.substring(Math.max(0, i - 10), Math.min(i + 10, commandLine.length() - 1)) });
+        // O nome do parmetro precisa ter ao menos um caractere de palavra ([a-zA-Z0-9_])
+        if (penddingParam.isEmpty() || !penddingParam.containsWordChar()) {
+          throw new RFWValidationException("RFW_000046", new String[] { "" + c, "" + i, context(commandLine, i) });
         }
         nextDataIsValue = true;
       } else {
         // Anexamos o caracter no buffer adequado
-        if (nextDataIsValue || currentParamValue.length() > 0) { // Estamos escrevendo o valor do parmetro
-          currentParamValue.append(c);
-        } else if (currentParamName.length() > 0) { // Estamos escrevendo um parmetro
-          currentParamName.append(c);
+        CommandTokens.Span target;
+        if (nextDataIsValue || !currentParamValue.isEmpty()) { // Estamos escrevendo o valor do parmetro
+          target = currentParamValue;
+        } else if (!currentParamName.isEmpty()) { // Estamos escrevendo um parmetro
+          target = currentParamName;
         } else {
-          currentArgument.append(c);
+          target = currentArgument;
         }
+        target.append(commandLine, i, insideQuotes);
         escapedQuotes = false;
+        // Os caracteres comuns seguintes teriam o mesmo tratamento, o trecho  estendido de uma s vez at o prximo caractere especial
+        int j = i + 1;
+        while (j < commandLine.length() && isPlain(commandLine.charAt(j), insideQuotes, quoteChar)) {
+          j++;
+        }
+        if (j > i + 1 && target.extend(i + 1, j)) i = j - 1;
       }
     }
 
     if (insideQuotes) throw new RFWValidationException("RFW_000045");
 
     // Ao ancerrar faz o flush dos valores pendentes
-    if (currentArgument.length() > 0) {
-      result.arguments.add(currentArgument.toString());
-      currentArgument.setLength(0);
-    } else if (currentParamName.length() > 0) {
-      penddingParam = currentParamName.toString();
-      currentParamName.setLength(0);
-    } else if (currentParamValue.length() > 0) {
-      result.parameters.put(penddingParam, currentParamValue.toString());
-      currentParamValue.setLength(0);
-      penddingParam = null;
+    if (!currentArgument.isEmpty()) {
+      tokens.addArgument(currentArgument);
+      currentArgument.clear();
+    } else if (!currentParamName.isEmpty()) {
+      penddingParam.set(currentParamName);
+      currentParamName.clear();
+    } else if (!currentParamValue.isEmpty()) {
+      tokens.addParameter(penddingParam, currentParamValue);
+      currentParamValue.clear();
+      penddingParam.clear();
       nextDataIsValue = false;
     }
+    // Parmetro sem valor que ficou pendente (ex: "deploy app -force"): o parser original o descarta, ele  registrado  parte para que o CommandRegistry e as classes de opes possam consider-lo sem alterar o resultado do parse()
+    if (!penddingParam.isEmpty() && !nextDataIsValue) {
+      tokens.setTrailingFlag(penddingParam);
+      penddingParam.clear();
+    }
+  }
 
-    return result;
+  /**
+   * Verifica se o caractere  tratado apenas como contedo do token em andamento, sem nenhum efeito na interpretao.
+   *
+   * @param c Caractere.
+   * @param insideQuotes Indica se o caractere est entre aspas.
+   * @param quoteChar Aspas que abriram o trecho, quando entre aspas.
+   * @return true caso o caractere seja comum.
+   */
+  private static boolean isPlain(char c, boolean insideQuotes, char quoteChar) {
+    if (insideQuotes) return c != '\\' && c != quoteChar;
+    return c != '=' && c != '"' && c != '\'' && !Character.isWhitespace(c);
+  }
+
+  /**
+   * Monta o trecho da linha ao redor da posio do erro, utilizado nas mensagens de validao.
+   */
+  private static String context(CharSequence commandLine, int i) {
+    return commandLine.subSequence(Math.max(0, i - 10), Math.min(i + 10, commandLine.length() - 1)).toString();
   }
 }
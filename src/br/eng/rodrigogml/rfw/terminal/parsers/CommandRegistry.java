@@ -0,0 +1,280 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandDefinition.Parameter;
+
+/**
+ * Description: Registro de comandos: localiza o comando de uma linha de comando, valida e converte os seus argumentos e parmetros conforme a {@link CommandDefinition} e executa o seu {@link CommandHandler}.<br>
+ * Os nomes e apelidos dos comandos (assim como os nomes dos parmetros de cada comando) ficam em rvores de prefixos, de forma que a localizao depende apenas do tamanho do nome informado, e no da quantidade de comandos registrados. Tambm so aceitas abreviaes: qualquer prefixo que identifique um nico comando (por exemplo "dep" para "deploy", caso nenhum outro comando comece com "dep"). As abreviaes podem ser desabilitadas com {@link #setAbbreviationsAllowed(boolean)}, por exemplo para que scripts de automao no passem a falhar quando um novo comando  registrado.
+ * <p>
+ * O primeiro argumento da linha  o nome do comando, os demais so os argumentos posicionais do comando:
+ *
+ * <pre>
+ * deploy app1 -env=prod --timeout=60 -force
+ * </pre>
+ * <p>
+ * Os comandos devem ser registrados antes da utilizao: depois de registrados, a localizao e a execuo podem ser feitas por vrias threads ao mesmo tempo.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class CommandRegistry {
+
+  /**
+   * Quantidade mxima de sugestes listadas nas mensagens de comando ou parmetro ambguo.
+   */
+  private static final int MAX_SUGGESTIONS = 10;
+
+  private final NameTrie<CommandDefinition> names = new NameTrie<>();
+
+  private final List<CommandDefinition> commands = new ArrayList<>();
+
+  private volatile boolean abbreviationsAllowed = true;
+
+  /**
+   * Tokens reutilizados pelo {@link #dispatch(String)} de cada thread.
+   */
+  private final ThreadLocal<CommandTokens> tokens = new ThreadLocal<CommandTokens>() {
+    @Override
+    protected CommandTokens initialValue() {
+      return new CommandTokens();
+    }
+  };
+
+  /**
+   * Registra um comando, compilando o esquema dos seus parmetros.
+   *
+   * @param command Definio do comando.
+   * @throws IllegalArgumentException Lanado caso o nome ou algum apelido j esteja registrado, ou o esquema dos parmetros seja invlido.
+   */
+  public synchronized void register(CommandDefinition command) {
+    List<String> commandNames = new ArrayList<>();
+    commandNames.add(command.getName());
+    commandNames.addAll(command.getAliases());
+    for (String name : commandNames) {
+      CommandDefinition current = this.names.get(name, 0, name.length());
+      if (current != null) throw new IllegalArgumentException("O nome '" + name + "' j est registrado para o comando '" + current.getName() + "'.");
+    }
+    command.compile();
+    for (String name : commandNames) {
+      this.names.put(name, command);
+    }
+    this.commands.add(command);
+  }
+
+  /**
+   * Define se os comandos e parmetros podem ser informados de forma abreviada. Por padro as abreviaes so aceitas.
+   *
+   * @param abbreviationsAllowed true para aceitar qualquer prefixo que identifique um nico comando ou parmetro, false para aceitar apenas os nomes e apelidos completos.
+   */
+  public void setAbbreviationsAllowed(boolean abbreviationsAllowed) {
+    this.abbreviationsAllowed = abbreviationsAllowed;
+  }
+
+  /**
+   * Indica se os comandos e parmetros podem ser informados de forma abreviada.
+   *
+   * @return true caso as abreviaes sejam aceitas.
+   */
+  public boolean isAbbreviationsAllowed() {
+    return this.abbreviationsAllowed;
+  }
+
+  /**
+   * Retorna os comandos registrados, na ordem de registro.
+   *
+   * @return Lista no modificvel dos comandos.
+   */
+  public synchronized List<CommandDefinition> getCommands() {
+    return Collections.unmodifiableList(new ArrayList<>(this.commands));
+  }
+
+  /**
+   * Obtm um comando pelo nome ou apelido completo.
+   *
+   * @param name Nome ou apelido do comando.
+   * @return Definio do comando, ou null caso no esteja registrado.
+   */
+  public CommandDefinition getCommand(String name) {
+    return this.names.get(name, 0, name.length());
+  }
+
+  /**
+   * Localiza um comando pelo nome, apelido ou, quando permitido, por uma abreviao.
+   *
+   * @param name Nome informado.
+   * @return Definio do comando.
+   * @throws RFWValidationException Lanado caso nenhum comando corresponda ao nome ou a abreviao seja ambgua.
+   */
+  public CommandDefinition findCommand(CharSequence name) throws RFWException {
+    return findCommand(name, 0, name.length());
+  }
+
+  private CommandDefinition findCommand(CharSequence text, int start, int end) throws RFWException {
+    NameTrie.Node<CommandDefinition> node = this.names.node(text, start, end);
+    if (node != null) {
+      if (node.value != null) return node.value;
+      if (this.abbreviationsAllowed && node.unique != null) return node.unique;
+    }
+    String name = text.subSequence(start, end).toString();
+    if (node != null && this.abbreviationsAllowed) {
+      throw new RFWValidationException("O comando '" + name + "'  ambguo. Comandos possveis: " + suggestions(this.names, name) + ".");
+    }
+    throw new RFWValidationException("Comando desconhecido: '" + name + "'.");
+  }
+
+  /**
+   * Acrescenta  lista, em ordem alfabtica, os nomes e apelidos dos comandos que comeam com o prefixo.
+   *
+   * @param prefix Prefixo dos nomes.
+   * @param commandNames Lista que receber os nomes.
+   * @param limit Quantidade mxima de nomes acrescentados.
+   */
+  void collectCommandNames(CharSequence prefix, List<String> commandNames, int limit) {
+    this.names.collect(prefix, commandNames, limit);
+  }
+
+  /**
+   * Interpreta a linha de comando, valida e executa o comando.<br>
+   * A interpretao reutiliza uma instncia de {@link CommandTokens} por thread.
+   *
+   * @param commandLine Linha de comando.
+   * @return Comando executado, com os argumentos e parmetros convertidos.
+   * @throws RFWException Lanado caso a linha seja invlida, no corresponda a um comando registrado ou os parmetros no atendam  definio do comando, ou ainda em caso de falha na execuo do comando.
+   */
+  public CommandInvocation dispatch(String commandLine) throws RFWException {
+    CommandTokens commandTokens = this.tokens.get();
+    CommandParser.tokenize(commandLine, commandTokens);
+    return dispatch(commandTokens);
+  }
+
+  /**
+   * Valida e executa o comando de uma linha j interpretada, por exemplo pelo {@link CommandScriptReader}.
+   *
+   * @param commandTokens Tokens da linha de comando.
+   * @return Comando executado, com os argumentos e parmetros convertidos.
+   * @throws RFWException Lanado caso a linha no corresponda a um comando registrado ou os parmetros no atendam  definio do comando, ou ainda em caso de falha na execuo do comando.
+   */
+  public CommandInvocation dispatch(CommandTokens commandTokens) throws RFWException {
+    CommandInvocation invocation = bind(commandTokens);
+    invocation.getDefinition().getHandler().execute(invocation);
+    return invocation;
+  }
+
+  /**
+   * Localiza o comando da linha j interpretada e valida e converte os seus argumentos e parmetros, sem executar o comando.
+   *
+   * @param commandTokens Tokens da linha de comando.
+   * @return Comando com os argumentos e parmetros convertidos.
+   * @throws RFWException Lanado caso a linha no corresponda a um comando registrado ou os parmetros no atendam  definio do comando.
+   */
+  public CommandInvocation bind(CommandTokens commandTokens) throws RFWException {
+    if (commandTokens.getArgumentCount() == 0) throw new RFWValidationException("Nenhum comando foi informado.");
+
+    // Nome do comando: localizado diretamente no trecho da linha, sem criar a String, quando possvel
+    int nameToken = commandTokens.getArgumentToken(0);
+    final CommandDefinition command;
+    if (commandTokens.isTokenPlain(nameToken)) {
+      command = findCommand(commandTokens.getCommandLine(), commandTokens.getTokenStart(nameToken), commandTokens.getTokenEnd(nameToken));
+    } else {
+      command = findCommand(commandTokens.getToken(nameToken));
+    }
+
+    int argumentCount = commandTokens.getArgumentCount() - 1;
+    if (argumentCount < command.getMinArguments() || (command.getMaxArguments() >= 0 && argumentCount > command.getMaxArguments())) {
+      throw new RFWValidationException("Quantidade de argumentos invlida para o comando '" + command.getName() + "': " + argumentCount + ". " + describeArguments(command));
+    }
+    String[] arguments = new String[argumentCount];
+    for (int i = 0; i < argumentCount; i++) {
+      arguments[i] = commandTokens.getArgument(i + 1);
+    }
+
+    List<Parameter> parameters = command.getParameters();
+    Object[] values = new Object[parameters.size()];
+    boolean[] present = new boolean[parameters.size()];
+    // O parmetro sem valor pendente no fim da linha  considerado depois dos demais, como a ltima ocorrncia
+    int parameterCount = commandTokens.getParameterCount();
+    int trailingFlag = commandTokens.getTrailingFlagToken();
+    for (int p = 0; p < parameterCount || (p == parameterCount && trailingFlag >= 0); p++) {
+      int token = p < parameterCount ? commandTokens.getParameterToken(p) : trailingFlag;
+      Parameter parameter = findParameter(command, commandTokens, token);
+      String value;
+      if (p == parameterCount || commandTokens.isParameterFlag(p)) {
+        if (parameter.getType() != CommandDefinition.ParameterType.BOOLEAN) {
+          throw new RFWValidationException("O parmetro '" + commandTokens.getToken(token) + "' do comando '" + command.getName() + "' exige um valor.");
+        }
+        value = "true";
+      } else {
+        value = commandTokens.getParameterValue(p);
+      }
+      try {
+        values[parameter.index] = parameter.getType().convert(value);
+      } catch (IllegalArgumentException e) {
+        throw new RFWValidationException("Valor invlido para o parmetro '" + commandTokens.getToken(token) + "' do comando '" + command.getName() + "': '" + value + "' no  do tipo " + parameter.getType() + ".");
+      }
+      present[parameter.index] = true;
+    }
+    for (Parameter parameter : command.requiredParameters) {
+      if (!present[parameter.index]) throw new RFWValidationException("O parmetro '-" + parameter.getName() + "'  obrigatrio no comando '" + command.getName() + "'.");
+    }
+    for (Parameter parameter : parameters) {
+      if (!present[parameter.index]) values[parameter.index] = parameter.defaultObject;
+    }
+    return new CommandInvocation(command, commandTokens.getArgument(0), arguments, values, present);
+  }
+
+  /**
+   * Localiza a definio do parmetro do token informado, desconsiderando os hfens iniciais do nome.
+   */
+  private Parameter findParameter(CommandDefinition command, CommandTokens commandTokens, int token) throws RFWException {
+    CharSequence text;
+    int start;
+    int end;
+    if (commandTokens.isTokenPlain(token)) {
+      text = commandTokens.getCommandLine();
+      start = commandTokens.getTokenStart(token);
+      end = commandTokens.getTokenEnd(token);
+    } else {
+      text = commandTokens.getToken(token);
+      start = 0;
+      end = text.length();
+    }
+    while (start < end && text.charAt(start) == '-') {
+      start++;
+    }
+    if (start < end) {
+      NameTrie.Node<Parameter> node = command.parameterNames.node(text, start, end);
+      if (node != null) {
+        if (node.value != null) return node.value;
+        if (this.abbreviationsAllowed && node.unique != null) return node.unique;
+        if (this.abbreviationsAllowed) {
+          throw new RFWValidationException("O parmetro '" + commandTokens.getToken(token) + "' do comando '" + command.getName() + "'  ambguo. Parmetros possveis: " + suggestions(command.parameterNames, text.subSequence(start, end)) + ".");
+        }
+      }
+    }
+    throw new RFWValidationException("Parmetro desconhecido para o comando '" + command.getName() + "': '" + commandTokens.getToken(token) + "'.");
+  }
+
+  private static String suggestions(NameTrie<?> trie, CharSequence prefix) {
+    List<String> names = new ArrayList<>();
+    trie.collect(prefix, names, MAX_SUGGESTIONS + 1);
+    StringBuilder buff = new StringBuilder();
+    for (int i = 0; i < names.size() && i < MAX_SUGGESTIONS; i++) {
+      if (i > 0) buff.append(", ");
+      buff.append(names.get(i));
+    }
+    if (names.size() > MAX_SUGGESTIONS) buff.append(", ...");
+    return buff.toString();
+  }
+
+  private static String describeArguments(CommandDefinition command) {
+    if (command.getMaxArguments() < 0) return "Esperado: ao menos " + command.getMinArguments() + ".";
+    if (command.getMaxArguments() == command.getMinArguments()) return "Esperado: " + command.getMinArguments() + ".";
+    return "Esperado: de " + command.getMinArguments() + " a " + command.getMaxArguments() + ".";
+  }
+}
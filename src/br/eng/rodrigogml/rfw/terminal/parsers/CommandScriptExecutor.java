@@ -0,0 +1,656 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
+import br.eng.rodrigogml.rfw.terminal.Terminal;
+import br.eng.rodrigogml.rfw.terminal.TerminalWriter;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandScriptReader.ScriptException;
+
+/**
+ * Description: Executa os comandos de um script com os comandos de um {@link CommandRegistry}, executando ao mesmo tempo os comandos que no dependem uns dos outros.<br>
+ * O script  lido e validado por completo antes da execuo: caso algum comando seja invlido, nenhum comando  executado. As dependncias entre os comandos so:
+ * <li><b>&&</b>: os comandos de uma mesma linha separados por "&&" (separado por espaos) so executados em sequncia, e cada um s  executado se o anterior for concludo com sucesso;
+ * <li><b>Barreira</b>: uma linha com apenas "---" ({@link #BARRIER}) faz com que os comandos seguintes s sejam iniciados depois que todos os comandos anteriores forem concludos;
+ * <li><b>Recursos</b>: comandos que declaram o mesmo recurso ({@link CommandDefinition#setResourceResolver(ResourceResolver)}) so executados um de cada vez, na ordem do script.
+ *
+ * <pre>
+ * backup db1 && migrate db1
+ * backup db2 && migrate db2
+ * ---
+ * restart app
+ * </pre>
+ * <p>
+ * A sada de cada comando (tudo o que a thread do comando escreve pela {@link Terminal})  capturada e escrita na {@link Terminal} na ordem do script, assim que todos os comandos anteriores tiverem a sua sada escrita. Desta forma o console fica igual ao de uma execuo sequencial, ainda que os comandos sejam executados fora de ordem. A sada de um comando fica em memria at que ele possa ser escrito.
+ * <p>
+ * A quantidade de comandos executados ao mesmo tempo  limitada por {@link #setParallelism(int)}. Por padro os comandos so executados em threads criadas para cada execuo, mas pode ser informado outro {@link Executor} em {@link #setExecutor(Executor)}, por exemplo um executor de threads virtuais a partir do Java 21 ({@code Executors.newVirtualThreadPerTaskExecutor()}), que se adequa melhor a comandos que passam a maior parte do tempo esperando por I/O.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class CommandScriptExecutor {
+
+  /**
+   * Separador dos comandos de uma mesma linha que devem ser executados em sequncia.
+   */
+  public static final String CHAIN_SEPARATOR = "&&";
+
+  /**
+   * Contedo da linha de barreira.
+   */
+  public static final String BARRIER = "---";
+
+  /**
+   * Writer de cada thread, utilizado para capturar a sada dos comandos.
+   */
+  private static final ThreadLocal<TerminalWriter> writers = new ThreadLocal<TerminalWriter>() {
+    @Override
+    protected TerminalWriter initialValue() {
+      return new TerminalWriter();
+    }
+  };
+
+  private final CommandRegistry registry;
+
+  private int parallelism = Runtime.getRuntime().availableProcessors();
+
+  private Executor executor = null;
+
+  private boolean stopOnError = false;
+
+  private boolean errorOutput = true;
+
+  /**
+   * Resultado da execuo de um script.
+   */
+  public static class ScriptResult {
+
+    private final int commandCount;
+    private final int succeeded;
+    private final int skipped;
+    private final List<ScriptException> failures;
+
+    ScriptResult(int commandCount, int succeeded, int skipped, List<ScriptException> failures) {
+      this.commandCount = commandCount;
+      this.succeeded = succeeded;
+      this.skipped = skipped;
+      this.failures = failures;
+    }
+
+    /**
+     * Retorna a quantidade de comandos do script, considerando cada comando separado por "&&".
+     *
+     * @return Quantidade de comandos.
+     */
+    public int getCommandCount() {
+      return this.commandCount;
+    }
+
+    /**
+     * Retorna a quantidade de comandos concludos com sucesso.
+     *
+     * @return Quantidade de comandos.
+     */
+    public int getSucceededCount() {
+      return this.succeeded;
+    }
+
+    /**
+     * Retorna a quantidade de comandos que no foram executados, por depender de um comando que falhou ou pela interrupo da execuo.
+     *
+     * @return Quantidade de comandos.
+     */
+    public int getSkippedCount() {
+      return this.skipped;
+    }
+
+    /**
+     * Retorna as falhas dos comandos, na ordem do script. A causa de cada exceo  a falha original do comando.
+     *
+     * @return Lista no modificvel das falhas.
+     */
+    public List<ScriptException> getFailures() {
+      return this.failures;
+    }
+
+    /**
+     * Indica se todos os comandos foram executados com sucesso.
+     *
+     * @return true caso todos os comandos tenham sido executados com sucesso.
+     */
+    public boolean isSuccessful() {
+      return this.succeeded == this.commandCount;
+    }
+  }
+
+  /**
+   * Estados de um comando durante a execuo.
+   */
+  private static final int WAITING = 0;
+  private static final int SUCCEEDED = 1;
+  private static final int FAILED = 2;
+  private static final int SKIPPED = 3;
+
+  /**
+   * N do grafo de dependncias: um comando do script, ou uma barreira (sem comando).
+   */
+  private static final class Step {
+
+    /**
+     * Posio do comando no script, que define a ordem da sada. -1 nas barreiras.
+     */
+    final int order;
+    final int lineNumber;
+    final String commandText;
+    final CommandInvocation invocation;
+
+    /**
+     * Comando anterior da mesma linha (separado por "&&"), que precisa ser concludo com sucesso.
+     */
+    Step chained = null;
+
+    /**
+     * Ns que dependem deste n.
+     */
+    final List<Step> dependents = new ArrayList<>(2);
+
+    /**
+     * Quantidade de ns dos quais este n depende e que ainda no foram concludos.
+     */
+    int pending = 0;
+
+    int state = WAITING;
+    String output = null;
+    RFWException error = null;
+
+    Step(int order, int lineNumber, String commandText, CommandInvocation invocation) {
+      this.order = order;
+      this.lineNumber = lineNumber;
+      this.commandText = commandText;
+      this.invocation = invocation;
+    }
+
+    void addDependent(Step step) {
+      // Os dependentes de um comando so acrescentados em sequncia: basta verificar o ltimo para no duplicar a dependncia
+      if (!this.dependents.isEmpty() && this.dependents.get(this.dependents.size() - 1) == step) return;
+      this.dependents.add(step);
+      step.pending++;
+    }
+  }
+
+  /**
+   * Cria o executor de scripts.
+   *
+   * @param registry Registro com os comandos aceitos no script.
+   */
+  public CommandScriptExecutor(CommandRegistry registry) {
+    if (registry == null) throw new IllegalArgumentException("O registro de comandos no foi informado.");
+    this.registry = registry;
+  }
+
+  /**
+   * Define a quantidade mxima de comandos executados ao mesmo tempo. Por padro  a quantidade de processadores.
+   *
+   * @param parallelism Quantidade mxima de comandos simultneos. 1 executa os comandos um de cada vez, na ordem do script.
+   * @return Este executor, para encadear as chamadas.
+   */
+  public CommandScriptExecutor setParallelism(int parallelism) {
+    if (parallelism < 1) throw new IllegalArgumentException("A quantidade de comandos simultneos deve ser positiva: " + parallelism + ".");
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * Retorna a quantidade mxima de comandos executados ao mesmo tempo.
+   *
+   * @return Quantidade mxima de comandos simultneos.
+   */
+  public int getParallelism() {
+    return this.parallelism;
+  }
+
+  /**
+   * Define o {@link Executor} onde os comandos so executados. O executor no  encerrado ao final da execuo do script.<br>
+   * A quantidade de comandos simultneos continua limitada por {@link #setParallelism(int)}, independente da quantidade de threads do executor.
+   *
+   * @param executor Executor dos comandos, ou null para criar um pool de threads em cada execuo.
+   * @return Este executor, para encadear as chamadas.
+   */
+  public CommandScriptExecutor setExecutor(Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  /**
+   * Define se a execuo deve ser interrompida na primeira falha. Neste caso os comandos j iniciados so concludos, e os demais no so executados.<br>
+   * Por padro a execuo continua, e apenas os comandos ligados por "&&" ao comando que falhou deixam de ser executados.
+   *
+   * @param stopOnError true para interromper a execuo na primeira falha.
+   * @return Este executor, para encadear as chamadas.
+   */
+  public CommandScriptExecutor setStopOnError(boolean stopOnError) {
+    this.stopOnError = stopOnError;
+    return this;
+  }
+
+  /**
+   * Define se as falhas e os comandos no executados devem ser informados na {@link Terminal}, junto da sada dos comandos. Por padro so informados.
+   *
+   * @param errorOutput true para escrever as falhas na {@link Terminal}.
+   * @return Este executor, para encadear as chamadas.
+   */
+  public CommandScriptExecutor setErrorOutput(boolean errorOutput) {
+    this.errorOutput = errorOutput;
+    return this;
+  }
+
+  /**
+   * L, valida e executa o script.
+   *
+   * @param script Arquivo do script, em UTF-8.
+   * @return Resultado da execuo.
+   * @throws RFWException Lanado caso o script no possa ser lido ou algum comando seja invlido (neste caso nenhum comando  executado), ou caso a execuo seja interrompida.
+   */
+  public ScriptResult execute(Path script) throws RFWException {
+    CommandScriptReader reader = new CommandScriptReader(script);
+    try {
+      return execute(reader);
+    } finally {
+      try {
+        reader.close();
+      } catch (IOException e) {
+        throw new RFWCriticalException("Falha ao fechar o script '" + script + "'.", e);
+      }
+    }
+  }
+
+  /**
+   * L, valida e executa o script. O leitor no  fechado.
+   *
+   * @param reader Leitor do script.
+   * @return Resultado da execuo.
+   * @throws RFWException Lanado caso o script no possa ser lido ou algum comando seja invlido (neste caso nenhum comando  executado), ou caso a execuo seja interrompida.
+   */
+  public ScriptResult execute(CommandScriptReader reader) throws RFWException {
+    List<Step> steps = new ArrayList<>();
+    List<Step> roots = new ArrayList<>();
+    plan(reader, steps, roots);
+    return new Execution(steps).run(roots);
+  }
+
+  /**
+   * L todos os comandos do script e monta o grafo de dependncias.
+   *
+   * @param reader Leitor do script.
+   * @param steps Recebe os comandos, na ordem do script.
+   * @param roots Recebe os ns que no dependem de nenhum outro.
+   */
+  private void plan(CommandScriptReader reader, List<Step> steps, List<Step> roots) throws RFWException {
+    Map<String, Step> resourceOwners = new HashMap<>();
+    List<Step> sinceBarrier = new ArrayList<>();
+    Step barrier = null;
+    CommandTokens segmentTokens = new CommandTokens();
+
+    while (true) {
+      try {
+        if (!reader.next()) break;
+      } catch (RFWValidationException e) {
+        throw scriptError(reader.getLineNumber(), e);
+      }
+      int line = reader.getLineNumber();
+      CharSequence text = reader.getCommandText();
+      if (isBarrier(text)) {
+        if (!sinceBarrier.isEmpty()) {
+          Step join = new Step(-1, line, null, null);
+          for (Step step : sinceBarrier) {
+            step.addDependent(join);
+          }
+          sinceBarrier.clear();
+          resourceOwners.clear(); // A barreira j ordena os comandos seguintes depois de todos os anteriores
+          barrier = join;
+        }
+        continue;
+      }
+
+      CommandTokens tokens = reader.getTokens();
+      int tokenCount = tokens.getTokenCount();
+      int segmentStart = 0;
+      int firstToken = 0;
+      Step previous = null;
+      for (int t = 0; t <= tokenCount; t++) {
+        if (t < tokenCount && !isChainSeparator(tokens, t)) continue;
+        if (t == firstToken) throw scriptError(line, new RFWValidationException("Comando vazio junto ao separador '" + CHAIN_SEPARATOR + "'."));
+        int segmentEnd = t < tokenCount ? tokens.getTokenStart(t) : text.length();
+
+        final CommandTokens commandTokens;
+        final String commandText;
+        if (firstToken == 0 && t == tokenCount) {
+          commandTokens = tokens;
+          commandText = text.toString().trim();
+        } else {
+          commandText = text.subSequence(segmentStart, segmentEnd).toString().trim();
+          commandTokens = segmentTokens;
+          CommandParser.tokenize(commandText, commandTokens);
+        }
+
+        Step step;
+        try {
+          CommandInvocation invocation = this.registry.bind(commandTokens);
+          step = new Step(steps.size(), line, commandText, invocation);
+          ResourceResolver resolver = invocation.getDefinition().getResourceResolver();
+          Collection<String> resources = resolver == null ? null : resolver.getResources(invocation);
+          if (resources != null) {
+            for (String resource : resources) {
+              Step owner = resourceOwners.put(resource, step);
+              if (owner != null && owner != step) owner.addDependent(step);
+            }
+          }
+        } catch (RFWValidationException e) {
+          throw scriptError(line, e);
+        }
+        if (previous != null) {
+          previous.addDependent(step);
+          step.chained = previous;
+        } else if (barrier != null) {
+          barrier.addDependent(step);
+        }
+        if (step.pending == 0) roots.add(step);
+        steps.add(step);
+        sinceBarrier.add(step);
+        previous = step;
+
+        if (t < tokenCount) {
+          segmentStart = tokens.getTokenEnd(t);
+          firstToken = t + 1;
+        }
+      }
+    }
+  }
+
+  private static boolean isChainSeparator(CommandTokens tokens, int index) {
+    return tokens.getTokenKind(index) == CommandTokens.TokenKind.ARGUMENT && tokens.isTokenPlain(index) && tokens.tokenEquals(index, CHAIN_SEPARATOR);
+  }
+
+  private static boolean isBarrier(CharSequence text) {
+    int start = 0;
+    int end = text.length();
+    while (start < end && Character.isWhitespace(text.charAt(start))) {
+      start++;
+    }
+    while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+      end--;
+    }
+    if (end - start != BARRIER.length()) return false;
+    for (int i = 0; i < BARRIER.length(); i++) {
+      if (text.charAt(start + i) != BARRIER.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  private static RFWValidationException scriptError(int lineNumber, RFWException cause) {
+    return new RFWValidationException("Falha no comando da linha " + lineNumber + " do script: " + cause.getMessage());
+  }
+
+  /**
+   * Estado de uma execuo do script. Todo o estado do grafo  alterado apenas com o monitor desta instncia.
+   */
+  private final class Execution {
+
+    private final List<Step> steps;
+
+    /**
+     * Comandos liberados para execuo, em ordem do script.
+     */
+    private final PriorityQueue<Step> ready = new PriorityQueue<>(64, new Comparator<Step>() {
+      @Override
+      public int compare(Step a, Step b) {
+        return Integer.compare(a.order, b.order);
+      }
+    });
+
+    /**
+     * Monitor que mantm a escrita das sadas na ordem em que foram liberadas.
+     */
+    private final Object outputLock = new Object();
+
+    private int running = 0;
+    private int remaining;
+    private int nextOutput = 0;
+    private boolean stopped = false;
+
+    private Executor commandExecutor;
+
+    /**
+     * Indica, em cada thread, se a thread j est no lao de {@link #dispatch()}.
+     */
+    private final ThreadLocal<Boolean> dispatching = new ThreadLocal<>();
+
+    Execution(List<Step> steps) {
+      this.steps = steps;
+      this.remaining = steps.size();
+    }
+
+    ScriptResult run(List<Step> roots) throws RFWException {
+      ExecutorService pool = null;
+      this.commandExecutor = CommandScriptExecutor.this.executor;
+      if (this.commandExecutor == null && !this.steps.isEmpty()) {
+        pool = Executors.newFixedThreadPool(Math.min(CommandScriptExecutor.this.parallelism, this.steps.size()), new ThreadFactory() {
+          private final AtomicInteger count = new AtomicInteger();
+
+          @Override
+          public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "RFW.Terminal Script Executor " + this.count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+          }
+        });
+        this.commandExecutor = pool;
+      }
+
+      boolean interrupted = false;
+      try {
+        synchronized (this) {
+          for (Step root : roots) {
+            release(root);
+          }
+        }
+        dispatch();
+        synchronized (this) {
+          while (this.remaining > 0) {
+            try {
+              wait();
+            } catch (InterruptedException e) {
+              // Os comandos em execuo so concludos, para que nenhuma thread continue escrevendo depois do retorno
+              interrupted = true;
+              stop();
+            }
+          }
+        }
+        writeOutputs(); // Comandos no executados, concludos sem passar pelo finish()
+      } finally {
+        if (pool != null) pool.shutdown();
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+        throw new RFWCriticalException("A execuo do script foi interrompida.");
+      }
+
+      int succeeded = 0;
+      int skipped = 0;
+      List<ScriptException> failures = new ArrayList<>();
+      for (Step step : this.steps) {
+        if (step.state == SUCCEEDED) {
+          succeeded++;
+        } else if (step.state == SKIPPED) {
+          skipped++;
+        } else {
+          failures.add(new ScriptException(step.lineNumber, step.error));
+        }
+      }
+      return new ScriptResult(this.steps.size(), succeeded, skipped, Collections.unmodifiableList(failures));
+    }
+
+    /**
+     * Libera um n cujas dependncias foram concludas: as barreiras e os comandos que no sero executados so concludos imediatamente, os demais entram na fila de execuo.
+     */
+    private void release(Step step) {
+      if (isRunnable(step)) {
+        this.ready.add(step);
+      } else {
+        complete(step, step.invocation == null ? SUCCEEDED : SKIPPED);
+      }
+    }
+
+    private boolean isRunnable(Step step) {
+      return step.invocation != null && !this.stopped && (step.chained == null || step.chained.state == SUCCEEDED);
+    }
+
+    /**
+     * Conclui o n e libera os ns que dependiam apenas dele. Iterativo, j que uma falha pode liberar uma longa sequncia de comandos que no sero executados.
+     */
+    private void complete(Step first, int firstState) {
+      ArrayDeque<Step> completed = new ArrayDeque<>();
+      first.state = firstState;
+      completed.push(first);
+      while (!completed.isEmpty()) {
+        Step step = completed.pop();
+        if (step.invocation != null) this.remaining--;
+        for (Step dependent : step.dependents) {
+          if (--dependent.pending > 0) continue;
+          if (isRunnable(dependent)) {
+            this.ready.add(dependent);
+          } else {
+            dependent.state = dependent.invocation == null ? SUCCEEDED : SKIPPED;
+            completed.push(dependent);
+          }
+        }
+      }
+      if (this.remaining == 0) notifyAll();
+    }
+
+    /**
+     * Interrompe a execuo: os comandos que ainda no foram iniciados no sero executados.
+     */
+    private void stop() {
+      this.stopped = true;
+      Step step;
+      while ((step = this.ready.poll()) != null) {
+        complete(step, SKIPPED);
+      }
+    }
+
+    /**
+     * Inicia os comandos liberados, respeitando o limite de comandos simultneos.<br>
+     * Os comandos so iniciados em um lao. Com um executor que executa o comando na prpria thread que o inicia, a concluso de cada comando chama novamente este mtodo dentro do lao: esta chamada retorna imediatamente e o prprio lao inicia os comandos liberados, de forma que a pilha no cresce a cada comando do script.
+     */
+    private void dispatch() {
+      if (this.dispatching.get() != null) return;
+      this.dispatching.set(Boolean.TRUE);
+      try {
+        while (true) {
+          final Step step;
+          synchronized (this) {
+            if (this.ready.isEmpty() || this.running >= CommandScriptExecutor.this.parallelism) return;
+            step = this.ready.poll();
+            this.running++;
+          }
+          // O executor  chamado fora do monitor, j que pode executar o comando na prpria thread
+          try {
+            this.commandExecutor.execute(new Runnable() {
+              @Override
+              public void run() {
+                runStep(step);
+              }
+            });
+          } catch (RejectedExecutionException e) {
+            finish(step, "", new RFWCriticalException("O comando no pde ser iniciado pelo executor.", e));
+          }
+        }
+      } finally {
+        this.dispatching.remove();
+      }
+    }
+
+    private void runStep(Step step) {
+      TerminalWriter writer = writers.get();
+      RFWException error = null;
+      String output = "";
+      writer.beginFrame();
+      try {
+        step.invocation.getDefinition().getHandler().execute(step.invocation);
+      } catch (RFWException e) {
+        error = e;
+      } catch (Throwable e) {
+        error = new RFWCriticalException("Falha inesperada na execuo do comando.", e);
+      } finally {
+        output = writer.takeContent();
+        try {
+          writer.endFrame(); // O contedo j foi retirado do writer: apenas desassocia o writer da thread
+        } catch (RFWException e) {
+          // Sem contedo no h escrita, portanto no h falha
+        }
+        finish(step, output, error);
+      }
+    }
+
+    /**
+     * Registra a concluso de um comando, escreve as sadas que j podem ser escritas e inicia os prximos comandos.
+     */
+    private void finish(Step step, String output, RFWException error) {
+      synchronized (this) {
+        step.output = output;
+        step.error = error;
+        this.running--;
+        if (error != null && CommandScriptExecutor.this.stopOnError) stop();
+        complete(step, error == null ? SUCCEEDED : FAILED);
+      }
+      writeOutputs();
+      dispatch();
+    }
+
+    /**
+     * Escreve na {@link Terminal}, em ordem, as sadas dos comandos concludos cujos comandos anteriores j tiveram a sua sada escrita.
+     */
+    private void writeOutputs() {
+      synchronized (this.outputLock) {
+        List<Step> done;
+        synchronized (this) {
+          if (this.nextOutput >= this.steps.size() || this.steps.get(this.nextOutput).state == WAITING) return;
+          done = new ArrayList<>();
+          while (this.nextOutput < this.steps.size() && this.steps.get(this.nextOutput).state != WAITING) {
+            done.add(this.steps.get(this.nextOutput++));
+          }
+        }
+        for (Step step : done) {
+          if (step.output != null) Terminal.writeContent(step.output);
+          step.output = null;
+          if (CommandScriptExecutor.this.errorOutput) {
+            if (step.state == FAILED) {
+              Terminal.write("Falha no comando da linha " + step.lineNumber + " do script (" + step.commandText + "): " + step.error.getMessage());
+            } else if (step.state == SKIPPED) {
+              Terminal.write("Comando da linha " + step.lineNumber + " do script no executado (" + step.commandText + ").");
+            }
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,531 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandParser.ParsedCommand;
+
+/**
+ * Description: Leitor de scripts de comandos: interpreta, um a um, os comandos de um arquivo ou de qualquer {@link ReadableByteChannel}, sem carregar o script inteiro em memria.<br>
+ * Os bytes so lidos em blocos (arquivos so mapeados em memria em janelas de {@value #MAP_WINDOW} bytes, os demais canais so lidos em um buffer direto) e decodificados de forma incremental: caracteres multibyte e valores entre aspas podem estar divididos entre dois blocos. Cada comando  acumulado em um buffer reutilizado e interpretado pelo {@link CommandParser#tokenize(CharSequence, CommandTokens)}, de forma que a memria utilizada depende apenas do tamanho do maior comando, e no do tamanho do script.
+ * <p>
+ * Regras do script:
+ * <li>Cada linha  um comando. As quebras de linha podem ser LF, CRLF ou CR;
+ * <li>Uma quebra de linha dentro de aspas faz parte do valor, e o comando continua na linha seguinte;
+ * <li>Linhas em branco so ignoradas;
+ * <li>Linhas iniciadas por '#' (desconsiderando os espaos iniciais) so comentrios e so ignoradas.
+ * <p>
+ * A leitura pode ser feita como um cursor, sem criar nenhum objeto por comando ({@link #next()}, {@link #getTokens()}), ou como um {@link Iterator}/{@link Stream} de {@link ScriptCommand} ({@link #iterator()}, {@link #stream()}).<br>
+ * Em ambos os casos o nmero da linha de cada comando  mantido para o relato de erros: caso um comando seja invlido, a exceo  lanada e a linha do comando fica disponvel em {@link #getLineNumber()} (ou em {@link ScriptException#getLineNumber()}, no iterator). A leitura pode continuar a partir do comando seguinte, permitindo relatar todos os erros do script.
+ * <p>
+ * Esta classe no  thread-safe.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class CommandScriptReader implements Closeable, Iterable<CommandScriptReader.ScriptCommand> {
+
+  /**
+   * Tamanho mximo padro de um comando, em caracteres.
+   */
+  public static final int DEFAULT_MAX_COMMAND_LENGTH = 1024 * 1024;
+
+  /**
+   * Tamanho das janelas de mapeamento dos arquivos, em bytes.
+   */
+  public static final long MAP_WINDOW = 64L * 1024 * 1024;
+
+  /**
+   * Tamanho do buffer de leitura dos canais que no so arquivos, em bytes.
+   */
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Comando lido do script.
+   */
+  public static class ScriptCommand {
+
+    private final int lineNumber;
+    private final String commandLine;
+    private final ParsedCommand command;
+
+    ScriptCommand(int lineNumber, String commandLine, ParsedCommand command) {
+      this.lineNumber = lineNumber;
+      this.commandLine = commandLine;
+      this.command = command;
+    }
+
+    /**
+     * Retorna a linha do script onde o comando comea.
+     *
+     * @return Nmero da linha, iniciando em 1.
+     */
+    public int getLineNumber() {
+      return this.lineNumber;
+    }
+
+    /**
+     * Retorna o texto do comando. As quebras de linha dentro de aspas so retornadas como '\n'.
+     *
+     * @return Linha de comando.
+     */
+    public String getCommandLine() {
+      return this.commandLine;
+    }
+
+    /**
+     * Retorna o comando interpretado.
+     *
+     * @return Argumentos e parmetros do comando.
+     */
+    public ParsedCommand getCommand() {
+      return this.command;
+    }
+  }
+
+  /**
+   * Exceo lanada pelo {@link CommandScriptReader#iterator()} e pelo {@link CommandScriptReader#stream()}, que no permitem excees verificadas. A causa  a {@link RFWException} original.
+   */
+  public static class ScriptException extends RuntimeException {
+
+    private static final long serialVersionUID = 8403219385210756613L;
+
+    private final int lineNumber;
+
+    ScriptException(int lineNumber, RFWException cause) {
+      super("Falha no comando da linha " + lineNumber + " do script: " + cause.getMessage(), cause);
+      this.lineNumber = lineNumber;
+    }
+
+    /**
+     * Retorna a linha do script onde comea o comando que causou a falha.
+     *
+     * @return Nmero da linha, iniciando em 1.
+     */
+    public int getLineNumber() {
+      return this.lineNumber;
+    }
+
+    @Override
+    public synchronized RFWException getCause() {
+      return (RFWException) super.getCause();
+    }
+  }
+
+  private final ReadableByteChannel channel;
+
+  /**
+   * Arquivo lido por mapeamento em memria, ou null quando o canal  lido em um buffer.
+   */
+  private final FileChannel file;
+
+  /**
+   * Posio final do arquivo mapeado.
+   */
+  private final long fileEnd;
+
+  /**
+   * Posio, no arquivo, do incio da janela mapeada atual.
+   */
+  private long mapStart;
+
+  private ByteBuffer bytes;
+
+  private final CharsetDecoder decoder;
+
+  private final CharBuffer chars = CharBuffer.allocate(8192);
+
+  private boolean endOfInput = false;
+  private boolean decoding = true;
+  private boolean drained = false;
+
+  private int maxCommandLength = DEFAULT_MAX_COMMAND_LENGTH;
+
+  /**
+   * Texto do comando atual, reutilizado entre os comandos.
+   */
+  private final StringBuilder command = new StringBuilder(256);
+
+  private final CommandTokens tokens = new CommandTokens();
+
+  /**
+   * Linha do script sendo lida.
+   */
+  private int currentLine = 1;
+
+  /**
+   * Linha onde comea o comando atual.
+   */
+  private int commandLineNumber = 0;
+
+  /**
+   * Indica que o ltimo caractere lido foi um CR, para que o LF seguinte no conte como uma nova linha.
+   */
+  private boolean skipLF = false;
+
+  /**
+   * Indica se o comando atual foi interpretado com sucesso.
+   */
+  private boolean hasCommand = false;
+
+  /**
+   * Cria um leitor para um arquivo em UTF-8.
+   *
+   * @param path Caminho do arquivo.
+   * @throws RFWException Lanado caso no seja possvel abrir o arquivo.
+   */
+  public CommandScriptReader(Path path) throws RFWException {
+    this(path, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Cria um leitor para um arquivo.
+   *
+   * @param path Caminho do arquivo.
+   * @param charset Codificao do arquivo.
+   * @throws RFWException Lanado caso no seja possvel abrir o arquivo.
+   */
+  public CommandScriptReader(Path path, Charset charset) throws RFWException {
+    this(open(path), charset);
+  }
+
+  /**
+   * Cria um leitor para um canal. Caso o canal seja um {@link FileChannel} ele  lido por mapeamento em memria, a partir da sua posio atual.<br>
+   * O canal deve ser bloqueante, e  fechado pelo {@link #close()}.
+   *
+   * @param channel Canal com o contedo do script.
+   * @param charset Codificao do contedo.
+   * @throws RFWException Lanado caso no seja possvel obter o tamanho do arquivo.
+   */
+  public CommandScriptReader(ReadableByteChannel channel, Charset charset) throws RFWException {
+    this.channel = channel;
+    this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPORT).onUnmappableCharacter(CodingErrorAction.REPORT);
+    this.chars.flip();
+    if (channel instanceof FileChannel) {
+      this.file = (FileChannel) channel;
+      try {
+        this.mapStart = this.file.position();
+        this.fileEnd = this.file.size();
+      } catch (IOException e) {
+        throw new RFWCriticalException("Falha ao abrir o script de comandos!", e);
+      }
+      this.bytes = ByteBuffer.allocate(0);
+    } else {
+      this.file = null;
+      this.fileEnd = 0;
+      this.bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+      this.bytes.flip();
+    }
+  }
+
+  private static FileChannel open(Path path) throws RFWException {
+    try {
+      return FileChannel.open(path, StandardOpenOption.READ);
+    } catch (IOException e) {
+      throw new RFWCriticalException("Falha ao abrir o script de comandos '" + path + "'!", e);
+    }
+  }
+
+  /**
+   * Define o tamanho mximo de um comando. Evita que um script invlido, por exemplo com aspas que nunca so fechadas, seja acumulado inteiro em memria.
+   *
+   * @param maxCommandLength Tamanho mximo, em caracteres.
+   */
+  public void setMaxCommandLength(int maxCommandLength) {
+    if (maxCommandLength <= 0) throw new IllegalArgumentException("O tamanho mximo do comando deve ser positivo.");
+    this.maxCommandLength = maxCommandLength;
+  }
+
+  /**
+   * L e interpreta o prximo comando do script.<br>
+   * Caso o comando seja invlido a exceo  lanada, {@link #getLineNumber()} retorna a linha do comando, e a prxima chamada continua a leitura a partir do comando seguinte.
+   *
+   * @return true caso um comando tenha sido lido, false no fim do script.
+   * @throws RFWException Lanado caso o comando seja invlido ou ocorra alguma falha de leitura.
+   */
+  public boolean next() throws RFWException {
+    final StringBuilder cmd = this.command;
+    cmd.setLength(0);
+    this.hasCommand = false;
+    char quote = 0;
+    boolean escape = false;
+    boolean comment = false;
+    // Os espaos iniciais so mantidos no comando para que as posies das mensagens de erro correspondam s colunas da linha
+    boolean content = false;
+
+    while (this.chars.hasRemaining() || fill()) {
+      final char[] a = this.chars.array();
+      final int limit = this.chars.limit();
+      int p = this.chars.position();
+      while (p < limit) {
+        char c = a[p];
+        if (content && !comment && !escape && !this.skipLF && isPlain(c)) {
+          // Trecho de caracteres sem efeito na separao dos comandos: acrescentado de uma s vez
+          int start = p;
+          do {
+            p++;
+          } while (p < limit && isPlain(a[p]));
+          append(a, start, p - start);
+          continue;
+        }
+        p++;
+        if (this.skipLF) {
+          this.skipLF = false;
+          if (c == '\n') continue;
+        }
+        if (c == '\n' || c == '\r') {
+          this.skipLF = c == '\r';
+          this.currentLine++;
+          if (quote != 0) {
+            // Quebra de linha dentro das aspas: faz parte do valor e o comando continua na prxima linha
+            escape = false;
+            append('\n');
+          } else if (content) {
+            this.chars.position(p);
+            parse();
+            return true;
+          } else {
+            cmd.setLength(0);
+            comment = false;
+          }
+          continue;
+        }
+        if (comment) continue;
+        if (!content) {
+          if (c == '#') {
+            comment = true;
+            continue;
+          }
+          if (!Character.isWhitespace(c)) {
+            content = true;
+            this.commandLineNumber = this.currentLine;
+          }
+        }
+        // As aspas so acompanhadas apenas para identificar as quebras de linha que fazem parte de um valor; a validao  feita pelo parser.
+        // Assim como no parser, as aspas s abrem um valor no incio de um token: em qualquer outra posio o comando  invlido e termina na quebra de linha.
+        // Tambm como no parser, a barra invertida s escapa o caractere seguinte quando ele  a aspa que fecharia o valor: em \\" a segunda barra escapa a aspa e o valor continua
+        if (quote == 0) {
+          if ((c == '"' || c == '\'') && (cmd.length() == 0 || isTokenStart(cmd.charAt(cmd.length() - 1)))) quote = c;
+        } else if (escape && c == quote) {
+          escape = false;
+        } else {
+          escape = c == '\\';
+          if (c == quote) quote = 0;
+        }
+        append(c);
+      }
+      this.chars.position(p);
+    }
+    if (content) {
+      parse();
+      return true;
+    }
+    cmd.setLength(0);
+    return false;
+  }
+
+  private static boolean isTokenStart(char previous) {
+    return previous == '=' || Character.isWhitespace(previous);
+  }
+
+  private static boolean isPlain(char c) {
+    return c != '\n' && c != '\r' && c != '"' && c != '\'' && c != '\\';
+  }
+
+  private void append(char c) throws RFWException {
+    checkLength(1);
+    this.command.append(c);
+  }
+
+  private void append(char[] a, int offset, int length) throws RFWException {
+    checkLength(length);
+    this.command.append(a, offset, length);
+  }
+
+  private void checkLength(int length) throws RFWException {
+    if (this.command.length() + length > this.maxCommandLength) {
+      throw new RFWCriticalException("O comando iniciado na linha " + this.commandLineNumber + " do script excede o tamanho mximo de " + this.maxCommandLength + " caracteres. Verifique se no h aspas sem fechamento.");
+    }
+  }
+
+  private void parse() throws RFWException {
+    CommandParser.tokenize(this.command, this.tokens);
+    this.hasCommand = true;
+  }
+
+  /**
+   * Decodifica o prximo bloco de caracteres, lendo mais bytes quando necessrio.
+   *
+   * @return false no fim do contedo.
+   */
+  private boolean fill() throws RFWException {
+    final CharBuffer out = this.chars;
+    out.clear();
+    while (!this.drained) {
+      CoderResult result = this.decoding ? this.decoder.decode(this.bytes, out, this.endOfInput) : this.decoder.flush(out);
+      if (result.isError()) {
+        throw new RFWCriticalException("Contedo invlido na linha " + this.currentLine + " do script: os bytes no correspondem  codificao " + this.decoder.charset().name() + ".");
+      }
+      if (result.isUnderflow()) {
+        if (!this.decoding) {
+          this.drained = true;
+        } else if (this.endOfInput) {
+          this.decoding = false;
+        } else if (out.position() == 0) {
+          // Os bytes restantes (se houver) so um caractere incompleto, que ser decodificado junto com o prximo bloco
+          readBytes();
+          continue;
+        }
+      }
+      if (out.position() > 0) break;
+    }
+    out.flip();
+    return out.hasRemaining();
+  }
+
+  /**
+   * L o prximo bloco de bytes, mantendo no incio do bloco os bytes ainda no decodificados.
+   */
+  private void readBytes() throws RFWException {
+    try {
+      if (this.file != null) {
+        if (this.mapStart + this.bytes.limit() >= this.fileEnd) {
+          this.endOfInput = true;
+          return;
+        }
+        long position = this.mapStart + this.bytes.position();
+        this.bytes = this.file.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_WINDOW, this.fileEnd - position));
+        this.mapStart = position;
+      } else {
+        this.bytes.compact();
+        int read = this.channel.read(this.bytes);
+        this.bytes.flip();
+        if (read < 0) this.endOfInput = true;
+      }
+    } catch (IOException e) {
+      throw new RFWCriticalException("Falha ao ler o script de comandos na linha " + this.currentLine + "!", e);
+    }
+  }
+
+  /**
+   * Retorna a linha do script onde comea o ltimo comando lido pelo {@link #next()}, inclusive quando o comando  invlido.
+   *
+   * @return Nmero da linha, iniciando em 1, ou 0 caso nenhum comando tenha sido lido.
+   */
+  public int getLineNumber() {
+    return this.commandLineNumber;
+  }
+
+  /**
+   * Retorna o texto do ltimo comando lido. O contedo  reutilizado e  vlido somente at a prxima chamada do {@link #next()}.
+   *
+   * @return Linha de comando.
+   */
+  public CharSequence getCommandText() {
+    return this.command;
+  }
+
+  /**
+   * Retorna os tokens do ltimo comando lido com sucesso. A instncia  reutilizada e o contedo  vlido somente at a prxima chamada do {@link #next()}.
+   *
+   * @return Tokens do comando.
+   */
+  public CommandTokens getTokens() {
+    if (!this.hasCommand) throw new IllegalStateException("Nenhum comando vlido foi lido.");
+    return this.tokens;
+  }
+
+  /**
+   * Cria o {@link ScriptCommand} do ltimo comando lido com sucesso.
+   *
+   * @return Comando com a linha do script.
+   */
+  public ScriptCommand getCommand() {
+    return new ScriptCommand(this.commandLineNumber, this.command.toString(), getTokens().toParsedCommand());
+  }
+
+  /**
+   * Retorna um iterator dos comandos do script. As falhas so lanadas como {@link ScriptException}, e a iterao pode continuar a partir do comando seguinte ao invlido.<br>
+   * O iterator utiliza este mesmo leitor: os comandos so lidos  medida que so consumidos, e no devem ser misturadas chamadas ao {@link #next()}.
+   *
+   * @return Iterator dos comandos.
+   */
+  @Override
+  public Iterator<ScriptCommand> iterator() {
+    return new Iterator<ScriptCommand>() {
+      private ScriptCommand nextCommand = null;
+      private boolean end = false;
+
+      @Override
+      public boolean hasNext() {
+        if (this.nextCommand == null && !this.end) {
+          try {
+            if (CommandScriptReader.this.next()) {
+              this.nextCommand = getCommand();
+            } else {
+              this.end = true;
+            }
+          } catch (RFWException e) {
+            throw new ScriptException(getLineNumber(), e);
+          }
+        }
+        return this.nextCommand != null;
+      }
+
+      @Override
+      public ScriptCommand next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        ScriptCommand result = this.nextCommand;
+        this.nextCommand = null;
+        return result;
+      }
+    };
+  }
+
+  /**
+   * Retorna um Stream sequencial dos comandos do script. Assim como no {@link #iterator()}, as falhas so lanadas como {@link ScriptException}.<br>
+   * Fechar o Stream fecha este leitor.
+   *
+   * @return Stream dos comandos.
+   */
+  public Stream<ScriptCommand> stream() {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          close();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    });
+  }
+
+  /**
+   * Fecha o canal do script.
+   */
+  @Override
+  public void close() throws IOException {
+    this.channel.close();
+  }
+}
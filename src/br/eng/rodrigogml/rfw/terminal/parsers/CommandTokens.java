@@ -0,0 +1,520 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import java.util.Arrays;
+
+import br.eng.rodrigogml.rfw.terminal.parsers.CommandParser.ParsedCommand;
+
+/**
+ * Description: Resultado reutilizvel do {@link CommandParser#tokenize(CharSequence, CommandTokens)}.<br>
+ * Ao invs de criar uma String para cada argumento e parmetro, cada token  registrado apenas como a sua posio (incio e fim) na linha de comando original e o seu tipo. As Strings so criadas somente quando solicitadas ({@link #getToken(int)}, {@link #getArgument(int)}, etc.), e os tokens podem ser comparados com um texto sem criar nenhum objeto ({@link #tokenEquals(int, CharSequence)}).
+ * <p>
+ * Os tokens ficam na ordem em que aparecem na linha. Cada parmetro  um token {@link TokenKind#PARAMETER} (o nome, incluindo os hfens) seguido de um token {@link TokenKind#VALUE} com o seu valor. Os parmetros sem valor ("flags") no tm o token de valor e o seu valor  "true", como no {@link ParsedCommand}.<br>
+ * O {@link ParsedCommand} s registra um parmetro sem valor quando ele  seguido de outro parmetro: o ltimo parmetro sem valor da linha (por exemplo "-force" em "deploy app -force" ou em "deploy -force app")  descartado. Para manter o mesmo resultado, este parmetro no faz parte dos parmetros ({@link #getParameterCount()}, {@link #findParameter(CharSequence)}, {@link #toParsedCommand()}), mas  registrado como o ltimo token, do tipo {@link TokenKind#PARAMETER}, e pode ser consultado em {@link #getTrailingFlagToken()}.<br>
+ * Nos tokens entre aspas, o incio e o fim so os do contedo interno (sem as aspas) e as barras de escape so removidas apenas na criao da String. Nos raros casos em que o contedo do token no  um trecho contnuo da linha, a String do token  montada durante a interpretao.
+ * <p>
+ * A mesma instncia pode ser reutilizada em vrias interpretaes: depois que os arrays internos atingem o tamanho necessrio nenhum objeto  criado. Esta classe no  thread-safe.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public final class CommandTokens {
+
+  /**
+   * Tipos de token.
+   */
+  public enum TokenKind {
+    /**
+     * Argumento posicional.
+     */
+    ARGUMENT,
+    /**
+     * Nome de um parmetro, incluindo os hfens iniciais.
+     */
+    PARAMETER,
+    /**
+     * Valor do parmetro do token anterior.
+     */
+    VALUE
+  }
+
+  private static final TokenKind[] KINDS = TokenKind.values();
+
+  /**
+   * Valor dos parmetros informados sem valor.
+   */
+  private static final String FLAG_VALUE = "true";
+
+  /**
+   * Trecho da linha que est sendo acumulado durante a interpretao (o equivalente a cada StringBuilder do parser original).
+   */
+  static final class Span {
+    private CharSequence text;
+    int start;
+    int end;
+    boolean quoted;
+    boolean empty = true;
+
+    /**
+     * Contedo do trecho quando os caracteres no so contnuos na linha. Null enquanto o trecho for contnuo.
+     */
+    private StringBuilder copy = null;
+    private boolean copying = false;
+
+    /**
+     * Acrescenta ao trecho o caractere da posio informada.
+     *
+     * @param text Linha de comando.
+     * @param pos Posio do caractere.
+     * @param insideQuotes Indica se o caractere est entre aspas.
+     */
+    void append(CharSequence text, int pos, boolean insideQuotes) {
+      if (this.empty) {
+        this.text = text;
+        this.start = pos;
+        this.end = pos + 1;
+        this.quoted = insideQuotes;
+        this.empty = false;
+      } else if (this.copying) {
+        this.copy.append(text.charAt(pos));
+      } else if (pos == this.end || (this.quoted && onlyBackslashes(text, this.end, pos))) {
+        // Entre aspas as barras de escape nunca fazem parte do contedo e so removidas na criao da String
+        this.end = pos + 1;
+      } else {
+        if (this.copy == null) this.copy = new StringBuilder(32);
+        this.copy.setLength(0);
+        appendTo(this.copy);
+        this.copy.append(text.charAt(pos));
+        this.copying = true;
+      }
+    }
+
+    /**
+     * Estende o trecho com os caracteres de from (a posio seguinte ao fim atual) at to.
+     *
+     * @return false caso o trecho no seja contnuo e os caracteres precisem ser acrescentados um a um.
+     */
+    boolean extend(int from, int to) {
+      if (this.copying || this.end != from) return false;
+      this.end = to;
+      return true;
+    }
+
+    void set(Span other) {
+      this.text = other.text;
+      this.start = other.start;
+      this.end = other.end;
+      this.quoted = other.quoted;
+      this.empty = other.empty;
+      this.copying = other.copying;
+      if (other.copying) {
+        if (this.copy == null) this.copy = new StringBuilder(32);
+        this.copy.setLength(0);
+        this.copy.append(other.copy);
+      }
+    }
+
+    void clear() {
+      this.empty = true;
+      this.copying = false;
+      this.text = null;
+    }
+
+    boolean isEmpty() {
+      return this.empty;
+    }
+
+    /**
+     * Verifica se o contedo tem algum caractere de palavra ([a-zA-Z0-9_]), substituindo o replaceAll("[^\\w]", "") do parser original.
+     */
+    boolean containsWordChar() {
+      if (this.copying) {
+        for (int i = 0; i < this.copy.length(); i++) {
+          if (isWordChar(this.copy.charAt(i))) return true;
+        }
+        return false;
+      }
+      for (int i = this.start; i < this.end; i++) {
+        if (isWordChar(this.text.charAt(i))) return true;
+      }
+      return false;
+    }
+
+    void appendTo(StringBuilder out) {
+      if (this.copying) {
+        out.append(this.copy);
+      } else {
+        appendRange(this.text, this.start, this.end, this.quoted, out);
+      }
+    }
+
+    String copyString() {
+      return this.copying ? this.copy.toString() : null;
+    }
+  }
+
+  /**
+   * Linha de comando interpretada.
+   */
+  private CharSequence commandLine = null;
+
+  private int count = 0;
+  private byte[] kinds = new byte[16];
+  private int[] starts = new int[16];
+  private int[] ends = new int[16];
+  private boolean[] quoted = new boolean[16];
+
+  /**
+   * Contedo dos tokens que no so um trecho contnuo da linha. Null para os demais tokens.
+   */
+  private String[] copies = new String[16];
+
+  private int argumentCount = 0;
+  private int[] argumentTokens = new int[8];
+
+  private int parameterCount = 0;
+  private int[] parameterTokens = new int[8];
+
+  /**
+   * Token do parmetro sem valor que ficou pendente no fim da linha, ou -1. Veja {@link #getTrailingFlagToken()}.
+   */
+  private int trailingFlagToken = -1;
+
+  // Trechos em acumulao durante a interpretao, reaproveitados entre as interpretaes
+  final Span argument = new Span();
+  final Span paramName = new Span();
+  final Span paramValue = new Span();
+  final Span pendingParam = new Span();
+
+  /**
+   * Limpa o resultado para uma nova interpretao.
+   *
+   * @param commandLine Linha de comando a ser interpretada.
+   */
+  void reset(CharSequence commandLine) {
+    this.commandLine = commandLine;
+    Arrays.fill(this.copies, 0, this.count, null);
+    this.count = 0;
+    this.argumentCount = 0;
+    this.parameterCount = 0;
+    this.trailingFlagToken = -1;
+    this.argument.clear();
+    this.paramName.clear();
+    this.paramValue.clear();
+    this.pendingParam.clear();
+  }
+
+  /**
+   * Registra o trecho como um novo token.
+   */
+  private int addToken(TokenKind kind, Span span) {
+    if (this.count == this.kinds.length) {
+      int size = this.count * 2;
+      this.kinds = Arrays.copyOf(this.kinds, size);
+      this.starts = Arrays.copyOf(this.starts, size);
+      this.ends = Arrays.copyOf(this.ends, size);
+      this.quoted = Arrays.copyOf(this.quoted, size);
+      this.copies = Arrays.copyOf(this.copies, size);
+    }
+    int i = this.count++;
+    this.kinds[i] = (byte) kind.ordinal();
+    this.starts[i] = span.start;
+    this.ends[i] = span.end;
+    this.quoted[i] = span.quoted;
+    this.copies[i] = span.copyString();
+    return i;
+  }
+
+  /**
+   * Registra um argumento.
+   */
+  void addArgument(Span span) {
+    if (this.argumentCount == this.argumentTokens.length) this.argumentTokens = Arrays.copyOf(this.argumentTokens, this.argumentCount * 2);
+    this.argumentTokens[this.argumentCount++] = addToken(TokenKind.ARGUMENT, span);
+  }
+
+  /**
+   * Registra um parmetro.
+   *
+   * @param name Nome do parmetro.
+   * @param value Valor do parmetro, ou null para os parmetros sem valor.
+   */
+  void addParameter(Span name, Span value) {
+    if (this.parameterCount == this.parameterTokens.length) this.parameterTokens = Arrays.copyOf(this.parameterTokens, this.parameterCount * 2);
+    this.parameterTokens[this.parameterCount++] = addToken(TokenKind.PARAMETER, name);
+    if (value != null) addToken(TokenKind.VALUE, value);
+  }
+
+  /**
+   * Registra o parmetro sem valor que ficou pendente no fim da linha, como ltimo token.
+   */
+  void setTrailingFlag(Span name) {
+    this.trailingFlagToken = addToken(TokenKind.PARAMETER, name);
+  }
+
+  /**
+   * Retorna o token do parmetro sem valor que ficou pendente no fim da linha, que no  seguido de outro parmetro (por exemplo "-force" em "deploy app -force" ou em "deploy -force app").<br>
+   * Este parmetro  descartado pelo {@link CommandParser#parse(String)} e por isso no  contado em {@link #getParameterCount()}, mas  considerado um parmetro com o valor "true" pelo {@link CommandRegistry} e pelas classes de opes ({@link CommandParser#parse(String, Class)}).
+   *
+   * @return ndice do token com o nome do parmetro, incluindo os hfens, ou -1 caso no exista.
+   */
+  public int getTrailingFlagToken() {
+    return this.trailingFlagToken;
+  }
+
+  /**
+   * Retorna a linha de comando interpretada.
+   *
+   * @return Linha de comando, ou null caso nenhuma linha tenha sido interpretada.
+   */
+  public CharSequence getCommandLine() {
+    return this.commandLine;
+  }
+
+  /**
+   * Retorna a quantidade de tokens.
+   *
+   * @return Quantidade de tokens.
+   */
+  public int getTokenCount() {
+    return this.count;
+  }
+
+  /**
+   * Retorna o tipo do token.
+   *
+   * @param index ndice do token.
+   * @return Tipo do token.
+   */
+  public TokenKind getTokenKind(int index) {
+    checkToken(index);
+    return KINDS[this.kinds[index]];
+  }
+
+  /**
+   * Retorna a posio inicial do token na linha de comando (o incio do contedo, sem as aspas).
+   *
+   * @param index ndice do token.
+   * @return Posio inicial (inclusive).
+   */
+  public int getTokenStart(int index) {
+    checkToken(index);
+    return this.starts[index];
+  }
+
+  /**
+   * Retorna a posio final do token na linha de comando (o fim do contedo, sem as aspas).
+   *
+   * @param index ndice do token.
+   * @return Posio final (exclusive).
+   */
+  public int getTokenEnd(int index) {
+    checkToken(index);
+    return this.ends[index];
+  }
+
+  /**
+   * Verifica se o token estava entre aspas.
+   *
+   * @param index ndice do token.
+   * @return true caso o token estivesse entre aspas.
+   */
+  public boolean isTokenQuoted(int index) {
+    checkToken(index);
+    return this.quoted[index];
+  }
+
+  /**
+   * Verifica se o contedo do token  exatamente o trecho da linha entre o incio e o fim do token, sem aspas nem barras de escape, podendo ser lido diretamente da linha de comando.
+   *
+   * @param index ndice do token.
+   * @return true caso o token seja um trecho simples da linha.
+   */
+  boolean isTokenPlain(int index) {
+    checkToken(index);
+    return !this.quoted[index] && this.copies[index] == null;
+  }
+
+  /**
+   * Cria a String com o contedo do token.
+   *
+   * @param index ndice do token.
+   * @return Contedo do token.
+   */
+  public String getToken(int index) {
+    checkToken(index);
+    if (this.copies[index] != null) return this.copies[index];
+    if (!this.quoted[index]) return this.commandLine.subSequence(this.starts[index], this.ends[index]).toString();
+    StringBuilder buff = new StringBuilder(this.ends[index] - this.starts[index]);
+    appendRange(this.commandLine, this.starts[index], this.ends[index], true, buff);
+    return buff.toString();
+  }
+
+  /**
+   * Compara o contedo do token com o texto informado, sem criar nenhum objeto.
+   *
+   * @param index ndice do token.
+   * @param text Texto a ser comparado.
+   * @return true caso o contedo do token seja igual ao texto.
+   */
+  public boolean tokenEquals(int index, CharSequence text) {
+    checkToken(index);
+    if (this.copies[index] != null) return this.copies[index].contentEquals(text);
+    int j = 0;
+    for (int i = this.starts[index]; i < this.ends[index]; i++) {
+      char c = this.commandLine.charAt(i);
+      if (c == '\\' && this.quoted[index]) continue;
+      if (j >= text.length() || text.charAt(j++) != c) return false;
+    }
+    return j == text.length();
+  }
+
+  /**
+   * Retorna a quantidade de argumentos.
+   *
+   * @return Quantidade de argumentos.
+   */
+  public int getArgumentCount() {
+    return this.argumentCount;
+  }
+
+  /**
+   * Retorna o ndice do token de um argumento.
+   *
+   * @param argument ndice do argumento.
+   * @return ndice do token.
+   */
+  public int getArgumentToken(int argument) {
+    if (argument < 0 || argument >= this.argumentCount) throw new IndexOutOfBoundsException("Argumento inexistente: " + argument);
+    return this.argumentTokens[argument];
+  }
+
+  /**
+   * Cria a String de um argumento.
+   *
+   * @param argument ndice do argumento.
+   * @return Contedo do argumento.
+   */
+  public String getArgument(int argument) {
+    return getToken(getArgumentToken(argument));
+  }
+
+  /**
+   * Retorna a quantidade de parmetros, incluindo os repetidos.
+   *
+   * @return Quantidade de parmetros.
+   */
+  public int getParameterCount() {
+    return this.parameterCount;
+  }
+
+  /**
+   * Retorna o ndice do token com o nome de um parmetro. O valor, quando existe,  o token seguinte.
+   *
+   * @param parameter ndice do parmetro.
+   * @return ndice do token.
+   */
+  public int getParameterToken(int parameter) {
+    if (parameter < 0 || parameter >= this.parameterCount) throw new IndexOutOfBoundsException("Parmetro inexistente: " + parameter);
+    return this.parameterTokens[parameter];
+  }
+
+  /**
+   * Cria a String com o nome de um parmetro, incluindo os hfens.
+   *
+   * @param parameter ndice do parmetro.
+   * @return Nome do parmetro.
+   */
+  public String getParameterName(int parameter) {
+    return getToken(getParameterToken(parameter));
+  }
+
+  /**
+   * Verifica se o parmetro foi informado sem valor.
+   *
+   * @param parameter ndice do parmetro.
+   * @return true caso o parmetro no tenha valor.
+   */
+  public boolean isParameterFlag(int parameter) {
+    int token = getParameterToken(parameter) + 1;
+    return token >= this.count || this.kinds[token] != TokenKind.VALUE.ordinal();
+  }
+
+  /**
+   * Cria a String com o valor de um parmetro.
+   *
+   * @param parameter ndice do parmetro.
+   * @return Valor do parmetro, ou "true" para os parmetros sem valor.
+   */
+  public String getParameterValue(int parameter) {
+    return isParameterFlag(parameter) ? FLAG_VALUE : getToken(getParameterToken(parameter) + 1);
+  }
+
+  /**
+   * Busca um parmetro pelo nome (incluindo os hfens), sem criar nenhum objeto. Quando o parmetro  repetido, vale a ltima ocorrncia, como no {@link ParsedCommand}.
+   *
+   * @param name Nome do parmetro.
+   * @return ndice do parmetro, ou -1 caso no tenha sido informado.
+   */
+  public int findParameter(CharSequence name) {
+    for (int p = this.parameterCount - 1; p >= 0; p--) {
+      if (tokenEquals(this.parameterTokens[p], name)) return p;
+    }
+    return -1;
+  }
+
+  /**
+   * Retorna o valor de um parmetro pelo nome (incluindo os hfens).
+   *
+   * @param name Nome do parmetro.
+   * @return Valor do parmetro, "true" para os parmetros sem valor, ou null caso no tenha sido informado.
+   */
+  public String getParameter(CharSequence name) {
+    int p = findParameter(name);
+    return p < 0 ? null : getParameterValue(p);
+  }
+
+  /**
+   * Cria o {@link ParsedCommand} equivalente, com as Strings de todos os argumentos e parmetros.
+   *
+   * @return Resultado no formato de {@link CommandParser#parse(String)}.
+   */
+  public ParsedCommand toParsedCommand() {
+    ParsedCommand result = new ParsedCommand();
+    for (int a = 0; a < this.argumentCount; a++) {
+      result.arguments.add(getArgument(a));
+    }
+    for (int p = 0; p < this.parameterCount; p++) {
+      result.parameters.put(getParameterName(p), getParameterValue(p));
+    }
+    return result;
+  }
+
+  private void checkToken(int index) {
+    if (index < 0 || index >= this.count) throw new IndexOutOfBoundsException("Token inexistente: " + index);
+  }
+
+  /**
+   * Acrescenta o trecho da linha ao StringBuilder, removendo as barras de escape dos trechos entre aspas.
+   */
+  private static void appendRange(CharSequence text, int start, int end, boolean quoted, StringBuilder out) {
+    if (!quoted) {
+      out.append(text, start, end);
+      return;
+    }
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if (c != '\\') out.append(c);
+    }
+  }
+
+  private static boolean onlyBackslashes(CharSequence text, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (text.charAt(i) != '\\') return false;
+    }
+    return true;
+  }
+
+  private static boolean isWordChar(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+  }
+}
@@ -0,0 +1,23 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import java.util.Collection;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+
+/**
+ * Description: Fornece os valores sugeridos pelo {@link CommandCompleter} para um parmetro ou argumento de um comando (por exemplo a lista de servidores ou os arquivos de um diretrio).<br>
+ * Os valores so mantidos em cache pelo {@link CommandCompleter}, portanto o provedor pode ser lento: ele s  chamado novamente depois de expirado o tempo definido no registro do provedor.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public interface CompletionProvider {
+
+  /**
+   * Retorna os valores que podem ser sugeridos.
+   *
+   * @return Valores aceitos, em qualquer ordem. Valores repetidos so desconsiderados.
+   * @throws RFWException Lanado caso no seja possvel obter os valores.
+   */
+  Collection<String> getValues() throws RFWException;
+}
@@ -0,0 +1,173 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Description: rvore de prefixos (trie) de nomes, utilizada para localizar comandos e parmetros pelo nome, pelos apelidos ou por uma abreviao.<br>
+ * A localizao percorre apenas os caracteres do nome procurado, independente da quantidade de nomes registrados. Cada n mantm o valor nico registrado abaixo dele (quando houver somente um), de forma que uma abreviao  resolvida no mesmo percurso: se todos os nomes iniciados pelo prefixo levam ao mesmo valor (por exemplo, um nome e os seus apelidos), a abreviao no  ambgua.
+ * <p>
+ * Esta classe no  thread-safe para alteraes. Depois de preenchida, pode ser consultada por vrias threads.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+final class NameTrie<V> {
+
+  private static final char[] NO_KEYS = new char[0];
+
+  /**
+   * N da rvore.
+   */
+  static final class Node<V> {
+    /**
+     * Caracteres dos filhos, em ordem crescente.
+     */
+    char[] keys = NO_KEYS;
+    Node<V>[] children = null;
+
+    /**
+     * Valor do nome que termina neste n, ou null.
+     */
+    V value = null;
+
+    /**
+     * Valor de todos os nomes que passam por este n, ou null caso passem nomes de valores diferentes.
+     */
+    V unique = null;
+
+    /**
+     * Indica que passam por este n nomes de valores diferentes.
+     */
+    boolean shared = false;
+
+    Node<V> child(char c) {
+      int i = Arrays.binarySearch(this.keys, c);
+      return i < 0 ? null : this.children[i];
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    Node<V> addChild(char c) {
+      int i = Arrays.binarySearch(this.keys, c);
+      if (i >= 0) return this.children[i];
+      i = -i - 1;
+      int n = this.keys.length;
+      char[] keys = new char[n + 1];
+      Node<V>[] children = new Node[n + 1];
+      System.arraycopy(this.keys, 0, keys, 0, i);
+      keys[i] = c;
+      System.arraycopy(this.keys, i, keys, i + 1, n - i);
+      if (n > 0) {
+        System.arraycopy(this.children, 0, children, 0, i);
+        System.arraycopy(this.children, i, children, i + 1, n - i);
+      }
+      Node<V> node = new Node<>();
+      children[i] = node;
+      this.keys = keys;
+      this.children = children;
+      return node;
+    }
+
+    void mark(V value) {
+      if (this.shared) return;
+      if (this.unique == null) {
+        this.unique = value;
+      } else if (this.unique != value) {
+        this.unique = null;
+        this.shared = true;
+      }
+    }
+  }
+
+  private final Node<V> root = new Node<>();
+
+  private int size = 0;
+
+  /**
+   * Registra um nome. Caso o nome j esteja registrado, nada  alterado.
+   *
+   * @param name Nome.
+   * @param value Valor associado ao nome.
+   * @return Valor j registrado com o mesmo nome, ou null caso o nome tenha sido registrado.
+   */
+  V put(CharSequence name, V value) {
+    V current = get(name, 0, name.length());
+    if (current != null) return current;
+    Node<V> node = this.root;
+    for (int i = 0; i < name.length(); i++) {
+      node = node.addChild(name.charAt(i));
+      node.mark(value);
+    }
+    node.value = value;
+    this.size++;
+    return null;
+  }
+
+  /**
+   * Localiza o n do prefixo informado.
+   *
+   * @param text Texto com o prefixo.
+   * @param start Posio inicial do prefixo no texto.
+   * @param end Posio final (exclusiva) do prefixo no texto.
+   * @return N do prefixo, ou null caso nenhum nome comece com o prefixo.
+   */
+  Node<V> node(CharSequence text, int start, int end) {
+    Node<V> node = this.root;
+    for (int i = start; i < end && node != null; i++) {
+      node = node.child(text.charAt(i));
+    }
+    return node;
+  }
+
+  /**
+   * Obtm o valor de um nome completo.
+   *
+   * @return Valor do nome, ou null caso o nome no esteja registrado.
+   */
+  V get(CharSequence text, int start, int end) {
+    Node<V> node = node(text, start, end);
+    return node == null ? null : node.value;
+  }
+
+  /**
+   * Obtm o valor de um nome completo ou de uma abreviao sem ambiguidade.
+   *
+   * @return Valor encontrado, ou null caso nenhum nome comece com o texto ou a abreviao seja ambgua.
+   */
+  V find(CharSequence text, int start, int end) {
+    Node<V> node = node(text, start, end);
+    if (node == null) return null;
+    return node.value != null ? node.value : node.unique;
+  }
+
+  /**
+   * Acrescenta  lista, em ordem alfabtica, os nomes registrados que comeam com o prefixo.
+   *
+   * @param prefix Prefixo dos nomes.
+   * @param names Lista que receber os nomes.
+   * @param limit Quantidade mxima de nomes acrescentados.
+   */
+  void collect(CharSequence prefix, List<String> names, int limit) {
+    Node<V> node = node(prefix, 0, prefix.length());
+    if (node != null) collect(node, new StringBuilder(prefix), names, limit);
+  }
+
+  private static <V> void collect(Node<V> node, StringBuilder name, List<String> names, int limit) {
+    if (names.size() >= limit) return;
+    if (node.value != null) names.add(name.toString());
+    for (int i = 0; i < node.keys.length && names.size() < limit; i++) {
+      name.append(node.keys[i]);
+      collect(node.children[i], name, names, limit);
+      name.setLength(name.length() - 1);
+    }
+  }
+
+  /**
+   * Retorna a quantidade de nomes registrados.
+   *
+   * @return Quantidade de nomes.
+   */
+  int size() {
+    return this.size;
+  }
+}
@@ -0,0 +1,580 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
+
+/**
+ * Description: Metadados de preenchimento de uma classe de opes, com atributos anotados com {@link CommandOption} e {@link CommandArgument}.<br>
+ * A classe  analisada por reflexo uma nica vez, na primeira utilizao, e o resultado fica em cache ({@link ClassValue}). Cada atributo tem o seu setter ({@link MethodHandle}) e o seu conversor escolhidos nesse momento, e os nomes dos parmetros ficam em uma {@link NameTrie}. Assim, o preenchimento de cada comando no utiliza reflexo: apenas localiza os parmetros nos tokens e chama os setters.<br>
+ * Os atributos numricos e lgicos primitivos so convertidos diretamente do trecho da linha de comando e atribudos sem boxing.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+final class OptionsBinding {
+
+  private static final ClassValue<OptionsBinding> BINDINGS = new ClassValue<OptionsBinding>() {
+    @Override
+    protected OptionsBinding computeValue(Class<?> type) {
+      return new OptionsBinding(type);
+    }
+  };
+
+  private static final MethodType OBJECT_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+  /**
+   * Conversor do valor de um atributo.
+   */
+  abstract static class Converter {
+
+    /**
+     * Converte o valor recebido na linha de comando.
+     *
+     * @throws RuntimeException Lanado caso o valor no seja vlido para o tipo.
+     */
+    abstract Object convert(String value);
+
+    /**
+     * Converte o valor do token e o atribui ao atributo.
+     *
+     * @param setter Setter do atributo, do tipo (Object, Object)void, ou (Object, primitivo)void nos conversores de primitivos.
+     * @param target Instncia das opes.
+     * @param tokens Tokens da linha de comando.
+     * @param token ndice do token com o valor, ou -1 para um parmetro informado sem valor.
+     */
+    void set(MethodHandle setter, Object target, CommandTokens tokens, int token) throws Throwable {
+      setter.invokeExact(target, convert(token < 0 ? "true" : tokens.getToken(token)));
+    }
+
+    /**
+     * Tipo do setter utilizado pelo {@link #set(MethodHandle, Object, CommandTokens, int)}.
+     */
+    MethodType setterType() {
+      return OBJECT_SETTER;
+    }
+  }
+
+  /**
+   * Atributo preenchido pelo binding.
+   */
+  static final class Target {
+    final String description;
+    final String typeName;
+    final Field field;
+    final MethodHandle setter;
+    final Converter converter;
+    final boolean list;
+    final boolean flag;
+    final boolean required;
+    final int argument;
+
+    /**
+     * Posio do atributo na lista de atributos da classe.
+     */
+    final int index;
+
+    Target(int index, String description, Field field, Class<?> valueType, MethodHandle setter, Converter converter, boolean list, boolean required, int argument) {
+      this.index = index;
+      this.description = description;
+      this.typeName = list ? "lista de " + valueType.getSimpleName() : valueType.getSimpleName();
+      this.field = field;
+      this.setter = setter;
+      this.converter = converter;
+      this.list = list;
+      this.flag = !list && (field.getType() == boolean.class || field.getType() == Boolean.class);
+      this.required = required;
+      this.argument = argument;
+    }
+  }
+
+  private final Class<?> type;
+
+  /**
+   * Construtor sem argumentos, do tipo ()Object, ou null caso a classe no tenha um.
+   */
+  private final MethodHandle constructor;
+
+  private final NameTrie<Target> options = new NameTrie<>();
+
+  private final Target[] targets;
+
+  /**
+   * Atributos dos argumentos posicionais, na ordem dos ndices.
+   */
+  private final Target[] arguments;
+
+  private final boolean hasRequired;
+
+  private final boolean hasLists;
+
+  /**
+   * Obtm os metadados da classe, analisando-a na primeira utilizao.
+   *
+   * @param type Classe de opes.
+   * @return Metadados da classe.
+   * @throws IllegalArgumentException Lanado caso a declarao dos atributos seja invlida.
+   */
+  static OptionsBinding of(Class<?> type) {
+    return BINDINGS.get(type);
+  }
+
+  private OptionsBinding(Class<?> type) {
+    this.type = type;
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    List<Target> all = new ArrayList<>();
+    List<Target> args = new ArrayList<>();
+    boolean required = false;
+    boolean lists = false;
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        CommandOption option = field.getAnnotation(CommandOption.class);
+        CommandArgument argument = field.getAnnotation(CommandArgument.class);
+        if (option == null && argument == null) continue;
+        if (option != null && argument != null) throw new IllegalArgumentException("O atributo '" + field.getName() + "' de " + type.getName() + " no pode ser ao mesmo tempo parmetro e argumento.");
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) throw new IllegalArgumentException("O atributo '" + field.getName() + "' de " + type.getName() + " no pode ser static nem final.");
+
+        boolean list = field.getType() == List.class || field.getType() == Collection.class || field.getType() == ArrayList.class;
+        Class<?> valueType = list ? listElementType(field) : field.getType();
+        Converter converter = converter(valueType);
+        if (converter == null) throw new IllegalArgumentException("Tipo no suportado no atributo '" + field.getName() + "' de " + type.getName() + ": " + field.getGenericType().getTypeName() + ".");
+        MethodHandle setter;
+        try {
+          field.setAccessible(true);
+          setter = lookup.unreflectSetter(field).asType(list ? OBJECT_SETTER : converter.setterType());
+        } catch (IllegalAccessException | RuntimeException e) {
+          throw new IllegalArgumentException("No foi possvel acessar o atributo '" + field.getName() + "' de " + type.getName() + ".", e);
+        }
+
+        Target target;
+        if (option != null) {
+          String name = option.name().isEmpty() ? field.getName() : option.name();
+          target = new Target(all.size(), "-" + name, field, valueType, setter, converter, list, option.required(), -1);
+          register(name, target);
+          for (String alias : option.aliases()) {
+            register(alias, target);
+          }
+        } else {
+          if (argument.index() < 0) throw new IllegalArgumentException("ndice invlido no argumento '" + field.getName() + "' de " + type.getName() + ".");
+          target = new Target(all.size(), "argumento " + argument.index(), field, valueType, setter, converter, list, argument.required(), argument.index());
+          args.add(target);
+        }
+        all.add(target);
+        required |= target.required;
+        lists |= list;
+      }
+    }
+    this.targets = all.toArray(new Target[0]);
+    args.sort(new Comparator<Target>() {
+      @Override
+      public int compare(Target a, Target b) {
+        return Integer.compare(a.argument, b.argument);
+      }
+    });
+    this.arguments = args.toArray(new Target[0]);
+    this.hasRequired = required;
+    this.hasLists = lists;
+
+    MethodHandle ctor = null;
+    try {
+      Constructor<?> declared = type.getDeclaredConstructor();
+      declared.setAccessible(true);
+      ctor = lookup.unreflectConstructor(declared).asType(MethodType.methodType(Object.class));
+    } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+      // Sem construtor padro: a classe s pode ser preenchida com uma instncia j criada
+    }
+    this.constructor = ctor;
+  }
+
+  private void register(String name, Target target) {
+    if (name.isEmpty() || name.charAt(0) == '-') throw new IllegalArgumentException("Nome de parmetro invlido em " + this.type.getName() + ": '" + name + "'. Os nomes so declarados sem os hfens.");
+    if (this.options.put(name, target) != null) throw new IllegalArgumentException("O parmetro '" + name + "' foi declarado em mais de um atributo de " + this.type.getName() + ".");
+  }
+
+  private static Class<?> listElementType(Field field) {
+    Type generic = field.getGenericType();
+    if (generic instanceof ParameterizedType) {
+      Type element = ((ParameterizedType) generic).getActualTypeArguments()[0];
+      if (element instanceof Class) return (Class<?>) element;
+    }
+    throw new IllegalArgumentException("O tipo dos itens da lista do atributo '" + field.getName() + "' deve ser declarado (por exemplo List<String>).");
+  }
+
+  /**
+   * Cria uma nova instncia da classe de opes.
+   */
+  Object newInstance() throws RFWException {
+    if (this.constructor == null) throw new IllegalArgumentException("A classe " + this.type.getName() + " no tem um construtor sem argumentos.");
+    try {
+      return this.constructor.invokeExact();
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao criar a instncia de " + this.type.getName() + "!", e);
+    }
+  }
+
+  /**
+   * Preenche a instncia com os argumentos e parmetros da linha de comando.
+   */
+  void bind(CommandTokens tokens, Object target) throws RFWException {
+    final boolean[] present = this.hasRequired ? new boolean[this.targets.length] : null;
+    final List<Object>[] lists = this.hasLists ? newLists() : null;
+
+    // O parmetro sem valor pendente no fim da linha  considerado depois dos demais, como a ltima ocorrncia
+    final int parameterCount = tokens.getParameterCount();
+    final int trailingFlag = tokens.getTrailingFlagToken();
+    for (int p = 0; p < parameterCount || (p == parameterCount && trailingFlag >= 0); p++) {
+      int token = p < parameterCount ? tokens.getParameterToken(p) : trailingFlag;
+      Target t = findOption(tokens, token);
+      int valueToken = p == parameterCount || tokens.isParameterFlag(p) ? -1 : token + 1;
+      if (valueToken < 0 && !t.flag) throw new RFWValidationException("O parmetro '" + tokens.getToken(token) + "' exige um valor.");
+      if (t.list) {
+        addItems(t, lists, tokens.getToken(valueToken));
+      } else {
+        set(t, target, tokens, valueToken);
+      }
+      if (present != null) present[t.index] = true;
+    }
+
+    int argumentCount = tokens.getArgumentCount();
+    for (Target t : this.arguments) {
+      if (t.argument >= argumentCount) continue;
+      if (t.list) {
+        for (int a = t.argument; a < argumentCount; a++) {
+          addItem(t, lists, tokens.getArgument(a));
+        }
+      } else {
+        set(t, target, tokens, tokens.getArgumentToken(t.argument));
+      }
+      if (present != null) present[t.index] = true;
+    }
+
+    if (present != null) {
+      for (Target t : this.targets) {
+        if (t.required && !present[t.index]) {
+          throw new RFWValidationException(t.argument < 0 ? "O parmetro '" + t.description + "'  obrigatrio." : "O " + t.description + " (" + t.field.getName() + ")  obrigatrio.");
+        }
+      }
+    }
+    if (lists != null) {
+      for (Target t : this.targets) {
+        if (lists[t.index] != null) invoke(t, target, lists[t.index]);
+      }
+    }
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private List<Object>[] newLists() {
+    return new List[this.targets.length];
+  }
+
+  /**
+   * Localiza o atributo do parmetro do token informado, desconsiderando os hfens do nome.
+   */
+  private Target findOption(CommandTokens tokens, int token) throws RFWException {
+    CharSequence text;
+    int start;
+    int end;
+    if (tokens.isTokenPlain(token)) {
+      text = tokens.getCommandLine();
+      start = tokens.getTokenStart(token);
+      end = tokens.getTokenEnd(token);
+    } else {
+      text = tokens.getToken(token);
+      start = 0;
+      end = text.length();
+    }
+    while (start < end && text.charAt(start) == '-') {
+      start++;
+    }
+    Target t = start < end ? this.options.get(text, start, end) : null;
+    if (t == null) throw new RFWValidationException("Parmetro desconhecido: '" + tokens.getToken(token) + "'.");
+    return t;
+  }
+
+  private static void set(Target t, Object target, CommandTokens tokens, int valueToken) throws RFWException {
+    try {
+      t.converter.set(t.setter, target, tokens, valueToken);
+    } catch (RuntimeException e) {
+      throw invalid(t, valueToken < 0 ? "true" : tokens.getToken(valueToken));
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao atribuir o valor do atributo '" + t.field.getName() + "'!", e);
+    }
+  }
+
+  private static void addItems(Target t, List<Object>[] lists, String value) throws RFWException {
+    int start = 0;
+    for (int i = 0; i <= value.length(); i++) {
+      if (i == value.length() || value.charAt(i) == ',') {
+        String item = value.substring(start, i).trim();
+        if (!item.isEmpty()) addItem(t, lists, item);
+        start = i + 1;
+      }
+    }
+    // Um valor vazio ("-hosts=") define a lista como vazia
+    if (lists[t.index] == null) lists[t.index] = new ArrayList<>();
+  }
+
+  private static void addItem(Target t, List<Object>[] lists, String item) throws RFWException {
+    Object converted;
+    try {
+      converted = t.converter.convert(item);
+    } catch (RuntimeException e) {
+      throw invalid(t, item);
+    }
+    if (lists[t.index] == null) lists[t.index] = new ArrayList<>();
+    lists[t.index].add(converted);
+  }
+
+  private static void invoke(Target t, Object target, Object value) throws RFWException {
+    try {
+      t.setter.invokeExact(target, value);
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao atribuir o valor do atributo '" + t.field.getName() + "'!", e);
+    }
+  }
+
+  private static RFWValidationException invalid(Target t, String value) {
+    return new RFWValidationException("Valor invlido para o " + (t.argument < 0 ? "parmetro '" + t.description + "'" : t.description) + ": '" + value + "' (esperado " + t.typeName + ").");
+  }
+
+  /**
+   * Escolhe o conversor do tipo.
+   *
+   * @return Conversor, ou null caso o tipo no seja suportado.
+   */
+  private static Converter converter(final Class<?> type) {
+    if (type == String.class) {
+      return new Converter() {
+        @Override
+        Object convert(String value) {
+          return value;
+        }
+      };
+    } else if (type == int.class || type == Integer.class) {
+      return new IntConverter();
+    } else if (type == long.class || type == Long.class) {
+      return new LongConverter();
+    } else if (type == boolean.class || type == Boolean.class) {
+      return new BooleanConverter();
+    } else if (type == short.class || type == Short.class) {
+      return new Converter() {
+        @Override
+        Object convert(String value) {
+          return Short.valueOf(value.trim());
+        }
+      };
+    } else if (type == byte.class || type == Byte.class) {
+      return new Converter() {
+        @Override
+        Object convert(String value) {
+          return Byte.valueOf(value.trim());
+        }
+      };
+    } else if (type == double.class || type == Double.class) {
+      return new Converter() {
+        @Override
+        Object convert(String value) {
+          return Double.valueOf(value.trim());
+        }
+      };
+    } else if (type == float.class || type == Float.class) {
+      return new Converter() {
+        @Override
+        Object convert(String value) {
+          return Float.valueOf(value.trim());
+        }
+      };
+    } else if (type == BigDecimal.class) {
+      return new Converter() {
+        @Override
+        Object convert(String value) {
+          return new BigDecimal(value.trim());
+        }
+      };
+    } else if (type == BigInteger.class) {
+      return new Converter() {
+        @Override
+        Object convert(String value) {
+          return new BigInteger(value.trim());
+        }
+      };
+    } else if (type == Duration.class) {
+      return new Converter() {
+        @Override
+        Object convert(String value) {
+          return parseDuration(value.trim());
+        }
+      };
+    } else if (type.isEnum()) {
+      final Map<String, Object> constants = new HashMap<>();
+      final Map<String, Object> upperCase = new HashMap<>();
+      for (Object constant : type.getEnumConstants()) {
+        constants.put(((Enum<?>) constant).name(), constant);
+        upperCase.put(((Enum<?>) constant).name().toUpperCase(Locale.ROOT), constant);
+      }
+      return new Converter() {
+        @Override
+        Object convert(String value) {
+          // O nome exato  procurado antes, evitando criar a String em maisculas no caso mais comum
+          Object constant = constants.get(value);
+          if (constant == null) constant = upperCase.get(value.trim().toUpperCase(Locale.ROOT));
+          if (constant == null) throw new IllegalArgumentException("Valores aceitos: " + Arrays.toString(type.getEnumConstants()));
+          return constant;
+        }
+      };
+    }
+    return null;
+  }
+
+  /**
+   * Conversor de int, que converte o valor diretamente do trecho da linha de comando.
+   */
+  static final class IntConverter extends Converter {
+    @Override
+    Object convert(String value) {
+      return Integer.valueOf(value.trim());
+    }
+
+    @Override
+    void set(MethodHandle setter, Object target, CommandTokens tokens, int token) throws Throwable {
+      if (token < 0) throw new NumberFormatException();
+      long v = tokens.isTokenPlain(token) ? parseLong(tokens.getCommandLine(), tokens.getTokenStart(token), tokens.getTokenEnd(token)) : Long.parseLong(tokens.getToken(token).trim());
+      if (v < Integer.MIN_VALUE || v > Integer.MAX_VALUE) throw new NumberFormatException();
+      setter.invokeExact(target, (int) v);
+    }
+
+    @Override
+    MethodType setterType() {
+      return MethodType.methodType(void.class, Object.class, int.class);
+    }
+  }
+
+  /**
+   * Conversor de long, que converte o valor diretamente do trecho da linha de comando.
+   */
+  static final class LongConverter extends Converter {
+    @Override
+    Object convert(String value) {
+      return Long.valueOf(value.trim());
+    }
+
+    @Override
+    void set(MethodHandle setter, Object target, CommandTokens tokens, int token) throws Throwable {
+      if (token < 0) throw new NumberFormatException();
+      long v = tokens.isTokenPlain(token) ? parseLong(tokens.getCommandLine(), tokens.getTokenStart(token), tokens.getTokenEnd(token)) : Long.parseLong(tokens.getToken(token).trim());
+      setter.invokeExact(target, v);
+    }
+
+    @Override
+    MethodType setterType() {
+      return MethodType.methodType(void.class, Object.class, long.class);
+    }
+  }
+
+  /**
+   * Conversor de boolean. O parmetro informado sem valor  verdadeiro.
+   */
+  static final class BooleanConverter extends Converter {
+    @Override
+    Object convert(String value) {
+      String v = value.trim();
+      if ("true".equalsIgnoreCase(v)) return Boolean.TRUE;
+      if ("false".equalsIgnoreCase(v)) return Boolean.FALSE;
+      throw new IllegalArgumentException();
+    }
+
+    @Override
+    void set(MethodHandle setter, Object target, CommandTokens tokens, int token) throws Throwable {
+      boolean v = token < 0 || (Boolean) convert(tokens.getToken(token));
+      setter.invokeExact(target, v);
+    }
+
+    @Override
+    MethodType setterType() {
+      return MethodType.methodType(void.class, Object.class, boolean.class);
+    }
+  }
+
+  /**
+   * Converte um nmero inteiro decimal de um trecho do texto, sem criar nenhum objeto.
+   *
+   * @throws NumberFormatException Lanado caso o trecho no seja um nmero ou exceda o limite de um long.
+   */
+  static long parseLong(CharSequence text, int start, int end) {
+    if (start >= end) throw new NumberFormatException();
+    boolean negative = false;
+    char first = text.charAt(start);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      if (++start == end) throw new NumberFormatException();
+    }
+    // Acumulado em negativo para aceitar o Long.MIN_VALUE
+    long result = 0;
+    for (int i = start; i < end; i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) throw new NumberFormatException();
+      if (result < (Long.MIN_VALUE + digit) / 10) throw new NumberFormatException();
+      result = result * 10 - digit;
+    }
+    if (!negative) {
+      if (result == Long.MIN_VALUE) throw new NumberFormatException();
+      return -result;
+    }
+    return result;
+  }
+
+  /**
+   * Converte uma durao no formato ISO-8601 ou um nmero com unidade (ns, us, ms, s, m, h, d). Sem unidade, o nmero  considerado em segundos.
+   */
+  static Duration parseDuration(String value) {
+    if (value.isEmpty()) throw new IllegalArgumentException();
+    char first = value.charAt(0);
+    if (first == 'P' || first == 'p' || ((first == '-' || first == '+') && value.length() > 1 && (value.charAt(1) == 'P' || value.charAt(1) == 'p'))) {
+      return Duration.parse(value);
+    }
+    int unit = value.length();
+    while (unit > 0 && Character.isLetter(value.charAt(unit - 1))) {
+      unit--;
+    }
+    long amount = parseLong(value, 0, unit);
+    switch (value.substring(unit).toLowerCase(Locale.ROOT)) {
+      case "ns":
+        return Duration.ofNanos(amount);
+      case "us":
+        return Duration.ofNanos(Math.multiplyExact(amount, 1000L));
+      case "ms":
+        return Duration.ofMillis(amount);
+      case "":
+      case "s":
+        return Duration.ofSeconds(amount);
+      case "m":
+        return Duration.ofMinutes(amount);
+      case "h":
+        return Duration.ofHours(amount);
+      case "d":
+        return Duration.ofDays(amount);
+      default:
+        throw new IllegalArgumentException("Unidade de durao desconhecida: " + value.substring(unit));
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package br.eng.rodrigogml.rfw.terminal.parsers;
+
+import java.util.Collection;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+
+/**
+ * Description: Declara os recursos utilizados por um comando (por exemplo o nome da aplicao, do banco de dados ou do arquivo que ele altera), para que o {@link CommandScriptExecutor} no execute ao mesmo tempo dois comandos que utilizam o mesmo recurso.<br>
+ * Os recursos so apenas nomes: dois comandos que declaram o mesmo nome so executados na ordem em que aparecem no script.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public interface ResourceResolver {
+
+  /**
+   * Retorna os recursos utilizados pelo comando.
+   *
+   * @param invocation Comando, com os argumentos e os parmetros j validados e convertidos conforme a definio do comando.
+   * @return Nomes dos recursos utilizados, ou null caso o comando no utilize nenhum recurso.
+   * @throws RFWException Lanado caso no seja possvel determinar os recursos do comando.
+   */
+  Collection<String> getResources(CommandInvocation invocation) throws RFWException;
+}
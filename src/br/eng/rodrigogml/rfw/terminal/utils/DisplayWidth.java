@@ -0,0 +1,345 @@
+package br.eng.rodrigogml.rfw.terminal.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Description: Medio e alinhamento de textos pela quantidade de colunas que ocupam no terminal, e no pela quantidade de caracteres.<br>
+ * Na medio:
+ * <ul>
+ * <li>As sequncias de escape (CSI, como as de cores e formatao, OSC, como ttulos e links, e as demais sequncias ESC) no ocupam colunas;</li>
+ * <li>Caracteres de controle, marcas de combinao (acentos combinados), seletores de variao e caracteres de formatao (como o "zero width joiner") no ocupam colunas;</li>
+ * <li>Caracteres largos e de largura total do East Asian Width (ideogramas CJK, Hangul, Kana, formas de largura total e emojis) ocupam duas colunas;</li>
+ * <li>Os demais caracteres ocupam uma coluna.</li>
+ * </ul>
+ * A largura de todos os caracteres do plano bsico (BMP)  calculada uma nica vez, na carga da classe, em uma tabela de 64KB. A medio  apenas a leitura dessa tabela para cada caractere, sem criao de objetos.
+ * <p>
+ * Os mtodos de alinhamento escrevem o texto e os espaos diretamente no {@link Appendable} (ou {@link StringBuilder}) informado, sem criar Strings intermedirias. Quando o texto j ocupa todas as colunas disponveis, ele  escrito sem alterao.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public final class DisplayWidth {
+
+  /**
+   * Intervalos (incio e fim, inclusive) dos caracteres largos (W) e de largura total (F) do East Asian Width do Unicode, incluindo os emojis apresentados como largos.
+   */
+  private static final int[] WIDE_RANGES = { 0x1100, 0x115F, 0x231A, 0x231B, 0x2329, 0x232A, 0x23E9, 0x23EC, 0x23F0, 0x23F0, 0x23F3, 0x23F3, 0x25FD, 0x25FE, 0x2614, 0x2615, 0x2648, 0x2653, 0x267F, 0x267F, 0x2693, 0x2693, 0x26A1, 0x26A1, 0x26AA, 0x26AB, 0x26BD, 0x26BE, 0x26C4, 0x26C5, 0x26CE, 0x26CE, 0x26D4, 0x26D4, 0x26EA, 0x26EA, 0x26F2, 0x26F3, 0x26F5, 0x26F5, 0x26FA, 0x26FA, 0x26FD, 0x26FD, 0x2705, 0x2705, 0x270A, 0x270B, 0x2728, 0x2728, 0x274C, 0x274C, 0x274E, 0x274E, 0x2753, 0x2755, 0x2757, 0x2757, 0x2795, 0x2797, 0x27B0, 0x27B0, 0x27BF, 0x27BF, 0x2B1B, 0x2B1C, 0x2B50, 0x2B50, 0x2B55, 0x2B55, 0x2E80, 0x303E, 0x3041, 0x33FF, 0x3400, 0x4DBF, 0x4E00, 0x9FFF, 0xA000, 0xA4CF, 0xA960, 0xA97F, 0xAC00, 0xD7A3, 0xF900, 0xFAFF, 0xFE10, 0xFE19, 0xFE30, 0xFE6F, 0xFF00, 0xFF60, 0xFFE0, 0xFFE6,
+      0x16FE0, 0x16FE4, 0x17000, 0x18CFF, 0x1B000, 0x1B2FF, 0x1F004, 0x1F004, 0x1F0CF, 0x1F0CF, 0x1F18E, 0x1F18E, 0x1F191, 0x1F19A, 0x1F200, 0x1F202, 0x1F210, 0x1F23B, 0x1F240, 0x1F248, 0x1F250, 0x1F251, 0x1F260, 0x1F265, 0x1F300, 0x1F320, 0x1F32D, 0x1F335, 0x1F337, 0x1F37C, 0x1F37E, 0x1F393, 0x1F3A0, 0x1F3CA, 0x1F3CF, 0x1F3D3, 0x1F3E0, 0x1F3F0, 0x1F3F4, 0x1F3F4, 0x1F3F8, 0x1F43E, 0x1F440, 0x1F440, 0x1F442, 0x1F4FC, 0x1F4FF, 0x1F53D, 0x1F54B, 0x1F54E, 0x1F550, 0x1F567, 0x1F57A, 0x1F57A, 0x1F595, 0x1F596, 0x1F5A4, 0x1F5A4, 0x1F5FB, 0x1F64F, 0x1F680, 0x1F6C5, 0x1F6CC, 0x1F6CC, 0x1F6D0, 0x1F6D2, 0x1F6D5, 0x1F6D7, 0x1F6DC, 0x1F6DF, 0x1F6EB, 0x1F6EC, 0x1F6F4, 0x1F6FC, 0x1F7E0, 0x1F7EB, 0x1F7F0, 0x1F7F0, 0x1F90C, 0x1F93A, 0x1F93C, 0x1F945, 0x1F947, 0x1F9FF, 0x1FA70, 0x1FAFF, 0x20000, 0x2FFFD, 0x30000, 0x3FFFD };
+
+  /**
+   * Largura de cada caractere do plano bsico (BMP). Os surrogates tm largura 0 e so tratados como pares em {@link #width(CharSequence, int, int)}.
+   */
+  private static final byte[] BMP_WIDTHS = new byte[0x10000];
+
+  /**
+   * Espaos utilizados para escrever o preenchimento em blocos.
+   */
+  private static final String SPACES = "                                                                ";
+
+  static {
+    for (int c = 0; c < 0x10000; c++) {
+      BMP_WIDTHS[c] = (byte) computeWidth(c);
+    }
+  }
+
+  /**
+   * Construtor privado para classe esttica.
+   */
+  private DisplayWidth() {
+  }
+
+  /**
+   * Retorna a quantidade de colunas ocupadas pelo caractere.
+   *
+   * @param codePoint Cdigo do caractere.
+   * @return 0, 1 ou 2.
+   */
+  public static int charWidth(int codePoint) {
+    if (codePoint < 0x10000) return codePoint < 0 ? 0 : BMP_WIDTHS[codePoint];
+    return computeWidth(codePoint);
+  }
+
+  /**
+   * Calcula a largura do caractere a partir das tabelas do Unicode.
+   */
+  private static int computeWidth(int codePoint) {
+    if (codePoint < 0x20 || (codePoint >= 0x7F && codePoint < 0xA0)) return 0;
+    if (codePoint < 0x300) return 1;
+    if (Character.isSurrogate((char) codePoint) && codePoint < 0x10000) return 0;
+    if (codePoint == 0x200B || (codePoint >= 0x1160 && codePoint <= 0x11FF)) return 0;
+    int type = Character.getType(codePoint);
+    if (type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK || type == Character.FORMAT) return 0;
+    return isWide(codePoint) ? 2 : 1;
+  }
+
+  /**
+   * Busca o caractere nos intervalos de caracteres largos.
+   */
+  private static boolean isWide(int codePoint) {
+    int low = 0;
+    int high = WIDE_RANGES.length / 2 - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (codePoint < WIDE_RANGES[mid * 2]) {
+        high = mid - 1;
+      } else if (codePoint > WIDE_RANGES[mid * 2 + 1]) {
+        low = mid + 1;
+      } else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Retorna a quantidade de colunas ocupadas pelo texto no terminal, ignorando as sequncias de escape.<br>
+   * Quebras de linha no ocupam colunas: para textos com vrias linhas utilize {@link #maxLineWidth(CharSequence)}.
+   *
+   * @param text Texto a ser medido.
+   * @return Quantidade de colunas.
+   */
+  public static int width(CharSequence text) {
+    return width(text, 0, text.length());
+  }
+
+  /**
+   * Retorna a quantidade de colunas ocupadas por parte do texto no terminal, ignorando as sequncias de escape.
+   *
+   * @param text Texto a ser medido.
+   * @param start Posio inicial (inclusive).
+   * @param end Posio final (exclusive).
+   * @return Quantidade de colunas.
+   */
+  public static int width(CharSequence text, int start, int end) {
+    int width = 0;
+    int i = start;
+    while (i < end) {
+      char c = text.charAt(i);
+      if (c == 0x1B || c == 0x9B) {
+        i = skipEscape(text, i, end);
+      } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+        width += computeWidth(Character.toCodePoint(c, text.charAt(i + 1)));
+        i += 2;
+      } else {
+        width += BMP_WIDTHS[c];
+        i++;
+      }
+    }
+    return width;
+  }
+
+  /**
+   * Retorna a maior largura entre as linhas do texto (separadas por "\n").
+   *
+   * @param text Texto a ser medido.
+   * @return Quantidade de colunas da linha mais larga.
+   */
+  public static int maxLineWidth(CharSequence text) {
+    int max = 0;
+    int start = 0;
+    int length = text.length();
+    while (start < length) {
+      int end = lineEnd(text, start);
+      max = Math.max(max, width(text, start, end));
+      start = end + 1;
+    }
+    return max;
+  }
+
+  /**
+   * Retorna a posio aps a sequncia de escape iniciada em start.<br>
+   * CSI (ESC [ ou 0x9B) termina no primeiro caractere entre '@' e '~'; OSC (ESC ]) termina em BEL ou ST (ESC \); DCS, SOS, PM e APC (ESC P, X, ^ e _) terminam em ST; as demais sequncias ESC terminam no primeiro caractere que no seja intermedirio (0x20 a 0x2F).
+   */
+  private static int skipEscape(CharSequence text, int start, int end) {
+    int i = start + 1;
+    char type;
+    if (text.charAt(start) == 0x9B) {
+      type = '[';
+    } else {
+      if (i >= end) return end;
+      type = text.charAt(i++);
+    }
+    switch (type) {
+      case '[':
+        while (i < end) {
+          char c = text.charAt(i++);
+          if (c >= 0x40 && c <= 0x7E) return i;
+        }
+        return end;
+      case ']':
+      case 'P':
+      case 'X':
+      case '^':
+      case '_':
+        while (i < end) {
+          char c = text.charAt(i++);
+          if (c == 0x07 && type == ']') return i;
+          if (c == 0x9C) return i;
+          if (c == 0x1B && i < end && text.charAt(i) == '\\') return i + 1;
+        }
+        return end;
+      default:
+        while (type >= 0x20 && type <= 0x2F && i < end) {
+          type = text.charAt(i++);
+        }
+        return i;
+    }
+  }
+
+  /**
+   * Escreve o texto alinhado  esquerda, completando com espaos  direita at ocupar as colunas informadas.
+   *
+   * @param out Destino do texto.
+   * @param text Texto a ser escrito.
+   * @param columns Quantidade de colunas a serem ocupadas.
+   * @throws IOException Lanado em caso de falha na escrita.
+   */
+  public static void alignLeft(Appendable out, CharSequence text, int columns) throws IOException {
+    out.append(text);
+    appendSpaces(out, columns - width(text));
+  }
+
+  /**
+   * Escreve o texto alinhado  direita, precedido dos espaos necessrios para ocupar as colunas informadas.
+   *
+   * @param out Destino do texto.
+   * @param text Texto a ser escrito.
+   * @param columns Quantidade de colunas a serem ocupadas.
+   * @throws IOException Lanado em caso de falha na escrita.
+   */
+  public static void alignRight(Appendable out, CharSequence text, int columns) throws IOException {
+    appendSpaces(out, columns - width(text));
+    out.append(text);
+  }
+
+  /**
+   * Escreve o texto centralizado nas colunas informadas, completando com espaos dos dois lados. Quando a sobra  mpar, o espao adicional fica  direita.
+   *
+   * @param out Destino do texto.
+   * @param text Texto a ser escrito.
+   * @param columns Quantidade de colunas a serem ocupadas.
+   * @throws IOException Lanado em caso de falha na escrita.
+   */
+  public static void alignCenter(Appendable out, CharSequence text, int columns) throws IOException {
+    int remaining = columns - width(text);
+    appendSpaces(out, remaining / 2);
+    out.append(text);
+    appendSpaces(out, remaining - remaining / 2);
+  }
+
+  /**
+   * Escreve o bloco de texto (vrias linhas separadas por "\n") centralizado nas colunas informadas. Todas as linhas recebem o mesmo recuo, calculado pela linha mais larga, preservando o desenho do bloco (como em uma arte ASCII).<br>
+   * Cada linha  escrita seguida de "\n" e as linhas vazias do fim do texto so descartadas. Caso a linha mais larga j ocupe todas as colunas, o texto  escrito sem alterao.
+   *
+   * @param out Destino do texto.
+   * @param text Bloco de texto a ser escrito.
+   * @param columns Quantidade de colunas disponveis.
+   * @throws IOException Lanado em caso de falha na escrita.
+   */
+  public static void centerBlock(Appendable out, CharSequence text, int columns) throws IOException {
+    int maxWidth = maxLineWidth(text);
+    if (maxWidth >= columns) {
+      out.append(text);
+      return;
+    }
+    int padding = (columns - maxWidth) / 2;
+    int length = text.length();
+    while (length > 0 && text.charAt(length - 1) == '\n') {
+      length--;
+    }
+    int start = 0;
+    while (start < length) {
+      int end = Math.min(lineEnd(text, start), length);
+      appendSpaces(out, padding);
+      out.append(text, start, end).append('\n');
+      start = end + 1;
+    }
+  }
+
+  /**
+   * Escreve o texto alinhado  esquerda em um {@link StringBuilder}.
+   *
+   * @param out Destino do texto.
+   * @param text Texto a ser escrito.
+   * @param columns Quantidade de colunas a serem ocupadas.
+   */
+  public static void alignLeft(StringBuilder out, CharSequence text, int columns) {
+    try {
+      alignLeft((Appendable) out, text, columns);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // No ocorre com o StringBuilder
+    }
+  }
+
+  /**
+   * Escreve o texto alinhado  direita em um {@link StringBuilder}.
+   *
+   * @param out Destino do texto.
+   * @param text Texto a ser escrito.
+   * @param columns Quantidade de colunas a serem ocupadas.
+   */
+  public static void alignRight(StringBuilder out, CharSequence text, int columns) {
+    try {
+      alignRight((Appendable) out, text, columns);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // No ocorre com o StringBuilder
+    }
+  }
+
+  /**
+   * Escreve o texto centralizado em um {@link StringBuilder}.
+   *
+   * @param out Destino do texto.
+   * @param text Texto a ser escrito.
+   * @param columns Quantidade de colunas a serem ocupadas.
+   */
+  public static void alignCenter(StringBuilder out, CharSequence text, int columns) {
+    try {
+      alignCenter((Appendable) out, text, columns);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // No ocorre com o StringBuilder
+    }
+  }
+
+  /**
+   * Escreve o bloco de texto centralizado em um {@link StringBuilder}.
+   *
+   * @param out Destino do texto.
+   * @param text Bloco de texto a ser escrito.
+   * @param columns Quantidade de colunas disponveis.
+   */
+  public static void centerBlock(StringBuilder out, CharSequence text, int columns) {
+    try {
+      centerBlock((Appendable) out, text, columns);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // No ocorre com o StringBuilder
+    }
+  }
+
+  /**
+   * Escreve a quantidade de espaos informada. Valores menores ou iguais a zero no escrevem nada.
+   *
+   * @param out Destino dos espaos.
+   * @param count Quantidade de espaos.
+   * @throws IOException Lanado em caso de falha na escrita.
+   */
+  public static void appendSpaces(Appendable out, int count) throws IOException {
+    while (count > 0) {
+      int n = Math.min(count, SPACES.length());
+      out.append(SPACES, 0, n);
+      count -= n;
+    }
+  }
+
+  /**
+   * Retorna a posio do fim da linha iniciada em start (posio do "\n" ou o tamanho do texto).
+   */
+  private static int lineEnd(CharSequence text, int start) {
+    int length = text.length();
+    for (int i = start; i < length; i++) {
+      if (text.charAt(i) == '\n') return i;
+    }
+    return length;
+  }
+}
@@ -0,0 +1,821 @@
+package br.eng.rodrigogml.rfw.terminal.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.utils.Figlet.FigletFontType;
+
+/**
+ * Description: Fonte Figlet (arquivo .flf, especificao FIGfont 2) interpretada e renderizada sem bibliotecas externas.<br>
+ * Os caracteres da fonte so armazenados em um nico array de caracteres, com uma tabela de posies para cada linha de cada caractere. A renderizao  feita diretamente em um {@link FigletCanvas} reutilizvel, sem criar Strings intermedirias, o que torna barato redesenhar relgios e contadores em Figlet vrias vezes por segundo.
+ * <p>
+ * A renderizao implementa os modos de composio horizontal da especificao ({@link FigletLayout}): largura total, aproximao ("fitting") e "smushing" com as regras de igualdade, sublinhado, hierarquia, pares opostos, "big X" e "hardblank", alm do "smushing" universal. A composio vertical e a escrita da direita para a esquerda no so suportadas, j que o texto  sempre renderizado em uma nica linha.
+ * <p>
+ * Caracteres que no existem na fonte so substitudos pelo caractere de cdigo 0, quando a fonte o define, ou ignorados.<br>
+ * Instncias desta classe so imutveis e podem ser utilizadas por vrias threads ao mesmo tempo.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public final class FLFFont {
+
+  // Regras de composio horizontal do cabealho da fonte (Full_Layout)
+  private static final int SM_EQUAL = 1;
+  private static final int SM_LOWLINE = 2;
+  private static final int SM_HIERARCHY = 4;
+  private static final int SM_PAIR = 8;
+  private static final int SM_BIGX = 16;
+  private static final int SM_HARDBLANK = 32;
+  private static final int SM_KERN = 64;
+  private static final int SM_SMUSH = 128;
+
+  /**
+   * Cdigos dos caracteres alemes obrigatrios, definidos logo aps os caracteres ASCII de 32 a 126.
+   */
+  private static final int[] DEUTSCH_CODES = { 196, 214, 220, 228, 246, 252, 223 };
+
+  /**
+   * Caractere "hardblank" da fonte: um espao que no  removido na composio dos caracteres.
+   */
+  private final char hardblank;
+
+  /**
+   * Quantidade de linhas de cada caractere.
+   */
+  private final int height;
+
+  /**
+   * Quantidade de linhas de cada caractere acima da linha de base.
+   */
+  private final int baseline;
+
+  /**
+   * Maior tamanho de linha do arquivo, conforme o cabealho.
+   */
+  private final int maxLength;
+
+  /**
+   * Modo de composio horizontal padro da fonte, no formato do Full_Layout (bits 0 a 7).
+   */
+  private final int layout;
+
+  /**
+   * Caracteres de todas as linhas de todos os caracteres da fonte, em sequncia.
+   */
+  private final char[] data;
+
+  /**
+   * Posio inicial em {@link #data} de cada linha de cada caractere ({@code glifo * height + linha}). A posio seguinte indica o fim da linha.
+   */
+  private final int[] offsets;
+
+  /**
+   * Largura de cada caractere (tamanho da primeira linha).
+   */
+  private final int[] widths;
+
+  /**
+   * ndice do caractere para os cdigos de 0 a 255, ou -1 caso no exista na fonte.
+   */
+  private final int[] latinIndex;
+
+  /**
+   * Cdigos acima de 255 definidos na fonte, em ordem crescente.
+   */
+  private final int[] extendedCodes;
+
+  /**
+   * ndice do caractere de cada cdigo de {@link #extendedCodes}.
+   */
+  private final int[] extendedIndex;
+
+  private FLFFont(char hardblank, int height, int baseline, int maxLength, int layout, char[] data, int[] offsets, int[] widths, int[] latinIndex, int[] extendedCodes, int[] extendedIndex) {
+    this.hardblank = hardblank;
+    this.height = height;
+    this.baseline = baseline;
+    this.maxLength = maxLength;
+    this.layout = layout;
+    this.data = data;
+    this.offsets = offsets;
+    this.widths = widths;
+    this.latinIndex = latinIndex;
+    this.extendedCodes = extendedCodes;
+    this.extendedIndex = extendedIndex;
+  }
+
+  /**
+   * Carrega uma das fontes includas na biblioteca.<br>
+   * A fonte  obtida j interpretada do {@link FigletFontBundle} e, caso o pacote no esteja no classpath, interpretada do arquivo .flf. Para reaproveitar as fontes j carregadas utilize o {@link FigletFontCache}.
+   *
+   * @param fontType Fonte a ser carregada.
+   * @return Fonte interpretada.
+   * @throws RFWException Lanado caso a fonte no seja encontrada ou no possa ser interpretada.
+   */
+  public static FLFFont load(FigletFontType fontType) throws RFWException {
+    FLFFont font = FigletFontBundle.load(fontType);
+    return font != null ? font : loadResource(fontType);
+  }
+
+  /**
+   * Carrega e interpreta o arquivo .flf de uma das fontes includas na biblioteca, sem utilizar o {@link FigletFontBundle}.
+   *
+   * @param fontType Fonte a ser carregada.
+   * @return Fonte interpretada.
+   * @throws RFWException Lanado caso a fonte no seja encontrada ou no possa ser interpretada.
+   */
+  static FLFFont loadResource(FigletFontType fontType) throws RFWException {
+    String fontPath = "/flf/" + fontType.getFontName() + ".flf";
+    try (InputStream in = FLFFont.class.getResourceAsStream(fontPath)) {
+      if (in == null) throw new RFWCriticalException("Fonte Figlet no encontrada no classpath: '" + fontPath + "'.");
+      return parse(in);
+    } catch (IOException e) {
+      throw new RFWCriticalException("Falha ao carregar a fonte Figlet '" + fontType.getFontName() + "'!", e);
+    }
+  }
+
+  /**
+   * Interpreta uma fonte no formato .flf. O stream  lido at o fim, mas no  fechado.<br>
+   * O contedo  lido como UTF-8 e, caso no seja UTF-8 vlido, como ISO-8859-1, a codificao da maioria das fontes antigas.
+   *
+   * @param in Stream com o contedo do arquivo .flf.
+   * @return Fonte interpretada.
+   * @throws RFWException Lanado caso o contedo no seja uma fonte .flf vlida ou ocorra falha de leitura.
+   */
+  public static FLFFont parse(InputStream in) throws RFWException {
+    byte[] bytes;
+    try {
+      ByteArrayOutputStream out = new ByteArrayOutputStream(32768);
+      byte[] buff = new byte[8192];
+      int read;
+      while ((read = in.read(buff)) >= 0) {
+        out.write(buff, 0, read);
+      }
+      bytes = out.toByteArray();
+    } catch (IOException e) {
+      throw new RFWCriticalException("Falha ao ler a fonte Figlet!", e);
+    }
+    String content;
+    try {
+      content = StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPORT).onUnmappableCharacter(CodingErrorAction.REPORT).decode(ByteBuffer.wrap(bytes)).toString();
+    } catch (CharacterCodingException e) {
+      content = new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+    return parse(content);
+  }
+
+  /**
+   * Interpreta o contedo de uma fonte .flf j decodificado.
+   *
+   * @param content Contedo do arquivo.
+   * @return Fonte interpretada.
+   * @throws RFWException Lanado caso o contedo no seja uma fonte .flf vlida.
+   */
+  private static FLFFont parse(String content) throws RFWException {
+    LineReader reader = new LineReader(content);
+    String header = reader.next();
+    if (header == null || !header.startsWith("flf2a") || header.length() < 6) throw new RFWCriticalException("Cabealho invlido na fonte Figlet!");
+
+    char hardblank = header.charAt(5);
+    String[] params = header.substring(6).trim().split(" +");
+    int height;
+    int baseline;
+    int maxLength;
+    int oldLayout;
+    int commentLines;
+    int fullLayout = -1;
+    try {
+      height = Integer.parseInt(params[0]);
+      baseline = Integer.parseInt(params[1]);
+      maxLength = Integer.parseInt(params[2]);
+      oldLayout = Integer.parseInt(params[3]);
+      commentLines = Integer.parseInt(params[4]);
+      if (params.length > 6) fullLayout = Integer.parseInt(params[6]);
+    } catch (RuntimeException e) {
+      throw new RFWCriticalException("Cabealho invlido na fonte Figlet: '" + header + "'.", e);
+    }
+    if (height <= 0) throw new RFWCriticalException("Altura invlida na fonte Figlet: '" + header + "'.");
+
+    int layout;
+    if (fullLayout >= 0) {
+      layout = fullLayout & 0xFF;
+    } else if (oldLayout == 0) {
+      layout = SM_KERN;
+    } else if (oldLayout < 0) {
+      layout = 0;
+    } else {
+      layout = (oldLayout & 63) | SM_SMUSH;
+    }
+
+    for (int i = 0; i < commentLines; i++) {
+      reader.next();
+    }
+
+    GlyphBuilder builder = new GlyphBuilder(height, content.length());
+    // Caracteres obrigatrios: ASCII de 32 a 126 seguidos dos 7 caracteres alemes
+    for (int code = 32; code < 127 + DEUTSCH_CODES.length; code++) {
+      if (!builder.read(reader, code < 127 ? code : DEUTSCH_CODES[code - 127])) break;
+    }
+    // Caracteres com cdigo explcito ("code tagged")
+    String tag;
+    while ((tag = reader.next()) != null) {
+      tag = tag.trim();
+      if (tag.isEmpty()) continue;
+      int space = tag.indexOf(' ');
+      Integer code = parseCode(space < 0 ? tag : tag.substring(0, space));
+      if (code == null) break;
+      if (!builder.read(reader, code)) break;
+    }
+    return builder.build(hardblank, baseline, maxLength, layout);
+  }
+
+  /**
+   * Interpreta o cdigo de um caractere "code tagged", em decimal, octal (prefixo 0) ou hexadecimal (prefixo 0x).
+   *
+   * @param value Cdigo em texto.
+   * @return Cdigo do caractere, ou null caso o valor no seja um nmero.
+   */
+  private static Integer parseCode(String value) {
+    try {
+      boolean negative = value.startsWith("-");
+      String digits = negative ? value.substring(1) : value;
+      int code;
+      if (digits.startsWith("0x") || digits.startsWith("0X")) {
+        code = Integer.parseInt(digits.substring(2), 16);
+      } else if (digits.length() > 1 && digits.charAt(0) == '0') {
+        code = Integer.parseInt(digits.substring(1), 8);
+      } else {
+        code = Integer.parseInt(digits);
+      }
+      return negative ? -code : code;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Leitor das linhas do contedo da fonte, aceitando quebras de linha "\n" e "\r\n".
+   */
+  private static final class LineReader {
+    private final String content;
+    private int pos = 0;
+
+    LineReader(String content) {
+      this.content = content;
+    }
+
+    String next() {
+      if (this.pos >= this.content.length()) return null;
+      int end = this.content.indexOf('\n', this.pos);
+      if (end < 0) end = this.content.length();
+      int lineEnd = end > this.pos && this.content.charAt(end - 1) == '\r' ? end - 1 : end;
+      String line = this.content.substring(this.pos, lineEnd);
+      this.pos = end + 1;
+      return line;
+    }
+  }
+
+  /**
+   * Acumula os caracteres lidos da fonte nas estruturas compactas.
+   */
+  private static final class GlyphBuilder {
+    private final int height;
+    private char[] data;
+    private int dataLength = 0;
+    private int[] offsets;
+    private int[] codes;
+    private int count = 0;
+
+    GlyphBuilder(int height, int capacity) {
+      this.height = height;
+      this.data = new char[Math.max(256, capacity)];
+      this.offsets = new int[128 * height + 1];
+      this.codes = new int[128];
+    }
+
+    /**
+     * L as linhas de um caractere.
+     *
+     * @return false caso o contedo tenha terminado antes do fim do caractere.
+     */
+    boolean read(LineReader reader, int code) {
+      if (this.count == this.codes.length) {
+        this.codes = Arrays.copyOf(this.codes, this.count * 2);
+        this.offsets = Arrays.copyOf(this.offsets, this.count * 2 * this.height + 1);
+      }
+      int base = this.count * this.height;
+      int start = this.dataLength;
+      for (int row = 0; row < this.height; row++) {
+        String line = reader.next();
+        if (line == null) {
+          this.dataLength = start;
+          return false;
+        }
+        // Remove os espaos finais e todas as repeties do marcador de fim de linha (normalmente '@')
+        int end = line.length();
+        while (end > 0 && Character.isWhitespace(line.charAt(end - 1))) {
+          end--;
+        }
+        if (end > 0) {
+          char endmark = line.charAt(end - 1);
+          while (end > 0 && line.charAt(end - 1) == endmark) {
+            end--;
+          }
+        }
+        if (this.dataLength + end > this.data.length) this.data = Arrays.copyOf(this.data, Math.max(this.data.length * 2, this.dataLength + end));
+        line.getChars(0, end, this.data, this.dataLength);
+        this.offsets[base + row] = this.dataLength;
+        this.dataLength += end;
+      }
+      this.offsets[base + this.height] = this.dataLength;
+      if (code >= 0) {
+        this.codes[this.count++] = code;
+      } else {
+        // Cdigos negativos so reservados pela especificao e no podem ser renderizados
+        this.dataLength = start;
+      }
+      return true;
+    }
+
+    FLFFont build(char hardblank, int baseline, int maxLength, int layout) {
+      int[] widths = new int[this.count];
+      int[] latinIndex = new int[256];
+      Arrays.fill(latinIndex, -1);
+      int extended = 0;
+      for (int i = 0; i < this.count; i++) {
+        widths[i] = this.offsets[i * this.height + 1] - this.offsets[i * this.height];
+        if (this.codes[i] < 256) {
+          latinIndex[this.codes[i]] = i; // Em caso de repetio vale a ltima definio
+        } else {
+          extended++;
+        }
+      }
+      long[] sorted = new long[extended];
+      int n = 0;
+      for (int i = 0; i < this.count; i++) {
+        if (this.codes[i] >= 256) sorted[n++] = ((long) this.codes[i] << 32) | i;
+      }
+      Arrays.sort(sorted);
+      int[] extendedCodes = new int[extended];
+      int[] extendedIndex = new int[extended];
+      n = 0;
+      for (int i = 0; i < extended; i++) {
+        int code = (int) (sorted[i] >>> 32);
+        if (n > 0 && extendedCodes[n - 1] == code) n--; // Em caso de repetio vale a ltima definio
+        extendedCodes[n] = code;
+        extendedIndex[n] = (int) sorted[i];
+        n++;
+      }
+      return new FLFFont(hardblank, this.height, baseline, maxLength, layout, Arrays.copyOf(this.data, this.dataLength), Arrays.copyOf(this.offsets, this.count * this.height + 1), widths, latinIndex, Arrays.copyOf(extendedCodes, n), Arrays.copyOf(extendedIndex, n));
+    }
+  }
+
+  /**
+   * Retorna o ndice do caractere na fonte.
+   *
+   * @param codePoint Cdigo do caractere.
+   * @return ndice do caractere, ou -1 caso a fonte no o defina.
+   */
+  private int glyphIndex(int codePoint) {
+    if (codePoint < 256) return codePoint < 0 ? -1 : this.latinIndex[codePoint];
+    int i = Arrays.binarySearch(this.extendedCodes, codePoint);
+    return i < 0 ? -1 : this.extendedIndex[i];
+  }
+
+  /**
+   * Verifica se a fonte define o caractere.
+   *
+   * @param codePoint Cdigo do caractere.
+   * @return true caso o caractere exista na fonte.
+   */
+  public boolean hasGlyph(int codePoint) {
+    return glyphIndex(codePoint) >= 0;
+  }
+
+  /**
+   * Retorna a largura do caractere na fonte, sem nenhuma composio com os vizinhos.
+   *
+   * @param codePoint Cdigo do caractere.
+   * @return Largura em colunas, ou -1 caso a fonte no defina o caractere.
+   */
+  public int getGlyphWidth(int codePoint) {
+    int glyph = glyphIndex(codePoint);
+    return glyph < 0 ? -1 : this.widths[glyph];
+  }
+
+  /**
+   * Renderiza o texto utilizando o modo de composio padro da fonte.
+   *
+   * @param text Texto a ser renderizado.
+   * @return Texto renderizado, com uma quebra de linha ("\n") ao fim de cada linha.
+   */
+  public String render(CharSequence text) {
+    return render(text, FigletLayout.FONT_DEFAULT);
+  }
+
+  /**
+   * Renderiza o texto.
+   *
+   * @param text Texto a ser renderizado.
+   * @param layout Modo de composio horizontal dos caracteres.
+   * @return Texto renderizado, com uma quebra de linha ("\n") ao fim de cada linha.
+   */
+  public String render(CharSequence text, FigletLayout layout) {
+    FigletCanvas canvas = new FigletCanvas();
+    render(text, layout, canvas);
+    return canvas.toString();
+  }
+
+  /**
+   * Renderiza o texto no canvas informado, substituindo o seu contedo.<br>
+   * Reaproveitando o canvas entre as renderizaes nenhum objeto  criado depois que os arrays atingem o tamanho necessrio.
+   *
+   * @param text Texto a ser renderizado.
+   * @param layout Modo de composio horizontal dos caracteres.
+   * @param canvas Canvas onde o texto ser desenhado.
+   */
+  public void render(CharSequence text, FigletLayout layout, FigletCanvas canvas) {
+    final int mode = smushMode(layout);
+    final int h = this.height;
+    canvas.reset(h);
+    final int[] lengths = canvas.lengths;
+    int outLength = 0;
+    int previousWidth = 0;
+    int fallback = glyphIndex(0);
+
+    for (int i = 0; i < text.length(); i++) {
+      int codePoint = Character.codePointAt(text, i);
+      if (codePoint > 0xFFFF) i++;
+      int glyph = glyphIndex(codePoint);
+      if (glyph < 0) glyph = fallback;
+      if (glyph < 0) continue;
+
+      int width = this.widths[glyph];
+      int smush = smushAmount(canvas, glyph, width, previousWidth, outLength, mode);
+      int base = glyph * h;
+      for (int row = 0; row < h; row++) {
+        int start = this.offsets[base + row];
+        int rowLength = this.offsets[base + row + 1] - start;
+        char[] line = canvas.ensureCapacity(row, lengths[row] + rowLength);
+        for (int k = 0; k < smush; k++) {
+          int pos = outLength - smush + k;
+          if (pos >= 0 && pos < lengths[row]) {
+            char right = k < rowLength ? this.data[start + k] : ' ';
+            line[pos] = smushChar(line[pos], right, previousWidth, width, mode);
+          }
+        }
+        if (smush < rowLength) {
+          System.arraycopy(this.data, start + smush, line, lengths[row], rowLength - smush);
+          lengths[row] += rowLength - smush;
+        }
+      }
+      outLength = lengths[0];
+      previousWidth = width;
+    }
+
+    // Os "hardblanks" s so necessrios durante a composio, no desenho final so espaos
+    final char hb = this.hardblank;
+    for (int row = 0; row < h; row++) {
+      char[] line = canvas.rows[row];
+      for (int k = lengths[row] - 1; k >= 0; k--) {
+        if (line[k] == hb) line[k] = ' ';
+      }
+    }
+  }
+
+  /**
+   * Converte o modo de composio solicitado nos bits de regras de composio.
+   *
+   * @param figletLayout Modo de composio.
+   * @return Bits no formato do Full_Layout.
+   */
+  private int smushMode(FigletLayout figletLayout) {
+    switch (figletLayout) {
+      case FULL_WIDTH:
+        return 0;
+      case FITTING:
+        return SM_KERN;
+      case SMUSHING:
+        return SM_SMUSH | (this.layout & 63);
+      default:
+        return this.layout;
+    }
+  }
+
+  /**
+   * Calcula quantas colunas o novo caractere pode avanar sobre o contedo j desenhado.
+   *
+   * @param canvas Canvas com o contedo j desenhado.
+   * @param glyph ndice do novo caractere.
+   * @param width Largura do novo caractere.
+   * @param previousWidth Largura do caractere anterior.
+   * @param outLength Largura atual do desenho.
+   * @param mode Regras de composio.
+   * @return Quantidade de colunas sobrepostas.
+   */
+  private int smushAmount(FigletCanvas canvas, int glyph, int width, int previousWidth, int outLength, int mode) {
+    if ((mode & (SM_SMUSH | SM_KERN)) == 0) return 0;
+    int max = width;
+    int base = glyph * this.height;
+    for (int row = 0; row < this.height; row++) {
+      char[] line = canvas.rows[row];
+      int length = canvas.lengths[row];
+
+      // ltimo caractere visvel da linha j desenhada
+      int lineBound = length;
+      char left = 0;
+      while (true) {
+        left = lineBound < length ? line[lineBound] : 0;
+        if (lineBound > 0 && (left == 0 || left == ' ')) {
+          lineBound--;
+        } else {
+          break;
+        }
+      }
+
+      // Primeiro caractere visvel da linha do novo caractere
+      int start = this.offsets[base + row];
+      int rowLength = this.offsets[base + row + 1] - start;
+      int charBound = 0;
+      char right;
+      while (true) {
+        right = charBound < rowLength ? this.data[start + charBound] : 0;
+        if (right == ' ') {
+          charBound++;
+        } else {
+          break;
+        }
+      }
+
+      int amount = charBound + outLength - 1 - lineBound;
+      if (left == 0 || left == ' ') {
+        amount++;
+      } else if (right != 0 && smushChar(left, right, previousWidth, width, mode) != 0) {
+        amount++;
+      }
+      if (amount < max) max = amount;
+    }
+    return Math.max(0, max);
+  }
+
+  /**
+   * Combina dois caracteres que se sobrepem conforme as regras de composio.
+   *
+   * @param left Caractere j desenhado.
+   * @param right Caractere do novo caractere.
+   * @param previousWidth Largura do caractere anterior.
+   * @param width Largura do novo caractere.
+   * @param mode Regras de composio.
+   * @return Caractere resultante, ou 0 caso os caracteres no possam ser combinados.
+   */
+  private char smushChar(char left, char right, int previousWidth, int width, int mode) {
+    if (left == ' ') return right;
+    if (right == ' ') return left;
+    if (previousWidth < 2 || width < 2) return 0; // Caracteres muito estreitos no so combinados
+    if ((mode & SM_SMUSH) == 0) return 0;
+
+    final char hb = this.hardblank;
+    if ((mode & 63) == 0) {
+      // Smushing universal
+      if (left == hb) return right;
+      if (right == hb) return left;
+      return right;
+    }
+    if ((mode & SM_HARDBLANK) != 0 && left == hb && right == hb) return left;
+    if (left == hb || right == hb) return 0;
+    if ((mode & SM_EQUAL) != 0 && left == right) return left;
+    if ((mode & SM_LOWLINE) != 0) {
+      if (left == '_' && "|/\\[]{}()<>".indexOf(right) >= 0) return right;
+      if (right == '_' && "|/\\[]{}()<>".indexOf(left) >= 0) return left;
+    }
+    if ((mode & SM_HIERARCHY) != 0) {
+      char result = hierarchy(left, right);
+      if (result != 0) return result;
+    }
+    if ((mode & SM_PAIR) != 0) {
+      if ((left == '[' && right == ']') || (left == ']' && right == '[')) return '|';
+      if ((left == '{' && right == '}') || (left == '}' && right == '{')) return '|';
+      if ((left == '(' && right == ')') || (left == ')' && right == '(')) return '|';
+    }
+    if ((mode & SM_BIGX) != 0) {
+      if (left == '/' && right == '\\') return '|';
+      if (left == '\\' && right == '/') return 'Y';
+      if (left == '>' && right == '<') return 'X';
+    }
+    return 0;
+  }
+
+  /**
+   * Regra de hierarquia: entre duas classes diferentes de "|", "/\", "[]", "{}", "()" e "<>", prevalece o caractere da classe posterior.
+   *
+   * @return Caractere resultante, ou 0 caso a regra no se aplique.
+   */
+  private static char hierarchy(char left, char right) {
+    int l = hierarchyClass(left);
+    int r = hierarchyClass(right);
+    if (l < 0 || r < 0 || l == r) return 0;
+    return l > r ? left : right;
+  }
+
+  /**
+   * Retorna a classe do caractere na regra de hierarquia, ou -1 caso no participe da regra.
+   */
+  private static int hierarchyClass(char c) {
+    switch (c) {
+      case '|':
+        return 0;
+      case '/':
+      case '\\':
+        return 1;
+      case '[':
+      case ']':
+        return 2;
+      case '{':
+      case '}':
+        return 3;
+      case '(':
+      case ')':
+        return 4;
+      case '<':
+      case '>':
+        return 5;
+      default:
+        return -1;
+    }
+  }
+
+  /**
+   * Escreve a fonte j interpretada no formato do {@link FigletFontBundle}: cabealho, tabelas de posies e ndices, e os caracteres (um byte por caractere quando todos esto no ISO-8859-1).
+   *
+   * @param out Stream de destino.
+   * @throws IOException Lanado em caso de falha de escrita.
+   */
+  void write(DataOutputStream out) throws IOException {
+    boolean latin1 = true;
+    for (char c : this.data) {
+      if (c > 0xFF) {
+        latin1 = false;
+        break;
+      }
+    }
+    out.writeChar(this.hardblank);
+    out.writeShort(this.height);
+    out.writeShort(this.baseline);
+    out.writeShort(this.maxLength);
+    out.writeShort(this.layout);
+    out.writeInt(this.widths.length);
+    out.writeInt(this.extendedCodes.length);
+    out.writeInt(this.data.length);
+    out.writeBoolean(latin1);
+    for (int i : this.offsets) {
+      out.writeInt(i);
+    }
+    for (int i : this.latinIndex) {
+      out.writeInt(i);
+    }
+    for (int i : this.extendedCodes) {
+      out.writeInt(i);
+    }
+    for (int i : this.extendedIndex) {
+      out.writeInt(i);
+    }
+    for (char c : this.data) {
+      if (latin1) {
+        out.writeByte(c);
+      } else {
+        out.writeChar(c);
+      }
+    }
+  }
+
+  /**
+   * L uma fonte escrita por {@link #write(DataOutputStream)}, a partir da posio atual do buffer. As tabelas so copiadas em bloco, sem nenhuma interpretao.
+   *
+   * @param in Buffer posicionado no incio da fonte. A posio  avanada at o fim da fonte.
+   * @return Fonte lida.
+   */
+  static FLFFont read(ByteBuffer in) {
+    char hardblank = in.getChar();
+    int height = in.getShort();
+    int baseline = in.getShort();
+    int maxLength = in.getShort();
+    int layout = in.getShort();
+    int glyphCount = in.getInt();
+    int extended = in.getInt();
+    int dataLength = in.getInt();
+    boolean latin1 = in.get() != 0;
+    int[] offsets = readInts(in, glyphCount * height + 1);
+    int[] latinIndex = readInts(in, 256);
+    int[] extendedCodes = readInts(in, extended);
+    int[] extendedIndex = readInts(in, extended);
+    char[] data = new char[dataLength];
+    if (latin1) {
+      for (int i = 0; i < dataLength; i++) {
+        data[i] = (char) (in.get() & 0xFF);
+      }
+    } else {
+      in.asCharBuffer().get(data);
+      in.position(in.position() + dataLength * 2);
+    }
+    int[] widths = new int[glyphCount];
+    for (int i = 0; i < glyphCount; i++) {
+      widths[i] = offsets[i * height + 1] - offsets[i * height];
+    }
+    return new FLFFont(hardblank, height, baseline, maxLength, layout, data, offsets, widths, latinIndex, extendedCodes, extendedIndex);
+  }
+
+  /**
+   * L um bloco de inteiros do buffer, avanando a sua posio.
+   */
+  private static int[] readInts(ByteBuffer in, int count) {
+    int[] values = new int[count];
+    in.asIntBuffer().get(values);
+    in.position(in.position() + count * 4);
+    return values;
+  }
+
+  /**
+   * Extrai as mtricas da fonte, utilizadas pelo ndice {@link FigletFontIndex}.<br>
+   * A largura de cada caractere  a da sua maior linha, de forma que a largura prevista nunca seja menor que a renderizada, mesmo nas fontes com linhas de tamanhos diferentes.
+   *
+   * @param fontName Nome da fonte.
+   * @return Mtricas da fonte.
+   */
+  FigletFontMetrics toMetrics(String fontName) {
+    short[] latinWidths = new short[256];
+    for (int code = 0; code < 256; code++) {
+      int glyph = this.latinIndex[code];
+      latinWidths[code] = (short) (glyph < 0 ? -1 : maxRowLength(glyph));
+    }
+    short[] extendedWidths = new short[this.extendedCodes.length];
+    for (int i = 0; i < extendedWidths.length; i++) {
+      extendedWidths[i] = (short) maxRowLength(this.extendedIndex[i]);
+    }
+    return new FigletFontMetrics(fontName, this.height, this.baseline, this.maxLength, this.layout, latinWidths, this.extendedCodes.clone(), extendedWidths);
+  }
+
+  /**
+   * Retorna o tamanho da maior linha do caractere.
+   */
+  private int maxRowLength(int glyph) {
+    int base = glyph * this.height;
+    int max = 0;
+    for (int row = 0; row < this.height; row++) {
+      max = Math.max(max, this.offsets[base + row + 1] - this.offsets[base + row]);
+    }
+    return max;
+  }
+
+  /**
+   * Retorna o caractere "hardblank" da fonte.
+   *
+   * @return Caractere "hardblank".
+   */
+  public char getHardblank() {
+    return this.hardblank;
+  }
+
+  /**
+   * Retorna a quantidade de linhas de cada caractere.
+   *
+   * @return Altura da fonte.
+   */
+  public int getHeight() {
+    return this.height;
+  }
+
+  /**
+   * Retorna a quantidade de linhas de cada caractere acima da linha de base.
+   *
+   * @return Linha de base da fonte.
+   */
+  public int getBaseline() {
+    return this.baseline;
+  }
+
+  /**
+   * Retorna o maior tamanho de linha do arquivo, conforme o cabealho da fonte.
+   *
+   * @return Tamanho mximo de linha.
+   */
+  public int getMaxLength() {
+    return this.maxLength;
+  }
+
+  /**
+   * Retorna a quantidade de caracteres definidos na fonte.
+   *
+   * @return Quantidade de caracteres.
+   */
+  public int getGlyphCount() {
+    return this.widths.length;
+  }
+}
@@ -1,14 +1,26 @@
 package br.eng.rodrigogml.rfw.terminal.utils;
 
-import java.io.File;
-import java.io.FileWriter;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import com.github.lalyos.jfiglet.FigletFont;
 
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
-import br.eng.rodrigogml.rfw.kernel.utils.RUString;
 
 /**
  * Description: Classe para gerao de texto "art ASCII" ou Figlet Fonts sob demanda.<br>
@@ -59,7 +71,8 @@ public class Figlet {
   }
 
   /**
-   * Gera texto em ASCII Art com uma fonte especfica definida pela enumerao FigletFontType.
+   * Gera texto em ASCII Art com uma fonte especfica definida pela enumerao FigletFontType.<br>
+   * A fonte interpretada  mantida em memria pelo {@link FigletFontCache}.
    *
    * @param text O texto a ser convertido em ASCII Art.
    * @param fontType A fonte a ser usada, representada pela enumerao FigletFontType.
@@ -67,9 +80,77 @@ public class Figlet {
    * @throws Exception Caso ocorra algum erro durante a converso.
    */
   public static String generateWithFont(String text, FigletFontType fontType) throws Exception {
-    // Carrega a fonte diretamente do classpath usando o fontName da enumerao
-    String fontPath = "/flf/" + fontType.getFontName() + ".flf";
-    return FigletFont.convertOneLine(Figlet.class.getResourceAsStream(fontPath), text);
+    return generateWithFont(text, fontType, FigletLayout.FULL_WIDTH);
+  }
+
+  /**
+   * Gera texto em ASCII Art com uma fonte especfica e o modo de composio dos caracteres informado.<br>
+   * A fonte interpretada  mantida em memria pelo {@link FigletFontCache}. Para redesenhar o texto com frequncia sem criar objetos, utilize diretamente {@link FLFFont#render(CharSequence, FigletLayout, FigletCanvas)}.
+   *
+   * @param text O texto a ser convertido em ASCII Art.
+   * @param fontType A fonte a ser usada, representada pela enumerao FigletFontType.
+   * @param layout Modo de composio horizontal dos caracteres.
+   * @return String contendo o texto convertido em ASCII Art.
+   * @throws RFWException Caso no seja possvel carregar a fonte.
+   */
+  public static String generateWithFont(String text, FigletFontType fontType, FigletLayout layout) throws RFWException {
+    // A fonte  carregada do classpath apenas na primeira utilizao, veja FigletFontCache
+    return FigletFontCache.getFont(fontType).render(text, layout);
+  }
+
+  /**
+   * Retorna as mtricas da fonte (altura, linha de base e largura de cada caractere), obtidas do ndice gerado durante o build, sem carregar a fonte.
+   *
+   * @param fontType A fonte desejada.
+   * @return Mtricas da fonte.
+   * @throws RFWException Caso no seja possvel ler o ndice das fontes.
+   */
+  public static FigletFontMetrics getFontMetrics(FigletFontType fontType) throws RFWException {
+    return FigletFontIndex.getMetrics(fontType);
+  }
+
+  /**
+   * Prev a largura, em colunas, do texto gerado por {@link #generateWithFont(String, FigletFontType)}, sem carregar a fonte nem renderizar o texto.
+   *
+   * @param text O texto a ser medido.
+   * @param fontType A fonte a ser usada.
+   * @return Largura do texto renderizado.
+   * @throws RFWException Caso no seja possvel ler o ndice das fontes.
+   */
+  public static int predictWidth(String text, FigletFontType fontType) throws RFWException {
+    return FigletFontIndex.getMetrics(fontType).predictWidth(text);
+  }
+
+  /**
+   * Escolhe a fonte para exibir o texto no espao disponvel, considerando apenas as fontes que definem todos os caracteres do texto.<br>
+   * Caso sejam informadas fontes candidatas, retorna a primeira que cabe nas colunas disponveis, permitindo que a aplicao informe as fontes em ordem de preferncia. Caso nenhuma candidata seja informada, todas as fontes so consideradas e  retornada a que ocupa a maior largura sem exceder as colunas disponveis.<br>
+   * As larguras so obtidas do ndice de mtricas, sem renderizar o texto em nenhuma das fontes.
+   *
+   * @param text O texto a ser exibido.
+   * @param maxColumns Quantidade de colunas disponveis.
+   * @param candidates Fontes candidatas, em ordem de preferncia.
+   * @return A fonte escolhida, ou null caso o texto no caiba em nenhuma das fontes.
+   * @throws RFWException Caso no seja possvel ler o ndice das fontes.
+   */
+  public static FigletFontType findBestFittingFont(String text, int maxColumns, FigletFontType... candidates) throws RFWException {
+    if (candidates.length > 0) {
+      for (FigletFontType fontType : candidates) {
+        FigletFontMetrics metrics = FigletFontIndex.getMetrics(fontType);
+        if (metrics.predictWidth(text) <= maxColumns && metrics.supports(text)) return fontType;
+      }
+      return null;
+    }
+    FigletFontType best = null;
+    int bestWidth = -1;
+    for (FigletFontType fontType : FigletFontType.values()) {
+      FigletFontMetrics metrics = FigletFontIndex.getMetrics(fontType);
+      int width = metrics.predictWidth(text);
+      if (width <= maxColumns && width > bestWidth && metrics.supports(text)) {
+        best = fontType;
+        bestWidth = width;
+      }
+    }
+    return best;
   }
 
   /**
@@ -77,83 +158,170 @@ public class Figlet {
    *
    * @param exampleText O texto de exemplo a ser utilizado em todas as fontes.
    * @param outputPath O caminho para o arquivo .html ou pasta onde o arquivo ser salvo.
-   * @throws IOException Caso ocorra algum erro ao escrever o arquivo.
+   * @throws RFWException Caso ocorra algum erro ao escrever o arquivo.
    */
   public static void exportFigletPortfolioHTML(String exampleText, String outputPath) throws RFWException {
-    try {
-      File file;
-      if (outputPath.endsWith(".html")) {
-        file = new File(outputPath);
-      } else {
-        file = new File(outputPath + "/figlet_portfolio.html");
-      }
+    exportFigletPortfolioHTML(exampleText, outputPath, FigletFontType.values());
+  }
 
-      try (FileWriter writer = new FileWriter(file)) {
-        writer.write("<!DOCTYPE html>\n");
-        writer.write("<html lang='en'>\n<head>\n<meta charset='UTF-8'>\n");
-        writer.write("<meta name='viewport' content='width=device-width, initial-scale=1.0'>\n");
-        writer.write("<title>Figlet Fonts</title>\n");
-        writer.write("<style>\n");
-        writer.write("body { background-color: white; color: black; font-family: monospace; }\n");
-        writer.write("pre { font-size: 12px; }\n");
-        writer.write("</style>\n</head>\n<body>\n");
-        writer.write("<h1>Figlet Fonts</h1>\n");
-
-        // Percorre todas as fontes da enumerao e escreve o texto de exemplo
-        for (FigletFontType fontType : FigletFontType.values()) {
-          writer.write("<h2>" + fontType.name() + "</h2>\n");
-          writer.write("<pre>\n");
-
-          try {
-            // Gera o texto com a fonte atual
-            String asciiArt = Figlet.generateWithFont(exampleText, fontType);
-            writer.write(asciiArt);
-          } catch (Exception e) {
-            writer.write("[Erro ao gerar ASCII art com a fonte " + fontType.name() + "]\n");
-          }
-
-          writer.write("</pre>\n");
-          writer.write("<hr>\n");
-        }
+  /**
+   * Gera um arquivo HTML com exemplos das fontes Figlet informadas.<br>
+   * O arquivo  escrito em UTF-8 por um canal NIO com buffer, veja {@link #exportFigletPortfolioHTML(String, Appendable, FigletFontType...)}.
+   *
+   * @param exampleText O texto de exemplo a ser utilizado em todas as fontes.
+   * @param outputPath O caminho para o arquivo .html ou pasta onde o arquivo ser salvo.
+   * @param fontTypes Fontes a serem includas, na ordem em que devem aparecer no arquivo.
+   * @throws RFWException Caso ocorra algum erro ao escrever o arquivo.
+   */
+  public static void exportFigletPortfolioHTML(String exampleText, String outputPath, FigletFontType... fontTypes) throws RFWException {
+    Path file;
+    if (outputPath.endsWith(".html")) {
+      file = Paths.get(outputPath);
+    } else {
+      file = Paths.get(outputPath, "figlet_portfolio.html");
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING); Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), 64 * 1024)) {
+      exportFigletPortfolioHTML(exampleText, writer, fontTypes);
+    } catch (IOException e) {
+      throw new RFWCriticalException("Falha ao exportar arquivo modelo!", e);
+    }
+  }
 
-        writer.write("</body>\n</html>");
-      }
+  /**
+   * Gera o HTML com exemplos das fontes Figlet informadas e o escreve no OutputStream em UTF-8. O stream no  fechado.<br>
+   * O nome do mtodo  diferente do que recebe um {@link Appendable} para evitar a ambiguidade com o {@link java.io.PrintStream}, que  ao mesmo tempo OutputStream e Appendable.
+   *
+   * @param exampleText O texto de exemplo a ser utilizado em todas as fontes.
+   * @param out Stream de destino.
+   * @param fontTypes Fontes a serem includas, na ordem em que devem aparecer no HTML.
+   * @throws RFWException Caso ocorra algum erro ao escrever no stream.
+   */
+  public static void exportFigletPortfolioHTMLToStream(String exampleText, OutputStream out, FigletFontType... fontTypes) throws RFWException {
+    try {
+      Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+      exportFigletPortfolioHTML(exampleText, writer, fontTypes);
+      writer.flush();
     } catch (IOException e) {
       throw new RFWCriticalException("Falha ao exportar arquivo modelo!", e);
     }
   }
 
   /**
-   * Centraliza a arte ASCII em um nmero especfico de colunas.
+   * Gera o HTML com exemplos das fontes Figlet informadas e o escreve no Appendable.
    * <p>
-   * O mtodo analisa o comprimento da linha mais longa na arte ASCII e insere espaos antes de cada linha para fazer com que a arte parea centralizada no nmero de colunas fornecido. Se a linha mais longa j ocupar o total de colunas ou for maior, a arte  retornada sem modificao.
+   * As fontes so carregadas e renderizadas em paralelo no {@link ForkJoinPool#commonPool()}, enquanto a thread que chamou o mtodo escreve cada resultado no destino, na ordem das fontes informadas, assim que ele fica pronto. O tempo total  proporcional  quantidade de ncleos disponveis, e no  soma do tempo de todas as fontes.<br>
+   * As fontes so carregadas sem passar pelo {@link FigletFontCache}, para no descartar do cache as fontes em uso pela aplicao. Todo o texto  escapado para HTML.
    *
-   * @param asciiArt A arte ASCII a ser centralizada.
-   * @param totalColumns O nmero total de colunas disponveis para centralizar o texto.
-   * @return A arte ASCII centralizada, ou a arte original se j for maior que o nmero de colunas.
+   * @param exampleText O texto de exemplo a ser utilizado em todas as fontes.
+   * @param out Destino do HTML.
+   * @param fontTypes Fontes a serem includas, na ordem em que devem aparecer no HTML.
+   * @throws RFWException Caso ocorra algum erro ao escrever no destino.
    */
-  public static String centralize(String asciiArt, int totalColumns) {
-    String[] lines = asciiArt.split("\n");
+  public static void exportFigletPortfolioHTML(final String exampleText, Appendable out, FigletFontType... fontTypes) throws RFWException {
+    List<ForkJoinTask<String>> sections = new ArrayList<>(fontTypes.length);
+    for (final FigletFontType fontType : fontTypes) {
+      sections.add(ForkJoinPool.commonPool().submit(new Callable<String>() {
+        @Override
+        public String call() {
+          return renderPortfolioSection(exampleText, fontType);
+        }
+      }));
+    }
+    try {
+      out.append("<!DOCTYPE html>\n");
+      out.append("<html lang='en'>\n<head>\n<meta charset='UTF-8'>\n");
+      out.append("<meta name='viewport' content='width=device-width, initial-scale=1.0'>\n");
+      out.append("<title>Figlet Fonts</title>\n");
+      out.append("<style>\n");
+      out.append("body { background-color: white; color: black; font-family: monospace; }\n");
+      out.append("pre { font-size: 12px; }\n");
+      out.append("</style>\n</head>\n<body>\n");
+      out.append("<h1>Figlet Fonts</h1>\n");
 
-    int maxLength = 0;
-    for (String line : lines) {
-      if (line.length() > maxLength) {
-        maxLength = line.length();
+      // Escreve as sees na ordem das fontes, aguardando cada uma ficar pronta enquanto as seguintes continuam sendo renderizadas
+      for (ForkJoinTask<String> section : sections) {
+        out.append(section.join());
       }
+
+      out.append("</body>\n</html>");
+    } catch (IOException e) {
+      for (ForkJoinTask<String> section : sections) {
+        section.cancel(false);
+      }
+      throw new RFWCriticalException("Falha ao exportar arquivo modelo!", e);
     }
+  }
 
-    if (maxLength >= totalColumns) {
-      return asciiArt;
+  /**
+   * Gera a seo do portflio HTML de uma fonte.
+   *
+   * @param exampleText O texto de exemplo.
+   * @param fontType Fonte a ser utilizada.
+   * @return HTML da seo.
+   */
+  private static String renderPortfolioSection(String exampleText, FigletFontType fontType) {
+    StringBuilder html = new StringBuilder(4096);
+    html.append("<h2>");
+    escapeHTML(fontType.name(), html);
+    html.append("</h2>\n");
+    html.append("<pre>\n");
+    try {
+      // Gera o texto com a fonte atual
+      escapeHTML(FLFFont.load(fontType).render(exampleText, FigletLayout.FULL_WIDTH), html);
+    } catch (Exception e) {
+      html.append("[Erro ao gerar ASCII art com a fonte ");
+      escapeHTML(fontType.name(), html);
+      html.append("]\n");
     }
+    html.append("</pre>\n");
+    html.append("<hr>\n");
+    return html.toString();
+  }
 
-    // Calcula o nmero de espaos necessrios para centralizar a arte como um todo
-    int padding = (totalColumns - maxLength) / 2;
-    String paddingBlock = RUString.completeUntilLengthRight(" ", "", padding);
-    StringBuilder centeredArt = new StringBuilder();
-    for (String line : lines) {
-      centeredArt.append(paddingBlock).append(line).append("\n");
+  /**
+   * Escapa o texto para ser includo em um documento HTML.
+   *
+   * @param text Texto a ser escapado.
+   * @param out Destino do texto escapado.
+   */
+  private static void escapeHTML(CharSequence text, StringBuilder out) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '&':
+          out.append("&amp;");
+          break;
+        case '<':
+          out.append("&lt;");
+          break;
+        case '>':
+          out.append("&gt;");
+          break;
+        case '"':
+          out.append("&quot;");
+          break;
+        case '\'':
+          out.append("&#39;");
+          break;
+        default:
+          out.append(c);
+      }
     }
+  }
 
+  /**
+   * Centraliza a arte ASCII em um nmero especfico de colunas.
+   * <p>
+   * O mtodo analisa a largura da linha mais longa na arte ASCII e insere espaos antes de cada linha para fazer com que a arte parea centralizada no nmero de colunas fornecido. Se a linha mais longa j ocupar o total de colunas ou for maior, a arte  retornada sem modificao.<br>
+   * A largura  medida em colunas do terminal ({@link DisplayWidth}), desconsiderando as sequncias de escape de cores e considerando os caracteres largos, de forma que artes coloridas tambm fiquem centralizadas.
+   *
+   * @param asciiArt A arte ASCII a ser centralizada.
+   * @param totalColumns O nmero total de colunas disponveis para centralizar o texto.
+   * @return A arte ASCII centralizada, ou a arte original se j for maior que o nmero de colunas.
+   */
+  public static String centralize(String asciiArt, int totalColumns) {
+    StringBuilder centeredArt = new StringBuilder(asciiArt.length() + totalColumns * 8);
+    DisplayWidth.centerBlock(centeredArt, asciiArt, totalColumns);
     return centeredArt.toString();
   }
 
@@ -0,0 +1,173 @@
+package br.eng.rodrigogml.rfw.terminal.utils;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Description: rea de desenho reutilizvel para a renderizao Figlet de {@link FLFFont}.<br>
+ * Mantm uma linha de caracteres para cada linha da fonte. Os arrays s crescem, de forma que um mesmo canvas utilizado para redesenhar um relgio ou contador vrias vezes por segundo no cria novos objetos depois de atingir o tamanho necessrio.
+ * <p>
+ * Esta classe no  thread-safe, cada thread deve utilizar o seu prprio canvas.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public final class FigletCanvas {
+
+  /**
+   * Linhas do desenho.
+   */
+  char[][] rows = new char[0][];
+
+  /**
+   * Quantidade de caracteres utilizados em cada linha.
+   */
+  int[] lengths = new int[0];
+
+  /**
+   * Quantidade de linhas do ltimo desenho.
+   */
+  int height = 0;
+
+  /**
+   * Prepara o canvas para um novo desenho, com todas as linhas vazias.
+   *
+   * @param newHeight Quantidade de linhas do desenho.
+   */
+  void reset(int newHeight) {
+    if (this.rows.length < newHeight) {
+      char[][] newRows = Arrays.copyOf(this.rows, newHeight);
+      for (int i = this.rows.length; i < newHeight; i++) {
+        newRows[i] = new char[64];
+      }
+      this.rows = newRows;
+      this.lengths = Arrays.copyOf(this.lengths, newHeight);
+    }
+    Arrays.fill(this.lengths, 0, newHeight, 0);
+    this.height = newHeight;
+  }
+
+  /**
+   * Garante que a linha comporte a quantidade de caracteres informada.
+   *
+   * @param row Linha.
+   * @param capacity Quantidade de caracteres necessria.
+   * @return Array da linha.
+   */
+  char[] ensureCapacity(int row, int capacity) {
+    char[] chars = this.rows[row];
+    if (chars.length < capacity) {
+      chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+      this.rows[row] = chars;
+    }
+    return chars;
+  }
+
+  /**
+   * Retorna a quantidade de linhas do desenho.
+   *
+   * @return Quantidade de linhas.
+   */
+  public int getHeight() {
+    return this.height;
+  }
+
+  /**
+   * Retorna a largura do desenho, isto , o tamanho da maior linha.
+   *
+   * @return Largura em colunas.
+   */
+  public int getWidth() {
+    int width = 0;
+    for (int i = 0; i < this.height; i++) {
+      if (this.lengths[i] > width) width = this.lengths[i];
+    }
+    return width;
+  }
+
+  /**
+   * Retorna a quantidade de caracteres de uma linha.
+   *
+   * @param row Linha, iniciando em 0.
+   * @return Tamanho da linha.
+   */
+  public int getRowLength(int row) {
+    checkRow(row);
+    return this.lengths[row];
+  }
+
+  /**
+   * Retorna um caractere do desenho.
+   *
+   * @param row Linha, iniciando em 0.
+   * @param col Coluna, iniciando em 0.
+   * @return Caractere na posio, ou espao caso a posio esteja alm do fim da linha.
+   */
+  public char getChar(int row, int col) {
+    checkRow(row);
+    return col < this.lengths[row] ? this.rows[row][col] : ' ';
+  }
+
+  /**
+   * Copia uma linha do desenho para o array informado.
+   *
+   * @param row Linha, iniciando em 0.
+   * @param dst Array de destino.
+   * @param off Posio inicial de escrita.
+   * @return Posio seguinte ao ltimo caractere escrito.
+   */
+  public int copyRow(int row, char[] dst, int off) {
+    checkRow(row);
+    System.arraycopy(this.rows[row], 0, dst, off, this.lengths[row]);
+    return off + this.lengths[row];
+  }
+
+  /**
+   * Acrescenta o desenho ao StringBuilder, com uma quebra de linha ("\n") ao fim de cada linha.
+   *
+   * @param out Destino do desenho.
+   */
+  public void appendTo(StringBuilder out) {
+    for (int i = 0; i < this.height; i++) {
+      out.append(this.rows[i], 0, this.lengths[i]).append('\n');
+    }
+  }
+
+  /**
+   * Acrescenta o desenho ao Appendable, com uma quebra de linha ("\n") ao fim de cada linha.
+   *
+   * @param out Destino do desenho.
+   * @throws IOException Lanado caso ocorra falha ao escrever no destino.
+   */
+  public void appendTo(Appendable out) throws IOException {
+    if (out instanceof StringBuilder) {
+      appendTo((StringBuilder) out);
+      return;
+    }
+    for (int i = 0; i < this.height; i++) {
+      out.append(CharBuffer.wrap(this.rows[i], 0, this.lengths[i])).append('\n');
+    }
+  }
+
+  /**
+   * Retorna o desenho, com uma quebra de linha ("\n") ao fim de cada linha.
+   */
+  @Override
+  public String toString() {
+    int size = this.height;
+    for (int i = 0; i < this.height; i++) {
+      size += this.lengths[i];
+    }
+    StringBuilder buff = new StringBuilder(size);
+    appendTo(buff);
+    return buff.toString();
+  }
+
+  /**
+   * Valida o ndice da linha.
+   */
+  private void checkRow(int row) {
+    if (row < 0 || row >= this.height) throw new IndexOutOfBoundsException("Linha inexistente no desenho: " + row);
+  }
+}
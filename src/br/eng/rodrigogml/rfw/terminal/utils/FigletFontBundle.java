@@ -0,0 +1,251 @@
+package br.eng.rodrigogml.rfw.terminal.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.utils.Figlet.FigletFontType;
+
+/**
+ * Description: Pacote binrio com todas as fontes Figlet includas na biblioteca, j interpretadas.<br>
+ * O pacote  gerado durante o build (fase process-classes, pelo {@link #main(String[])}) e includo no classpath em {@value #RESOURCE}. Em vez de localizar, descompactar e interpretar um arquivo .flf para cada fonte, o pacote inteiro  aberto uma nica vez: mapeado em memria quando est em um diretrio do classpath, ou lido para um buffer direto (fora do heap) quando est dentro do jar.<br>
+ * Cada fonte  decodificada apenas quando utilizada pela primeira vez, copiando em bloco as tabelas j prontas para os arrays do {@link FLFFont}, sem nenhuma interpretao de texto. As fontes decodificadas so mantidas pelo {@link FigletFontCache}.
+ * <p>
+ * Caso o pacote no esteja no classpath (por exemplo, ao executar diretamente dos fontes, sem o build do Maven), as fontes so interpretadas dos arquivos .flf, como antes.
+ * <p>
+ * Formato do arquivo (big-endian):
+ *
+ * <pre>
+ * int     magic ('FLFB')
+ * short   verso
+ * short   quantidade de fontes
+ * para cada fonte: UTF nome da fonte, int posio e int tamanho do contedo no arquivo
+ * contedo de cada fonte, no formato de FLFFont.write()
+ * </pre>
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public final class FigletFontBundle {
+
+  /**
+   * Caminho do pacote no classpath.
+   */
+  public static final String RESOURCE = "/flf/figlet-fonts.bundle";
+
+  private static final int MAGIC = 0x464C4642;
+  private static final short VERSION = 1;
+
+  /**
+   * Contedo do pacote, compartilhado por todas as threads. Cada leitura utiliza uma cpia ({@link ByteBuffer#duplicate()}) para no alterar a posio do buffer original.
+   */
+  private static ByteBuffer buffer = null;
+
+  /**
+   * Posio ([0]) e tamanho ([1]) do contedo de cada fonte, pelo nome da fonte.
+   */
+  private static Map<String, int[]> directory = null;
+
+  /**
+   * Indica se j houve a tentativa de abrir o pacote.
+   */
+  private static volatile boolean opened = false;
+
+  /**
+   * Construtor privado para classe esttica.
+   */
+  private FigletFontBundle() {
+  }
+
+  /**
+   * Gera o pacote de todas as fontes includas na biblioteca, interpretando os arquivos .flf. Executado durante o build do projeto.
+   *
+   * @param args Caminho do arquivo a ser gerado.
+   * @throws Exception Lanado caso no seja possvel carregar alguma fonte ou escrever o arquivo.
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length != 1) throw new IllegalArgumentException("Informe o caminho do pacote a ser gerado.");
+    Path path = Paths.get(args[0]);
+    if (path.getParent() != null) Files.createDirectories(path.getParent());
+    try (OutputStream out = Files.newOutputStream(path)) {
+      write(out, FigletFontType.values());
+    }
+  }
+
+  /**
+   * Escreve o pacote das fontes informadas, interpretadas dos arquivos .flf. O stream no  fechado.
+   *
+   * @param out Stream de destino.
+   * @param fontTypes Fontes a serem includas no pacote.
+   * @throws RFWException Lanado caso no seja possvel carregar alguma fonte ou escrever o pacote.
+   */
+  public static void write(OutputStream out, FigletFontType... fontTypes) throws RFWException {
+    try {
+      // O contedo das fontes  montado antes para que o diretrio, no incio do arquivo, j tenha as posies
+      byte[][] contents = new byte[fontTypes.length][];
+      for (int i = 0; i < fontTypes.length; i++) {
+        ByteArrayOutputStream font = new ByteArrayOutputStream(16384);
+        DataOutputStream fontData = new DataOutputStream(font);
+        FLFFont.loadResource(fontTypes[i]).write(fontData);
+        fontData.flush();
+        contents[i] = font.toByteArray();
+      }
+
+      ByteArrayOutputStream header = new ByteArrayOutputStream(4096);
+      DataOutputStream headerData = new DataOutputStream(header);
+      for (FigletFontType fontType : fontTypes) {
+        headerData.writeUTF(fontType.getFontName());
+        headerData.writeInt(0);
+        headerData.writeInt(0);
+      }
+      int position = 8 + header.size();
+
+      DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+      data.writeInt(MAGIC);
+      data.writeShort(VERSION);
+      data.writeShort(fontTypes.length);
+      for (int i = 0; i < fontTypes.length; i++) {
+        data.writeUTF(fontTypes[i].getFontName());
+        data.writeInt(position);
+        data.writeInt(contents[i].length);
+        position += contents[i].length;
+      }
+      for (byte[] content : contents) {
+        data.write(content);
+      }
+      data.flush();
+    } catch (IOException e) {
+      throw new RFWCriticalException("Falha ao escrever o pacote das fontes Figlet!", e);
+    }
+  }
+
+  /**
+   * Verifica se o pacote de fontes est disponvel no classpath, abrindo-o caso ainda no tenha sido aberto.
+   *
+   * @return true caso as fontes sejam obtidas do pacote.
+   * @throws RFWException Lanado caso o pacote exista mas no possa ser lido.
+   */
+  public static boolean isAvailable() throws RFWException {
+    open();
+    return buffer != null;
+  }
+
+  /**
+   * Decodifica uma fonte do pacote.<br>
+   * A fonte decodificada no  mantida por esta classe: para reaproveit-la utilize o {@link FigletFontCache}.
+   *
+   * @param fontType Fonte desejada.
+   * @return Fonte decodificada, ou null caso o pacote no esteja no classpath ou no contenha a fonte.
+   * @throws RFWException Lanado caso o pacote exista mas no possa ser lido.
+   */
+  public static FLFFont load(FigletFontType fontType) throws RFWException {
+    open();
+    if (buffer == null) return null;
+    int[] entry = directory.get(fontType.getFontName());
+    if (entry == null) return null;
+    ByteBuffer in = buffer.duplicate();
+    in.position(entry[0]);
+    in.limit(entry[0] + entry[1]);
+    try {
+      return FLFFont.read(in);
+    } catch (RuntimeException e) {
+      throw new RFWCriticalException("Contedo invlido da fonte Figlet '" + fontType.getFontName() + "' no pacote de fontes!", e);
+    }
+  }
+
+  /**
+   * Abre o pacote na primeira utilizao.
+   */
+  private static void open() throws RFWException {
+    if (opened) return;
+    synchronized (FigletFontBundle.class) {
+      if (opened) return;
+      URL url = FigletFontBundle.class.getResource(RESOURCE);
+      if (url != null) {
+        ByteBuffer content;
+        try {
+          content = "file".equals(url.getProtocol()) ? map(Paths.get(url.toURI())) : readDirect(url);
+        } catch (IOException | URISyntaxException e) {
+          throw new RFWCriticalException("Falha ao abrir o pacote das fontes Figlet!", e);
+        }
+        directory = readDirectory(content);
+        buffer = content;
+      }
+      opened = true;
+    }
+  }
+
+  /**
+   * Mapeia o arquivo em memria, somente para leitura.
+   */
+  private static ByteBuffer map(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+
+  /**
+   * L todo o contedo do recurso (normalmente dentro do jar) para um buffer direto.
+   */
+  private static ByteBuffer readDirect(URL url) throws IOException {
+    try (InputStream in = url.openStream()) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream(1024 * 1024);
+      byte[] buff = new byte[65536];
+      int read;
+      while ((read = in.read(buff)) >= 0) {
+        out.write(buff, 0, read);
+      }
+      ByteBuffer content = ByteBuffer.allocateDirect(out.size());
+      content.put(out.toByteArray());
+      content.flip();
+      return content;
+    }
+  }
+
+  /**
+   * L o diretrio do incio do pacote.
+   */
+  private static Map<String, int[]> readDirectory(ByteBuffer content) throws RFWException {
+    ByteBuffer in = content.duplicate();
+    try {
+      if (in.getInt() != MAGIC) throw new RFWCriticalException("O contedo no  um pacote de fontes Figlet!");
+      int version = in.getShort();
+      if (version != VERSION) throw new RFWCriticalException("Verso no suportada do pacote de fontes Figlet: " + version + ".");
+      int count = in.getShort();
+      Map<String, int[]> result = new HashMap<>(count * 2);
+      for (int i = 0; i < count; i++) {
+        result.put(readUTF(in), new int[] { in.getInt(), in.getInt() });
+      }
+      return result;
+    } catch (RuntimeException e) {
+      throw new RFWCriticalException("Contedo invlido no pacote de fontes Figlet!", e);
+    }
+  }
+
+  /**
+   * L uma String escrita por {@link DataOutputStream#writeUTF(String)}. Os nomes das fontes so ASCII, de forma que cada byte  um caractere.
+   */
+  private static String readUTF(ByteBuffer in) {
+    int length = in.getShort() & 0xFFFF;
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) (in.get() & 0xFF);
+    }
+    return new String(chars);
+  }
+}
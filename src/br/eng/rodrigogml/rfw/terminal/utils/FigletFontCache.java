@@ -0,0 +1,209 @@
+package br.eng.rodrigogml.rfw.terminal.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.utils.Figlet.FigletFontType;
+
+/**
+ * Description: Cache das fontes Figlet j carregadas e interpretadas.<br>
+ * Carregar uma fonte exige decodific-la do {@link FigletFontBundle} ou, sem o pacote, ler o arquivo .flf do classpath e interpretar todos os seus caracteres (normalmente mais de 200 definies). Com o cache esse custo  pago apenas na primeira utilizao de cada fonte, e as renderizaes seguintes utilizam a fonte j em memria.
+ * <p>
+ * O cache  limitado pela quantidade de fontes ({@link #setCapacity(int)}). Quando cheio, a fonte utilizada h mais tempo  descartada (LRU).<br>
+ * As fontes podem ser carregadas antecipadamente, por exemplo na inicializao do sistema, com {@link #preload(FigletFontType...)}, e os contadores de acertos, falhas e descartes permitem avaliar se a capacidade est adequada.
+ * <p>
+ * Esta classe  thread-safe. As fontes carregadas so apenas lidas durante a renderizao e podem ser utilizadas por vrias threads ao mesmo tempo.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public final class FigletFontCache {
+
+  /**
+   * Capacidade padro do cache, em quantidade de fontes.
+   */
+  public static final int DEFAULT_CAPACITY = 16;
+
+  /**
+   * Quantidade mxima de fontes mantidas em memria.
+   */
+  private static int capacity = DEFAULT_CAPACITY;
+
+  /**
+   * Fontes carregadas, na ordem de utilizao (da mais antiga para a mais recente).
+   */
+  private static final LinkedHashMap<FigletFontType, FLFFont> fonts = new LinkedHashMap<FigletFontType, FLFFont>(32, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<FigletFontType, FLFFont> eldest) {
+      if (size() > capacity) {
+        evictions.incrementAndGet();
+        return true;
+      }
+      return false;
+    }
+  };
+
+  private static final AtomicLong hits = new AtomicLong(0);
+  private static final AtomicLong misses = new AtomicLong(0);
+  private static final AtomicLong evictions = new AtomicLong(0);
+
+  /**
+   * Construtor privado para classe esttica.
+   */
+  private FigletFontCache() {
+  }
+
+  /**
+   * Retorna a fonte interpretada, carregando-a do classpath caso ainda no esteja no cache.
+   *
+   * @param fontType Fonte desejada.
+   * @return Fonte pronta para renderizao.
+   * @throws RFWException Lanado caso no seja possvel carregar a fonte.
+   */
+  public static FLFFont getFont(FigletFontType fontType) throws RFWException {
+    FLFFont font;
+    synchronized (fonts) {
+      font = fonts.get(fontType);
+    }
+    if (font != null) {
+      hits.incrementAndGet();
+      return font;
+    }
+    misses.incrementAndGet();
+
+    // A leitura e interpretao so feitas fora do lock para no bloquear as threads que utilizam outras fontes
+    FLFFont loaded = FLFFont.load(fontType);
+    synchronized (fonts) {
+      font = fonts.get(fontType);
+      if (font == null) {
+        fonts.put(fontType, loaded);
+        font = loaded;
+      }
+    }
+    return font;
+  }
+
+  /**
+   * Carrega antecipadamente as fontes informadas, evitando o custo do carregamento na primeira renderizao.<br>
+   * Caso sejam informadas mais fontes que a capacidade do cache, apenas as ltimas permanecero em memria.
+   *
+   * @param fontTypes Fontes a serem carregadas.
+   * @throws RFWException Lanado caso no seja possvel carregar alguma das fontes.
+   */
+  public static void preload(FigletFontType... fontTypes) throws RFWException {
+    for (FigletFontType fontType : fontTypes) {
+      getFont(fontType);
+    }
+  }
+
+  /**
+   * Define a quantidade mxima de fontes mantidas em memria. Caso o cache tenha mais fontes que a nova capacidade, as utilizadas h mais tempo so descartadas.
+   *
+   * @param newCapacity Quantidade mxima de fontes.
+   */
+  public static void setCapacity(int newCapacity) {
+    if (newCapacity <= 0) throw new IllegalArgumentException("A capacidade do cache deve ser positiva.");
+    synchronized (fonts) {
+      capacity = newCapacity;
+      while (fonts.size() > capacity) {
+        FigletFontType eldest = fonts.keySet().iterator().next();
+        fonts.remove(eldest);
+        evictions.incrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Retorna a quantidade mxima de fontes mantidas em memria.
+   *
+   * @return Capacidade do cache.
+   */
+  public static int getCapacity() {
+    synchronized (fonts) {
+      return capacity;
+    }
+  }
+
+  /**
+   * Retorna a quantidade de fontes atualmente em memria.
+   *
+   * @return Quantidade de fontes no cache.
+   */
+  public static int getSize() {
+    synchronized (fonts) {
+      return fonts.size();
+    }
+  }
+
+  /**
+   * Verifica se a fonte est carregada no cache, sem alterar a ordem de utilizao nem os contadores.
+   *
+   * @param fontType Fonte a ser verificada.
+   * @return true caso a fonte esteja em memria.
+   */
+  public static boolean isLoaded(FigletFontType fontType) {
+    synchronized (fonts) {
+      return fonts.containsKey(fontType);
+    }
+  }
+
+  /**
+   * Descarta todas as fontes do cache. Os contadores no so alterados.
+   */
+  public static void clear() {
+    synchronized (fonts) {
+      fonts.clear();
+    }
+  }
+
+  /**
+   * Retorna a quantidade de vezes em que a fonte solicitada j estava no cache.
+   *
+   * @return Total de acertos.
+   */
+  public static long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Retorna a quantidade de vezes em que a fonte solicitada precisou ser carregada.
+   *
+   * @return Total de falhas.
+   */
+  public static long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * Retorna a quantidade de fontes descartadas por falta de capacidade.
+   *
+   * @return Total de descartes.
+   */
+  public static long getEvictionCount() {
+    return evictions.get();
+  }
+
+  /**
+   * Retorna a proporo de solicitaes atendidas pelo cache.
+   *
+   * @return Valor entre 0 e 1, ou 0 caso nenhuma fonte tenha sido solicitada.
+   */
+  public static double getHitRatio() {
+    long h = hits.get();
+    long total = h + misses.get();
+    return total == 0 ? 0d : (double) h / total;
+  }
+
+  /**
+   * Zera os contadores de acertos, falhas e descartes.
+   */
+  public static void resetStatistics() {
+    hits.set(0);
+    misses.set(0);
+    evictions.set(0);
+  }
+}
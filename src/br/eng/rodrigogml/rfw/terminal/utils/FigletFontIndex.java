@@ -0,0 +1,202 @@
+package br.eng.rodrigogml.rfw.terminal.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.terminal.utils.Figlet.FigletFontType;
+
+/**
+ * Description: ndice binrio com as mtricas ({@link FigletFontMetrics}) de todas as fontes Figlet includas na biblioteca.<br>
+ * O ndice  gerado durante o build (fase process-classes, pelo {@link #main(String[])}) e includo no classpath em {@value #RESOURCE}. Com ele, a altura de uma fonte e a largura de um texto renderizado so conhecidas sem ler nem interpretar nenhum arquivo .flf: o ndice inteiro tem poucas dezenas de KB e  lido uma nica vez, na primeira consulta.
+ * <p>
+ * Caso o ndice no esteja no classpath (por exemplo, ao executar diretamente dos fontes, sem o build do Maven), as mtricas de cada fonte so extradas da prpria fonte na primeira consulta.
+ * <p>
+ * Formato do arquivo (big-endian, {@link DataOutputStream}):
+ *
+ * <pre>
+ * int     magic ('FLFI')
+ * short   verso
+ * short   quantidade de fontes
+ * para cada fonte:
+ *   UTF     nome da fonte
+ *   short   altura, linha de base, tamanho mximo de linha e modo de composio
+ *   byte[256] largura dos caracteres 0 a 255 (0xFF: caractere inexistente)
+ *   int     quantidade de caracteres acima de 255
+ *   para cada caractere acima de 255, em ordem crescente: int cdigo, short largura
+ * </pre>
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public final class FigletFontIndex {
+
+  /**
+   * Caminho do ndice no classpath.
+   */
+  public static final String RESOURCE = "/flf/figlet-fonts.idx";
+
+  private static final int MAGIC = 0x464C4649;
+  private static final short VERSION = 1;
+
+  /**
+   * Valor que indica, na tabela de larguras, que o caractere no existe na fonte.
+   */
+  private static final int ABSENT = 0xFF;
+
+  /**
+   * Mtricas de cada fonte, indexadas pelo ordinal de {@link FigletFontType}. Carregadas na primeira consulta.
+   */
+  private static volatile FigletFontMetrics[] metrics = null;
+
+  /**
+   * Construtor privado para classe esttica.
+   */
+  private FigletFontIndex() {
+  }
+
+  /**
+   * Gera o ndice de todas as fontes includas na biblioteca. Executado durante o build do projeto.
+   *
+   * @param args Caminho do arquivo a ser gerado.
+   * @throws Exception Lanado caso no seja possvel carregar alguma fonte ou escrever o arquivo.
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length != 1) throw new IllegalArgumentException("Informe o caminho do ndice a ser gerado.");
+    Path path = Paths.get(args[0]);
+    if (path.getParent() != null) Files.createDirectories(path.getParent());
+    try (OutputStream out = Files.newOutputStream(path)) {
+      write(out, FigletFontType.values());
+    }
+  }
+
+  /**
+   * Escreve o ndice das fontes informadas. O stream no  fechado.
+   *
+   * @param out Stream de destino.
+   * @param fontTypes Fontes a serem includas no ndice.
+   * @throws RFWException Lanado caso no seja possvel carregar alguma fonte ou escrever o ndice.
+   */
+  public static void write(OutputStream out, FigletFontType... fontTypes) throws RFWException {
+    try {
+      DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+      data.writeInt(MAGIC);
+      data.writeShort(VERSION);
+      data.writeShort(fontTypes.length);
+      for (FigletFontType fontType : fontTypes) {
+        FigletFontMetrics m = FLFFont.loadResource(fontType).toMetrics(fontType.getFontName());
+        data.writeUTF(m.getFontName());
+        data.writeShort(m.getHeight());
+        data.writeShort(m.getBaseline());
+        data.writeShort(m.getMaxLength());
+        data.writeShort(m.getLayout());
+        for (short width : m.getLatinWidths()) {
+          if (width >= ABSENT) throw new RFWCriticalException("Caractere largo demais para o ndice na fonte Figlet '" + fontType.getFontName() + "'.");
+          data.writeByte(width < 0 ? ABSENT : width);
+        }
+        int[] codes = m.getExtendedCodes();
+        short[] widths = m.getExtendedWidths();
+        data.writeInt(codes.length);
+        for (int i = 0; i < codes.length; i++) {
+          data.writeInt(codes[i]);
+          data.writeShort(widths[i]);
+        }
+      }
+      data.flush();
+    } catch (IOException e) {
+      throw new RFWCriticalException("Falha ao escrever o ndice das fontes Figlet!", e);
+    }
+  }
+
+  /**
+   * L um ndice gerado por {@link #write(OutputStream, FigletFontType...)}. O stream no  fechado.
+   *
+   * @param in Stream do ndice.
+   * @return Mtricas das fontes do ndice, pelo nome da fonte.
+   * @throws RFWException Lanado caso o contedo no seja um ndice vlido.
+   */
+  public static Map<String, FigletFontMetrics> read(InputStream in) throws RFWException {
+    try {
+      DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+      if (data.readInt() != MAGIC) throw new RFWCriticalException("O contedo no  um ndice de fontes Figlet!");
+      int version = data.readShort();
+      if (version != VERSION) throw new RFWCriticalException("Verso no suportada do ndice de fontes Figlet: " + version + ".");
+      int count = data.readShort();
+      Map<String, FigletFontMetrics> result = new HashMap<>(count * 2);
+      for (int f = 0; f < count; f++) {
+        String name = data.readUTF();
+        int height = data.readShort();
+        int baseline = data.readShort();
+        int maxLength = data.readShort();
+        int layout = data.readShort();
+        short[] latinWidths = new short[256];
+        for (int code = 0; code < 256; code++) {
+          int width = data.readUnsignedByte();
+          latinWidths[code] = (short) (width == ABSENT ? -1 : width);
+        }
+        int extended = data.readInt();
+        int[] codes = new int[extended];
+        short[] widths = new short[extended];
+        for (int i = 0; i < extended; i++) {
+          codes[i] = data.readInt();
+          widths[i] = data.readShort();
+        }
+        result.put(name, new FigletFontMetrics(name, height, baseline, maxLength, layout, latinWidths, codes, widths));
+      }
+      return result;
+    } catch (IOException e) {
+      throw new RFWCriticalException("Falha ao ler o ndice das fontes Figlet!", e);
+    }
+  }
+
+  /**
+   * Retorna as mtricas da fonte, obtidas do ndice. Caso a fonte no esteja no ndice, as mtricas so extradas da prpria fonte.
+   *
+   * @param fontType Fonte desejada.
+   * @return Mtricas da fonte.
+   * @throws RFWException Lanado caso no seja possvel ler o ndice ou carregar a fonte.
+   */
+  public static FigletFontMetrics getMetrics(FigletFontType fontType) throws RFWException {
+    FigletFontMetrics[] all = metrics;
+    if (all == null) all = loadIndex();
+    FigletFontMetrics m = all[fontType.ordinal()];
+    if (m == null) {
+      // Sem o ndice no classpath a fonte  carregada uma nica vez e as mtricas mantidas no array (a corrida entre threads apenas repete o clculo)
+      m = FigletFontCache.getFont(fontType).toMetrics(fontType.getFontName());
+      all[fontType.ordinal()] = m;
+    }
+    return m;
+  }
+
+  /**
+   * L o ndice do classpath, caso exista.
+   */
+  private static synchronized FigletFontMetrics[] loadIndex() throws RFWException {
+    if (metrics != null) return metrics;
+    FigletFontType[] types = FigletFontType.values();
+    FigletFontMetrics[] all = new FigletFontMetrics[types.length];
+    try (InputStream in = FigletFontIndex.class.getResourceAsStream(RESOURCE)) {
+      if (in != null) {
+        Map<String, FigletFontMetrics> byName = read(in);
+        for (FigletFontType type : types) {
+          all[type.ordinal()] = byName.get(type.getFontName());
+        }
+      }
+    } catch (IOException e) {
+      throw new RFWCriticalException("Falha ao ler o ndice das fontes Figlet!", e);
+    }
+    metrics = all;
+    return all;
+  }
+}
@@ -0,0 +1,218 @@
+package br.eng.rodrigogml.rfw.terminal.utils;
+
+import java.util.Arrays;
+
+/**
+ * Description: Mtricas de uma fonte Figlet: altura, linha de base, modo de composio e largura de cada caractere.<br>
+ * Permite prever a largura do texto renderizado sem carregar nem renderizar a fonte. As mtricas de todas as fontes includas na biblioteca so geradas durante o build por {@link FigletFontIndex} e obtidas por {@link Figlet#getFontMetrics(Figlet.FigletFontType)}.
+ * <p>
+ * Instncias desta classe so imutveis.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public final class FigletFontMetrics {
+
+  /**
+   * Nome da fonte (nome do arquivo .flf, sem extenso).
+   */
+  private final String fontName;
+
+  private final int height;
+  private final int baseline;
+  private final int maxLength;
+
+  /**
+   * Modo de composio horizontal padro da fonte, no formato do Full_Layout da especificao FIGfont.
+   */
+  private final int layout;
+
+  /**
+   * Largura (maior linha) dos caracteres de cdigo 0 a 255, ou -1 caso o caractere no exista na fonte.
+   */
+  private final short[] latinWidths;
+
+  /**
+   * Cdigos acima de 255 definidos na fonte, em ordem crescente.
+   */
+  private final int[] extendedCodes;
+
+  /**
+   * Largura de cada caractere de {@link #extendedCodes}.
+   */
+  private final short[] extendedWidths;
+
+  /**
+   * Maior largura entre os caracteres da fonte.
+   */
+  private final int maxGlyphWidth;
+
+  FigletFontMetrics(String fontName, int height, int baseline, int maxLength, int layout, short[] latinWidths, int[] extendedCodes, short[] extendedWidths) {
+    this.fontName = fontName;
+    this.height = height;
+    this.baseline = baseline;
+    this.maxLength = maxLength;
+    this.layout = layout;
+    this.latinWidths = latinWidths;
+    this.extendedCodes = extendedCodes;
+    this.extendedWidths = extendedWidths;
+    int max = 0;
+    for (short w : latinWidths) {
+      if (w > max) max = w;
+    }
+    for (short w : extendedWidths) {
+      if (w > max) max = w;
+    }
+    this.maxGlyphWidth = max;
+  }
+
+  /**
+   * Retorna a largura do caractere na fonte.
+   *
+   * @param codePoint Cdigo do caractere.
+   * @return Largura em colunas, ou -1 caso a fonte no defina o caractere.
+   */
+  public int getGlyphWidth(int codePoint) {
+    if (codePoint < 0) return -1;
+    if (codePoint < 256) return this.latinWidths[codePoint];
+    int i = Arrays.binarySearch(this.extendedCodes, codePoint);
+    return i < 0 ? -1 : this.extendedWidths[i];
+  }
+
+  /**
+   * Verifica se a fonte define o caractere.
+   *
+   * @param codePoint Cdigo do caractere.
+   * @return true caso o caractere exista na fonte.
+   */
+  public boolean hasGlyph(int codePoint) {
+    return getGlyphWidth(codePoint) >= 0;
+  }
+
+  /**
+   * Verifica se a fonte define todos os caracteres do texto.
+   *
+   * @param text Texto a ser verificado.
+   * @return true caso todos os caracteres existam na fonte.
+   */
+  public boolean supports(CharSequence text) {
+    for (int i = 0; i < text.length(); i++) {
+      int codePoint = Character.codePointAt(text, i);
+      if (codePoint > 0xFFFF) i++;
+      if (getGlyphWidth(codePoint) < 0) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Prev a largura do texto renderizado com {@link FigletLayout#FULL_WIDTH} (o modo utilizado por {@link Figlet#generateWithFont(String, Figlet.FigletFontType)}), sem renderiz-lo.<br>
+   * O valor  a soma da largura de cada caractere, considerando as mesmas regras da renderizao para os caracteres que no existem na fonte.  exato nas fontes em que todas as linhas de cada caractere tm o mesmo tamanho, como exige a especificao FIGfont; nas demais, e nos modos com aproximao dos caracteres, o texto renderizado nunca  mais largo que este valor.
+   *
+   * @param text Texto a ser medido.
+   * @return Largura em colunas.
+   */
+  public int predictWidth(CharSequence text) {
+    int fallback = this.latinWidths[0];
+    int width = 0;
+    for (int i = 0; i < text.length(); i++) {
+      int codePoint = Character.codePointAt(text, i);
+      if (codePoint > 0xFFFF) i++;
+      int w = getGlyphWidth(codePoint);
+      if (w < 0) w = fallback;
+      if (w > 0) width += w;
+    }
+    return width;
+  }
+
+  /**
+   * Retorna o nome da fonte (nome do arquivo .flf, sem extenso).
+   *
+   * @return Nome da fonte.
+   */
+  public String getFontName() {
+    return this.fontName;
+  }
+
+  /**
+   * Retorna a quantidade de linhas de cada caractere, que  tambm a quantidade de linhas do texto renderizado.
+   *
+   * @return Altura da fonte.
+   */
+  public int getHeight() {
+    return this.height;
+  }
+
+  /**
+   * Retorna a quantidade de linhas de cada caractere acima da linha de base.
+   *
+   * @return Linha de base da fonte.
+   */
+  public int getBaseline() {
+    return this.baseline;
+  }
+
+  /**
+   * Retorna o maior tamanho de linha do arquivo, conforme o cabealho da fonte.
+   *
+   * @return Tamanho mximo de linha.
+   */
+  public int getMaxLength() {
+    return this.maxLength;
+  }
+
+  /**
+   * Retorna o modo de composio horizontal padro da fonte, no formato do Full_Layout da especificao FIGfont (bits 1 a 32: regras de "smushing", 64: "fitting", 128: "smushing").
+   *
+   * @return Bits do modo de composio.
+   */
+  public int getLayout() {
+    return this.layout;
+  }
+
+  /**
+   * Retorna a maior largura entre os caracteres da fonte.
+   *
+   * @return Largura em colunas.
+   */
+  public int getMaxGlyphWidth() {
+    return this.maxGlyphWidth;
+  }
+
+  /**
+   * Retorna a quantidade de caracteres definidos na fonte.
+   *
+   * @return Quantidade de caracteres.
+   */
+  public int getGlyphCount() {
+    int count = this.extendedCodes.length;
+    for (short w : this.latinWidths) {
+      if (w >= 0) count++;
+    }
+    return count;
+  }
+
+  /**
+   * Retorna o maior cdigo de caractere definido na fonte.
+   *
+   * @return Cdigo do caractere, ou -1 caso a fonte no tenha caracteres.
+   */
+  public int getMaxCodePoint() {
+    if (this.extendedCodes.length > 0) return this.extendedCodes[this.extendedCodes.length - 1];
+    for (int i = 255; i >= 0; i--) {
+      if (this.latinWidths[i] >= 0) return i;
+    }
+    return -1;
+  }
+
+  short[] getLatinWidths() {
+    return this.latinWidths;
+  }
+
+  int[] getExtendedCodes() {
+    return this.extendedCodes;
+  }
+
+  short[] getExtendedWidths() {
+    return this.extendedWidths;
+  }
+}
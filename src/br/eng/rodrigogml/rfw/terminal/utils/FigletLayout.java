@@ -0,0 +1,32 @@
+package br.eng.rodrigogml.rfw.terminal.utils;
+
+/**
+ * Description: Modo de composio horizontal dos caracteres na renderizao Figlet.<br>
+ * Define quanto os caracteres vizinhos se aproximam, conforme a especificao FIGfont 2.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public enum FigletLayout {
+
+  /**
+   * Cada caractere ocupa toda a sua largura, sem nenhuma aproximao ("full width").<br>
+   *  o modo utilizado por {@link Figlet#generateWithFont(String, Figlet.FigletFontType)}.
+   */
+  FULL_WIDTH,
+
+  /**
+   * Os caracteres so aproximados at se tocarem, sem sobreposio ("fitting" ou "kerning").
+   */
+  FITTING,
+
+  /**
+   * Os caracteres so aproximados at que uma coluna se sobreponha, combinando os caracteres que se encontram conforme as regras de "smushing" da fonte. Caso a fonte no defina regras,  utilizado o "smushing" universal, onde o caractere da direita prevalece.
+   */
+  SMUSHING,
+
+  /**
+   * Utiliza o modo definido no cabealho da fonte.
+   */
+  FONT_DEFAULT
+}
@@ -0,0 +1,103 @@
+package br.eng.rodrigogml.rfw.terminal.utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import com.sun.jna.NativeLong;
+import com.sun.jna.Structure;
+
+/**
+ * Description: Classe para chamada direta da biblioteca C (libc) do Linux e obter melhor controle do terminal sem a necessidade de executar processos externos como o "stty".<br>
+ * As constantes e estruturas seguem o layout do Linux (glibc/musl em x86_64 e aarch64), no devem ser utilizadas em outros sistemas Unix.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public interface LibC extends Library {
+  LibC INSTANCE = Native.load("c", LibC.class);
+
+  // Estrutura com o tamanho do terminal, preenchida pelo ioctl(TIOCGWINSZ)
+  @Structure.FieldOrder({ "ws_row", "ws_col", "ws_xpixel", "ws_ypixel" })
+  class winsize extends Structure {
+    public short ws_row;
+    public short ws_col;
+    public short ws_xpixel;
+    public short ws_ypixel;
+
+    @Override
+    protected List<String> getFieldOrder() {
+      return Arrays.asList("ws_row", "ws_col", "ws_xpixel", "ws_ypixel");
+    }
+  }
+
+  // Estrutura com os atributos do terminal (struct termios do Linux)
+  @Structure.FieldOrder({ "c_iflag", "c_oflag", "c_cflag", "c_lflag", "c_line", "c_cc", "c_ispeed", "c_ospeed" })
+  class termios extends Structure {
+    public int c_iflag;
+    public int c_oflag;
+    public int c_cflag;
+    public int c_lflag;
+    public byte c_line;
+    public byte[] c_cc = new byte[NCCS];
+    public int c_ispeed;
+    public int c_ospeed;
+
+    @Override
+    protected List<String> getFieldOrder() {
+      return Arrays.asList("c_iflag", "c_oflag", "c_cflag", "c_lflag", "c_line", "c_cc", "c_ispeed", "c_ospeed");
+    }
+
+    /**
+     * Copia todos os atributos de outra estrutura.
+     *
+     * @param other Estrutura de origem.
+     */
+    public void copyFrom(termios other) {
+      this.c_iflag = other.c_iflag;
+      this.c_oflag = other.c_oflag;
+      this.c_cflag = other.c_cflag;
+      this.c_lflag = other.c_lflag;
+      this.c_line = other.c_line;
+      System.arraycopy(other.c_cc, 0, this.c_cc, 0, NCCS);
+      this.c_ispeed = other.c_ispeed;
+      this.c_ospeed = other.c_ospeed;
+    }
+  }
+
+  int ioctl(int fd, NativeLong request, winsize ws);
+
+  int tcgetattr(int fd, termios termios);
+
+  int tcsetattr(int fd, int optionalActions, termios termios);
+
+  int isatty(int fd);
+
+  int STDIN_FILENO = 0;
+  int STDOUT_FILENO = 1;
+  int STDERR_FILENO = 2;
+
+  long TIOCGWINSZ = 0x5413;
+
+  int NCCS = 32;
+
+  // optional_actions do tcsetattr
+  int TCSANOW = 0;
+  int TCSADRAIN = 1;
+  int TCSAFLUSH = 2;
+
+  // Flags de c_iflag
+  int ICRNL = 0000400;
+  int IXON = 0002000;
+
+  // Flags de c_lflag
+  int ISIG = 0000001;
+  int ICANON = 0000002;
+  int ECHO = 0000010;
+  int IEXTEN = 0100000;
+
+  // ndices de c_cc
+  int VTIME = 5;
+  int VMIN = 6;
+}
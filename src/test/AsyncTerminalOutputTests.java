@@ -0,0 +1,103 @@
+package test;
+
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import br.eng.rodrigogml.rfw.terminal.AsyncTerminalOutput;
+import br.eng.rodrigogml.rfw.terminal.AsyncTerminalOutput.OverflowPolicy;
+
+/**
+ * Description: Verifica que a poltica {@link OverflowPolicy#DROP_OLDEST} da {@link AsyncTerminalOutput} no bloqueia as threads produtoras quando a sada est lenta.<br>
+ * A sada demora a cada escrita e a fila tem capacidade para um nico segmento. Os segmentos s so submetidos depois que a thread de escrita retirou o primeiro segmento da fila e est presa na escrita, de forma que toda a capacidade est ocupada pelo lote que est sendo escrito e no h nada na fila para descartar. Mesmo assim a thread produtora deve submeter todos os segmentos sem aguardar a escrita, descartando os mais antigos, e todos os segmentos devem ser escritos ou contados como descartados.<br>
+ * Encerra com cdigo de sada diferente de zero caso a thread produtora fique bloqueada ou algum segmento se perca.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class AsyncTerminalOutputTests {
+
+  private static final int SEGMENTS = 10000;
+
+  private static final int CAPACITY = 1;
+
+  /**
+   * Tempo de cada escrita na sada lenta, em milissegundos.
+   */
+  private static final long WRITE_DELAY = 50;
+
+  /**
+   * Tempo mximo para a thread produtora submeter todos os segmentos. Se a thread aguardasse cada lote ser escrito, levaria minutos.
+   */
+  private static final long SUBMIT_TIMEOUT = 5000;
+
+  public static void main(String[] args) throws Exception {
+    final CountDownLatch writing = new CountDownLatch(1);
+    OutputStream slowSink = new OutputStream() {
+      @Override
+      public void write(int b) {
+        pause();
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) {
+        pause();
+      }
+
+      private void pause() {
+        writing.countDown();
+        try {
+          Thread.sleep(WRITE_DELAY);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+
+    final AsyncTerminalOutput output = new AsyncTerminalOutput(slowSink, CAPACITY, OverflowPolicy.DROP_OLDEST, null);
+    output.submit("Segmento 0\n");
+    // Aguarda a thread de escrita retirar o primeiro segmento da fila e ficar presa na escrita
+    if (!writing.await(SUBMIT_TIMEOUT, TimeUnit.MILLISECONDS)) {
+      System.out.println("A thread de escrita no iniciou a escrita do primeiro segmento.");
+      System.exit(1);
+    }
+    Thread producer = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        for (int i = 1; i < SEGMENTS; i++) {
+          output.submit("Segmento " + i + "\n");
+        }
+      }
+    }, "Producer");
+    long begin = System.nanoTime();
+    producer.start();
+    producer.join(SUBMIT_TIMEOUT);
+    long elapsed = (System.nanoTime() - begin) / 1_000_000;
+
+    int failures = 0;
+    if (producer.isAlive()) {
+      failures++;
+      System.err.println("A thread produtora no submeteu os " + SEGMENTS + " segmentos em " + SUBMIT_TIMEOUT + " ms: ficou bloqueada aguardando a sada lenta.");
+      producer.interrupt();
+      producer.join();
+    }
+    if (!output.awaitEmpty(SUBMIT_TIMEOUT)) {
+      failures++;
+      System.err.println("A fila no foi esvaziada em " + SUBMIT_TIMEOUT + " ms.");
+    }
+    output.close();
+    long written = output.getWrittenSegments();
+    long dropped = output.getDroppedSegments();
+    if (written + dropped != SEGMENTS) {
+      failures++;
+      System.err.println("Segmentos escritos (" + written + ") e descartados (" + dropped + ") no somam os " + SEGMENTS + " submetidos.");
+    }
+
+    System.out.println(SEGMENTS + " segmentos submetidos em " + elapsed + " ms: " + written + " escritos, " + dropped + " descartados, " + output.getBlockedSubmits() + " esperas.");
+    if (failures > 0) {
+      System.out.println("Falhas: " + failures);
+      System.exit(1);
+    }
+    System.out.println("OK: a thread produtora no ficou bloqueada pela sada lenta.");
+  }
+}
@@ -0,0 +1,134 @@
+package test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import br.eng.rodrigogml.rfw.terminal.Terminal;
+
+/**
+ * Description: Teste de estresse do modo de linhas atmicas ({@link Terminal#setAtomicLineOutput(boolean)}).<br>
+ * Vrias threads produtoras (64 por padro, ou a quantidade informada no primeiro argumento) montam ao mesmo tempo linhas em vrias partes, com {@link Terminal#writePart(String)}, cores e {@link Terminal#write(String)}, todas escrevendo no {@link System#out}. A sada  capturada e cada linha  verificada: a linha deve ter exatamente as partes de uma nica thread, na ordem em que foram escritas, e todas as linhas de todas as threads devem estar presentes, sem que nenhuma fique esquecida na fila.<br>
+ * Encerra com cdigo de sada diferente de zero caso alguma linha esteja quebrada, misturada ou ausente.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class ConcurrentLineOutputTests {
+
+  private static final int LINES_PER_THREAD = 2000;
+
+  private static final Pattern LINE = Pattern.compile("T(\\d+) L(\\d+) ([A-Za-z]+) ([A-Za-z]+)");
+
+  private static final Pattern ESCAPE = Pattern.compile("\u001B\\[[0-9;]*[A-Za-z]");
+
+  public static void main(String[] args) throws Exception {
+    final int threads = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+    Charset charset = Charset.defaultCharset();
+    PrintStream originalOut = System.out;
+    ByteArrayOutputStream captured = new ByteArrayOutputStream(threads * LINES_PER_THREAD * 64);
+    System.setOut(new PrintStream(captured, false, charset.name()));
+
+    final CountDownLatch start = new CountDownLatch(1);
+    Thread[] producers = new Thread[threads];
+    long begin;
+    try {
+      Terminal.setAtomicLineOutput(true);
+      for (int t = 0; t < threads; t++) {
+        final int id = t;
+        producers[t] = new Thread(new Runnable() {
+          @Override
+          public void run() {
+            String payload = payload(id);
+            try {
+              start.await();
+            } catch (InterruptedException e) {
+              return;
+            }
+            for (int i = 0; i < LINES_PER_THREAD; i++) {
+              Terminal.writePart("T" + id + " ");
+              Terminal.writePart("L" + i + " ");
+              Terminal.setTextColor(Terminal.TextColor.values()[(id + i) % Terminal.TextColor.values().length]);
+              Terminal.writePart(payload + " ");
+              if (i % 7 == 0) Thread.yield();
+              Terminal.write(payload);
+            }
+          }
+        }, "Producer " + t);
+        producers[t].start();
+      }
+      begin = System.nanoTime();
+      start.countDown();
+      for (Thread producer : producers) {
+        producer.join();
+      }
+      // As ltimas linhas podem ainda estar sendo escritas pela thread de apoio da sada
+      long deadline = System.nanoTime() + 10_000_000_000L;
+      int expectedLines = threads * LINES_PER_THREAD;
+      while (countLines(captured) < expectedLines && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+    } finally {
+      Terminal.setAtomicLineOutput(false);
+      System.out.flush();
+      System.setOut(originalOut);
+    }
+    long elapsed = System.nanoTime() - begin;
+
+    int[] nextLine = new int[threads];
+    int failures = 0;
+    int total = 0;
+    String[] lines = new String(captured.toByteArray(), charset).split("\r?\n", -1);
+    for (int i = 0; i < lines.length; i++) {
+      String line = ESCAPE.matcher(lines[i]).replaceAll("");
+      if (line.isEmpty() && i == lines.length - 1) break;
+      total++;
+      Matcher m = LINE.matcher(line);
+      boolean valid = m.matches();
+      if (valid) {
+        int id = Integer.parseInt(m.group(1));
+        int seq = Integer.parseInt(m.group(2));
+        valid = id < threads && seq == nextLine[id] && m.group(3).equals(payload(id)) && m.group(4).equals(payload(id));
+        if (valid) nextLine[id]++;
+      }
+      if (!valid && ++failures <= 20) System.err.println("Linha invlida " + (i + 1) + ": [" + line + "]");
+    }
+    for (int t = 0; t < threads; t++) {
+      if (nextLine[t] != LINES_PER_THREAD) {
+        failures++;
+        System.err.println("Thread " + t + ": " + nextLine[t] + " de " + LINES_PER_THREAD + " linhas encontradas em ordem.");
+      }
+    }
+
+    System.out.println(threads + " threads, " + total + " linhas em " + (elapsed / 1_000_000) + " ms.");
+    if (failures > 0) {
+      System.out.println("Falhas: " + failures);
+      System.exit(1);
+    }
+    System.out.println("OK: nenhuma linha quebrada, misturada ou ausente.");
+  }
+
+  /**
+   * Contedo prprio de cada thread, para identificar na sada partes de linhas de threads diferentes.
+   */
+  private static String payload(int id) {
+    char c = (char) ((id % 2 == 0 ? 'a' : 'A') + (id / 2) % 26);
+    StringBuilder buff = new StringBuilder(40);
+    for (int i = 0; i < 40; i++) {
+      buff.append(c);
+    }
+    return buff.toString();
+  }
+
+  private static int countLines(ByteArrayOutputStream captured) {
+    byte[] content = captured.toByteArray();
+    int lines = 0;
+    for (byte b : content) {
+      if (b == '\n') lines++;
+    }
+    return lines;
+  }
+}
@@ -0,0 +1,148 @@
+package test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import br.eng.rodrigogml.rfw.terminal.EscapeSequenceEncoder;
+import br.eng.rodrigogml.rfw.terminal.Terminal;
+import br.eng.rodrigogml.rfw.terminal.TerminalWriter;
+
+/**
+ * Description: Verifica que as sequncias geradas pelo {@link EscapeSequenceEncoder} e pelos mtodos de {@link Terminal} que o utilizam so idnticas, byte a byte, s geradas com o {@link String#format(String, Object...)} utilizado anteriormente.<br>
+ * So verificadas as variantes em char[], byte[] e String do encoder, os mtodos do {@link TerminalWriter} e os mtodos de {@link Terminal}, dentro e fora de um frame, para todos os valores de -1000 a 1499 e para os extremos de int.<br>
+ * Encerra com cdigo de sada diferente de zero caso alguma sequncia seja diferente.
+ *
+ * @author Rodrigo Leito
+ * @since (18 de out. de 2026)
+ */
+public class EscapeSequenceEncoderTests {
+
+  private static int failures = 0;
+
+  public static void main(String[] args) throws Exception {
+    int[] values = new int[2500 + 4];
+    for (int i = 0; i < 2500; i++) {
+      values[i] = i - 1000;
+    }
+    values[2500] = Integer.MIN_VALUE;
+    values[2501] = Integer.MIN_VALUE + 1;
+    values[2502] = Integer.MAX_VALUE - 1;
+    values[2503] = Integer.MAX_VALUE;
+
+    char[] chars = new char[EscapeSequenceEncoder.MAX_SEQUENCE_LENGTH];
+    byte[] bytes = new byte[EscapeSequenceEncoder.MAX_SEQUENCE_LENGTH];
+    for (int v : values) {
+      for (char c : new char[] { 'A', 'B', 'C', 'D', 'S', 'T' }) {
+        String expected = String.format("\u001B[%d" + c, v);
+        check("csi(char[]) " + v + c, expected, new String(chars, 0, EscapeSequenceEncoder.csi(chars, 0, v, c)));
+        check("csi(byte[]) " + v + c, expected, new String(bytes, 0, EscapeSequenceEncoder.csi(bytes, 0, v, c), StandardCharsets.US_ASCII));
+        check("csi(String) " + v + c, expected, EscapeSequenceEncoder.csi(v, c));
+        // Segunda chamada, que nos valores de 0 a 999 vem do cache
+        check("csi(String) cache " + v + c, expected, EscapeSequenceEncoder.csi(v, c));
+      }
+      String expected = String.format("\u001B[%d;%dH", v, 1000 - v);
+      check("cursorPosition(char[]) " + v, expected, new String(chars, 0, EscapeSequenceEncoder.cursorPosition(chars, 0, v, 1000 - v)));
+      check("csi(byte[], H) " + v, expected, new String(bytes, 0, EscapeSequenceEncoder.csi(bytes, 0, v, 1000 - v, 'H'), StandardCharsets.US_ASCII));
+      check("cursorPosition(String) " + v, expected, EscapeSequenceEncoder.cursorPosition(v, 1000 - v));
+      expected = String.format("\u001B[%d;%dr", v, v + 1);
+      check("scrollRegion(char[]) " + v, expected, new String(chars, 0, EscapeSequenceEncoder.scrollRegion(chars, 0, v, v + 1)));
+      check("csi(String, r) " + v, expected, EscapeSequenceEncoder.csi(v, v + 1, 'r'));
+      expected = String.format("\u001B[38;5;%dm", v);
+      check("extendedTextColor(char[]) " + v, expected, new String(chars, 0, EscapeSequenceEncoder.extendedTextColor(chars, 0, v)));
+      check("extendedTextColor(byte[]) " + v, expected, new String(bytes, 0, EscapeSequenceEncoder.extendedTextColor(bytes, 0, v), StandardCharsets.US_ASCII));
+      check("extendedTextColor(String) " + v, expected, EscapeSequenceEncoder.extendedTextColor(v));
+      expected = String.format("\u001B[48;5;%dm", v);
+      check("extendedBackgroundColor(char[]) " + v, expected, new String(chars, 0, EscapeSequenceEncoder.extendedBackgroundColor(chars, 0, v)));
+      check("extendedBackgroundColor(byte[]) " + v, expected, new String(bytes, 0, EscapeSequenceEncoder.extendedBackgroundColor(bytes, 0, v), StandardCharsets.US_ASCII));
+      check("extendedBackgroundColor(String) " + v, expected, EscapeSequenceEncoder.extendedBackgroundColor(v));
+    }
+
+    // Mtodos do Terminal dentro de um frame, escrevendo no TerminalWriter
+    TerminalWriter writer = new TerminalWriter().beginFrame();
+    try {
+      for (int v : values) {
+        checkTerminal(writer, v);
+      }
+    } finally {
+      writer.takeContent();
+      writer.endFrame();
+    }
+
+    // Mtodos do Terminal fora de um frame, escrevendo diretamente no System.out
+    PrintStream originalOut = System.out;
+    ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    StringBuilder expected = new StringBuilder();
+    System.setOut(new PrintStream(captured, true, "UTF-8"));
+    try {
+      for (int v : values) {
+        Terminal.moveCursor(v, v + 1);
+        expected.append(String.format("\u001B[%d;%dH", v, v + 1));
+        Terminal.moveCursorUp(v);
+        expected.append(String.format("\u001B[%dA", v));
+        Terminal.moveCursorDown(v);
+        expected.append(String.format("\u001B[%dB", v));
+        Terminal.moveCursorRight(v);
+        expected.append(String.format("\u001B[%dC", v));
+        Terminal.moveCursorLeft(v);
+        expected.append(String.format("\u001B[%dD", v));
+        Terminal.scrollUp(v);
+        expected.append(String.format("\u001B[%dS", v));
+        Terminal.scrollDown(v);
+        expected.append(String.format("\u001B[%dT", v));
+        Terminal.setScrollRegion(v, v + 1);
+        expected.append(String.format("\u001B[%d;%dr", v, v + 1));
+        Terminal.setExtendedTextColor(v);
+        expected.append(String.format("\u001B[38;5;%dm", v));
+        Terminal.setExtendedBackgroundColor(v);
+        expected.append(String.format("\u001B[48;5;%dm", v));
+      }
+    } finally {
+      System.out.flush();
+      System.setOut(originalOut);
+    }
+    checkBytes("Terminal (System.out)", expected.toString().getBytes(StandardCharsets.UTF_8), captured.toByteArray());
+
+    if (failures > 0) {
+      System.out.println("Falhas: " + failures);
+      System.exit(1);
+    }
+    System.out.println("OK: todas as sequncias so idnticas s geradas pelo String.format.");
+  }
+
+  private static void checkTerminal(TerminalWriter writer, int v) {
+    Terminal.moveCursor(v, v + 1);
+    check("Terminal.moveCursor " + v, String.format("\u001B[%d;%dH", v, v + 1), writer.takeContent());
+    Terminal.moveCursorUp(v);
+    check("Terminal.moveCursorUp " + v, String.format("\u001B[%dA", v), writer.takeContent());
+    Terminal.moveCursorDown(v);
+    check("Terminal.moveCursorDown " + v, String.format("\u001B[%dB", v), writer.takeContent());
+    Terminal.moveCursorRight(v);
+    check("Terminal.moveCursorRight " + v, String.format("\u001B[%dC", v), writer.takeContent());
+    Terminal.moveCursorLeft(v);
+    check("Terminal.moveCursorLeft " + v, String.format("\u001B[%dD", v), writer.takeContent());
+    Terminal.scrollUp(v);
+    check("Terminal.scrollUp " + v, String.format("\u001B[%dS", v), writer.takeContent());
+    Terminal.scrollDown(v);
+    check("Terminal.scrollDown " + v, String.format("\u001B[%dT", v), writer.takeContent());
+    Terminal.setScrollRegion(v, v + 1);
+    check("Terminal.setScrollRegion " + v, String.format("\u001B[%d;%dr", v, v + 1), writer.takeContent());
+    Terminal.setExtendedTextColor(v);
+    check("Terminal.setExtendedTextColor " + v, String.format("\u001B[38;5;%dm", v), writer.takeContent());
+    Terminal.setExtendedBackgroundColor(v);
+    check("Terminal.setExtendedBackgroundColor " + v, String.format("\u001B[48;5;%dm", v), writer.takeContent());
+  }
+
+  private static void check(String description, String expected, String actual) {
+    checkBytes(description, expected.getBytes(StandardCharsets.UTF_8), actual.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void checkBytes(String description, byte[] expected, byte[] actual) {
+    if (Arrays.equals(expected, actual)) return;
+    failures++;
+    if (failures <= 20) {
+      System.err.println("Diferena em " + description + ": esperado [" + new String(expected, StandardCharsets.UTF_8).replace("\u001B", "ESC") + "], gerado [" + new String(actual, StandardCharsets.UTF_8).replace("\u001B", "ESC") + "]");
+    }
+  }
+}